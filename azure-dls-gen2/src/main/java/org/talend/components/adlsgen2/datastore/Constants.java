@@ -277,6 +277,8 @@ public class Constants {
 
         public static final String HEADER_X_MS_ERROR_CODE = "x-ms-error-code";
 
+        public static final String HEADER_X_MS_CONTINUATION = "x-ms-continuation";
+
         public static final String AUTH_BEARER = "Bearer %s";
 
         public static final String AUTH_SHARED_ACCESS_SIGNATURE = "SharedAccessSignature %s";
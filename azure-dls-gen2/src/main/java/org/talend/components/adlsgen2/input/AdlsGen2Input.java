@@ -14,8 +14,10 @@ package org.talend.components.adlsgen2.input;
 
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.json.JsonBuilderFactory;
 
 import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
@@ -55,14 +57,24 @@ public class AdlsGen2Input implements Serializable {
 
     private AdlsActiveDirectoryService tokenProviderService;
 
+    /** path of blobs read by this worker, null for all blobs of dataset */
+    private final List<String> blobNames;
+
     public AdlsGen2Input(@Option("configuration") final InputConfiguration configuration, final AdlsGen2Service service,
             final RecordBuilderFactory recordBuilderFactory, JsonBuilderFactory jsonFactory,
             final AdlsActiveDirectoryService tokenProviderService) {
+        this(configuration, service, recordBuilderFactory, jsonFactory, tokenProviderService, null);
+    }
+
+    public AdlsGen2Input(final InputConfiguration configuration, final AdlsGen2Service service,
+            final RecordBuilderFactory recordBuilderFactory, JsonBuilderFactory jsonFactory,
+            final AdlsActiveDirectoryService tokenProviderService, final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.jsonFactory = jsonFactory;
         this.recordBuilderFactory = recordBuilderFactory;
         this.tokenProviderService = tokenProviderService;
+        this.blobNames = blobNames;
     }
 
     @PostConstruct
@@ -70,7 +82,7 @@ public class AdlsGen2Input implements Serializable {
         log.debug("[init]");
         try {
             reader = BlobFileReaderFactory.getReader(configuration, recordBuilderFactory, jsonFactory, service,
-                    tokenProviderService);
+                    tokenProviderService, blobNames);
         } catch (Exception e) {
             log.error("[init] Error: {}.", e.getMessage());
             throw new AdlsGen2RuntimeException(e.getMessage(), e);
@@ -81,4 +93,11 @@ public class AdlsGen2Input implements Serializable {
     public Record next() {
         return reader.readRecord();
     }
+
+    @PreDestroy
+    public void release() {
+        if (reader != null) {
+            reader.close();
+        }
+    }
 }
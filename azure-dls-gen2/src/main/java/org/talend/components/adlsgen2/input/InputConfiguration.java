@@ -16,6 +16,8 @@ import java.io.Serializable;
 
 import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -24,11 +26,33 @@ import static org.talend.sdk.component.api.configuration.ui.layout.GridLayout.Fo
 
 @Data
 @GridLayout(value = { @GridLayout.Row({ "dataSet" }) })
-@GridLayout(names = ADVANCED, value = { @GridLayout.Row({ "dataSet" }) })
+@GridLayout(names = ADVANCED, value = { @GridLayout.Row({ "dataSet" }), @GridLayout.Row({ "includeSubDirectories" }),
+        @GridLayout.Row({ "readAhead" }),
+        @GridLayout.Row({ "readAheadBlobs", "readAheadSize" }) })
 @Documentation("ADLS input configuration")
 public class InputConfiguration implements Serializable {
 
     @Option
     @Documentation("Dataset")
     private AdlsGen2DataSet dataSet;
+
+    @Option
+    @Documentation("Read blobs of sub-directories too")
+    private boolean includeSubDirectories = false;
+
+    @Option
+    @Documentation("Download next blobs in background while current one is read")
+    private boolean readAhead = false;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max number of blobs opened in advance")
+    private int readAheadBlobs = 4;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max size in MB of blob content downloaded in advance")
+    private int readAheadSize = 64;
 }
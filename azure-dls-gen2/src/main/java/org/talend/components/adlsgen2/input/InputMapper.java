@@ -13,12 +13,20 @@
 package org.talend.components.adlsgen2.input;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.json.JsonBuilderFactory;
 
+import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.components.adlsgen2.service.BlobInformations;
+import org.talend.components.common.collections.SizeBundler;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
@@ -31,8 +39,11 @@ import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
+import lombok.extern.slf4j.Slf4j;
+
 import static java.util.Collections.singletonList;
 
+@Slf4j
 @Version(1)
 @Icon(value = Icon.IconType.CUSTOM, custom = "AdlsGen2Input")
 @PartitionMapper(name = "AdlsGen2Input")
@@ -52,28 +63,68 @@ public class InputMapper implements Serializable {
 
     private final JsonBuilderFactory jsonBuilderFactory;
 
+    /** path of blobs read by this mapper, null for all blobs of dataset */
+    private final List<String> blobNames;
+
     public InputMapper(@Option("configuration") final InputConfiguration configuration, final AdlsGen2Service service,
             final RecordBuilderFactory recordBuilderFactory, final JsonBuilderFactory jsonBuilderFactory,
             AdlsActiveDirectoryService tokenProviderService) {
+        this(configuration, service, recordBuilderFactory, jsonBuilderFactory, tokenProviderService, null);
+    }
+
+    private InputMapper(final InputConfiguration configuration, final AdlsGen2Service service,
+            final RecordBuilderFactory recordBuilderFactory, final JsonBuilderFactory jsonBuilderFactory,
+            AdlsActiveDirectoryService tokenProviderService, final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.tokenProviderService = tokenProviderService;
         this.recordBuilderFactory = recordBuilderFactory;
         this.jsonBuilderFactory = jsonBuilderFactory;
+        this.blobNames = blobNames;
     }
 
     @Assessor
     public long estimateSize() {
-        return 1L;
+        return listBlobs().stream().mapToLong(BlobInformations::getContentLength).sum();
     }
 
+    /**
+     * Split blobs of dataset in bundles of close size (each blob is read by only one worker).
+     */
     @Split
-    public List<InputMapper> split(@PartitionSize final long bundles) {
-        return singletonList(this);
+    public List<InputMapper> split(@PartitionSize final long bundleSize) {
+        final List<BlobInformations> blobs = listBlobs();
+        final List<List<BlobInformations>> bundles = SizeBundler.split(blobs, BlobInformations::getContentLength, bundleSize);
+        if (bundles.size() <= 1) {
+            return singletonList(this);
+        }
+        final List<InputMapper> mappers = new ArrayList<>(bundles.size());
+        for (List<BlobInformations> bundle : bundles) {
+            final List<String> names = bundle.stream().map(BlobInformations::getBlobPath).collect(Collectors.toList());
+            mappers.add(new InputMapper(configuration, service, recordBuilderFactory, jsonBuilderFactory, tokenProviderService,
+                    names));
+        }
+        log.info("Split {} blobs in {} bundles.", blobs.size(), mappers.size());
+        return mappers;
     }
 
     @Emitter
     public AdlsGen2Input createWorker() {
-        return new AdlsGen2Input(configuration, service, recordBuilderFactory, jsonBuilderFactory, tokenProviderService);
+        return new AdlsGen2Input(configuration, service, recordBuilderFactory, jsonBuilderFactory, tokenProviderService,
+                blobNames);
+    }
+
+    private List<BlobInformations> listBlobs() {
+        final AdlsDatasetRuntimeInfo runtimeInfo = new AdlsDatasetRuntimeInfo(configuration.getDataSet(), tokenProviderService);
+        final Iterator<BlobInformations> blobs = service.listBlobs(runtimeInfo, configuration.isIncludeSubDirectories());
+        final Set<String> names = blobNames == null ? null : new HashSet<>(blobNames);
+        final List<BlobInformations> result = new ArrayList<>();
+        while (blobs.hasNext()) {
+            final BlobInformations blob = blobs.next();
+            if (names == null || names.contains(blob.getBlobPath())) {
+                result.add(blob);
+            }
+        }
+        return result;
     }
 }
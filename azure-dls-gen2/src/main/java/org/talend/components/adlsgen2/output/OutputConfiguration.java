@@ -16,6 +16,8 @@ import java.io.Serializable;
 
 import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -27,7 +29,10 @@ import lombok.Data;
 })
 @GridLayout(names = GridLayout.FormType.ADVANCED, value = { //
         @GridLayout.Row({ "dataSet" }), //
-        @GridLayout.Row({ "blobNameTemplate" }) })
+        @GridLayout.Row({ "blobNameTemplate" }), //
+        @GridLayout.Row({ "rollingFile" }), //
+        @GridLayout.Row({ "maxFileSize", "maxFileAge" }), //
+        @GridLayout.Row({ "appendSize", "appendConcurrency" }) })
 @Documentation("ADLS output configuration")
 public class OutputConfiguration implements Serializable {
 
@@ -40,4 +45,31 @@ public class OutputConfiguration implements Serializable {
             + "I.e. myPrefix-5deaa8ff-7d22-4b86-a864-9a6fa414501a.avro")
     private String blobNameTemplate = "data-";
 
+    @Option
+    @Documentation("Keep file open over groups of records, until max size or max age is reached")
+    private boolean rollingFile = false;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "rollingFile", value = "true")
+    @Documentation("Size in MB from which file is closed and a new one is started")
+    private int maxFileSize = 128;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "rollingFile", value = "true")
+    @Documentation("Time in seconds from which file is closed and a new one is started")
+    private int maxFileAge = 300;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "rollingFile", value = "true")
+    @Documentation("Size in MB of content sent by each append")
+    private int appendSize = 4;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "rollingFile", value = "true")
+    @Documentation("Max number of appends sent at same time")
+    private int appendConcurrency = 4;
 }
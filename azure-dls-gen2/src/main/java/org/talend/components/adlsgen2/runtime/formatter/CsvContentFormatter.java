@@ -58,19 +58,9 @@ public class CsvContentFormatter extends AbstractContentFormatter {
         if (records.isEmpty()) {
             return new byte[0];
         }
-        // get schema from first record
-        schema = records.get(0).getSchema();
         StringWriter stringWriter = new StringWriter();
         try {
-            CSVPrinter printer = new CSVPrinter(stringWriter, format);
-            if (csvConfiguration.isHeader()) {
-                printer.printRecord(getHeader());
-            }
-            for (Record record : records) {
-                printer.printRecord(convertRecordToArray(record));
-            }
-            printer.flush();
-            printer.close();
+            feedContent(records, stringWriter, true);
             return stringWriter.toString().getBytes(csvConfiguration.effectiveFileEncoding());
         } catch (IOException e) {
             log.error("[feedContent] {}", e.getMessage());
@@ -78,6 +68,33 @@ public class CsvContentFormatter extends AbstractContentFormatter {
         }
     }
 
+    /**
+     * Print records on output.
+     *
+     * @param records : records to print.
+     * @param output : output, left open.
+     * @param withHeader : true to print header first (if configured).
+     */
+    public void feedContent(List<Record> records, Appendable output, boolean withHeader) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        // get schema from first record
+        schema = records.get(0).getSchema();
+        CSVPrinter printer = new CSVPrinter(output, format);
+        if (withHeader && csvConfiguration.isHeader()) {
+            printer.printRecord(getHeader());
+        }
+        for (Record record : records) {
+            printer.printRecord(convertRecordToArray(record));
+        }
+        printer.flush();
+    }
+
+    public String getEncoding() {
+        return csvConfiguration.effectiveFileEncoding();
+    }
+
     private Object[] getHeader() {
         // cannot be called in initializeContent because we may need a least one record...
         // first return user schema if exists
@@ -56,6 +56,22 @@ public class JsonContentFormatter extends AbstractContentFormatter {
         return b.build().toString().getBytes();
     }
 
+    /**
+     * @param records : records to convert.
+     * @param first : true if records are first items of array.
+     * @return records as items of a json array (without brackets).
+     */
+    public byte[] feedItems(List<Record> records, boolean first) {
+        StringBuilder items = new StringBuilder();
+        for (Record record : records) {
+            if (!first || items.length() > 0) {
+                items.append(',');
+            }
+            items.append(converter.fromRecord(record).toString());
+        }
+        return items.toString().getBytes();
+    }
+
     @Override
     public boolean hasHeader() {
         return true;
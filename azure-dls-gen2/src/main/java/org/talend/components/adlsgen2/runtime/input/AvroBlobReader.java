@@ -14,6 +14,7 @@ package org.talend.components.adlsgen2.runtime.input;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Map;
 
 import org.apache.avro.file.DataFileStream;
@@ -35,8 +36,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AvroBlobReader extends BlobReader {
 
     public AvroBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory, AdlsGen2Service service,
-            AdlsActiveDirectoryService activeDirectoryService) {
-        super(configuration, recordBuilderFactory, service, activeDirectoryService);
+            AdlsActiveDirectoryService activeDirectoryService, Collection<String> blobNames) {
+        super(configuration, recordBuilderFactory, service, activeDirectoryService, blobNames);
     }
 
     @Override
@@ -70,7 +71,7 @@ public class AvroBlobReader extends BlobReader {
         protected void readBlob() {
             closePreviousInputStream();
             try {
-                input = service.getBlobInputstream(datasetRuntimeInfo, getCurrentBlob());
+                input = openCurrentBlob();
                 DatumReader<GenericRecord> reader = new GenericDatumReader<>();
                 avroItemIterator = new DataFileStream<>(input, reader);
             } catch (Exception e) {
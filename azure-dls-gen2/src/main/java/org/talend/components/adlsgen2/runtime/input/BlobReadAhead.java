@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.input;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+import org.apache.commons.io.IOUtils;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+import org.talend.components.adlsgen2.service.BlobInformations;
+import org.talend.components.common.collections.ContentReadAhead;
+
+/**
+ * Download next blobs in background while current one is read.
+ * Small blobs are downloaded in memory, bigger ones are only opened in advance.
+ */
+public class BlobReadAhead extends ContentReadAhead<BlobInformations> {
+
+    /** blobs up to this size are fully downloaded in advance */
+    static final int BUFFERED_SIZE = 4 * 1024 * 1024;
+
+    /** open blob content (requests share headers, so opening is serialized) */
+    private final Function<BlobInformations, InputStream> opener;
+
+    public BlobReadAhead(int blobCount, long maxSize, Function<BlobInformations, InputStream> opener) {
+        super("adls-gen2-read-ahead", blobCount, maxSize);
+        this.opener = opener;
+    }
+
+    @Override
+    protected InputStream load(BlobInformations blob) {
+        final InputStream content;
+        synchronized (this.opener) {
+            content = this.opener.apply(blob);
+        }
+        if (blob.getContentLength() > BUFFERED_SIZE) {
+            return content;
+        }
+        try (InputStream input = content) {
+            return new ByteArrayInputStream(IOUtils.toByteArray(input));
+        } catch (IOException e) {
+            throw new AdlsGen2RuntimeException("Can't download blob " + blob.getBlobPath() + " : " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected long weight(BlobInformations blob) {
+        return Math.min(blob.getContentLength(), BUFFERED_SIZE);
+    }
+}
@@ -12,8 +12,15 @@
  */
 package org.talend.components.adlsgen2.runtime.input;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
 
 import javax.json.JsonBuilderFactory;
 
@@ -22,6 +29,8 @@ import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
 import org.talend.components.adlsgen2.service.BlobInformations;
+import org.talend.components.common.collections.IteratorMap;
+import org.talend.components.common.collections.LoadedContent;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
@@ -44,16 +53,31 @@ public abstract class BlobReader {
 
     protected final AdlsDatasetRuntimeInfo datasetRuntimeInfo;
 
+    /** background download of blobs, null if disabled */
+    private BlobReadAhead readAhead;
+
     public BlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory, AdlsGen2Service service,
-            AdlsActiveDirectoryService tokenProviderService) {
+            AdlsActiveDirectoryService tokenProviderService, Collection<String> blobNames) {
         this.recordBuilderFactory = recordBuilderFactory;
         this.configuration = configuration;
         this.service = service;
         this.tokenProviderService = tokenProviderService;
 
         datasetRuntimeInfo = new AdlsDatasetRuntimeInfo(configuration.getDataSet(), tokenProviderService);
-        Iterable<BlobInformations> blobItems = service.getBlobs(datasetRuntimeInfo);
-        iterator = initRecordIterator(blobItems);
+        if (configuration.isReadAhead()) {
+            readAhead = new BlobReadAhead(configuration.getReadAheadBlobs(), configuration.getReadAheadSize() * 1024L * 1024L,
+                    (BlobInformations blob) -> service.getBlobInputstream(datasetRuntimeInfo, blob));
+        }
+        Iterator<BlobInformations> blobs = service.listBlobs(datasetRuntimeInfo, configuration.isIncludeSubDirectories());
+        if (blobNames != null) {
+            // only blobs of this worker.
+            final Set<String> names = new HashSet<>(blobNames);
+            blobs = StreamSupport.stream(Spliterators.spliteratorUnknownSize(blobs, Spliterator.ORDERED), false)
+                    .filter((BlobInformations blob) -> names.contains(blob.getBlobPath())) //
+                    .iterator();
+        }
+        final Iterator<BlobInformations> blobItems = blobs;
+        iterator = initRecordIterator(() -> blobItems);
     }
 
     protected abstract RecordIterator initRecordIterator(Iterable<BlobInformations> blobItems);
@@ -62,21 +86,40 @@ public abstract class BlobReader {
         return iterator.next();
     }
 
+    /**
+     * Release background downloads.
+     */
+    public void close() {
+        if (readAhead != null) {
+            readAhead.close();
+        }
+    }
+
     public static class BlobFileReaderFactory {
 
         private static JsonBuilderFactory jsonFactory;
 
         public static BlobReader getReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
                 JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
+            return getReader(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService, null);
+        }
+
+        /**
+         * @param blobNames : path of blobs to read, null for all blobs of dataset.
+         */
+        public static BlobReader getReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
+                JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService,
+                Collection<String> blobNames) {
             switch (configuration.getDataSet().getFormat()) {
             case CSV:
-                return new CsvBlobReader(configuration, recordBuilderFactory, service, tokenProviderService);
+                return new CsvBlobReader(configuration, recordBuilderFactory, service, tokenProviderService, blobNames);
             case AVRO:
-                return new AvroBlobReader(configuration, recordBuilderFactory, service, tokenProviderService);
+                return new AvroBlobReader(configuration, recordBuilderFactory, service, tokenProviderService, blobNames);
             case PARQUET:
-                return new ParquetBlobReader(configuration, recordBuilderFactory, service, tokenProviderService);
+                return new ParquetBlobReader(configuration, recordBuilderFactory, service, tokenProviderService, blobNames);
             case JSON:
-                return new JsonBlobReader(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService);
+                return new JsonBlobReader(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService,
+                        blobNames);
             default:
                 throw new IllegalArgumentException("Unsupported file format"); // shouldn't be here
             }
@@ -85,7 +128,7 @@ public abstract class BlobReader {
 
     protected abstract class RecordIterator<T> implements Iterator<Record> {
 
-        private Iterator<BlobInformations> blobList;
+        private Iterator<LoadedContent<BlobInformations>> blobList;
 
         @Getter(AccessLevel.PROTECTED)
         private RecordBuilderFactory recordBuilderFactory;
@@ -93,11 +136,27 @@ public abstract class BlobReader {
         @Getter(AccessLevel.PROTECTED)
         private BlobInformations currentBlob;
 
+        /** downloaded content of current blob, null if not downloaded */
+        private InputStream currentContent;
+
         protected RecordIterator(Iterable<BlobInformations> blobList, RecordBuilderFactory recordBuilderFactory) {
-            this.blobList = blobList.iterator();
+            this.blobList = readAhead != null ? readAhead.read(blobList.iterator())
+                    : new IteratorMap<>(blobList.iterator(), (BlobInformations blob) -> new LoadedContent<>(blob, null));
             this.recordBuilderFactory = recordBuilderFactory;
         }
 
+        /**
+         * @return content of current blob (downloaded in advance if read ahead is enabled).
+         */
+        protected InputStream openCurrentBlob() {
+            if (currentContent != null) {
+                final InputStream content = currentContent;
+                currentContent = null;
+                return content;
+            }
+            return service.getBlobInputstream(datasetRuntimeInfo, currentBlob);
+        }
+
         @Override
         public boolean hasNext() {
             throw new UnsupportedOperationException("Use next() method until return null");
@@ -120,8 +179,7 @@ public abstract class BlobReader {
             }
 
             while (blobList.hasNext()) {
-                currentBlob = blobList.next();
-                readBlob();
+                takeBlob(blobList.next());
                 if (hasNextBlobRecord()) {
                     return peekNextBlobRecord(); // read record from next item
                 }
@@ -141,11 +199,16 @@ public abstract class BlobReader {
 
         protected void peekFirstBlob() {
             if (blobList.hasNext()) {
-                currentBlob = blobList.next();
-                readBlob();
+                takeBlob(blobList.next());
             }
         }
 
+        private void takeBlob(LoadedContent<BlobInformations> blob) {
+            currentBlob = blob.getSource();
+            currentContent = blob.getContent();
+            readBlob();
+        }
+
         /**
          * Release all open resources if needed
          */
@@ -15,6 +15,7 @@ package org.talend.components.adlsgen2.runtime.input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -36,8 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class CsvBlobReader extends BlobReader {
 
     CsvBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory, AdlsGen2Service service,
-            AdlsActiveDirectoryService tokenProviderService) {
-        super(configuration, recordBuilderFactory, service, tokenProviderService);
+            AdlsActiveDirectoryService tokenProviderService, Collection<String> blobNames) {
+        super(configuration, recordBuilderFactory, service, tokenProviderService, blobNames);
     }
 
     @Override
@@ -84,7 +85,7 @@ public class CsvBlobReader extends BlobReader {
             initMetadataIfNeeded();
             closePreviousInputStream();
             try {
-                currentItemInputStream = service.getBlobInputstream(datasetRuntimeInfo, getCurrentBlob());
+                currentItemInputStream = openCurrentBlob();
                 InputStreamReader inr = new InputStreamReader(currentItemInputStream, encodingValue);
                 parser = new CSVParser(inr, format);
                 converter.setRuntimeHeaders(parser.getHeaderMap());
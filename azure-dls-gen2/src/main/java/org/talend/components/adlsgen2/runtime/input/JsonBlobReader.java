@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -45,8 +46,9 @@ public class JsonBlobReader extends BlobReader {
     private JsonBuilderFactory jsonFactoryBuilder;
 
     JsonBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            JsonBuilderFactory jsonFactoryBuilder, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
-        super(configuration, recordBuilderFactory, service, tokenProviderService);
+            JsonBuilderFactory jsonFactoryBuilder, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService,
+            Collection<String> blobNames) {
+        super(configuration, recordBuilderFactory, service, tokenProviderService, blobNames);
         this.jsonFactoryBuilder = jsonFactoryBuilder;
     }
 
@@ -84,7 +86,7 @@ public class JsonBlobReader extends BlobReader {
             initMetadataIfNeeded();
             closePreviousInputStream();
             try {
-                currentItemInputStream = service.getBlobInputstream(datasetRuntimeInfo, getCurrentBlob());
+                currentItemInputStream = openCurrentBlob();
                 reader = Json.createReader((new InputStreamReader(currentItemInputStream, StandardCharsets.UTF_8)));
                 JsonStructure structure = reader.read();
                 if (structure == null) {
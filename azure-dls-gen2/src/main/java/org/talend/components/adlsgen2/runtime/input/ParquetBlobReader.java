@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.io.IOUtils;
@@ -40,8 +41,8 @@ import lombok.extern.slf4j.Slf4j;
 public class ParquetBlobReader extends BlobReader {
 
     public ParquetBlobReader(InputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
-            AdlsGen2Service connectionServices, AdlsActiveDirectoryService tokenProviderService) {
-        super(configuration, recordBuilderFactory, connectionServices, tokenProviderService);
+            AdlsGen2Service connectionServices, AdlsActiveDirectoryService tokenProviderService, Collection<String> blobNames) {
+        super(configuration, recordBuilderFactory, connectionServices, tokenProviderService, blobNames);
     }
 
     @Override
@@ -87,7 +88,7 @@ public class ParquetBlobReader extends BlobReader {
             try {
                 File tmp = File.createTempFile("talend-adls-gen2-tmp", ".parquet");
                 tmp.deleteOnExit();
-                InputStream input = service.getBlobInputstream(datasetRuntimeInfo, getCurrentBlob());
+                InputStream input = openCurrentBlob();
                 Files.copy(input, tmp.toPath(), StandardCopyOption.REPLACE_EXISTING);
                 IOUtils.closeQuietly(input);
                 HadoopInputFile hdpIn = HadoopInputFile.fromPath(new Path(tmp.getPath()), hadoopConfig);
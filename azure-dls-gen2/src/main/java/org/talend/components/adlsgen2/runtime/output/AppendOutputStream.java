@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+
+/**
+ * Output stream on an existing file.
+ * Content is sent by fixed size appends, several appends (each at its position) can be in flight;
+ * file is flushed once, when stream is closed.
+ */
+public class AppendOutputStream extends OutputStream {
+
+    private final AdlsGen2Service service;
+
+    private final AdlsDatasetRuntimeInfo runtimeInfo;
+
+    private final String blobPath;
+
+    private final int chunkSize;
+
+    /** max number of appends in flight */
+    private final int maxInFlight;
+
+    /** executor for parallel appends, null to append in writing thread */
+    private final ExecutorService executor;
+
+    private byte[] buffer;
+
+    private int count = 0;
+
+    /** position of next append */
+    private long position = 0L;
+
+    /** appends in flight, oldest first */
+    private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+
+    private boolean closed = false;
+
+    public AppendOutputStream(AdlsGen2Service service, AdlsDatasetRuntimeInfo runtimeInfo, String blobPath, int chunkSize,
+            int maxInFlight, ExecutorService executor) {
+        this.service = service;
+        this.runtimeInfo = runtimeInfo;
+        this.blobPath = blobPath;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+        this.buffer = new byte[chunkSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.buffer[this.count] = (byte) b;
+        this.count++;
+        if (this.count == this.buffer.length) {
+            this.append();
+        }
+    }
+
+    @Override
+    public void write(byte[] content, int offset, int length) throws IOException {
+        int written = 0;
+        while (written < length) {
+            final int size = Math.min(length - written, this.buffer.length - this.count);
+            System.arraycopy(content, offset + written, this.buffer, this.count, size);
+            this.count += size;
+            written += size;
+            if (this.count == this.buffer.length) {
+                this.append();
+            }
+        }
+    }
+
+    /**
+     * @return number of bytes written in file.
+     */
+    public long getPosition() {
+        return this.position + this.count;
+    }
+
+    public String getBlobPath() {
+        return this.blobPath;
+    }
+
+    /**
+     * Send last append, wait for all appends and flush file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (this.count > 0) {
+            this.append();
+        }
+        while (!this.inFlight.isEmpty()) {
+            this.waitOldest();
+        }
+        try {
+            this.service.flushBlob(this.runtimeInfo, this.blobPath, this.position);
+        } catch (AdlsGen2RuntimeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private void append() throws IOException {
+        final byte[] content = this.count == this.buffer.length ? this.buffer : Arrays.copyOf(this.buffer, this.count);
+        final long appendPosition = this.position;
+        this.position += this.count;
+        this.count = 0;
+        if (this.executor == null) {
+            try {
+                this.service.pathUpdate(this.runtimeInfo, this.blobPath, content, appendPosition);
+            } catch (AdlsGen2RuntimeException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            return;
+        }
+        while (this.inFlight.size() >= this.maxInFlight) {
+            this.waitOldest();
+        }
+        this.inFlight.add(this.executor.submit(() -> {
+            this.service.pathUpdate(this.runtimeInfo, this.blobPath, content, appendPosition);
+        }));
+        this.buffer = new byte[this.chunkSize];
+    }
+
+    private void waitOldest() throws IOException {
+        try {
+            this.inFlight.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.cancelAll();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            this.cancelAll();
+            throw new IOException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void cancelAll() {
+        this.inFlight.forEach((Future<?> append) -> append.cancel(true));
+        this.inFlight.clear();
+    }
+}
@@ -14,6 +14,8 @@ package org.talend.components.adlsgen2.runtime.output;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 import javax.json.JsonBuilderFactory;
 
@@ -37,6 +39,9 @@ public class AvroBlobWriter extends BlobWriter {
 
     private AvroConverter converter;
 
+    /** avro writer on rolling file */
+    private DataFileWriter<GenericRecord> rollingWriter;
+
     public AvroBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
         super(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService);
@@ -53,6 +58,10 @@ public class AvroBlobWriter extends BlobWriter {
         if (getBatch().isEmpty()) {
             return;
         }
+        if (configuration.isRollingFile()) {
+            flushToRollingFile();
+            return;
+        }
         byte[] contents = convertBatchToBytes();
         uploadContent(contents);
         getBatch().clear();
@@ -74,4 +83,25 @@ public class AvroBlobWriter extends BlobWriter {
             throw new IllegalStateException(e);
         }
     }
+
+    @Override
+    protected void startRollingFile(OutputStream output) throws IOException {
+        rollingWriter = new DataFileWriter<>(new GenericDatumWriter<>());
+        rollingWriter.create(converter.inferAvroSchema(getSchema()), output);
+    }
+
+    @Override
+    protected void appendToRollingFile(List<Record> records) throws IOException {
+        for (Record record : records) {
+            rollingWriter.append(converter.fromRecord(record));
+        }
+        rollingWriter.flush();
+    }
+
+    @Override
+    protected void endRollingFile() throws IOException {
+        // file output is closed by caller.
+        rollingWriter.flush();
+        rollingWriter = null;
+    }
 }
@@ -12,14 +12,20 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.json.JsonBuilderFactory;
 
 import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
 import org.talend.components.adlsgen2.service.BlobInformations;
@@ -48,6 +54,15 @@ public abstract class BlobWriter {
 
     protected AdlsDatasetRuntimeInfo runtimeInfo;
 
+    /** file kept open over groups, in rolling file mode */
+    private AppendOutputStream rollingOutput;
+
+    /** time when rolling file was opened */
+    private long rollingOpenTime;
+
+    /** executor for parallel appends, created on first use */
+    private ExecutorService appendExecutor;
+
     public BlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
         this.configuration = configuration;
@@ -105,6 +120,85 @@ public abstract class BlobWriter {
         configuration.getDataSet().setBlobPath(oldBlobPath);
     }
 
+    /**
+     * Write batch in rolling file: file is created on first batch, and closed (flushed) once it reaches max size or age.
+     */
+    protected void flushToRollingFile() {
+        try {
+            if (rollingOutput == null) {
+                rollingOutput = openRollingFile();
+                startRollingFile(rollingOutput);
+            }
+            appendToRollingFile(getBatch());
+            final long maxSize = configuration.getMaxFileSize() * 1024L * 1024L;
+            final long maxAge = configuration.getMaxFileAge() * 1000L;
+            if (getRollingFileSize() >= maxSize || System.currentTimeMillis() - rollingOpenTime >= maxAge) {
+                closeRollingFile();
+            }
+        } catch (IOException e) {
+            throw new AdlsGen2RuntimeException(e.getMessage(), e);
+        } finally {
+            getBatch().clear();
+        }
+    }
+
+    private AppendOutputStream openRollingFile() {
+        generateFile();
+        final String blobPath = currentItem.getBlobPath();
+        currentItem.setBlobPath("");
+        service.pathCreate(runtimeInfo, blobPath);
+        if (appendExecutor == null && configuration.getAppendConcurrency() > 1) {
+            final AtomicInteger threadIndex = new AtomicInteger(0);
+            appendExecutor = Executors.newFixedThreadPool(configuration.getAppendConcurrency(), (Runnable task) -> {
+                final Thread thread = new Thread(task, "adls-append-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        rollingOpenTime = System.currentTimeMillis();
+        log.debug("[openRollingFile] {}", blobPath);
+        return new AppendOutputStream(service, runtimeInfo, blobPath, configuration.getAppendSize() * 1024 * 1024,
+                configuration.getAppendConcurrency(), appendExecutor);
+    }
+
+    private void closeRollingFile() throws IOException {
+        if (rollingOutput != null) {
+            try {
+                endRollingFile();
+                rollingOutput.close();
+                log.debug("[closeRollingFile] {} ({} bytes)", rollingOutput.getBlobPath(), rollingOutput.getPosition());
+            } finally {
+                rollingOutput = null;
+            }
+        }
+    }
+
+    /**
+     * Start content of a new rolling file.
+     *
+     * @param output : file output, closed by caller.
+     */
+    protected abstract void startRollingFile(OutputStream output) throws IOException;
+
+    /**
+     * Append records to current rolling file.
+     */
+    protected abstract void appendToRollingFile(List<Record> records) throws IOException;
+
+    /**
+     * End content of current rolling file, before it is closed.
+     */
+    protected void endRollingFile() throws IOException {
+        // nothing by default
+    }
+
+    /**
+     * @return size of current rolling file.
+     */
+    protected long getRollingFileSize() {
+        return rollingOutput.getPosition();
+    }
+
     public List<Record> getBatch() {
         return batch;
     }
@@ -130,9 +224,16 @@ public abstract class BlobWriter {
      * Finish everything
      */
     public void complete() throws Exception {
-        if (!getBatch().isEmpty()) {
-            log.info("[complete] Executing last batch with {} records", getBatch().size());
-            flush();
+        try {
+            if (!getBatch().isEmpty()) {
+                log.info("[complete] Executing last batch with {} records", getBatch().size());
+                flush();
+            }
+            closeRollingFile();
+        } finally {
+            if (appendExecutor != null) {
+                appendExecutor.shutdown();
+            }
         }
     }
 
@@ -12,12 +12,19 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.List;
+
 import javax.json.JsonBuilderFactory;
 
 import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.formatter.CsvContentFormatter;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +36,11 @@ public class CsvBlobWriter extends BlobWriter {
 
     private final CsvContentFormatter formatter;
 
+    /** output on rolling file */
+    private Writer rollingWriter;
+
+    private boolean rollingFileIsEmpty;
+
     public CsvBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService)
             throws Exception {
@@ -46,9 +58,32 @@ public class CsvBlobWriter extends BlobWriter {
         if (getBatch().isEmpty()) {
             return;
         }
+        if (configuration.isRollingFile()) {
+            flushToRollingFile();
+            return;
+        }
         byte[] contentBytes = formatter.feedContent(getBatch());
         uploadContent(contentBytes);
         getBatch().clear();
         currentItem.setBlobPath("");
     }
+
+    @Override
+    protected void startRollingFile(OutputStream output) throws IOException {
+        rollingWriter = new OutputStreamWriter(output, formatter.getEncoding());
+        rollingFileIsEmpty = true;
+    }
+
+    @Override
+    protected void appendToRollingFile(List<Record> records) throws IOException {
+        formatter.feedContent(records, rollingWriter, rollingFileIsEmpty);
+        rollingWriter.flush();
+        rollingFileIsEmpty = false;
+    }
+
+    @Override
+    protected void endRollingFile() throws IOException {
+        rollingWriter.flush();
+        rollingWriter = null;
+    }
 }
@@ -12,12 +12,17 @@
  */
 package org.talend.components.adlsgen2.runtime.output;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 import javax.json.JsonBuilderFactory;
 
 import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.formatter.JsonContentFormatter;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +34,11 @@ public class JsonBlobWriter extends BlobWriter {
 
     private JsonContentFormatter formatter;
 
+    /** output on rolling file */
+    private OutputStream rollingOutput;
+
+    private boolean rollingFileIsEmpty;
+
     public JsonBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
         super(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService);
@@ -45,10 +55,32 @@ public class JsonBlobWriter extends BlobWriter {
         if (getBatch().isEmpty()) {
             return;
         }
+        if (configuration.isRollingFile()) {
+            flushToRollingFile();
+            return;
+        }
         byte[] contentBytes = formatter.feedContent(getBatch());
         uploadContent(contentBytes);
         getBatch().clear();
         currentItem.setBlobPath("");
     }
 
+    @Override
+    protected void startRollingFile(OutputStream output) throws IOException {
+        rollingOutput = output;
+        rollingOutput.write(formatter.initializeContent());
+        rollingFileIsEmpty = true;
+    }
+
+    @Override
+    protected void appendToRollingFile(List<Record> records) throws IOException {
+        rollingOutput.write(formatter.feedItems(records, rollingFileIsEmpty));
+        rollingFileIsEmpty = false;
+    }
+
+    @Override
+    protected void endRollingFile() throws IOException {
+        rollingOutput.write(formatter.finalizeContent());
+        rollingOutput = null;
+    }
 }
@@ -14,7 +14,9 @@ package org.talend.components.adlsgen2.runtime.output;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.List;
 
 import javax.json.JsonBuilderFactory;
 
@@ -29,6 +31,7 @@ import org.talend.components.adlsgen2.output.OutputConfiguration;
 import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
 import org.talend.components.adlsgen2.service.AdlsActiveDirectoryService;
 import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.components.common.io.PositionOutputFile;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
@@ -40,6 +43,9 @@ public class ParquetBlobWriter extends BlobWriter {
 
     protected static final String EXT_PARQUET = ".parquet";
 
+    /** parquet writer on rolling file */
+    private ParquetWriter<GenericRecord> rollingWriter;
+
     public ParquetBlobWriter(OutputConfiguration configuration, RecordBuilderFactory recordBuilderFactory,
             JsonBuilderFactory jsonFactory, AdlsGen2Service service, AdlsActiveDirectoryService tokenProviderService) {
         super(configuration, recordBuilderFactory, jsonFactory, service, tokenProviderService);
@@ -58,6 +64,10 @@ public class ParquetBlobWriter extends BlobWriter {
         if (getBatch().isEmpty()) {
             return;
         }
+        if (configuration.isRollingFile()) {
+            flushToRollingFile();
+            return;
+        }
         File tempFilePath = null;
         try {
             tempFilePath = File.createTempFile("tempFile", EXT_PARQUET);
@@ -80,4 +90,33 @@ public class ParquetBlobWriter extends BlobWriter {
             }
         }
     }
+
+    @Override
+    protected void startRollingFile(OutputStream output) throws IOException {
+        final PositionOutputFile<AppendOutputStream> outputFile = new PositionOutputFile<>(
+                () -> (AppendOutputStream) output, AppendOutputStream::getPosition);
+        rollingWriter = AvroParquetWriter.<GenericRecord> builder(outputFile)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE).withSchema(converter.inferAvroSchema(getSchema()))
+                .withConf(config).build();
+    }
+
+    @Override
+    protected void appendToRollingFile(List<Record> records) throws IOException {
+        for (Record r : records) {
+            rollingWriter.write(converter.fromRecord(r));
+        }
+    }
+
+    @Override
+    protected void endRollingFile() throws IOException {
+        // writes footer and closes file output.
+        rollingWriter.close();
+        rollingWriter = null;
+    }
+
+    @Override
+    protected long getRollingFileSize() {
+        // including buffered row group.
+        return rollingWriter.getDataSize();
+    }
 }
@@ -13,7 +13,9 @@
 package org.talend.components.adlsgen2.service;
 
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 import java.net.URL;
+import java.net.URLEncoder;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
@@ -25,6 +27,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import javax.json.JsonArray;
 import javax.json.JsonBuilderFactory;
@@ -57,6 +63,12 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class AdlsGen2Service {
 
+    /** max number of paths returned by a listing request */
+    private static final int LIST_PAGE_SIZE = 5000;
+
+    /** number of directories listed in parallel on recursive listing */
+    private static final int LIST_THREADS = 4;
+
     private static final Set<Integer> successfulOperations = new HashSet<>(Arrays.asList(Constants.HTTP_RESPONSE_CODE_200_OK,
             Constants.HTTP_RESPONSE_CODE_201_CREATED, Constants.HTTP_RESPONSE_CODE_202_ACCEPTED));
 
@@ -115,6 +127,18 @@ public class AdlsGen2Service {
         return secretsMap;
     }
 
+    /**
+     * Prepare headers of a request that can run concurrently with others: runtime headers are shared, so they are
+     * prepared under lock and copied.
+     */
+    private Map<String, String> prepareRequestHeadersCopy(final AdlsDatastoreRuntimeInfo runtimeInfo, String url,
+            String method, String payloadLength) {
+        synchronized (runtimeInfo.getAdTokenMap()) {
+            return new HashMap<>(
+                    prepareRequestHeaders(runtimeInfo.getAdTokenMap(), runtimeInfo.getConnection(), url, method, payloadLength));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static AdlsGen2RuntimeException handleError(final int status, final Map<String, List<String>> headers) {
         return handleError(status, headers, null);
@@ -257,52 +281,104 @@ public class AdlsGen2Service {
     }
 
     public List<BlobInformations> getBlobs(final AdlsDatasetRuntimeInfo datasetRuntimeInfo) {
+        final Iterator<BlobInformations> blobs = listBlobs(datasetRuntimeInfo, false);
+        final List<BlobInformations> result = StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(blobs, Spliterator.ORDERED), false) //
+                .collect(Collectors.toList());
+        log.debug("[getBlobs] blobs count {}.", result.size());
+        return result;
+    }
+
+    /**
+     * List blobs of dataset directory. Pages of paths are requested lazily, following continuation tokens.
+     *
+     * @param datasetRuntimeInfo : dataset.
+     * @param recursive : true to list blobs of sub-directories too (sub-directories are listed in parallel).
+     * @return iterator on blobs.
+     */
+    public Iterator<BlobInformations> listBlobs(final AdlsDatasetRuntimeInfo datasetRuntimeInfo, final boolean recursive) {
+        return new PathIterator(datasetRuntimeInfo.getDataSet().getBlobPath(),
+                (String directory, String continuation) -> pathListPage(datasetRuntimeInfo, directory, continuation),
+                recursive ? LIST_THREADS : 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private PathIterator.Page pathListPage(final AdlsDatasetRuntimeInfo datasetRuntimeInfo, final String directory,
+            final String continuation) {
         setDefaultRequestParameters(datasetRuntimeInfo.getConnection());
-        String rcfmt = "%s/%s?directory=%s&resource=filesystem&recursive=false&maxResults=5000&timeout=%d";
-        String url = getUrlStringWithoutPosition(datasetRuntimeInfo, rcfmt);
-        log.debug("[getBlobs] {}", url);
-        Map<String, String> headers = prepareRequestHeaders(datasetRuntimeInfo.getAdTokenMap(),
-                datasetRuntimeInfo.getConnection(), url, MethodConstants.GET, "");
+        String rcfmt = "%s/%s?directory=%s&resource=filesystem&recursive=false&maxResults=%d&timeout=%d";
+        String url = String.format(rcfmt, //
+                datasetRuntimeInfo.getConnection().apiUrl(), //
+                datasetRuntimeInfo.getDataSet().getFilesystem(), //
+                directory, //
+                LIST_PAGE_SIZE, //
+                datasetRuntimeInfo.getConnection().getTimeout() //
+        );
+        if (continuation != null) {
+            try {
+                url += "&continuation=" + URLEncoder.encode(continuation, "UTF-8");
+            } catch (UnsupportedEncodingException e) {
+                throw new AdlsGen2RuntimeException(e.getMessage(), e);
+            }
+        }
+        log.debug("[pathListPage] {}", url);
+        Map<String, String> headers = prepareRequestHeadersCopy(datasetRuntimeInfo, url, MethodConstants.GET, "");
         Response<JsonObject> result = handleResponse(client.pathList( //
                 headers, //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
                 datasetRuntimeInfo.getSASMap(), //
-                datasetRuntimeInfo.getDataSet().getBlobPath(), //
+                directory, //
                 Constants.ATTR_FILESYSTEM, //
                 false, //
-                null, //
-                5000, //
+                continuation, //
+                LIST_PAGE_SIZE, //
                 datasetRuntimeInfo.getConnection().getTimeout() //
         ));
-        if (result.status() != Constants.HTTP_RESPONSE_CODE_200_OK) {
-            log.error("[getBlobs] Invalid request [{}] {}", result.status(), result.headers());
-            return new ArrayList<>();
-        }
         List<BlobInformations> blobs = new ArrayList<>();
+        List<String> directories = new ArrayList<>();
         for (JsonValue f : result.body().getJsonArray(Constants.ATTR_PATHS)) {
-            if (f.asJsonObject().getOrDefault(Constants.ATTR_IS_DIRECTORY, JsonValue.NULL) == JsonValue.NULL) {
-                BlobInformations infos = new BlobInformations();
-                infos.setExists(true);
-                String name = f.asJsonObject().getString(Constants.ATTR_NAME);
-                infos.setName(name);
-                infos.setFileName(extractFileName(name));
-                infos.setBlobPath(name);
-                infos.setDirectory(extractFolderPath(name));
-                infos.setEtag(f.asJsonObject().getString("etag"));
-                infos.setContentLength(Integer.parseInt(f.asJsonObject().getString("contentLength")));
-                infos.setLastModified(f.asJsonObject().getString("lastModified"));
-                if (f.asJsonObject().containsKey("owner")) {
-                    infos.setOwner(f.asJsonObject().getString("owner"));
-                }
-                if (f.asJsonObject().containsKey("permissions")) {
-                    infos.setPermissions(f.asJsonObject().getString("permissions"));
-                }
-                blobs.add(infos);
+            final JsonObject path = f.asJsonObject();
+            if (path.getOrDefault(Constants.ATTR_IS_DIRECTORY, JsonValue.NULL) == JsonValue.NULL) {
+                blobs.add(toBlobInformations(path));
+            } else {
+                directories.add(path.getString(Constants.ATTR_NAME));
             }
         }
-        log.debug("[getBlobs] blobs count {}.", blobs.size());
+        return new PathIterator.Page(directory, blobs, directories, getContinuation(result));
+    }
+
+    private BlobInformations toBlobInformations(JsonObject path) {
+        BlobInformations infos = new BlobInformations();
+        infos.setExists(true);
+        String name = path.getString(Constants.ATTR_NAME);
+        infos.setName(name);
+        infos.setFileName(extractFileName(name));
+        infos.setBlobPath(name);
+        infos.setDirectory(extractFolderPath(name));
+        infos.setEtag(path.getString("etag"));
+        infos.setContentLength(Long.parseLong(path.getString("contentLength")));
+        infos.setLastModified(path.getString("lastModified"));
+        if (path.containsKey("owner")) {
+            infos.setOwner(path.getString("owner"));
+        }
+        if (path.containsKey("permissions")) {
+            infos.setPermissions(path.getString("permissions"));
+        }
+        return infos;
+    }
 
-        return blobs;
+    private static String getContinuation(Response<?> response) {
+        if (response.headers() == null) {
+            return null;
+        }
+        return response.headers().entrySet().stream() //
+                .filter(e -> HeaderConstants.HEADER_X_MS_CONTINUATION.equalsIgnoreCase(e.getKey())) //
+                .map(Map.Entry::getValue) //
+                .filter(values -> values != null && !values.isEmpty()) //
+                .map(values -> values.get(0)) //
+                .filter(StringUtils::isNotEmpty) //
+                .findFirst() //
+                .orElse(null);
     }
 
     public BlobInformations getBlobInformations(final AdlsDatasetRuntimeInfo datasetRuntimeInfo) {
@@ -341,7 +417,7 @@ public class AdlsGen2Service {
                 infos.setFileName(fileName);
                 infos.setBlobPath(extractFolderPath(datasetRuntimeInfo.getDataSet().getBlobPath()));
                 infos.setEtag(f.asJsonObject().getString("etag"));
-                infos.setContentLength(Integer.parseInt(f.asJsonObject().getString("contentLength")));
+                infos.setContentLength(Long.parseLong(f.asJsonObject().getString("contentLength")));
                 infos.setLastModified(f.asJsonObject().getString("lastModified"));
                 if (f.asJsonObject().containsKey("owner")) {
                     infos.setOwner(f.asJsonObject().getString("owner"));
@@ -424,8 +500,7 @@ public class AdlsGen2Service {
                 datasetRuntimeInfo.getConnection().getTimeout() //
         );
         log.debug("[getBlobInputstream] {}", url);
-        Map<String, String> headers = prepareRequestHeaders(datasetRuntimeInfo.getAdTokenMap(),
-                datasetRuntimeInfo.getConnection(), url, MethodConstants.GET, "");
+        Map<String, String> headers = prepareRequestHeadersCopy(datasetRuntimeInfo, url, MethodConstants.GET, "");
         Response<InputStream> result = handleResponse(client.pathRead( //
                 headers, //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
@@ -436,36 +511,55 @@ public class AdlsGen2Service {
         return result.body();
     }
 
-    @SuppressWarnings("unchecked")
     public Response<JsonObject> pathCreate(AdlsDatasetRuntimeInfo datasetRuntimeInfo) {
+        return pathCreate(datasetRuntimeInfo, datasetRuntimeInfo.getDataSet().getBlobPath());
+    }
+
+    /**
+     * Create file at given path of dataset filesystem.
+     */
+    @SuppressWarnings("unchecked")
+    public Response<JsonObject> pathCreate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath) {
         setDefaultRequestParameters(datasetRuntimeInfo.getConnection());
         String rcfmt = "%s/%s/%s?resource=file&timeout=%d";
-        String url = getUrlStringWithoutPosition(datasetRuntimeInfo, rcfmt);
+        String url = String.format(rcfmt, //
+                datasetRuntimeInfo.getConnection().apiUrl(), //
+                datasetRuntimeInfo.getDataSet().getFilesystem(), //
+                blobPath, //
+                datasetRuntimeInfo.getConnection().getTimeout() //
+        );
         log.debug("[pathCreate] {}", url);
-        Map<String, String> headers = prepareRequestHeaders(datasetRuntimeInfo.getAdTokenMap(),
-                datasetRuntimeInfo.getConnection(), url, MethodConstants.PUT, "");
+        Map<String, String> headers = prepareRequestHeadersCopy(datasetRuntimeInfo, url, MethodConstants.PUT, "");
         return handleResponse(client.pathCreate( //
                 headers, //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
-                datasetRuntimeInfo.getDataSet().getBlobPath(), //
+                blobPath, //
                 Constants.ATTR_FILE, //
                 datasetRuntimeInfo.getConnection().getTimeout(), //
                 datasetRuntimeInfo.getSASMap(), //
                 ""));
     }
 
-    @SuppressWarnings("unchecked")
     public Response<JsonObject> pathUpdate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, byte[] content, long position) {
+        return pathUpdate(datasetRuntimeInfo, datasetRuntimeInfo.getDataSet().getBlobPath(), content, position);
+    }
+
+    /**
+     * Append content at position of file. Appends at different positions of a file can run in parallel.
+     */
+    @SuppressWarnings("unchecked")
+    public Response<JsonObject> pathUpdate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, byte[] content,
+            long position) {
         setDefaultRequestParameters(datasetRuntimeInfo.getConnection());
         String rcfmt = "%s/%s/%s?action=append&position=%s&timeout=%d";
-        String url = getUrlStringWithPosition(datasetRuntimeInfo, position, rcfmt);
+        String url = getUrlStringWithPosition(datasetRuntimeInfo, blobPath, position, rcfmt);
         log.debug("[pathUpdate] {}", url);
-        Map<String, String> headers = prepareRequestHeaders(datasetRuntimeInfo.getAdTokenMap(),
-                datasetRuntimeInfo.getConnection(), url, MethodConstants.PATCH, String.valueOf(content.length));
+        Map<String, String> headers = prepareRequestHeadersCopy(datasetRuntimeInfo, url, MethodConstants.PATCH,
+                String.valueOf(content.length));
         return handleResponse(client.pathUpdate( //
                 headers, //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
-                datasetRuntimeInfo.getDataSet().getBlobPath(), //
+                blobPath, //
                 Constants.ATTR_ACTION_APPEND, //
                 position, //
                 datasetRuntimeInfo.getDataSet().getConnection().getTimeout(), //
@@ -483,18 +577,21 @@ public class AdlsGen2Service {
      * @param position
      * @return
      */
-    @SuppressWarnings("unchecked")
     public Response<JsonObject> flushBlob(AdlsDatasetRuntimeInfo datasetRuntimeInfo, long position) {
+        return flushBlob(datasetRuntimeInfo, datasetRuntimeInfo.getDataSet().getBlobPath(), position);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Response<JsonObject> flushBlob(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, long position) {
         setDefaultRequestParameters(datasetRuntimeInfo.getConnection());
         String rcfmt = "%s/%s/%s?action=flush&position=%s&timeout=%d";
-        String url = getUrlStringWithPosition(datasetRuntimeInfo, position, rcfmt);
+        String url = getUrlStringWithPosition(datasetRuntimeInfo, blobPath, position, rcfmt);
         log.debug("[flushBlob#pathUpdate] {}", url);
-        Map<String, String> headers = prepareRequestHeaders(datasetRuntimeInfo.getAdTokenMap(),
-                datasetRuntimeInfo.getConnection(), url, MethodConstants.PATCH, "");
+        Map<String, String> headers = prepareRequestHeadersCopy(datasetRuntimeInfo, url, MethodConstants.PATCH, "");
         return handleResponse(client.pathUpdate( //
                 headers, //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
-                datasetRuntimeInfo.getDataSet().getBlobPath(), //
+                blobPath, //
                 Constants.ATTR_ACTION_FLUSH, //
                 position, //
                 datasetRuntimeInfo.getConnection().getTimeout(), //
@@ -503,11 +600,12 @@ public class AdlsGen2Service {
         ));
     }
 
-    private String getUrlStringWithPosition(AdlsDatasetRuntimeInfo datasetRuntimeInfo, long position, String rcfmt) {
+    private String getUrlStringWithPosition(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, long position,
+            String rcfmt) {
         return String.format(rcfmt, //
                 datasetRuntimeInfo.getDataSet().getConnection().apiUrl(), //
                 datasetRuntimeInfo.getDataSet().getFilesystem(), //
-                datasetRuntimeInfo.getDataSet().getBlobPath(), //
+                blobPath, //
                 position, //
                 datasetRuntimeInfo.getConnection().getTimeout() //
         );
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.service;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Iterate on blobs of a directory, page by page.
+ * Next page is requested only when current one is consumed; on recursive listing,
+ * pages of sub-directories are requested in parallel, a few pages ahead.
+ */
+class PathIterator implements Iterator<BlobInformations> {
+
+    /**
+     * Read one page of a directory listing.
+     */
+    @FunctionalInterface
+    interface PageReader {
+
+        Page read(String directory, String continuation);
+    }
+
+    /**
+     * One page of a directory listing.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static class Page {
+
+        private final String directory;
+
+        private final List<BlobInformations> blobs;
+
+        /** sub-directories found in page */
+        private final List<String> directories;
+
+        /** token for next page of directory, null if last page */
+        private final String continuation;
+    }
+
+    private static class PageRequest extends FutureTask<Page> {
+
+        private boolean started = false;
+
+        PageRequest(PageReader reader, String directory, String continuation) {
+            super(() -> reader.read(directory, continuation));
+        }
+    }
+
+    private final PageReader reader;
+
+    /** number of pages requested in parallel, 0 for no recursion */
+    private final int threads;
+
+    private final ThreadPoolExecutor executor;
+
+    /** pages to read, in order */
+    private final Deque<PageRequest> pending = new ArrayDeque<>();
+
+    private Iterator<BlobInformations> current = Collections.emptyIterator();
+
+    PathIterator(String directory, PageReader reader, int threads) {
+        this.reader = reader;
+        this.threads = threads;
+        if (threads > 0) {
+            final AtomicInteger threadIndex = new AtomicInteger(0);
+            this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    (Runnable task) -> {
+                        final Thread thread = new Thread(task, "adls-list-" + threadIndex.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.executor.allowCoreThreadTimeOut(true);
+        } else {
+            this.executor = null;
+        }
+        this.pending.add(new PageRequest(reader, directory, null));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.current.hasNext()) {
+            if (this.pending.isEmpty()) {
+                if (this.executor != null) {
+                    this.executor.shutdown();
+                }
+                return false;
+            }
+            final Page page = this.take(this.pending.poll());
+            if (page.getContinuation() != null) {
+                this.pending.add(new PageRequest(this.reader, page.getDirectory(), page.getContinuation()));
+            }
+            if (this.executor != null) {
+                page.getDirectories()
+                        .forEach((String directory) -> this.pending.add(new PageRequest(this.reader, directory, null)));
+                this.startAhead();
+            }
+            this.current = page.getBlobs().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public BlobInformations next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more blob");
+        }
+        return this.current.next();
+    }
+
+    private Page take(PageRequest request) {
+        this.startAhead();
+        if (!request.started) {
+            request.started = true;
+            request.run();
+        }
+        try {
+            return request.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AdlsGen2RuntimeException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (this.executor != null) {
+                this.executor.shutdownNow();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AdlsGen2RuntimeException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Start next page requests in background (recursive listing only).
+     */
+    private void startAhead() {
+        if (this.executor == null) {
+            return;
+        }
+        int count = 0;
+        for (PageRequest request : this.pending) {
+            if (count >= this.threads) {
+                break;
+            }
+            if (!request.started) {
+                request.started = true;
+                this.executor.execute(request);
+            }
+            count++;
+        }
+    }
+}
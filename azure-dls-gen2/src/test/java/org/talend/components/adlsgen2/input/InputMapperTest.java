@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.input;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.components.adlsgen2.FakeActiveDirectoryService;
+import org.talend.components.adlsgen2.dataset.AdlsGen2DataSet;
+import org.talend.components.adlsgen2.datastore.AdlsGen2Connection;
+import org.talend.components.adlsgen2.datastore.AdlsGen2Connection.AuthMethod;
+import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.components.adlsgen2.service.BlobInformations;
+
+class InputMapperTest {
+
+    private InputMapper mapper;
+
+    @BeforeEach
+    void init() {
+        final AdlsGen2Connection connection = new AdlsGen2Connection();
+        connection.setAuthMethod(AuthMethod.SAS);
+        connection.setSas(";Fake=Sas");
+        final AdlsGen2DataSet dataSet = new AdlsGen2DataSet();
+        dataSet.setConnection(connection);
+        dataSet.setFilesystem("storageFs");
+        dataSet.setBlobPath("dir");
+        final InputConfiguration configuration = new InputConfiguration();
+        configuration.setDataSet(dataSet);
+
+        mapper = new InputMapper(configuration, new FakeService(), null, null, new FakeActiveDirectoryService());
+    }
+
+    @Test
+    void estimateSize() {
+        Assertions.assertEquals(300L, mapper.estimateSize());
+    }
+
+    @Test
+    void splitBySize() {
+        final List<InputMapper> mappers = mapper.split(100L);
+        Assertions.assertEquals(3, mappers.size());
+
+        long total = 0L;
+        for (InputMapper bundle : mappers) {
+            final long size = bundle.estimateSize();
+            Assertions.assertEquals(100L, size, "unbalanced bundle of size " + size);
+            total += size;
+        }
+        Assertions.assertEquals(300L, total);
+    }
+
+    @Test
+    void splitInMoreBundlesThanBlobs() {
+        // at most one bundle per blob.
+        final List<InputMapper> mappers = mapper.split(10L);
+        Assertions.assertEquals(5, mappers.size());
+        for (InputMapper bundle : mappers) {
+            Assertions.assertTrue(bundle.estimateSize() > 0L);
+        }
+    }
+
+    @Test
+    void noSplit() {
+        Assertions.assertSame(mapper, mapper.split(1000L).get(0));
+        Assertions.assertEquals(1, mapper.split(0L).size());
+    }
+
+    private static BlobInformations blob(String name, long length) {
+        final BlobInformations blob = new BlobInformations();
+        blob.setBlobPath("dir/" + name);
+        blob.setContentLength(length);
+        return blob;
+    }
+
+    private static class FakeService extends AdlsGen2Service {
+
+        @Override
+        public Iterator<BlobInformations> listBlobs(AdlsDatasetRuntimeInfo datasetRuntimeInfo, boolean recursive) {
+            return Arrays.asList(blob("f1", 100L), blob("f2", 40L), blob("f3", 60L), blob("f4", 30L), blob("f5", 70L))
+                    .iterator();
+        }
+    }
+}
@@ -88,7 +88,7 @@ class AvroBlobReaderTest extends AdlsGen2TestBase {
         final AdlsGen2Service gen2Service = this.componentsHandler.findService(AdlsGen2Service.class);
 
         final AvroBlobReader reader = new AvroBlobReader(this.inputConfiguration, this.recordBuilderFactory, gen2Service,
-                new FakeActiveDirectoryService());
+                new FakeActiveDirectoryService(), null);
 
         final Record record1 = reader.readRecord();
         Assertions.assertEquals(0, record1.getInt("business_id"));
@@ -45,6 +45,17 @@ class CsvBlobReaderTest extends AdlsGen2TestBase {
 
     @Test
     void readRecord() {
+        this.readRecords();
+    }
+
+    @Test
+    void readRecordWithReadAhead() {
+        this.inputConfiguration.setReadAhead(true);
+        this.inputConfiguration.setReadAheadBlobs(2);
+        this.readRecords().close();
+    }
+
+    private CsvBlobReader readRecords() {
         this.inputConfiguration.getDataSet().setFormat(FileFormat.CSV);
         this.dataSet.getCsvConfiguration().setFieldDelimiter(CsvFieldDelimiter.COMMA);
         this.dataSet.getCsvConfiguration().setRecordSeparator(CsvRecordSeparator.LF);
@@ -90,7 +101,7 @@ class CsvBlobReaderTest extends AdlsGen2TestBase {
         final AdlsGen2Service gen2Service = this.componentsHandler.findService(AdlsGen2Service.class);
 
         final CsvBlobReader reader = new CsvBlobReader(this.inputConfiguration, this.recordBuilderFactory, gen2Service,
-                new FakeActiveDirectoryService());
+                new FakeActiveDirectoryService(), null);
 
         final Record record1 = reader.readRecord();
         Assertions.assertEquals("Fic1", record1.getString("field1"));
@@ -110,5 +121,6 @@ class CsvBlobReaderTest extends AdlsGen2TestBase {
         final Record endRecord = reader.readRecord();
 
         Assertions.assertNull(endRecord);
+        return reader;
     }
 }
\ No newline at end of file
@@ -92,7 +92,7 @@ class JsonBlobReaderTest extends AdlsGen2TestBase {
         final AdlsGen2Service gen2Service = this.componentsHandler.findService(AdlsGen2Service.class);
 
         final JsonBlobReader reader = new JsonBlobReader(this.inputConfiguration, this.recordBuilderFactory,
-                Json.createBuilderFactory(Collections.emptyMap()), gen2Service, new FakeActiveDirectoryService());
+                Json.createBuilderFactory(Collections.emptyMap()), gen2Service, new FakeActiveDirectoryService(), null);
 
         final Record record1 = reader.readRecord();
         Assertions.assertEquals("Fic1", record1.getString("field1"));
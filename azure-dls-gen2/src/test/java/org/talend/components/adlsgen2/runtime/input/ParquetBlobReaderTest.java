@@ -88,7 +88,7 @@ class ParquetBlobReaderTest extends AdlsGen2TestBase {
         final AdlsGen2Service gen2Service = this.componentsHandler.findService(AdlsGen2Service.class);
 
         final ParquetBlobReader reader = new ParquetBlobReader(this.inputConfiguration, this.recordBuilderFactory, gen2Service,
-                new FakeActiveDirectoryService());
+                new FakeActiveDirectoryService(), null);
 
         final Record record1 = reader.readRecord();
         Assertions.assertEquals("Spark-H20", record1.getString("name"));
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
+import org.talend.components.adlsgen2.runtime.AdlsGen2RuntimeException;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.service.http.Response;
+
+class AppendOutputStreamTest {
+
+    @Test
+    void appendSerial() throws IOException {
+        this.checkAppends(null);
+    }
+
+    @Test
+    void appendParallel() throws IOException {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            this.checkAppends(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void appendError() {
+        final FakeService service = new FakeService();
+        service.failAt = 4L;
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AppendOutputStream output = new AppendOutputStream(service, null, "dir/file.csv", 4, 2, executor);
+            Assertions.assertThrows(IOException.class, () -> {
+                output.write("0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+                output.close();
+            });
+            Assertions.assertEquals(0, service.flushes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void checkAppends(ExecutorService executor) throws IOException {
+        final FakeService service = new FakeService();
+        final AppendOutputStream output = new AppendOutputStream(service, null, "dir/file.csv", 4, 2, executor);
+        output.write("0123456".getBytes(StandardCharsets.UTF_8));
+        output.write('7');
+        output.write("89ab".getBytes(StandardCharsets.UTF_8), 0, 3);
+        Assertions.assertEquals(11L, output.getPosition());
+        output.close();
+        output.close();
+
+        Assertions.assertEquals(3, service.appends.size());
+        Assertions.assertEquals("0123", service.appends.get(0L));
+        Assertions.assertEquals("4567", service.appends.get(4L));
+        Assertions.assertEquals("89a", service.appends.get(8L));
+        Assertions.assertEquals(1, service.flushes.get());
+        Assertions.assertEquals(11L, service.flushPosition.get());
+    }
+
+    private static class FakeService extends AdlsGen2Service {
+
+        private final Map<Long, String> appends = new ConcurrentHashMap<>();
+
+        private final AtomicInteger flushes = new AtomicInteger();
+
+        private final AtomicLong flushPosition = new AtomicLong(-1L);
+
+        private long failAt = -1L;
+
+        @Override
+        public Response<JsonObject> pathUpdate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, byte[] content,
+                long position) {
+            if (position == failAt) {
+                throw new AdlsGen2RuntimeException("append failed");
+            }
+            appends.put(position, new String(content, StandardCharsets.UTF_8));
+            return null;
+        }
+
+        @Override
+        public Response<JsonObject> flushBlob(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, long position) {
+            flushes.incrementAndGet();
+            flushPosition.set(position);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.adlsgen2.runtime.output;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.talend.components.adlsgen2.AdlsGen2TestBase;
+import org.talend.components.adlsgen2.FakeActiveDirectoryService;
+import org.talend.components.adlsgen2.common.format.FileFormat;
+import org.talend.components.adlsgen2.common.format.json.JsonConfiguration;
+import org.talend.components.adlsgen2.runtime.AdlsDatasetRuntimeInfo;
+import org.talend.components.adlsgen2.service.AdlsGen2Service;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.http.Response;
+import org.talend.sdk.component.junit5.WithComponents;
+
+@WithComponents("org.talend.components.adlsgen2")
+class RollingBlobWriterTest extends AdlsGen2TestBase {
+
+    private static final String CSV_HEADER = "id;firstname;lastname;address;enrolled;zip;state";
+
+    private FakeService fakeService;
+
+    @BeforeEach
+    void setUpRolling() {
+        fakeService = new FakeService();
+        outputConfiguration.setRollingFile(true);
+        outputConfiguration.setMaxFileSize(1);
+        outputConfiguration.setMaxFileAge(300);
+        outputConfiguration.setAppendSize(1);
+        outputConfiguration.setAppendConcurrency(1);
+        dataSet.getCsvConfiguration().setHeader(true);
+        dataSet.setJsonConfiguration(new JsonConfiguration());
+    }
+
+    @Test
+    void csvRollingBySize() throws Exception {
+        dataSet.setFormat(FileFormat.CSV);
+        // 3 batches of ~600KB, 1MB max size: first file closed after second batch
+        final String address = new String(new char[100 * 1024]).replace('\0', 'a');
+        final BlobWriter writer = new CsvBlobWriter(outputConfiguration, recordBuilderFactory, jsonBuilderFactory,
+                fakeService, new FakeActiveDirectoryService());
+        for (int i = 0; i < 3; i++) {
+            writeBatch(writer, 6, address);
+        }
+        writer.complete();
+
+        final List<String> files = fakeService.flushedContents();
+        Assertions.assertEquals(2, files.size());
+        checkCsv(files.get(0), 12);
+        checkCsv(files.get(1), 6);
+    }
+
+    @Test
+    void csvRollingByAge() throws Exception {
+        dataSet.setFormat(FileFormat.CSV);
+        outputConfiguration.setMaxFileSize(128);
+        outputConfiguration.setMaxFileAge(0);
+        final BlobWriter writer = new CsvBlobWriter(outputConfiguration, recordBuilderFactory, jsonBuilderFactory,
+                fakeService, new FakeActiveDirectoryService());
+        writeBatch(writer, 2, "addr");
+        writeBatch(writer, 3, "addr");
+        writer.complete();
+
+        final List<String> files = fakeService.flushedContents();
+        Assertions.assertEquals(2, files.size());
+        checkCsv(files.get(0), 2);
+        checkCsv(files.get(1), 3);
+    }
+
+    @Test
+    void csvHeaderOncePerFile() throws Exception {
+        dataSet.setFormat(FileFormat.CSV);
+        outputConfiguration.setMaxFileSize(128);
+        final BlobWriter writer = new CsvBlobWriter(outputConfiguration, recordBuilderFactory, jsonBuilderFactory,
+                fakeService, new FakeActiveDirectoryService());
+        for (int i = 0; i < 4; i++) {
+            writeBatch(writer, 2, "addr");
+        }
+        writer.complete();
+
+        final List<String> files = fakeService.flushedContents();
+        Assertions.assertEquals(1, files.size());
+        checkCsv(files.get(0), 8);
+    }
+
+    @Test
+    void jsonFramingOverAppends() throws Exception {
+        dataSet.setFormat(FileFormat.JSON);
+        outputConfiguration.setMaxFileSize(128);
+        final BlobWriter writer = new JsonBlobWriter(outputConfiguration, recordBuilderFactory, jsonBuilderFactory,
+                fakeService, new FakeActiveDirectoryService());
+        writeBatch(writer, 1, "addr");
+        writeBatch(writer, 3, "addr");
+        writeBatch(writer, 2, "addr");
+        writer.complete();
+
+        final List<String> files = fakeService.flushedContents();
+        Assertions.assertEquals(1, files.size());
+        final JsonArray items = checkJson(files.get(0));
+        Assertions.assertEquals(6, items.size());
+        Assertions.assertEquals("addr", items.getJsonObject(5).getString("address"));
+    }
+
+    @Test
+    void jsonFramingOverFiles() throws Exception {
+        dataSet.setFormat(FileFormat.JSON);
+        outputConfiguration.setMaxFileAge(0);
+        final BlobWriter writer = new JsonBlobWriter(outputConfiguration, recordBuilderFactory, jsonBuilderFactory,
+                fakeService, new FakeActiveDirectoryService());
+        writeBatch(writer, 2, "addr");
+        writeBatch(writer, 1, "addr");
+        writer.complete();
+
+        final List<String> files = fakeService.flushedContents();
+        Assertions.assertEquals(2, files.size());
+        Assertions.assertEquals(2, checkJson(files.get(0)).size());
+        Assertions.assertEquals(1, checkJson(files.get(1)).size());
+    }
+
+    private void writeBatch(BlobWriter writer, int size, String address) {
+        writer.newBatch();
+        for (int i = 0; i < size; i++) {
+            final Record record = recordBuilderFactory.newRecordBuilder() //
+                    .withString("id", String.valueOf(i)) //
+                    .withString("firstname", "firstfirst") //
+                    .withString("lastname", "lastlast") //
+                    .withString("address", address) //
+                    .withString("enrolled", "Datedsldsk") //
+                    .withString("zip", "89100") //
+                    .withString("state", "YO") //
+                    .build();
+            writer.writeRecord(record);
+        }
+        writer.flush();
+    }
+
+    private void checkCsv(String content, int expectedRows) {
+        final List<String> lines = Arrays.asList(content.split("\n"));
+        Assertions.assertEquals(expectedRows + 1, lines.size());
+        Assertions.assertEquals(CSV_HEADER, lines.get(0));
+        Assertions.assertEquals(1, lines.stream().filter(CSV_HEADER::equals).count());
+    }
+
+    private JsonArray checkJson(String content) {
+        try (JsonReader reader = Json.createReader(new StringReader(content))) {
+            return reader.readArray();
+        }
+    }
+
+    /**
+     * Keeps appended content of files in memory.
+     */
+    private static class FakeService extends AdlsGen2Service {
+
+        private final Map<String, StringBuilder> files = new LinkedHashMap<>();
+
+        private final List<String> flushed = new ArrayList<>();
+
+        @Override
+        public boolean blobExists(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobName) {
+            return files.containsKey(blobName);
+        }
+
+        @Override
+        public Response<JsonObject> pathCreate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath) {
+            files.put(blobPath, new StringBuilder());
+            return null;
+        }
+
+        @Override
+        public Response<JsonObject> pathUpdate(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, byte[] content,
+                long position) {
+            final StringBuilder file = files.get(blobPath);
+            Assertions.assertEquals(file.length(), position);
+            file.append(new String(content, StandardCharsets.UTF_8));
+            return null;
+        }
+
+        @Override
+        public Response<JsonObject> flushBlob(AdlsDatasetRuntimeInfo datasetRuntimeInfo, String blobPath, long position) {
+            final StringBuilder file = files.get(blobPath);
+            Assertions.assertEquals(file.length(), position);
+            flushed.add(blobPath);
+            return null;
+        }
+
+        private List<String> flushedContents() {
+            final List<String> contents = new ArrayList<>();
+            for (String blobPath : flushed) {
+                contents.add(files.get(blobPath).toString());
+            }
+            return contents;
+        }
+    }
+}
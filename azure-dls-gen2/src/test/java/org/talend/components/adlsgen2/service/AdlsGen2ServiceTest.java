@@ -17,13 +17,16 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import javax.json.Json;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 
 import org.checkerframework.checker.units.qual.A;
@@ -86,7 +89,7 @@ class AdlsGen2ServiceTest extends AdlsGen2TestBase {
         Assertions.assertEquals(1, blobs.size());
 
         final BlobInformations informations = blobs.get(0);
-        Assertions.assertEquals(120, informations.getContentLength());
+        Assertions.assertEquals(120L, informations.getContentLength());
         Assertions.assertEquals("0x8D89D1980D8BD4B", informations.getEtag());
         Assertions.assertEquals(File.separatorChar + "paht1", informations.getDirectory());
         Assertions.assertEquals("file1.txt", informations.getFileName());
@@ -94,6 +97,56 @@ class AdlsGen2ServiceTest extends AdlsGen2TestBase {
         Assertions.assertEquals("admin", informations.getOwner());
     }
 
+    @Test
+    void testListBlobsPages() {
+        final ComponentManager manager = componentsHandler.asManager();
+        final ClientGen2Fake fake = new ClientGen2Fake(null) {
+
+            @Override
+            public Response<JsonObject> pathList(Map<String, String> headers, String filesystem, Map<String, String> sas,
+                    String directory, String resource, Boolean recursive, String continuation, Integer maxResults,
+                    Integer timeout) {
+                if (continuation == null) {
+                    // first page, big file and sub-directory.
+                    final JsonArrayBuilder paths = Json.createArrayBuilder().add(path(directory + "/file1.txt", "3000000000"));
+                    if ("dir".equals(directory)) {
+                        paths.add(Json.createObjectBuilder().add("name", "dir/sub").add("isDirectory", "true"));
+                    }
+                    final JsonObject page = Json.createObjectBuilder().add("paths", paths).build();
+                    return new FakeResponse<>(200, page,
+                            Collections.singletonMap(HeaderConstants.HEADER_X_MS_CONTINUATION, Arrays.asList("next page")), null);
+                }
+                Assertions.assertEquals("next page", continuation);
+                final JsonObject page = Json.createObjectBuilder()
+                        .add("paths", Json.createArrayBuilder().add(path(directory + "/file2.txt", "10"))).build();
+                return new FakeResponse<>(200, page, Collections.emptyMap(), null);
+            }
+        };
+        ClientGen2Fake.inject(manager, fake);
+        final AdlsGen2Service service = this.componentsHandler.findService(AdlsGen2Service.class);
+        this.dataSet.setBlobPath("dir");
+
+        final List<BlobInformations> blobs = service.getBlobs(this.runtimeInfo());
+        Assertions.assertEquals(2, blobs.size());
+        Assertions.assertEquals(3_000_000_000L, blobs.get(0).getContentLength());
+        Assertions.assertEquals("dir/file2.txt", blobs.get(1).getBlobPath());
+
+        final Iterator<BlobInformations> all = service.listBlobs(this.runtimeInfo(), true);
+        final List<String> names = new ArrayList<>();
+        all.forEachRemaining((BlobInformations blob) -> names.add(blob.getBlobPath()));
+        Assertions.assertEquals(Arrays.asList("dir/file1.txt", "dir/file2.txt", "dir/sub/file1.txt", "dir/sub/file2.txt"),
+                names);
+    }
+
+    private static JsonObject path(String name, String contentLength) {
+        return Json.createObjectBuilder() //
+                .add("etag", "0x8D89D1980D8BD4B") //
+                .add("name", name) //
+                .add("contentLength", contentLength) //
+                .add("lastModified", "2021-01-13") //
+                .build();
+    }
+
     @Test
     void testGetBlobInformations() {
         final JsonObject filesystems = Json.createObjectBuilder()
@@ -111,7 +164,7 @@ class AdlsGen2ServiceTest extends AdlsGen2TestBase {
         this.dataSet.setBlobPath("/paht1/file1.txt");
         final AdlsDatasetRuntimeInfo runtimeInfo = new AdlsDatasetRuntimeInfo(this.dataSet, new FakeActiveDirectoryService());
         final BlobInformations informations = service.getBlobInformations(runtimeInfo);
-        Assertions.assertEquals(120, informations.getContentLength());
+        Assertions.assertEquals(120L, informations.getContentLength());
         Assertions.assertEquals("0x8D89D1980D8BD4B", informations.getEtag());
         Assertions.assertEquals("file1.txt", informations.getFileName());
         Assertions.assertEquals("read", informations.getPermissions());
@@ -16,6 +16,10 @@ import java.io.Serializable;
 
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.condition.ActiveIfs;
+import org.talend.sdk.component.api.configuration.constraint.Max;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -23,7 +27,10 @@ import lombok.Data;
 
 @GridLayout({ @GridLayout.Row({ "dataset" }) })
 
-@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("blobNameTemplate") })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("blobNameTemplate"),
+        @GridLayout.Row({ "parquetRowGroupSize", "parquetPageSize" }), @GridLayout.Row("parquetCompression"),
+        @GridLayout.Row("parquetFileSize"), @GridLayout.Row("stagedUpload"),
+        @GridLayout.Row({ "uploadBlockSize", "uploadConcurrency" }) })
 @Documentation("Options for the output component")
 @Data
 public class BlobOutputConfiguration implements Serializable {
@@ -36,4 +43,47 @@ public class BlobOutputConfiguration implements Serializable {
     @Documentation("Generated blob item name prefix.\nBatch file would have name prefix + UUID + extension.\n"
             + "I.e. myPrefix-5deaa8ff-7d22-4b86-a864-9a6fa414501a.avro")
     private String blobNameTemplate = "data-";
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET")
+    @Documentation("Parquet row group size in MB.")
+    private int parquetRowGroupSize = 128;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET")
+    @Documentation("Parquet page size in KB.")
+    private int parquetPageSize = 1024;
+
+    @Option
+    @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET")
+    @Documentation("Parquet compression codec.")
+    private ParquetCompression parquetCompression = ParquetCompression.UNCOMPRESSED;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET")
+    @Documentation("Size in MB from which a new parquet blob is started, a blob contains several row groups.")
+    private int parquetFileSize = 1024;
+
+    @Option
+    @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET", negate = true)
+    @Documentation("Write blobs as block blobs, content is streamed in blocks uploaded concurrently.")
+    private boolean stagedUpload = false;
+
+    @Option
+    @Min(1)
+    @Max(100)
+    @ActiveIfs(operator = ActiveIfs.Operator.OR, value = { @ActiveIf(target = "../stagedUpload", value = "true"),
+            @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET") })
+    @Documentation("Size in MB of uploaded blob blocks.")
+    private int uploadBlockSize = 4;
+
+    @Option
+    @Min(1)
+    @ActiveIfs(operator = ActiveIfs.Operator.OR, value = { @ActiveIf(target = "../stagedUpload", value = "true"),
+            @ActiveIf(target = "../dataset.fileFormat", value = "PARQUET") })
+    @Documentation("Max number of blocks uploaded at same time.")
+    private int uploadConcurrency = 4;
 }
\ No newline at end of file
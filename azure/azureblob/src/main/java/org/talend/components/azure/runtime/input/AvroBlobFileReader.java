@@ -15,6 +15,7 @@ package org.talend.components.azure.runtime.input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.Collection;
 
 import org.apache.avro.file.DataFileStream;
 import org.apache.avro.generic.GenericDatumReader;
@@ -36,9 +37,9 @@ import lombok.extern.slf4j.Slf4j;
 public class AvroBlobFileReader extends BlobFileReader {
 
     public AvroBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, BlobReadAhead readAhead) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames, readAhead);
     }
 
     @Override
@@ -73,7 +74,7 @@ public class AvroBlobFileReader extends BlobFileReader {
             closePreviousInputStream();
 
             try {
-                input = getCurrentItem().openInputStream();
+                input = openCurrentItem();
                 DatumReader<GenericRecord> reader = new GenericDatumReader<>();
                 avroItemIterator = new DataFileStream<>(input, reader);
             } catch (Exception e) {
@@ -12,9 +12,14 @@
  */
 package org.talend.components.azure.runtime.input;
 
+import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import org.talend.components.azure.common.excel.ExcelFormat;
 import org.talend.components.azure.common.exception.BlobRuntimeException;
@@ -22,6 +27,8 @@ import org.talend.components.azure.common.service.AzureComponentServices;
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.components.azure.service.AzureBlobComponentServices;
 import org.talend.components.azure.service.MessageService;
+import org.talend.components.common.collections.IteratorMap;
+import org.talend.components.common.collections.LoadedContent;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
@@ -46,26 +53,37 @@ public abstract class BlobFileReader {
 
     private final AzureBlobDataset config;
 
+    /** background download of blobs, null if disabled */
+    private final BlobReadAhead readAhead;
+
+    /**
+     * @param blobNames : names of blobs of directory to read, null to read all blobs of directory.
+     * @param readAhead : background download of blobs, null to download blob only when read.
+     */
     public BlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
+            AzureBlobComponentServices connectionServices, MessageService messageService, Collection<String> blobNames,
+            BlobReadAhead readAhead) throws URISyntaxException, StorageException {
         this.recordBuilderFactory = recordBuilderFactory;
         this.config = config;
         this.messageService = messageService;
+        this.readAhead = readAhead;
         CloudStorageAccount connection = connectionServices.createStorageAccount(config.getConnection());
         CloudBlobClient blobClient = connectionServices.getConnectionService().createCloudBlobClient(connection,
                 AzureComponentServices.DEFAULT_RETRY_POLICY);
         CloudBlobContainer container = checkBlobContainer(config, blobClient);
 
-        String directoryName = config.getDirectory();
-        if (directoryName == null) {
-            directoryName = "";
-        } else if (!directoryName.endsWith("/")) {
-            directoryName += "/";
-        }
+        String directoryName = AzureBlobComponentServices.directoryPrefix(config.getDirectory());
 
         Iterable<ListBlobItem> blobItems = container.listBlobs(directoryName, false, EnumSet.noneOf(BlobListingDetails.class),
                 null, AzureComponentServices.getTalendOperationContext());
+        if (blobNames != null) {
+            // only blobs of this partition
+            final Set<String> names = new HashSet<>(blobNames);
+            final Iterable<ListBlobItem> directoryItems = blobItems;
+            blobItems = () -> StreamSupport.stream(directoryItems.spliterator(), false)
+                    .filter(item -> item instanceof CloudBlob && names.contains(((CloudBlob) item).getName()))
+                    .iterator();
+        }
         if (!blobItems.iterator().hasNext()) {
             throw new BlobRuntimeException("Folder doesn't exist/is empty");
         }
@@ -92,6 +110,15 @@ public abstract class BlobFileReader {
         return iterator.next();
     }
 
+    /**
+     * Release background downloads.
+     */
+    public void close() {
+        if (readAhead != null) {
+            readAhead.close();
+        }
+    }
+
     protected AzureBlobDataset getConfig() {
         return config;
     }
@@ -100,20 +127,31 @@ public abstract class BlobFileReader {
 
         public static BlobFileReader getReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
                 AzureBlobComponentServices connectionServices, MessageService messageService) throws Exception {
+            return getReader(config, recordBuilderFactory, connectionServices, messageService, null, null);
+        }
+
+        public static BlobFileReader getReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
+                AzureBlobComponentServices connectionServices, MessageService messageService, Collection<String> blobNames,
+                BlobReadAhead readAhead) throws Exception {
             switch (config.getFileFormat()) {
             case CSV:
-                return new CSVBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new CSVBlobFileReader(config, recordBuilderFactory, connectionServices, messageService, blobNames,
+                        readAhead);
             case AVRO:
-                return new AvroBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new AvroBlobFileReader(config, recordBuilderFactory, connectionServices, messageService, blobNames,
+                        readAhead);
 
             case EXCEL:
                 if (config.getExcelOptions().getExcelFormat() == ExcelFormat.HTML) {
-                    return new ExcelHTMLBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                    return new ExcelHTMLBlobFileReader(config, recordBuilderFactory, connectionServices, messageService,
+                            blobNames, readAhead);
                 } else {
-                    return new ExcelBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                    return new ExcelBlobFileReader(config, recordBuilderFactory, connectionServices, messageService, blobNames,
+                            readAhead);
                 }
             case PARQUET:
-                return new ParquetBlobFileReader(config, recordBuilderFactory, connectionServices, messageService);
+                return new ParquetBlobFileReader(config, recordBuilderFactory, connectionServices, messageService, blobNames,
+                        readAhead);
             default:
                 throw new IllegalArgumentException("Unsupported file format"); // shouldn't be here
             }
@@ -122,7 +160,7 @@ public abstract class BlobFileReader {
 
     protected abstract class ItemRecordIterator<T> implements Iterator<Record> {
 
-        private Iterator<ListBlobItem> blobItems;
+        private Iterator<LoadedContent<CloudBlob>> blobItems;
 
         @Getter(AccessLevel.PROTECTED)
         private RecordBuilderFactory recordBuilderFactory;
@@ -130,11 +168,31 @@ public abstract class BlobFileReader {
         @Getter(AccessLevel.PROTECTED)
         private CloudBlob currentItem;
 
+        /** downloaded content of current item, null if not downloaded */
+        private InputStream currentContent;
+
         protected ItemRecordIterator(Iterable<ListBlobItem> blobItemsList, RecordBuilderFactory recordBuilderFactory) {
-            this.blobItems = blobItemsList.iterator();
+            final Iterator<CloudBlob> blobs = StreamSupport.stream(blobItemsList.spliterator(), false)
+                    .filter(CloudBlob.class::isInstance)
+                    .map(CloudBlob.class::cast)
+                    .iterator();
+            this.blobItems = readAhead != null ? readAhead.read(blobs)
+                    : new IteratorMap<>(blobs, (CloudBlob blob) -> new LoadedContent<>(blob, null));
             this.recordBuilderFactory = recordBuilderFactory;
         }
 
+        /**
+         * @return content of current item (downloaded in advance if read ahead is enabled).
+         */
+        protected InputStream openCurrentItem() throws StorageException {
+            if (currentContent != null) {
+                final InputStream content = currentContent;
+                currentContent = null;
+                return content;
+            }
+            return currentItem.openInputStream();
+        }
+
         @Override
         public boolean hasNext() {
             throw new UnsupportedOperationException("Use next() method until return null");
@@ -157,13 +215,9 @@ public abstract class BlobFileReader {
             }
 
             while (blobItems.hasNext()) {
-                Object next = blobItems.next();
-                if (next instanceof CloudBlob) {
-                    currentItem = (CloudBlob) next;
-                    readItem();
-                    if (hasNextRecordTaken()) {
-                        return takeNextRecord(); // read record from next item
-                    }
+                takeItem(blobItems.next());
+                if (hasNextRecordTaken()) {
+                    return takeNextRecord(); // read record from next item
                 }
             }
 
@@ -181,16 +235,17 @@ public abstract class BlobFileReader {
         protected abstract void readItem();
 
         protected void takeFirstItem() {
-            while (blobItems.hasNext()) {
-                Object next = blobItems.next();
-                if (next instanceof CloudBlob) {
-                    currentItem = (CloudBlob) next;
-                    readItem();
-                    break;
-                }
+            if (blobItems.hasNext()) {
+                takeItem(blobItems.next());
             }
         }
 
+        private void takeItem(LoadedContent<CloudBlob> item) {
+            currentItem = item.getSource();
+            currentContent = item.getContent();
+            readItem();
+        }
+
         /**
          * Release all open resources if needed
          */
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.azure.runtime.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.talend.components.azure.common.exception.BlobRuntimeException;
+import org.talend.components.azure.common.service.AzureComponentServices;
+import org.talend.components.common.collections.ContentReadAhead;
+import org.talend.components.common.io.RangeInputStream;
+
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.blob.CloudBlob;
+
+/**
+ * Download next blobs in background while current one is read.
+ * Big blobs are downloaded by ranges in parallel.
+ */
+public class BlobReadAhead extends ContentReadAhead<CloudBlob> {
+
+    /** size of ranges for parallel download of big blobs */
+    static final int RANGE_SIZE = 4 * 1024 * 1024;
+
+    public BlobReadAhead(int blobCount, long maxSize) {
+        super("azure-blob-read-ahead", blobCount, maxSize);
+    }
+
+    @Override
+    protected InputStream load(CloudBlob blob) {
+        final long size = blob.getProperties().getLength();
+        try {
+            return RangeInputStream.of((long offset, int length) -> download(blob, offset, length), size, RANGE_SIZE,
+                    this.count, this.executor);
+        } catch (IOException e) {
+            throw new BlobRuntimeException("Can't download blob " + blob.getName(), e);
+        }
+    }
+
+    @Override
+    protected long weight(CloudBlob blob) {
+        return Math.min(blob.getProperties().getLength(), (long) RANGE_SIZE * this.count);
+    }
+
+    private static byte[] download(CloudBlob blob, long offset, int length) throws IOException {
+        final byte[] buffer = new byte[length];
+        if (length > 0) {
+            try {
+                blob.downloadRangeToByteArray(offset, (long) length, buffer, 0, null, null,
+                        AzureComponentServices.getTalendOperationContext());
+            } catch (StorageException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+        return buffer;
+    }
+}
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Iterator;
 
 import org.apache.commons.csv.CSVFormat;
@@ -38,9 +39,9 @@ import lombok.extern.slf4j.Slf4j;
 public class CSVBlobFileReader extends BlobFileReader {
 
     CSVBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, BlobReadAhead readAhead) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames, readAhead);
     }
 
     @Override
@@ -86,7 +87,7 @@ public class CSVBlobFileReader extends BlobFileReader {
             closePreviousInputStream();
 
             try {
-                currentItemInputStream = getCurrentItem().openInputStream();
+                currentItemInputStream = openCurrentItem();
 
                 InputStreamReader inr = new InputStreamReader(currentItemInputStream, encodingValue);
                 CSVParser parser = new CSVParser(inr, format);
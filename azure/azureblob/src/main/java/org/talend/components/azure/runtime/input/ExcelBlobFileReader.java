@@ -15,6 +15,7 @@ package org.talend.components.azure.runtime.input;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.NoSuchElementException;
@@ -46,9 +47,9 @@ import lombok.extern.slf4j.Slf4j;
 public class ExcelBlobFileReader extends BlobFileReader {
 
     public ExcelBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, BlobReadAhead readAhead) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames, readAhead);
     }
 
     @Override
@@ -85,7 +86,7 @@ public class ExcelBlobFileReader extends BlobFileReader {
                 converter = ExcelConverter.of(super.getRecordBuilderFactory());
             }
 
-            try (InputStream input = getCurrentItem().openInputStream()) {
+            try (InputStream input = openCurrentItem()) {
                 Workbook wb = new HSSFWorkbook(input);
 
                 Sheet sheet = wb.getSheet(getConfig().getExcelOptions().getSheetName());
@@ -164,7 +165,7 @@ public class ExcelBlobFileReader extends BlobFileReader {
 
             try {
                 currentWorkBook = (StreamingWorkbook) StreamingReader.builder().rowCacheSize(4096)
-                        .open(getCurrentItem().openInputStream());
+                        .open(openCurrentItem());
                 StreamingSheet sheet = null;
                 try {
                     sheet = (StreamingSheet) currentWorkBook.getSheet(getConfig().getExcelOptions().getSheetName());
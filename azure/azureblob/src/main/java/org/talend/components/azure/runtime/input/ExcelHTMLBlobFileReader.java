@@ -14,6 +14,7 @@ package org.talend.components.azure.runtime.input;
 
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.Collection;
 import java.util.Iterator;
 
 import org.jsoup.Jsoup;
@@ -36,9 +37,9 @@ public class ExcelHTMLBlobFileReader extends BlobFileReader {
     private HTMLConverter converter;
 
     public ExcelHTMLBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, BlobReadAhead readAhead) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames, readAhead);
     }
 
     @Override
@@ -58,7 +59,7 @@ public class ExcelHTMLBlobFileReader extends BlobFileReader {
         @Override
         protected void readItem() {
 
-            try (InputStream input = getCurrentItem().openInputStream()) {
+            try (InputStream input = openCurrentItem()) {
                 Document document = Jsoup.parse(input, getConfig().getExcelOptions().getEncoding().getEncodingValue(), "");
                 Element body = document.body();
                 Elements rows = body.getElementsByTag("tr");
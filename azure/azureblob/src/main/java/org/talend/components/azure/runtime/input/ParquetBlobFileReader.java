@@ -14,6 +14,7 @@ package org.talend.components.azure.runtime.input;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collection;
 
 import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
@@ -39,9 +40,9 @@ import lombok.extern.slf4j.Slf4j;
 public class ParquetBlobFileReader extends BlobFileReader {
 
     public ParquetBlobFileReader(AzureBlobDataset config, RecordBuilderFactory recordBuilderFactory,
-            AzureBlobComponentServices connectionServices, MessageService messageService)
-            throws URISyntaxException, StorageException {
-        super(config, recordBuilderFactory, connectionServices, messageService);
+            AzureBlobComponentServices connectionServices, MessageService messageService,
+            Collection<String> blobNames, BlobReadAhead readAhead) throws URISyntaxException, StorageException {
+        super(config, recordBuilderFactory, connectionServices, messageService, blobNames, readAhead);
     }
 
     @Override
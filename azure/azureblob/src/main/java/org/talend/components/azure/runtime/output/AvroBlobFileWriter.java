@@ -14,6 +14,7 @@ package org.talend.components.azure.runtime.output;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.util.UUID;
 
@@ -30,6 +31,7 @@ import org.talend.sdk.component.api.record.Record;
 
 import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudBlob;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
 
 public class AvroBlobFileWriter extends BlobFileWriter {
 
@@ -73,6 +75,15 @@ public class AvroBlobFileWriter extends BlobFileWriter {
             return;
         }
 
+        if (config.isStagedUpload()) {
+            try (OutputStream blockOutput = openBlockOutput((CloudBlockBlob) getCurrentItem())) {
+                writeBatch(blockOutput);
+            } finally {
+                getBatch().clear();
+            }
+            return;
+        }
+
         byte[] batchBytes = convertBatchToBytes();
         getCurrentItem().uploadFromByteArray(batchBytes, 0, batchBytes.length);
         getBatch().clear();
@@ -80,13 +91,17 @@ public class AvroBlobFileWriter extends BlobFileWriter {
 
     private byte[] convertBatchToBytes() throws IOException {
         ByteArrayOutputStream byteBuffer = new ByteArrayOutputStream();
+        writeBatch(byteBuffer);
+        return byteBuffer.toByteArray();
+    }
+
+    private void writeBatch(OutputStream output) throws IOException {
         DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>();
         DataFileWriter<GenericRecord> dataFileWriter = new DataFileWriter<>(datumWriter);
-        dataFileWriter.create(converter.inferAvroSchema(getSchema()), byteBuffer);
+        dataFileWriter.create(converter.inferAvroSchema(getSchema()), output);
         for (Record record : getBatch()) {
             dataFileWriter.append(converter.fromRecord(record));
         }
         dataFileWriter.flush();
-        return byteBuffer.toByteArray();
     }
 }
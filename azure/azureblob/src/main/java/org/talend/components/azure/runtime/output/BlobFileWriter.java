@@ -16,6 +16,9 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.talend.components.azure.common.service.AzureComponentServices;
 import org.talend.components.azure.output.BlobOutputConfiguration;
@@ -28,6 +31,7 @@ import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudBlob;
 import com.microsoft.azure.storage.blob.CloudBlobClient;
 import com.microsoft.azure.storage.blob.CloudBlobContainer;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -43,6 +47,14 @@ public abstract class BlobFileWriter {
 
     private String directoryName;
 
+    /** size of staged blob blocks */
+    private final int uploadBlockSize;
+
+    private final int uploadConcurrency;
+
+    /** executor for concurrent upload of blocks, created on first use */
+    private ExecutorService uploadExecutor;
+
     public BlobFileWriter(BlobOutputConfiguration config, AzureBlobComponentServices connectionServices) throws Exception {
         CloudStorageAccount connection = connectionServices.createStorageAccount(config.getDataset().getConnection());
         CloudBlobClient blobClient = connectionServices.getConnectionService().createCloudBlobClient(connection,
@@ -56,6 +68,9 @@ public abstract class BlobFileWriter {
         } else if (!directoryName.endsWith("/")) {
             directoryName += "/";
         }
+
+        uploadBlockSize = config.getUploadBlockSize() * 1024 * 1024;
+        uploadConcurrency = config.getUploadConcurrency();
     }
 
     public void newBatch() {
@@ -98,6 +113,34 @@ public abstract class BlobFileWriter {
         return schema;
     }
 
+    /**
+     * Open output stream staging content in blocks of the blob, uploaded concurrently.
+     * Blob is committed when stream is closed.
+     *
+     * @param blob : blob to write.
+     * @return output stream on blob.
+     */
+    protected BlockBlobOutputStream openBlockOutput(CloudBlockBlob blob) {
+        if (uploadExecutor == null && uploadConcurrency > 1) {
+            final AtomicInteger threadIndex = new AtomicInteger(0);
+            uploadExecutor = Executors.newFixedThreadPool(uploadConcurrency, (Runnable task) -> {
+                final Thread thread = new Thread(task, "azure-blob-upload-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return new BlockBlobOutputStream(blob, uploadBlockSize, uploadConcurrency, uploadExecutor);
+    }
+
+    /**
+     * Close current blob, if it stays open between batches.
+     *
+     * @throws IOException
+     */
+    protected void closeItem() throws IOException {
+        // nothing by default, each batch is a complete blob.
+    }
+
     /**
      * Upload prepared batch
      *
@@ -112,11 +155,17 @@ public abstract class BlobFileWriter {
      * @throws Exception
      */
     public void complete() throws Exception {
-        if (!getBatch().isEmpty()) {
-            log.info("Executing last batch with " + getBatch().size() + " records");
-            flush();
+        try {
+            if (!getBatch().isEmpty()) {
+                log.info("Executing last batch with " + getBatch().size() + " records");
+                flush();
+            }
+            closeItem();
+        } finally {
+            if (uploadExecutor != null) {
+                uploadExecutor.shutdown();
+            }
         }
-
     }
 
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.azure.runtime.output;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.talend.components.azure.common.service.AzureComponentServices;
+
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.blob.BlockEntry;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
+
+/**
+ * Output stream on a block blob.
+ * Content is cut in fixed size blocks, each block is staged as soon as it is full,
+ * and the block list is committed when stream is closed.
+ * With an executor, blocks are uploaded concurrently, with a bounded number of blocks in flight.
+ */
+public class BlockBlobOutputStream extends OutputStream {
+
+    private final CloudBlockBlob blob;
+
+    private final int blockSize;
+
+    /** max number of blocks uploading at same time */
+    private final int maxInFlight;
+
+    /** executor for concurrent upload, null for upload in writing thread */
+    private final ExecutorService executor;
+
+    /** content of current block */
+    private byte[] buffer;
+
+    private int count = 0;
+
+    /** number of bytes written */
+    private long position = 0L;
+
+    private final List<BlockEntry> blocks = new ArrayList<>();
+
+    /** blocks being uploaded, oldest first */
+    private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+
+    private boolean closed = false;
+
+    public BlockBlobOutputStream(CloudBlockBlob blob, int blockSize) {
+        this(blob, blockSize, 1, null);
+    }
+
+    public BlockBlobOutputStream(CloudBlockBlob blob, int blockSize, int maxInFlight, ExecutorService executor) {
+        this.blob = blob;
+        this.blockSize = blockSize;
+        this.maxInFlight = maxInFlight;
+        this.executor = executor;
+        this.buffer = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.buffer[this.count] = (byte) b;
+        this.count++;
+        this.position++;
+        if (this.count == this.buffer.length) {
+            this.stageBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] content, int offset, int length) throws IOException {
+        int written = 0;
+        while (written < length) {
+            final int size = Math.min(length - written, this.buffer.length - this.count);
+            System.arraycopy(content, offset + written, this.buffer, this.count, size);
+            this.count += size;
+            written += size;
+            if (this.count == this.buffer.length) {
+                this.stageBlock();
+            }
+        }
+        this.position += length;
+    }
+
+    /**
+     * @return number of bytes written in blob.
+     */
+    public long getPosition() {
+        return this.position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        if (this.count > 0) {
+            this.stageBlock();
+        }
+        while (!this.inFlight.isEmpty()) {
+            this.waitOldest();
+        }
+        try {
+            this.blob.commitBlockList(this.blocks, null, null, AzureComponentServices.getTalendOperationContext());
+        } catch (StorageException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void stageBlock() throws IOException {
+        // block ids must have same length for a blob.
+        final String blockId = Base64.getEncoder()
+                .encodeToString(String.format("%08d", this.blocks.size()).getBytes(StandardCharsets.UTF_8));
+        this.blocks.add(new BlockEntry(blockId));
+        final byte[] content = this.buffer;
+        final int length = this.count;
+        this.count = 0;
+        if (this.executor == null) {
+            this.uploadBlock(blockId, content, length);
+            return;
+        }
+        while (this.inFlight.size() >= this.maxInFlight) {
+            this.waitOldest();
+        }
+        this.inFlight.add(this.executor.submit(() -> {
+            this.uploadBlock(blockId, content, length);
+            return null;
+        }));
+        this.buffer = new byte[this.blockSize];
+    }
+
+    private void uploadBlock(String blockId, byte[] content, int length) throws IOException {
+        try {
+            this.blob.uploadBlock(blockId, new ByteArrayInputStream(content, 0, length), length, null, null,
+                    AzureComponentServices.getTalendOperationContext());
+        } catch (StorageException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void waitOldest() throws IOException {
+        try {
+            this.inFlight.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.cancelAll();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            this.cancelAll();
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void cancelAll() {
+        this.inFlight.forEach((Future<?> upload) -> upload.cancel(true));
+        this.inFlight.clear();
+    }
+}
@@ -13,7 +13,9 @@
 package org.talend.components.azure.runtime.output;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -34,6 +36,7 @@ import org.talend.sdk.component.api.record.Schema;
 import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudAppendBlob;
 import com.microsoft.azure.storage.blob.CloudBlob;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -45,6 +48,9 @@ public class CSVBlobFileWriter extends BlobFileWriter {
 
     private boolean fileIsEmpty = true;
 
+    /** output on block blob, for staged upload */
+    private Writer blockOutput;
+
     public CSVBlobFileWriter(BlobOutputConfiguration config, AzureBlobComponentServices connectionServices) throws Exception {
         super(config, connectionServices);
         this.config = config;
@@ -54,6 +60,16 @@ public class CSVBlobFileWriter extends BlobFileWriter {
 
     @Override
     public void generateFile(String directoryName) throws URISyntaxException, StorageException {
+        if (config.isStagedUpload()) {
+            String itemName = directoryName + config.getBlobNameTemplate() + UUID.randomUUID() + ".csv";
+            CloudBlockBlob currentItem = getContainer().getBlockBlobReference(itemName);
+            while (currentItem.exists(null, null, AzureComponentServices.getTalendOperationContext())) {
+                itemName = directoryName + config.getBlobNameTemplate() + UUID.randomUUID() + ".csv";
+                currentItem = getContainer().getBlockBlobReference(itemName);
+            }
+            setCurrentItem(currentItem);
+            return;
+        }
         String itemName = directoryName + config.getBlobNameTemplate() + UUID.randomUUID() + ".csv";
         CloudAppendBlob currentItem = getContainer().getAppendBlobReference(itemName);
 
@@ -85,6 +101,11 @@ public class CSVBlobFileWriter extends BlobFileWriter {
             return;
         }
 
+        if (config.isStagedUpload()) {
+            flushToBlocks();
+            return;
+        }
+
         String content = convertBatchToString();
 
         if (fileIsEmpty && configCSV.isUseHeader() && configCSV.getHeader() > 0) {
@@ -100,9 +121,54 @@ public class CSVBlobFileWriter extends BlobFileWriter {
         getBatch().clear();
     }
 
+    @Override
+    protected void closeItem() throws IOException {
+        if (blockOutput != null) {
+            blockOutput.close();
+            blockOutput = null;
+        }
+    }
+
+    /**
+     * Stream batch in blob blocks, blob is committed on complete.
+     */
+    private void flushToBlocks() throws IOException {
+        try {
+            if (blockOutput == null) {
+                blockOutput = new OutputStreamWriter(openBlockOutput((CloudBlockBlob) getCurrentItem()),
+                        FormatUtils.getUsedEncodingValue(config.getDataset()));
+            }
+            if (fileIsEmpty && configCSV.isUseHeader() && configCSV.getHeader() > 0) {
+                final String header = buildHeader();
+                if (header != null) {
+                    blockOutput.write(header);
+                }
+            }
+            fileIsEmpty = false;
+
+            CSVFormat format = CSVConverter.of(null, configCSV).getCsvFormat();
+            // printer is not closed to keep blob open for next batches.
+            CSVPrinter printer = new CSVPrinter(blockOutput, format);
+            for (Record record : getBatch()) {
+                printer.printRecord(convertRecordToArray(record));
+            }
+            printer.flush();
+        } finally {
+            getBatch().clear();
+        }
+    }
+
     private void appendHeader() throws IOException, StorageException {
-        if (getSchema() == null || getSchema().getEntries().size() == 0)
+        final String header = buildHeader();
+        if (header == null)
             return;
+        ((CloudAppendBlob) getCurrentItem()).appendText(header);
+        fileIsEmpty = false;
+    }
+
+    private String buildHeader() {
+        if (getSchema() == null || getSchema().getEntries().size() == 0)
+            return null;
         StringBuilder headerBuilder = new StringBuilder();
         for (int i = 0; i < configCSV.getHeader() - 1; i++) {
             headerBuilder.append("//header line").append(FormatUtils.getRecordDelimiterValue(configCSV));
@@ -112,9 +178,7 @@ public class CSVBlobFileWriter extends BlobFileWriter {
         for (int i = 1; i < getSchema().getEntries().size(); i++) {
             headerBuilder.append(FormatUtils.getFieldDelimiterValue(configCSV)).append(getSchema().getEntries().get(i).getName());
         }
-        ((CloudAppendBlob) getCurrentItem())
-                .appendText(headerBuilder.toString() + FormatUtils.getRecordDelimiterValue(configCSV));
-        fileIsEmpty = false;
+        return headerBuilder.toString() + FormatUtils.getRecordDelimiterValue(configCSV);
     }
 
     private String convertBatchToString() throws IOException {
@@ -12,53 +12,49 @@
  */
 package org.talend.components.azure.runtime.output;
 
-import java.io.File;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.URISyntaxException;
-import java.nio.file.Files;
 
 import org.apache.avro.generic.GenericRecord;
-import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.talend.components.azure.common.exception.BlobRuntimeException;
 import org.talend.components.azure.common.service.AzureComponentServices;
 import org.talend.components.azure.output.BlobOutputConfiguration;
 import org.talend.components.azure.runtime.converters.ParquetConverter;
 import org.talend.components.azure.service.AzureBlobComponentServices;
+import org.talend.components.common.io.PositionOutputFile;
 import org.talend.sdk.component.api.record.Record;
-import org.talend.sdk.component.api.record.Schema;
 
 import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudBlob;
 import com.microsoft.azure.storage.blob.CloudBlockBlob;
 
+/**
+ * Write records in parquet blobs.
+ * Parquet content is directly staged as blob blocks while row groups fill, and a blob is kept open
+ * over several groups until it reaches configured size.
+ */
 public class ParquetBlobFileWriter extends BlobFileWriter {
 
     private BlobOutputConfiguration config;
 
     private ParquetConverter converter;
 
+    /** avro schema of records, inferred once */
+    private org.apache.avro.Schema avroSchema;
+
+    /** writer on current blob */
+    private ParquetWriter<GenericRecord> writer;
+
     public ParquetBlobFileWriter(BlobOutputConfiguration config, AzureBlobComponentServices connectionServices) throws Exception {
         super(config, connectionServices);
         this.config = config;
         this.converter = ParquetConverter.of(null);
     }
 
-    @Override
-    public void newBatch() {
-        super.newBatch();
-
-        try {
-            generateFile();
-        } catch (Exception e) {
-            throw new BlobRuntimeException(e);
-        }
-
-    }
-
     @Override
     public void generateFile(String directoryName) throws URISyntaxException, StorageException {
         String fileName = directoryName + config.getBlobNameTemplate() + System.currentTimeMillis() + ".parquet";
@@ -78,28 +74,59 @@ public class ParquetBlobFileWriter extends BlobFileWriter {
             return;
         }
 
-        File tempFilePath = null;
         try {
-            tempFilePath = File.createTempFile("tempFile", ".parquet");
-            Path tempFile = new org.apache.hadoop.fs.Path(tempFilePath.getPath());
-            ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord> builder(tempFile)
-                    .withWriteMode(ParquetFileWriter.Mode.OVERWRITE).withSchema(converter.inferAvroSchema(getSchema())).build();
+            if (writer == null) {
+                writer = createWriter();
+            }
             for (Record r : getBatch()) {
                 writer.write(converter.fromRecord(r));
             }
-
-            writer.close();
-            OutputStream blobOutputStream = ((CloudBlockBlob) getCurrentItem()).openOutputStream();
-            Files.copy(tempFilePath.toPath(), blobOutputStream);
-            blobOutputStream.flush();
-            blobOutputStream.close();
-        } catch (IOException | StorageException e) {
+            if (writer.getDataSize() >= config.getParquetFileSize() * 1024L * 1024L) {
+                closeWriter();
+            }
+        } catch (IOException e) {
             throw new BlobRuntimeException(e);
         } finally {
             getBatch().clear();
-            if (tempFilePath != null) {
-                tempFilePath.delete();
+        }
+    }
+
+    @Override
+    protected void closeItem() throws IOException {
+        closeWriter();
+    }
+
+    private ParquetWriter<GenericRecord> createWriter() throws IOException {
+        try {
+            generateFile();
+        } catch (URISyntaxException | StorageException e) {
+            throw new BlobRuntimeException(e);
+        }
+        if (avroSchema == null) {
+            avroSchema = converter.inferAvroSchema(getSchema());
+        }
+        final PositionOutputFile<BlockBlobOutputStream> outputFile = new PositionOutputFile<>(
+                () -> openBlockOutput((CloudBlockBlob) getCurrentItem()), BlockBlobOutputStream::getPosition);
+        return AvroParquetWriter.<GenericRecord> builder(outputFile) //
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE) //
+                .withSchema(avroSchema) //
+                .withRowGroupSize(toIntSize(config.getParquetRowGroupSize() * 1024L * 1024L)) //
+                .withPageSize(toIntSize(config.getParquetPageSize() * 1024L)) //
+                .withCompressionCodec(CompressionCodecName.valueOf(config.getParquetCompression().name())) //
+                .build();
+    }
+
+    private void closeWriter() throws IOException {
+        if (writer != null) {
+            try {
+                writer.close();
+            } finally {
+                writer = null;
             }
         }
     }
+
+    private static int toIntSize(long size) {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
 }
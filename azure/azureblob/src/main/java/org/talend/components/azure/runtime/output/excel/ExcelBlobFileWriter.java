@@ -15,6 +15,7 @@ package org.talend.components.azure.runtime.output.excel;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.UUID;
@@ -34,6 +35,7 @@ import org.talend.sdk.component.api.record.Record;
 
 import com.microsoft.azure.storage.StorageException;
 import com.microsoft.azure.storage.blob.CloudBlob;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
 
 public class ExcelBlobFileWriter extends BlobFileWriter {
 
@@ -139,16 +141,25 @@ public class ExcelBlobFileWriter extends BlobFileWriter {
             return;
         }
 
+        if (config.isStagedUpload()) {
+            try (OutputStream blockOutput = openBlockOutput((CloudBlockBlob) getCurrentItem())) {
+                writeBatch(blockOutput);
+            } finally {
+                getBatch().clear();
+            }
+            return;
+        }
+
         bos = new ByteArrayOutputStream();
 
-        flushBatchToByteArray();
+        writeBatch(bos);
 
         getCurrentItem().upload(new ByteArrayInputStream(bos.toByteArray()), -1);
         bos.close();
         getBatch().clear();
     }
 
-    private void flushBatchToByteArray() throws IOException {
+    private void writeBatch(OutputStream output) throws IOException {
         Workbook item = ExcelUtils.createWorkBook(config.getDataset().getExcelOptions().getExcelFormat());
         Sheet sheet = item.createSheet(config.getDataset().getExcelOptions().getSheetName());
         converter = ExcelConverter.ofOutput(sheet);
@@ -163,7 +174,7 @@ public class ExcelBlobFileWriter extends BlobFileWriter {
         if (config.getDataset().getExcelOptions().isUseFooter() && config.getDataset().getExcelOptions().getFooter() > 0) {
             appendFooter(sheet, dataRowCounter);
         }
-        item.write(bos);
+        item.write(output);
         item.close();
     }
 
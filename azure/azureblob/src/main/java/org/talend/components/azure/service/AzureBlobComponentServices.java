@@ -14,10 +14,12 @@ package org.talend.components.azure.service;
 
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.talend.components.azure.common.exception.BlobRuntimeException;
 import org.talend.components.azure.common.service.AzureComponentServices;
+import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.components.azure.datastore.AzureCloudConnection;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.service.Service;
@@ -28,7 +30,11 @@ import org.talend.sdk.component.api.service.healthcheck.HealthCheckStatus;
 
 import com.microsoft.azure.storage.CloudStorageAccount;
 import com.microsoft.azure.storage.OperationContext;
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.blob.BlobListingDetails;
+import com.microsoft.azure.storage.blob.CloudBlob;
 import com.microsoft.azure.storage.blob.CloudBlobContainer;
+import com.microsoft.azure.storage.blob.ListBlobItem;
 import lombok.Getter;
 
 @Service
@@ -88,4 +94,37 @@ public class AzureBlobComponentServices {
 
         return new SuggestionValues(true, containerNames);
     }
-}
\ No newline at end of file
+
+    /**
+     * List blobs of dataset directory (sub-directories excluded), with their properties.
+     *
+     * @param dataset : dataset with container and directory.
+     * @return blobs of directory.
+     */
+    public List<CloudBlob> listBlobs(AzureBlobDataset dataset) throws URISyntaxException, StorageException {
+        CloudStorageAccount storageAccount = createStorageAccount(dataset.getConnection());
+        CloudBlobContainer container = connectionService
+                .createCloudBlobClient(storageAccount, AzureComponentServices.DEFAULT_RETRY_POLICY)
+                .getContainerReference(dataset.getContainerName());
+
+        List<CloudBlob> blobs = new ArrayList<>();
+        for (ListBlobItem item : container.listBlobs(directoryPrefix(dataset.getDirectory()), false,
+                EnumSet.noneOf(BlobListingDetails.class), null, AzureComponentServices.getTalendOperationContext())) {
+            if (item instanceof CloudBlob) {
+                blobs.add((CloudBlob) item);
+            }
+        }
+        return blobs;
+    }
+
+    /**
+     * @param directory : directory of dataset, may be null.
+     * @return prefix of blob names in directory.
+     */
+    public static String directoryPrefix(String directory) {
+        if (directory == null) {
+            return "";
+        }
+        return directory.endsWith("/") ? directory : directory + "/";
+    }
+}
@@ -16,12 +16,16 @@ import java.io.Serializable;
 
 import org.talend.components.azure.dataset.AzureBlobDataset;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
 import lombok.Data;
 
 @GridLayout({ @GridLayout.Row({ "dataset" }) })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("readAhead"),
+        @GridLayout.Row({ "readAheadBlobs", "readAheadSize" }) })
 @Documentation("Options for the input component")
 @Data
 public class BlobInputProperties implements Serializable {
@@ -29,4 +33,20 @@ public class BlobInputProperties implements Serializable {
     @Option
     @Documentation("Azure Connection")
     private AzureBlobDataset dataset;
+
+    @Option
+    @Documentation("Download next blobs in background while current one is read")
+    private boolean readAhead = false;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max number of blobs (and blob ranges) downloaded in advance")
+    private int readAheadBlobs = 4;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max size in MB of blob content downloaded in advance")
+    private int readAheadSize = 64;
 }
\ No newline at end of file
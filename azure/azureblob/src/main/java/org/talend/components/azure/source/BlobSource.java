@@ -13,12 +13,15 @@
 package org.talend.components.azure.source;
 
 import java.io.Serializable;
+import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
+import org.talend.components.azure.common.FileFormat;
 import org.talend.components.azure.common.exception.BlobRuntimeException;
 import org.talend.components.azure.runtime.input.BlobFileReader;
+import org.talend.components.azure.runtime.input.BlobReadAhead;
 import org.talend.components.azure.service.AzureBlobComponentServices;
 import org.talend.components.azure.service.MessageService;
 import org.talend.sdk.component.api.configuration.Option;
@@ -38,22 +41,39 @@ public class BlobSource implements Serializable {
 
     private final MessageService messageService;
 
+    /** names of blobs to read, null for all blobs of directory */
+    private final List<String> blobNames;
+
     private BlobFileReader reader;
 
     public BlobSource(@Option("configuration") final BlobInputProperties configuration, final AzureBlobComponentServices service,
             final RecordBuilderFactory builderFactory, final MessageService i18n) {
+        this(configuration, service, builderFactory, i18n, null);
+    }
+
+    public BlobSource(final BlobInputProperties configuration, final AzureBlobComponentServices service,
+            final RecordBuilderFactory builderFactory, final MessageService i18n, final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.builderFactory = builderFactory;
         this.messageService = i18n;
+        this.blobNames = blobNames;
     }
 
     @PostConstruct
     public void init() throws Exception {
+        BlobReadAhead readAhead = null;
+        // parquet blobs are read by name through hadoop file system.
+        if (configuration.isReadAhead() && configuration.getDataset().getFileFormat() != FileFormat.PARQUET) {
+            readAhead = new BlobReadAhead(configuration.getReadAheadBlobs(), configuration.getReadAheadSize() * 1024L * 1024L);
+        }
         try {
             reader = BlobFileReader.BlobFileReaderFactory.getReader(configuration.getDataset(), builderFactory, service,
-                    messageService);
+                    messageService, blobNames, readAhead);
         } catch (Exception e) {
+            if (readAhead != null) {
+                readAhead.close();
+            }
             throw new BlobRuntimeException(messageService.cantStartReadBlobItems(e.getMessage()), e);
         }
     }
@@ -62,4 +82,11 @@ public class BlobSource implements Serializable {
     public Record next() {
         return reader.readRecord();
     }
+
+    @PreDestroy
+    public void release() {
+        if (reader != null) {
+            reader.close();
+        }
+    }
 }
\ No newline at end of file
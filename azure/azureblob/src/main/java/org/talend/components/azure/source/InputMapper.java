@@ -15,9 +15,15 @@ package org.talend.components.azure.source;
 import static java.util.Collections.singletonList;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.talend.components.azure.common.exception.BlobRuntimeException;
 import org.talend.components.azure.service.MessageService;
+import org.talend.components.common.collections.SizeBundler;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.component.Version;
 import org.talend.sdk.component.api.configuration.Option;
@@ -31,6 +37,9 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import org.talend.components.azure.service.AzureBlobComponentServices;
 
+import com.microsoft.azure.storage.blob.CloudBlob;
+import lombok.extern.slf4j.Slf4j;
+
 //
 // this class role is to enable the work to be distributed in environments supporting it.
 //
@@ -38,6 +47,7 @@ import org.talend.components.azure.service.AzureBlobComponentServices;
 @Icon(value = Icon.IconType.CUSTOM, custom = "talend-azure")
 @PartitionMapper(name = "Input")
 @Documentation("Mapper for AzureBlobStorage Readers")
+@Slf4j
 public class InputMapper implements Serializable {
 
     private final BlobInputProperties configuration;
@@ -48,26 +58,64 @@ public class InputMapper implements Serializable {
 
     private final MessageService messageService;
 
+    /** names of blobs read by this mapper, null for all blobs of directory */
+    private final List<String> blobNames;
+
     public InputMapper(@Option("configuration") final BlobInputProperties configuration, final AzureBlobComponentServices service,
             final RecordBuilderFactory recordBuilderFactory, final MessageService messageService) {
+        this(configuration, service, recordBuilderFactory, messageService, null);
+    }
+
+    private InputMapper(final BlobInputProperties configuration, final AzureBlobComponentServices service,
+            final RecordBuilderFactory recordBuilderFactory, final MessageService messageService, final List<String> blobNames) {
         this.configuration = configuration;
         this.service = service;
         this.recordBuilderFactory = recordBuilderFactory;
         this.messageService = messageService;
+        this.blobNames = blobNames;
     }
 
     @Assessor
     public long estimateSize() {
-        return 1L;
+        return listBlobs().stream().mapToLong(blob -> blob.getProperties().getLength()).sum();
     }
 
+    /**
+     * Split blobs of directory in bundles of close size (each blob is read by only one worker).
+     */
     @Split
-    public List<InputMapper> split(@PartitionSize final long bundles) {
-        return singletonList(this);
+    public List<InputMapper> split(@PartitionSize final long bundleSize) {
+        final List<CloudBlob> blobs = listBlobs();
+        final List<List<CloudBlob>> bundles = SizeBundler.split(blobs, (CloudBlob blob) -> blob.getProperties().getLength(),
+                bundleSize);
+        if (bundles.size() <= 1) {
+            return singletonList(this);
+        }
+        final List<InputMapper> mappers = new ArrayList<>(bundles.size());
+        for (List<CloudBlob> bundle : bundles) {
+            final List<String> names = bundle.stream().map(CloudBlob::getName).collect(Collectors.toList());
+            mappers.add(new InputMapper(configuration, service, recordBuilderFactory, messageService, names));
+        }
+        log.info("Split {} blobs in {} bundles.", blobs.size(), mappers.size());
+        return mappers;
     }
 
     @Emitter
     public BlobSource createWorker() {
-        return new BlobSource(configuration, service, recordBuilderFactory, messageService);
+        return new BlobSource(configuration, service, recordBuilderFactory, messageService, blobNames);
+    }
+
+    private List<CloudBlob> listBlobs() {
+        final List<CloudBlob> blobs;
+        try {
+            blobs = service.listBlobs(configuration.getDataset());
+        } catch (Exception e) {
+            throw new BlobRuntimeException(messageService.cantStartReadBlobItems(e.getMessage()), e);
+        }
+        if (blobNames != null) {
+            final Set<String> names = new HashSet<>(blobNames);
+            blobs.removeIf(blob -> !names.contains(blob.getName()));
+        }
+        return blobs;
     }
-}
\ No newline at end of file
+}
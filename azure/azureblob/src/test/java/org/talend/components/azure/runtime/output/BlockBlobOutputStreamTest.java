@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.azure.runtime.output;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.microsoft.azure.storage.StorageException;
+import com.microsoft.azure.storage.blob.BlockEntry;
+import com.microsoft.azure.storage.blob.CloudBlockBlob;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class BlockBlobOutputStreamTest {
+
+    @Test
+    void stageBlocks() throws Exception {
+        final CloudBlockBlob blob = Mockito.mock(CloudBlockBlob.class);
+        final List<Long> blockSizes = new ArrayList<>();
+        Mockito.doAnswer((invocation) -> blockSizes.add(invocation.getArgument(2))).when(blob).uploadBlock(anyString(),
+                any(InputStream.class), anyLong(), any(), any(), any());
+
+        final BlockBlobOutputStream output = new BlockBlobOutputStream(blob, 4);
+        output.write(new byte[] { 1, 2, 3 });
+        output.write(4);
+        output.write(new byte[] { 5, 6, 7, 8, 9, 10, 11 }, 1, 5);
+        Assertions.assertEquals(9L, output.getPosition());
+        Assertions.assertEquals(2, blockSizes.size());
+
+        output.close();
+        output.close();
+        Assertions.assertEquals(3, blockSizes.size());
+        Assertions.assertEquals(1L, blockSizes.get(2));
+
+        final ArgumentCaptor<Iterable<BlockEntry>> blocks = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(blob, Mockito.times(1)).commitBlockList(blocks.capture(), any(), any(), any());
+        final List<String> ids = new ArrayList<>();
+        blocks.getValue().forEach((BlockEntry block) -> ids.add(block.getId()));
+        Assertions.assertEquals(3, ids.size());
+        Assertions.assertEquals(ids.get(0).length(), ids.get(2).length());
+    }
+
+    @Test
+    void stageBlocksConcurrently() throws Exception {
+        final CloudBlockBlob blob = Mockito.mock(CloudBlockBlob.class);
+        final List<String> stagedIds = Collections.synchronizedList(new ArrayList<>());
+        Mockito.doAnswer((invocation) -> stagedIds.add(invocation.getArgument(0))).when(blob).uploadBlock(anyString(),
+                any(InputStream.class), anyLong(), any(), any(), any());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final BlockBlobOutputStream output = new BlockBlobOutputStream(blob, 3, 2, executor);
+            for (int i = 0; i < 100; i++) {
+                output.write(i);
+            }
+            output.close();
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(34, stagedIds.size());
+
+        final ArgumentCaptor<Iterable<BlockEntry>> blocks = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.verify(blob).commitBlockList(blocks.capture(), any(), any(), any());
+        final List<String> ids = new ArrayList<>();
+        blocks.getValue().forEach((BlockEntry block) -> ids.add(block.getId()));
+        Assertions.assertEquals(34, ids.size());
+        Assertions.assertTrue(stagedIds.containsAll(ids));
+    }
+
+    @Test
+    void uploadError() throws Exception {
+        final CloudBlockBlob blob = Mockito.mock(CloudBlockBlob.class);
+        Mockito.doThrow(new StorageException("500", "upload failed", null)).when(blob).uploadBlock(anyString(),
+                any(InputStream.class), anyLong(), any(), any(), any());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final BlockBlobOutputStream output = new BlockBlobOutputStream(blob, 2, 2, executor);
+            output.write(new byte[] { 1, 2, 3, 4, 5 });
+            Assertions.assertThrows(IOException.class, output::close);
+        } finally {
+            executor.shutdownNow();
+        }
+        Mockito.verify(blob, Mockito.never()).commitBlockList(any(), any(), any(), any());
+    }
+}
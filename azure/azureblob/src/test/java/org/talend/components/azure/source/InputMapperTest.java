@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.azure.source;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.azure.dataset.AzureBlobDataset;
+import org.talend.components.azure.service.AzureBlobComponentServices;
+import org.talend.components.azure.service.MessageService;
+
+import com.microsoft.azure.storage.blob.BlobProperties;
+import com.microsoft.azure.storage.blob.CloudBlob;
+import static org.mockito.ArgumentMatchers.any;
+
+class InputMapperTest {
+
+    private AzureBlobComponentServices blobComponentServicesMock;
+
+    private InputMapper mapper;
+
+    @BeforeEach
+    void init() throws Exception {
+        blobComponentServicesMock = Mockito.mock(AzureBlobComponentServices.class);
+        Mockito.when(blobComponentServicesMock.listBlobs(any()))
+                .thenAnswer(invocation -> new ArrayList<>(Arrays.asList(blob("f1", 100L), blob("f2", 40L), blob("f3", 60L),
+                        blob("f4", 30L), blob("f5", 70L))));
+
+        BlobInputProperties properties = new BlobInputProperties();
+        properties.setDataset(new AzureBlobDataset());
+        mapper = new InputMapper(properties, blobComponentServicesMock, null, Mockito.mock(MessageService.class));
+    }
+
+    @Test
+    void estimateSize() {
+        Assertions.assertEquals(300L, mapper.estimateSize());
+    }
+
+    @Test
+    void splitBySize() {
+        List<InputMapper> mappers = mapper.split(100L);
+        Assertions.assertEquals(3, mappers.size());
+
+        long total = 0L;
+        for (InputMapper bundle : mappers) {
+            long size = bundle.estimateSize();
+            Assertions.assertTrue(size == 100L, "unbalanced bundle of size " + size);
+            total += size;
+        }
+        Assertions.assertEquals(300L, total);
+    }
+
+    @Test
+    void noSplit() {
+        Assertions.assertSame(mapper, mapper.split(1000L).get(0));
+        Assertions.assertEquals(1, mapper.split(0L).size());
+    }
+
+    private CloudBlob blob(String name, long length) {
+        BlobProperties properties = Mockito.mock(BlobProperties.class);
+        Mockito.when(properties.getLength()).thenReturn(length);
+        CloudBlob blob = Mockito.mock(CloudBlob.class);
+        Mockito.when(blob.getName()).thenReturn(name);
+        Mockito.when(blob.getProperties()).thenReturn(properties);
+        return blob;
+    }
+}
@@ -159,6 +159,13 @@ public class AvroConverter implements RecordConverter<GenericRecord>, Serializab
                 }
                 break;
             case LONG:
+                Entry longEntry = getSchemaForEntry(name, fromRecord.getSchema());
+                if (longEntry != null && longEntry.getType() == Type.DATETIME) {
+                    // timestamp-millis
+                    toRecord.put(name,
+                            fromRecord.getOptionalDateTime(name).map(d -> d.toInstant().toEpochMilli()).orElse(null));
+                    break;
+                }
                 OptionalLong optionalLongValue = fromRecord.getOptionalLong(name);
                 if (optionalLongValue.isPresent()) {
                     toRecord.put(name, optionalLongValue.getAsLong());
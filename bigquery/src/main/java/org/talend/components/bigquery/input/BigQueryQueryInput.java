@@ -29,9 +29,9 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.Serializable;
 import java.util.Date;
-import java.util.Iterator;
 
 @Version(1)
 @Icon(value = Icon.IconType.CUSTOM, custom = "bigquery")
@@ -50,11 +50,9 @@ public class BigQueryQueryInput implements Serializable {
 
     private final QueryDataSet dataSet;
 
-    private transient Iterator<FieldValueList> queryResult;
+    private transient PagePrefetcher<FieldValueList> queryResult;
 
-    private transient Schema tableSchema;
-
-    private transient org.talend.sdk.component.api.record.Schema tckSchema;
+    private transient RowConverter converter;
 
     private transient boolean loaded = false;
 
@@ -80,9 +78,9 @@ public class BigQueryQueryInput implements Serializable {
                 QueryJobConfiguration queryConfig = QueryJobConfiguration.newBuilder(dataSet.getQuery())
                         .setUseLegacySql(dataSet.isUseLegacySql()).build();
                 TableResult tableResult = bigQuery.query(queryConfig);
-                tableSchema = tableResult.getSchema();
-                tckSchema = service.convertToTckSchema(tableSchema);
-                queryResult = tableResult.iterateAll().iterator();
+                Schema tableSchema = tableResult.getSchema();
+                converter = new RowConverter(service, builderFactory, tableSchema, service.convertToTckSchema(tableSchema));
+                queryResult = new PagePrefetcher<>(tableResult, BigQueryTableInput.PREFETCH_PAGES, -1L);
 
             } catch (Exception e) {
                 log.error(i18n.errorQueryExecution(), e);
@@ -95,17 +93,17 @@ public class BigQueryQueryInput implements Serializable {
         Record record = null;
 
         if (queryResult != null && queryResult.hasNext()) {
-            FieldValueList fieldValueList = queryResult.next();
-            Record.Builder rb = builderFactory.newRecordBuilder(tckSchema);
-
-            for (Field f : tableSchema.getFields()) {
-                service.convertToTckField(fieldValueList, rb, f, tableSchema);
-            }
-
-            record = rb.build();
+            record = converter.toRecord(queryResult.next());
         }
 
         return record;
     }
 
+    @PreDestroy
+    public void release() {
+        if (queryResult != null) {
+            queryResult.close();
+        }
+    }
+
 }
@@ -19,6 +19,7 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.DataFileStream;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
@@ -41,6 +42,7 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.nio.channels.Channels;
 import java.util.Iterator;
+import java.util.List;
 
 @Slf4j
 public class BigQueryTableExtractInput implements Serializable {
@@ -57,14 +59,21 @@ public class BigQueryTableExtractInput implements Serializable {
 
     protected final String bucket;
 
-    protected final String gsBlob;
+    protected final List<ExtractedBlob> blobs;
 
     private final Schema tckSchema;
 
     private transient Storage storage;
 
+    private transient Iterator<ExtractedBlob> pendingBlobs;
+
+    private transient ExtractedBlob currentBlob;
+
     private transient DataFileStream<GenericRecord> dataStream;
 
+    /** reader of a blob range, null when whole blob is read */
+    private transient DataFileReader<GenericRecord> rangeReader;
+
     private transient boolean loaded = false;
 
     private transient BigQueryTableInput delegateInput;
@@ -73,17 +82,17 @@ public class BigQueryTableExtractInput implements Serializable {
 
     public BigQueryTableExtractInput(BigQueryTableExtractInputConfig configuration, final BigQueryService service,
             final GoogleStorageService storageService, final I18nMessage i18n, final RecordBuilderFactory builderFactory,
-            final String gsBlob, Schema tckSchema) {
+            final List<ExtractedBlob> blobs, Schema tckSchema) {
         this.bucket = configuration.getTableDataset().getGsBucket();
         this.connection = configuration.getDataStore();
         this.service = service;
         this.storageService = storageService;
         this.i18n = i18n;
         this.builderFactory = builderFactory;
-        this.gsBlob = gsBlob;
+        this.blobs = blobs;
         this.tckSchema = tckSchema;
 
-        if (gsBlob == null) {
+        if (blobs == null) {
             // Call from Data inventory for a sample : use BigQueryTableInput
             // Remove this whenever the sampling mechanism changes to something better...
             BigQueryTableInputConfig delegateCfg = new BigQueryTableInputConfig();
@@ -109,7 +118,7 @@ public class BigQueryTableExtractInput implements Serializable {
 
                 converter = AvroConverter.of(builderFactory, tckSchema);
                 storage = storageService.getStorage(bigQuery.getOptions().getCredentials());
-                dataStream = storageService.getDataFileStream(storage, bucket, gsBlob);
+                pendingBlobs = blobs.iterator();
             } catch (Exception e) {
                 log.error(i18n.errorBlobReaderInit(), e);
                 throw new BigQueryConnectorException(e);
@@ -118,26 +127,76 @@ public class BigQueryTableExtractInput implements Serializable {
             }
         }
 
-        Record record = null;
-
-        if (dataStream != null && !dataStream.hasNext()) {
+        while (pendingBlobs != null) {
+            if (dataStream == null) {
+                if (!pendingBlobs.hasNext()) {
+                    return null;
+                }
+                currentBlob = pendingBlobs.next();
+                this.openBlob();
+            }
+            if (dataStream.hasNext() && (rangeReader == null || !this.pastRangeEnd())) {
+                GenericRecord rec = dataStream.next();
+                return converter.toRecord(rec);
+            }
             try {
                 dataStream.close();
             } catch (Exception e) {
                 log.warn("Cannot close stream", e);
             }
-        } else if (dataStream != null) {
-            GenericRecord rec = dataStream.next();
-            record = converter.toRecord(rec);
+            dataStream = null;
+            rangeReader = null;
+        }
+
+        return null;
+    }
+
+    private void openBlob() {
+        try {
+            if (currentBlob.isWhole()) {
+                dataStream = storageService.getDataFileStream(storage, bucket, currentBlob.getName());
+            } else {
+                rangeReader = storageService.getDataFileReader(storage, bucket, currentBlob.getName());
+                if (currentBlob.getStart() > 0) {
+                    // first block of range follows next sync marker
+                    rangeReader.sync(currentBlob.getStart());
+                }
+                dataStream = rangeReader;
+            }
+        } catch (Exception e) {
+            log.error(i18n.errorBlobReaderInit(), e);
+            throw new BigQueryConnectorException(e);
         }
+    }
 
-        return record;
+    private boolean pastRangeEnd() {
+        try {
+            return rangeReader.pastSync(currentBlob.getEnd());
+        } catch (Exception e) {
+            throw new BigQueryConnectorException(e);
+        }
     }
 
     @PreDestroy
     public void release() {
-        if (gsBlob != null) {
-            storageService.deleteBlob(storage, bucket, gsBlob);
+        if (delegateInput != null) {
+            delegateInput.release();
+        }
+        if (dataStream != null) {
+            try {
+                dataStream.close();
+            } catch (Exception e) {
+                log.warn("Cannot close stream", e);
+            }
+        }
+        if (blobs != null) {
+            for (ExtractedBlob blob : blobs) {
+                if (blob.isWhole()) {
+                    storageService.deleteBlob(storage, bucket, blob.getName());
+                } else {
+                    storageService.releaseBlobPart(storage, bucket, blob.getName(), blob.getParts());
+                }
+            }
         }
     }
 
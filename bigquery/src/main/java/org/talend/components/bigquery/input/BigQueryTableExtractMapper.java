@@ -34,7 +34,10 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Version(1)
@@ -54,7 +57,7 @@ public class BigQueryTableExtractMapper implements Serializable {
 
     protected final BigQueryTableExtractInputConfig configuration;
 
-    protected final String gsBlob;
+    protected final List<ExtractedBlob> blobs;
 
     protected transient BigQuery bigQuery;
 
@@ -70,18 +73,18 @@ public class BigQueryTableExtractMapper implements Serializable {
         this.service = service;
         this.storageService = storageService;
         this.configuration = configuration;
-        this.gsBlob = null;
+        this.blobs = null;
     }
 
     protected BigQueryTableExtractMapper(BigQueryTableExtractInputConfig configuration, final BigQueryService service,
             final GoogleStorageService storageService, final I18nMessage i18n, final RecordBuilderFactory builderFactory,
-            String gsBlob) {
+            List<ExtractedBlob> blobs) {
         this.i18n = i18n;
         this.builderFactory = builderFactory;
         this.service = service;
         this.storageService = storageService;
         this.configuration = configuration;
-        this.gsBlob = gsBlob;
+        this.blobs = blobs;
     }
 
     @PostConstruct
@@ -120,10 +123,13 @@ public class BigQueryTableExtractMapper implements Serializable {
             log.info(i18n.blobsPrefix(), prefix);
             Page<Blob> blobs = storage.list(configuration.getTableDataset().getGsBucket(), Storage.BlobListOption.prefix(prefix));
 
+            Map<String, Long> sizes = new LinkedHashMap<>();
+            blobs.iterateAll().forEach(b -> sizes.put(b.getName(), b.getSize() == null ? 0L : b.getSize()));
+
             // Create and return mapper
             List<BigQueryTableExtractMapper> mappers = new ArrayList<>();
-            blobs.iterateAll().forEach(b -> mappers.add(
-                    new BigQueryTableExtractMapper(configuration, service, storageService, i18n, builderFactory, b.getName())));
+            bundle(sizes, bundleSize).forEach(bundle -> mappers
+                    .add(new BigQueryTableExtractMapper(configuration, service, storageService, i18n, builderFactory, bundle)));
 
             log.info(i18n.nbMappers(), mappers.size());
             return mappers;
@@ -134,9 +140,47 @@ public class BigQueryTableExtractMapper implements Serializable {
         }
     }
 
+    /**
+     * Group exported blobs in bundles of about bundle size: small blobs are packed together,
+     * blobs larger than bundle size are split in ranges read from the next avro sync marker.
+     *
+     * @param sizes : size of exported blobs by name.
+     * @param bundleSize : expected size of a bundle.
+     * @return blobs read by each mapper.
+     */
+    static List<ArrayList<ExtractedBlob>> bundle(Map<String, Long> sizes, long bundleSize) {
+        List<ArrayList<ExtractedBlob>> bundles = new ArrayList<>();
+        List<Long> bundleSizes = new ArrayList<>();
+        sizes.entrySet().stream().sorted(Map.Entry.<String, Long> comparingByValue(Comparator.reverseOrder())).forEach(e -> {
+            long size = e.getValue();
+            if (bundleSize > 0 && size > bundleSize) {
+                int parts = (int) ((size + bundleSize - 1) / bundleSize);
+                for (int i = 0; i < parts; i++) {
+                    ArrayList<ExtractedBlob> bundle = new ArrayList<>();
+                    bundle.add(new ExtractedBlob(e.getKey(), size * i / parts, size * (i + 1) / parts, parts));
+                    bundles.add(bundle);
+                    bundleSizes.add(bundleSize);
+                }
+                return;
+            }
+            // first bundle with enough room
+            int index = 0;
+            while (index < bundles.size() && bundleSizes.get(index) + size > bundleSize) {
+                index++;
+            }
+            if (index == bundles.size()) {
+                bundles.add(new ArrayList<>());
+                bundleSizes.add(0L);
+            }
+            bundles.get(index).add(ExtractedBlob.whole(e.getKey(), size));
+            bundleSizes.set(index, bundleSizes.get(index) + size);
+        });
+        return bundles;
+    }
+
     @Emitter
     public BigQueryTableExtractInput createSource() {
-        return new BigQueryTableExtractInput(configuration, service, storageService, i18n, builderFactory, gsBlob, tckSchema);
+        return new BigQueryTableExtractInput(configuration, service, storageService, i18n, builderFactory, blobs, tckSchema);
     }
 
     @PreDestroy
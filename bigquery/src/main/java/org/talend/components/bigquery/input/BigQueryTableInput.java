@@ -29,9 +29,9 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.Serializable;
 import java.util.Date;
-import java.util.Iterator;
 
 @Version(1)
 @Icon(value = Icon.IconType.CUSTOM, custom = "bigquery")
@@ -47,23 +47,37 @@ public class BigQueryTableInput implements Serializable {
 
     protected final RecordBuilderFactory builderFactory;
 
+    /** number of result pages fetched in advance */
+    static final int PREFETCH_PAGES = 2;
+
     private TableDataSet dataSet;
 
-    private transient Schema tableSchema;
+    /** first row read */
+    private final long startIndex;
+
+    /** number of rows read, negative to read until table end */
+    private final long rowCount;
 
-    private transient org.talend.sdk.component.api.record.Schema tckSchema;
+    private transient RowConverter converter;
 
-    private transient Iterator<FieldValueList> queryResult;
+    private transient PagePrefetcher<FieldValueList> queryResult;
 
     private transient boolean loaded = false;
 
     public BigQueryTableInput(@Option("configuration") BigQueryTableInputConfig configuration, final BigQueryService service,
             final I18nMessage i18n, final RecordBuilderFactory builderFactory) {
+        this(configuration, service, i18n, builderFactory, 0L, -1L);
+    }
+
+    public BigQueryTableInput(final BigQueryTableInputConfig configuration, final BigQueryService service,
+            final I18nMessage i18n, final RecordBuilderFactory builderFactory, final long startIndex, final long rowCount) {
         this.connection = configuration.getDataStore();
         this.service = service;
         this.i18n = i18n;
         this.builderFactory = builderFactory;
         this.dataSet = configuration.getTableDataset();
+        this.startIndex = startIndex;
+        this.rowCount = rowCount;
     }
 
     @PostConstruct
@@ -82,12 +96,12 @@ public class BigQueryTableInput implements Serializable {
                     throw new BigQueryConnectorException(
                             i18n.infoTableNoExists(dataSet.getBqDataset() + "." + dataSet.getTableName()));
                 }
-                tableSchema = table.getDefinition().getSchema();
+                Schema tableSchema = table.getDefinition().getSchema();
+                converter = new RowConverter(service, builderFactory, tableSchema, service.convertToTckSchema(tableSchema));
 
-                tckSchema = service.convertToTckSchema(tableSchema);
-
-                TableResult tableResult = bigQuery.listTableData(tableId, tableSchema);
-                queryResult = tableResult.iterateAll().iterator();
+                TableResult tableResult = bigQuery.listTableData(tableId, tableSchema,
+                        BigQuery.TableDataListOption.startIndex(startIndex));
+                queryResult = new PagePrefetcher<>(tableResult, PREFETCH_PAGES, rowCount);
             } catch (Exception e) {
                 log.error(i18n.errorQueryExecution(), e);
             } finally {
@@ -98,19 +112,17 @@ public class BigQueryTableInput implements Serializable {
         Record record = null;
 
         if (queryResult != null && queryResult.hasNext()) {
-            FieldValueList fieldValueList = queryResult.next();
-
-            Record.Builder rb = builderFactory.newRecordBuilder(tckSchema);
-
-            for (Field f : tableSchema.getFields()) {
-                service.convertToTckField(fieldValueList, rb, f, tableSchema);
-
-            }
-
-            record = rb.build();
+            record = converter.toRecord(queryResult.next());
         }
 
         return record;
     }
 
+    @PreDestroy
+    public void release() {
+        if (queryResult != null) {
+            queryResult.close();
+        }
+    }
+
 }
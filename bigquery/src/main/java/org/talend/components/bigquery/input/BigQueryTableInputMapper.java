@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.dataset.TableDataSet;
+import org.talend.components.bigquery.datastore.BigQueryConnection;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.components.bigquery.service.I18nMessage;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import javax.annotation.PostConstruct;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Version(1)
+@Icon(value = Icon.IconType.CUSTOM, custom = "bigquery")
+@PartitionMapper(name = "BigQueryTableInput")
+@Documentation("This component reads a table from BigQuery page by page through the API, splitting rows in ranges.")
+@Slf4j
+public class BigQueryTableInputMapper implements Serializable {
+
+    protected final BigQueryTableInputConfig configuration;
+
+    protected final BigQueryService service;
+
+    protected final I18nMessage i18n;
+
+    protected final RecordBuilderFactory builderFactory;
+
+    /** first row read by this mapper */
+    private final long startIndex;
+
+    /** number of rows read by this mapper, negative to read until table end */
+    private final long rowCount;
+
+    private transient Table table;
+
+    public BigQueryTableInputMapper(@Option("configuration") final BigQueryTableInputConfig configuration,
+            final BigQueryService service, final I18nMessage i18n, final RecordBuilderFactory builderFactory) {
+        this(configuration, service, i18n, builderFactory, 0L, -1L);
+    }
+
+    protected BigQueryTableInputMapper(final BigQueryTableInputConfig configuration, final BigQueryService service,
+            final I18nMessage i18n, final RecordBuilderFactory builderFactory, final long startIndex, final long rowCount) {
+        this.configuration = configuration;
+        this.service = service;
+        this.i18n = i18n;
+        this.builderFactory = builderFactory;
+        this.startIndex = startIndex;
+        this.rowCount = rowCount;
+    }
+
+    @PostConstruct
+    public void init() {
+        BigQueryConnection connection = configuration.getDataStore();
+        TableDataSet dataSet = configuration.getTableDataset();
+        BigQuery bigQuery = service.createClient(connection);
+        table = bigQuery.getTable(TableId.of(connection.getProjectName(), dataSet.getBqDataset(), dataSet.getTableName()));
+        if (table == null) {
+            throw new BigQueryConnectorException(i18n.infoTableNoExists(dataSet.getBqDataset() + "." + dataSet.getTableName()));
+        }
+    }
+
+    @Assessor
+    public long estimateSize() {
+        Long numBytes = table.getNumBytes();
+        return numBytes == null ? 0L : numBytes;
+    }
+
+    @Split
+    public List<BigQueryTableInputMapper> split(@PartitionSize final long bundleSize) {
+        BigInteger numRows = table.getNumRows();
+        long rows = numRows == null ? 0L : numRows.longValue();
+        long bytes = estimateSize();
+        if (rows <= 0L || bytes <= 0L || bundleSize <= 0L || bundleSize >= bytes) {
+            return Collections.singletonList(this);
+        }
+
+        long rowsPerBundle = Math.max(1L, (long) ((double) rows * bundleSize / bytes));
+        List<BigQueryTableInputMapper> mappers = new ArrayList<>();
+        for (long start = 0L; start < rows; start += rowsPerBundle) {
+            // last range reads until table end, to get rows added since table metadata were read.
+            long count = start + rowsPerBundle < rows ? rowsPerBundle : -1L;
+            mappers.add(new BigQueryTableInputMapper(configuration, service, i18n, builderFactory, start, count));
+        }
+        log.info(i18n.nbMappers(), mappers.size());
+        return mappers;
+    }
+
+    @Emitter
+    public BigQueryTableInput createSource() {
+        return new BigQueryTableInput(configuration, service, i18n, builderFactory, startIndex, rowCount);
+    }
+}
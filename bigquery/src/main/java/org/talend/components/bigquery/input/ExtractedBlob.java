@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * Byte range of a blob exported by an extract job.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ExtractedBlob implements Serializable {
+
+    private final String name;
+
+    /** first byte of range */
+    private final long start;
+
+    /** end of range (exclusive) */
+    private final long end;
+
+    /** number of ranges the blob is split in */
+    private final int parts;
+
+    public static ExtractedBlob whole(String name, long size) {
+        return new ExtractedBlob(name, 0L, size, 1);
+    }
+
+    public boolean isWhole() {
+        return parts <= 1;
+    }
+
+    public long getSize() {
+        return end - start;
+    }
+}
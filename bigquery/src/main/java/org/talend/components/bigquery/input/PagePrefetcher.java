@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.api.gax.paging.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Iterate values of result pages; next pages are fetched by a background thread while current one is read.
+ *
+ * @param <T> type of page values.
+ */
+@Slf4j
+public class PagePrefetcher<T> implements Iterator<T>, AutoCloseable {
+
+    /** marks end of pages in queue */
+    private static final Object END = new Object();
+
+    /** fetched pages (list of values), fetch error or end */
+    private final BlockingQueue<Object> pages;
+
+    /** max number of values to read, negative for all */
+    private final long maxValues;
+
+    private final Thread fetcher;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /** number of values returned */
+    private long count = 0L;
+
+    private boolean ended = false;
+
+    /**
+     * @param first : first page (already fetched).
+     * @param prefetchPages : max number of pages fetched in advance.
+     * @param maxValues : max number of values to read, negative for all.
+     */
+    public PagePrefetcher(Page<T> first, int prefetchPages, long maxValues) {
+        this.pages = new ArrayBlockingQueue<>(prefetchPages);
+        this.maxValues = maxValues;
+        this.fetcher = new Thread(() -> this.fetch(first), "bigquery-page-prefetch");
+        this.fetcher.setDaemon(true);
+        this.fetcher.start();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+        if (maxValues >= 0 && count >= maxValues) {
+            return false;
+        }
+        while (!current.hasNext()) {
+            if (ended) {
+                return false;
+            }
+            final Object page = this.take();
+            if (page == END) {
+                ended = true;
+                return false;
+            }
+            if (page instanceof RuntimeException) {
+                ended = true;
+                throw (RuntimeException) page;
+            }
+            current = ((List<T>) page).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        count++;
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        ended = true;
+        current = Collections.emptyIterator();
+        fetcher.interrupt();
+        pages.clear();
+    }
+
+    private Object take() {
+        try {
+            return pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        }
+    }
+
+    private void fetch(Page<T> first) {
+        try {
+            Page<T> page = first;
+            long fetched = 0L;
+            while (page != null) {
+                final List<T> values = new ArrayList<>();
+                page.getValues().forEach(values::add);
+                fetched += values.size();
+                pages.put(values);
+                if (maxValues >= 0 && fetched >= maxValues) {
+                    break;
+                }
+                page = page.hasNextPage() ? page.getNextPage() : null;
+            }
+            pages.put(END);
+        } catch (InterruptedException e) {
+            log.debug("Page prefetch interrupted");
+        } catch (RuntimeException e) {
+            try {
+                pages.put(e);
+            } catch (InterruptedException ie) {
+                log.debug("Page prefetch interrupted");
+            }
+        }
+    }
+}
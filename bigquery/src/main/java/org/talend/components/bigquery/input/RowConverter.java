@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.api.client.util.Base64;
+import com.google.cloud.bigquery.Field;
+import com.google.cloud.bigquery.FieldValue;
+import com.google.cloud.bigquery.FieldValueList;
+import com.google.cloud.bigquery.Schema;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema.Entry;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.List;
+
+/**
+ * Convert BigQuery rows to records with one converter per field, prepared once for the table schema.
+ * Simple fields are read by position; record and repeated fields are converted by {@link BigQueryService}.
+ */
+@Slf4j
+public class RowConverter {
+
+    @FunctionalInterface
+    private interface FieldConverter {
+
+        void convert(FieldValueList row, Record.Builder builder);
+    }
+
+    private final RecordBuilderFactory builderFactory;
+
+    private final org.talend.sdk.component.api.record.Schema tckSchema;
+
+    private final FieldConverter[] converters;
+
+    public RowConverter(BigQueryService service, RecordBuilderFactory builderFactory, Schema tableSchema,
+            org.talend.sdk.component.api.record.Schema tckSchema) {
+        this.builderFactory = builderFactory;
+        this.tckSchema = tckSchema;
+        final List<Field> fields = tableSchema.getFields();
+        this.converters = new FieldConverter[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            final Field field = fields.get(i);
+            final Entry entry = tckSchema.getEntries().stream().filter(e -> e.getName().equals(field.getName())).findFirst()
+                    .orElse(null);
+            if (entry == null || field.getMode() == Field.Mode.REPEATED || "RECORD".equals(field.getType().name())) {
+                this.converters[i] = (FieldValueList row, Record.Builder builder) -> service.convertToTckField(row, builder,
+                        field, tableSchema);
+            } else {
+                this.converters[i] = this.simpleConverter(i, field, entry);
+            }
+        }
+    }
+
+    public Record toRecord(FieldValueList row) {
+        final Record.Builder builder = builderFactory.newRecordBuilder(tckSchema);
+        for (FieldConverter converter : converters) {
+            converter.convert(row, builder);
+        }
+        return builder.build();
+    }
+
+    private FieldConverter simpleConverter(int index, Field field, Entry entry) {
+        switch (field.getType().name()) {
+        case "BOOLEAN":
+            return ifNotNull(index, (value, builder) -> builder.withBoolean(entry, value.getBooleanValue()));
+        case "BYTES":
+            return ifNotNull(index, (value, builder) -> builder.withBytes(entry, Base64.decodeBase64(value.getStringValue())));
+        case "TIMESTAMP":
+            return ifNotNull(index, (value, builder) -> builder.withTimestamp(entry, value.getTimestampValue() / 1000));
+        case "DATE":
+            return dateConverter(index, entry, "yyyy-MM-dd", "date");
+        case "DATETIME":
+            return dateConverter(index, entry, "yyyy-MM-dd'T'HH:mm:ss", "time");
+        case "TIME":
+            return dateConverter(index, entry, "HH:mm:ss", "time");
+        case "FLOAT":
+            return ifNotNull(index, (value, builder) -> builder.withDouble(entry, value.getDoubleValue()));
+        case "INTEGER":
+            return ifNotNull(index, (value, builder) -> builder.withLong(entry, value.getLongValue()));
+        default:
+            return ifNotNull(index, (value, builder) -> builder.withString(entry, value.getStringValue()));
+        }
+    }
+
+    private FieldConverter dateConverter(int index, Entry entry, String pattern, String label) {
+        // converter is used by one reader thread.
+        final SimpleDateFormat format = new SimpleDateFormat(pattern);
+        return ifNotNull(index, (value, builder) -> {
+            try {
+                builder.withDateTime(entry, format.parse(value.getStringValue()));
+            } catch (ParseException e) {
+                log.warn("Cannot parse {} {}", label, value.getStringValue());
+            }
+        });
+    }
+
+    private static FieldConverter ifNotNull(int index, ValueConverter converter) {
+        return (FieldValueList row, Record.Builder builder) -> {
+            final FieldValue value = row.get(index);
+            if (value != null && !value.isNull()) {
+                converter.convert(value, builder);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter {
+
+        void convert(FieldValue value, Record.Builder builder);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.talend.components.bigquery.avro.AvroConverter;
+import org.talend.sdk.component.api.record.Record;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Write records in deflate compressed avro files on google storage, to be loaded in BigQuery by a single job.
+ * A new file is started when current one reaches max size; all files match one wildcard uri.
+ */
+@Slf4j
+public class AvroStagingWriter implements AutoCloseable {
+
+    private static final int DEFLATE_LEVEL = 6;
+
+    private final Storage storage;
+
+    private final String bucket;
+
+    /** start of name of staged files */
+    private final String prefix;
+
+    private final long maxFileSize;
+
+    private final AvroConverter converter;
+
+    /** staged files */
+    private final List<BlobId> blobs = new ArrayList<>();
+
+    private DataFileWriter<GenericRecord> writer;
+
+    private CountingOutputStream output;
+
+    public AvroStagingWriter(Storage storage, String bucket, String prefix, long maxFileSize, AvroConverter converter) {
+        this.storage = storage;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        this.maxFileSize = maxFileSize;
+        this.converter = converter;
+    }
+
+    public void write(Collection<Record> records) throws IOException {
+        for (Record record : records) {
+            final GenericRecord avroRecord = converter.fromRecord(record);
+            if (writer == null) {
+                open(avroRecord.getSchema());
+            }
+            writer.append(avroRecord);
+        }
+        if (writer != null) {
+            // end block to count compressed size.
+            writer.flush();
+            if (output.getCount() >= maxFileSize) {
+                close();
+            }
+        }
+    }
+
+    /**
+     * @return uri matching all staged files.
+     */
+    public String getSourceUri() {
+        return "gs://" + bucket + "/" + prefix + "*.avro";
+    }
+
+    public int getFileCount() {
+        return blobs.size();
+    }
+
+    /**
+     * Close current file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            log.debug("Staged {} ({} bytes)", blobs.get(blobs.size() - 1).getName(), output.getCount());
+            writer = null;
+            output = null;
+        }
+    }
+
+    /**
+     * Delete staged files.
+     */
+    public void delete() {
+        if (!blobs.isEmpty()) {
+            storage.delete(blobs);
+            blobs.clear();
+        }
+    }
+
+    private void open(org.apache.avro.Schema schema) throws IOException {
+        final BlobId blobId = BlobId.of(bucket, String.format("%s%05d.avro", prefix, blobs.size()));
+        final BlobInfo blobInfo = BlobInfo.newBuilder(blobId).build();
+        output = new CountingOutputStream(Channels.newOutputStream(storage.create(blobInfo).writer()));
+        blobs.add(blobId);
+        writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(schema));
+        writer.setCodec(CodecFactory.deflateCodec(DEFLATE_LEVEL));
+        writer.create(schema, output);
+    }
+
+    /**
+     * Count bytes written in file.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count = 0L;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] content, int offset, int length) throws IOException {
+            out.write(content, offset, length);
+            count += length;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -19,6 +19,7 @@ import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.avro.AvroConverter;
 import org.talend.components.bigquery.datastore.BigQueryConnection;
 import org.talend.components.bigquery.service.BigQueryConnectorException;
 import org.talend.components.bigquery.service.BigQueryService;
@@ -36,11 +37,15 @@ import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.BeforeGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
+import org.talend.sdk.component.api.processor.Output;
+import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.processor.Processor;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.Serializable;
 import java.nio.channels.Channels;
@@ -48,6 +53,10 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.talend.sdk.component.api.component.Icon.IconType.BIGQUERY;
 
@@ -95,8 +104,20 @@ public class BigQueryOutput implements Serializable {
 
     private transient boolean isTruncateDone;
 
+    private RecordBuilderFactory recordBuilderFactory;
+
+    /** executor of concurrent streaming inserts */
+    private transient ExecutorService streamingExecutor;
+
+    /** avro files staged for bulk load */
+    private transient AvroStagingWriter stagingWriter;
+
+    /** true between beforeGroup and end of afterGroup, so a group that failed is not loaded */
+    private transient boolean groupOpen;
+
     public BigQueryOutput(@Option("configuration") final BigQueryOutputConfig configuration, BigQueryService bigQueryService,
-            GoogleStorageService storageService, RecordIORepository ioRepository, I18nMessage i18n) {
+            GoogleStorageService storageService, RecordIORepository ioRepository, I18nMessage i18n,
+            RecordBuilderFactory recordBuilderFactory) {
         this.configuration = configuration;
         this.connection = configuration.getDataSet().getConnection();
         this.tableSchema = bigQueryService.guessSchema(configuration);
@@ -105,6 +126,7 @@ public class BigQueryOutput implements Serializable {
         this.storageService = storageService;
         this.ioRepository = ioRepository;
         this.i18n = i18n;
+        this.recordBuilderFactory = recordBuilderFactory;
     }
 
     private JobId getNewUniqueJobId() {
@@ -121,7 +143,7 @@ public class BigQueryOutput implements Serializable {
         bigQuery = service.createClient(connection);
         tableId = TableId.of(connection.getProjectName(), configuration.getDataSet().getBqDataset(),
                 configuration.getDataSet().getTableName());
-        if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation()) {
+        if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation() || configuration.isBulkLoad()) {
             storage = storageService.getStorage(bigQuery.getOptions().getCredentials());
         }
     }
@@ -156,10 +178,15 @@ public class BigQueryOutput implements Serializable {
     @BeforeGroup
     public void beforeGroup() {
         records = new ArrayList<>();
+        groupOpen = true;
         if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation()) {
             if (!isTruncateDone) {
                 truncateTable();
             }
+            if (configuration.isBulkLoad()) {
+                // records are loaded at the end.
+                return;
+            }
             Blob blob = getNewBlob();
             writer = blob.writer();
             try {
@@ -207,7 +234,7 @@ public class BigQueryOutput implements Serializable {
     }
 
     @AfterGroup
-    public void afterGroup() {
+    public void afterGroup(@Output("reject") final OutputEmitter<Record> reject) {
 
         if (!records.isEmpty() && tableSchema == null
                 && configuration.getTableOperation() == BigQueryOutputConfig.TableOperation.CREATE_IF_NOT_EXISTS) {
@@ -225,7 +252,9 @@ public class BigQueryOutput implements Serializable {
             }
         }
 
-        if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation()) {
+        if (configuration.isBulkLoad()) {
+            stageData();
+        } else if (BigQueryOutputConfig.TableOperation.TRUNCATE == configuration.getTableOperation()) {
             try {
                 loadData();
             } catch (BigQueryException e) {
@@ -237,7 +266,84 @@ public class BigQueryOutput implements Serializable {
             }
             storage.delete(blobInfo.getBlobId());
         } else {
-            streamData();
+            streamData(reject);
+        }
+        groupOpen = false;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (streamingExecutor != null) {
+            streamingExecutor.shutdownNow();
+            streamingExecutor = null;
+        }
+        if (stagingWriter != null) {
+            final AvroStagingWriter staged = stagingWriter;
+            stagingWriter = null;
+            if (groupOpen) {
+                // output failed on a group : staged data is partial.
+                closeStaging(staged);
+                log.warn(i18n.warnBulkLoadSkipped(staged.getSourceUri()));
+                return;
+            }
+            try {
+                bulkLoadData(staged);
+            } catch (RuntimeException e) {
+                log.error(i18n.errorStagedFilesKept(staged.getSourceUri()));
+                throw e;
+            }
+            staged.delete();
+        }
+    }
+
+    private void stageData() {
+        if (records.isEmpty()) {
+            return;
+        }
+        if (stagingWriter == null) {
+            String prefix = "temp/" + UUID.randomUUID().toString() + "/" + configuration.getDataSet().getTableName() + "-";
+            stagingWriter = new AvroStagingWriter(storage, configuration.getDataSet().getGsBucket(), prefix,
+                    configuration.getBulkFileSize() * 1024L * 1024L, AvroConverter.of(recordBuilderFactory));
+        }
+        try {
+            stagingWriter.write(records);
+        } catch (IOException e) {
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        }
+    }
+
+    private void closeStaging(AvroStagingWriter staged) {
+        try {
+            staged.close();
+        } catch (IOException e) {
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Load all staged files with a single job.
+     */
+    private void bulkLoadData(AvroStagingWriter staged) {
+        closeStaging(staged);
+        if (staged.getFileCount() == 0) {
+            return;
+        }
+        // table is already truncated, if needed.
+        LoadJobConfiguration loadConfiguration = LoadJobConfiguration
+                .newBuilder(tableId, staged.getSourceUri(), FormatOptions.avro()).setUseAvroLogicalTypes(true)
+                .setWriteDisposition(JobInfo.WriteDisposition.WRITE_APPEND).build();
+        Job job = bigQuery.create(JobInfo.of(loadConfiguration));
+        try {
+            job = job.waitFor();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BigQueryConnectorException(e.getMessage());
+        }
+        if (job == null) {
+            throw new BigQueryConnectorException(i18n.errorBigqueryLoadJob() + " job no longer exists");
+        }
+        if (job.getStatus().getError() != null) {
+            throw new BigQueryConnectorException(i18n.errorBigqueryLoadJob() + job.getStatus().getError());
         }
     }
 
@@ -256,40 +362,46 @@ public class BigQueryOutput implements Serializable {
         }
     }
 
-    private void streamData() {
+    private void streamData(OutputEmitter<Record> reject) {
+        if (records.isEmpty()) {
+            return;
+        }
         TacoKitRecordToTableRowConverter converter = new TacoKitRecordToTableRowConverter(tableSchema, i18n);
-
-        int nbRecordsToSend = records.size();
-        int nbRecordsSent = 0;
-        List<Map<String, ?>> recordsBuffer = new ArrayList<>();
-
-        while (nbRecordsSent < nbRecordsToSend) {
-
-            recordsBuffer.clear();
-            records.stream().skip(nbRecordsSent).limit(MAX_BATCH_SIZE).map(converter::apply).forEach(recordsBuffer::add);
-
-            InsertAllRequest.Builder insertAllRequestBuilder = InsertAllRequest.newBuilder(tableId);
-            recordsBuffer.stream().forEach(insertAllRequestBuilder::addRow);
-            InsertAllResponse response = bigQuery.insertAll(insertAllRequestBuilder.build());
-
-            if (response.hasErrors()) {
-                // response.getInsertErrors();
-                // rejected no handled by TCK
-                log.warn(i18n.warnRejected(response.getInsertErrors().size()));
-                // log errors for first row
-                response.getInsertErrors().values().iterator().next().stream().forEach(e -> log.warn(e.getMessage()));
-                if (response.getInsertErrors().size() == recordsBuffer.size()) {
-                    // All rows were rejected : there's an issue with schema ?
-                    log.warn(records.get(0).getSchema().toString());
-                    log.warn(tableSchema.toString());
-                    // Let's show how the first record was handled.
-                    log.warn(records.get(nbRecordsSent).toString());
-                    log.warn(recordsBuffer.get(0).toString());
-                }
+        List<Map<String, ?>> rows = records.stream().map(converter::apply).collect(Collectors.toList());
+
+        StreamingInserter inserter = new StreamingInserter(bigQuery, tableId,
+                Math.min(MAX_BATCH_SIZE, configuration.getStreamingBatchSize()), configuration.getStreamingRequests(),
+                configuration.getStreamingRetries(), getStreamingExecutor());
+        List<StreamingInserter.Reject> rejects = inserter.insert(rows);
+
+        if (!rejects.isEmpty()) {
+            log.warn(i18n.warnRejected(rejects.size()));
+            // log errors for first row
+            StreamingInserter.Reject first = rejects.get(0);
+            first.getErrors().forEach(e -> log.warn(e.getMessage()));
+            if (rejects.size() == rows.size()) {
+                // All rows were rejected : there's an issue with schema ?
+                log.warn(records.get(0).getSchema().toString());
+                log.warn(tableSchema.toString());
+                // Let's show how the first record was handled.
+                log.warn(records.get(first.getIndex()).toString());
+                log.warn(String.valueOf(rows.get(first.getIndex())));
             }
+            rejects.forEach(r -> reject.emit(recordBuilderFactory.newRecordBuilder()
+                    .withRecord("record", records.get(r.getIndex())).withString("errorMessage", r.getMessage()).build()));
+        }
+    }
 
-            nbRecordsSent += recordsBuffer.size();
+    private ExecutorService getStreamingExecutor() {
+        if (streamingExecutor == null) {
+            final AtomicInteger threadIndex = new AtomicInteger(0);
+            streamingExecutor = Executors.newFixedThreadPool(configuration.getStreamingRequests(), (Runnable task) -> {
+                final Thread thread = new Thread(task, "bigquery-insert-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         }
+        return streamingExecutor;
     }
 
     private void loadData() {
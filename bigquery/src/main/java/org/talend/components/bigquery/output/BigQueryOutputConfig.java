@@ -17,6 +17,8 @@ import org.talend.components.bigquery.dataset.TableDataSet;
 import org.talend.sdk.component.api.component.Icon;
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Max;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.DefaultValue;
 import org.talend.sdk.component.api.configuration.ui.OptionsOrder;
 import org.talend.sdk.component.api.configuration.ui.widget.Code;
@@ -30,7 +32,8 @@ import static org.talend.sdk.component.api.component.Icon.IconType.BIGQUERY;
 @Data
 @Icon(value = Icon.IconType.CUSTOM, custom = "bigquery")
 @Documentation("Dataset of a BigQuery component.")
-@OptionsOrder({ "dataSet", "tableOperation" })
+@OptionsOrder({ "dataSet", "tableOperation", "bulkLoad", "bulkFileSize", "streamingBatchSize", "streamingRequests",
+        "streamingRetries" })
 public class BigQueryOutputConfig implements Serializable {
 
     @Option
@@ -42,6 +45,38 @@ public class BigQueryOutputConfig implements Serializable {
     @DefaultValue("NONE")
     private TableOperation tableOperation = TableOperation.NONE;
 
+    @Option
+    @Documentation("Stage records in avro files on google storage, loaded by a single job when output ends.")
+    private boolean bulkLoad = false;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "bulkLoad", value = "true")
+    @Documentation("Max size in MB of staged avro files.")
+    private int bulkFileSize = 128;
+
+    @Option
+    @Min(1)
+    @Max(10_000)
+    @ActiveIf(target = "tableOperation", value = "TRUNCATE", negate = true)
+    @ActiveIf(target = "bulkLoad", value = "false")
+    @Documentation("Max number of rows per streaming insert request (requests are also limited by size).")
+    private int streamingBatchSize = 10_000;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "tableOperation", value = "TRUNCATE", negate = true)
+    @ActiveIf(target = "bulkLoad", value = "false")
+    @Documentation("Max number of streaming insert requests in progress.")
+    private int streamingRequests = 4;
+
+    @Option
+    @Min(0)
+    @ActiveIf(target = "tableOperation", value = "TRUNCATE", negate = true)
+    @ActiveIf(target = "bulkLoad", value = "false")
+    @Documentation("Max number of retries of rows failed in a streaming insert request.")
+    private int streamingRetries = 3;
+
     public enum TableOperation {
         /**
          * Specifics that tables should not be created.
@@ -0,0 +1,274 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.BigQueryException;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.TableId;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming insert of rows with concurrent insertAll requests.
+ * Requests are packed by row count and estimated request size; rows failed in a request are retried with backoff,
+ * rows still failing are returned as rejects.
+ * Each row has an insert id, kept when it is sent again, so BigQuery can drop duplicates of retried rows.
+ */
+@Slf4j
+public class StreamingInserter {
+
+    /** Maximum request size allowed by Google API is 10MB, keep a margin for json envelope */
+    static final long MAX_REQUEST_BYTES = 9L * 1024L * 1024L;
+
+    /** Error reason of rows not inserted because of other rows in request */
+    private static final String REASON_STOPPED = "stopped";
+
+    /** Error reason of invalid rows (never retried) */
+    private static final String REASON_INVALID = "invalid";
+
+    /** Size of json envelope of a row in request ({"insertId":"","json":}) */
+    private static final long ROW_ENVELOPE_BYTES = 24L;
+
+    private static final long INITIAL_BACKOFF_MS = 500L;
+
+    private static final long MAX_BACKOFF_MS = 30_000L;
+
+    private final BigQuery bigQuery;
+
+    private final TableId tableId;
+
+    /** max rows per request */
+    private final int maxRows;
+
+    /** max requests in flight */
+    private final int maxInFlight;
+
+    /** max retries of failed rows */
+    private final int maxRetries;
+
+    private final ExecutorService executor;
+
+    public StreamingInserter(BigQuery bigQuery, TableId tableId, int maxRows, int maxInFlight, int maxRetries,
+            ExecutorService executor) {
+        this.bigQuery = bigQuery;
+        this.tableId = tableId;
+        this.maxRows = maxRows;
+        this.maxInFlight = maxInFlight;
+        this.maxRetries = maxRetries;
+        this.executor = executor;
+    }
+
+    /**
+     * Insert rows.
+     *
+     * @param rows : rows to insert.
+     * @return rejected rows.
+     */
+    public List<Reject> insert(List<Map<String, ?>> rows) {
+        // insert id of a row is this prefix and its index.
+        final String insertIdPrefix = UUID.randomUUID().toString() + '-';
+        final List<Reject> rejects = new ArrayList<>();
+        final Deque<Future<List<Reject>>> inFlight = new ArrayDeque<>();
+        try {
+            List<Integer> batch = new ArrayList<>();
+            long batchSize = 0L;
+            for (int index = 0; index < rows.size(); index++) {
+                final long rowSize = estimateSize(rows.get(index)) + insertIdPrefix.length() + ROW_ENVELOPE_BYTES;
+                if (!batch.isEmpty() && (batch.size() >= this.maxRows || batchSize + rowSize > MAX_REQUEST_BYTES)) {
+                    this.submit(rows, insertIdPrefix, batch, inFlight, rejects);
+                    batch = new ArrayList<>();
+                    batchSize = 0L;
+                }
+                batch.add(index);
+                batchSize += rowSize;
+            }
+            if (!batch.isEmpty()) {
+                this.submit(rows, insertIdPrefix, batch, inFlight, rejects);
+            }
+            while (!inFlight.isEmpty()) {
+                rejects.addAll(this.waitOldest(inFlight));
+            }
+        } finally {
+            inFlight.forEach((Future<List<Reject>> request) -> request.cancel(true));
+        }
+        return rejects;
+    }
+
+    private void submit(List<Map<String, ?>> rows, String insertIdPrefix, List<Integer> batch,
+            Deque<Future<List<Reject>>> inFlight, List<Reject> rejects) {
+        while (inFlight.size() >= this.maxInFlight) {
+            rejects.addAll(this.waitOldest(inFlight));
+        }
+        inFlight.add(this.executor.submit(() -> this.send(rows, insertIdPrefix, batch)));
+    }
+
+    private List<Reject> waitOldest(Deque<Future<List<Reject>>> inFlight) {
+        try {
+            return inFlight.poll().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BigQueryConnectorException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new BigQueryConnectorException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Send a request, then failed rows again until they succeed, are invalid or max retries is reached.
+     *
+     * @param rows : all rows.
+     * @param insertIdPrefix : prefix of rows insert id.
+     * @param batch : index of rows of request.
+     * @return rejected rows.
+     */
+    private List<Reject> send(List<Map<String, ?>> rows, String insertIdPrefix, List<Integer> batch)
+            throws InterruptedException {
+        final List<Reject> rejects = new ArrayList<>();
+        List<Integer> pending = batch;
+        int attempt = 0;
+        while (!pending.isEmpty()) {
+            if (attempt > 0) {
+                Thread.sleep(Math.min(MAX_BACKOFF_MS, INITIAL_BACKOFF_MS << Math.min(attempt - 1, 16)));
+            }
+            final boolean lastAttempt = attempt >= this.maxRetries;
+            attempt++;
+
+            final InsertAllRequest.Builder request = InsertAllRequest.newBuilder(this.tableId);
+            pending.forEach(
+                    (Integer index) -> request.addRow(InsertAllRequest.RowToInsert.of(insertIdPrefix + index, rows.get(index))));
+            final InsertAllResponse response;
+            try {
+                response = this.bigQuery.insertAll(request.build());
+            } catch (BigQueryException e) {
+                if (!e.isRetryable() || lastAttempt) {
+                    throw e;
+                }
+                log.debug("insertAll of {} rows failed, retry: {}", pending.size(), e.getMessage());
+                continue;
+            }
+            if (!response.hasErrors()) {
+                break;
+            }
+
+            // errors are indexed by position in request.
+            final List<Integer> retry = new ArrayList<>();
+            for (Map.Entry<Long, List<BigQueryError>> error : response.getInsertErrors().entrySet()) {
+                final Integer index = pending.get(error.getKey().intValue());
+                if (lastAttempt || isInvalid(error.getValue())) {
+                    rejects.add(new Reject(index, error.getValue()));
+                } else {
+                    retry.add(index);
+                }
+            }
+            pending = retry;
+        }
+        return rejects;
+    }
+
+    private static boolean isInvalid(Collection<BigQueryError> errors) {
+        return errors.stream().anyMatch((BigQueryError error) -> REASON_INVALID.equals(error.getReason()))
+                || errors.stream().noneMatch((BigQueryError error) -> REASON_STOPPED.equals(error.getReason())
+                        || isRetryableReason(error.getReason()));
+    }
+
+    private static boolean isRetryableReason(String reason) {
+        return "backendError".equals(reason) || "internalError".equals(reason) || "timeout".equals(reason)
+                || "rateLimitExceeded".equals(reason);
+    }
+
+    /**
+     * Estimate size of json serialization (UTF-8 encoded) of a value (row, array or field value).
+     */
+    static long estimateSize(Object value) {
+        if (value == null) {
+            return 4L;
+        }
+        if (value instanceof Map) {
+            long size = 2L;
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+                size += utf8Length(String.valueOf(field.getKey())) + 4L + estimateSize(field.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            long size = 2L;
+            for (Object item : (Collection<?>) value) {
+                size += estimateSize(item) + 1L;
+            }
+            return size;
+        }
+        if (value instanceof CharSequence) {
+            return utf8Length((CharSequence) value) + 2L;
+        }
+        return utf8Length(String.valueOf(value));
+    }
+
+    /**
+     * @return number of bytes of text encoded in UTF-8.
+     */
+    static long utf8Length(CharSequence text) {
+        long length = 0L;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2L;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // supplementary character, encoded on 4 bytes.
+                length += 4L;
+                i++;
+            } else {
+                length += 3L;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Row rejected by BigQuery.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Reject {
+
+        /** index of row */
+        private final int index;
+
+        private final List<BigQueryError> errors;
+
+        public String getMessage() {
+            return this.errors.stream().map(BigQueryError::getMessage).collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -16,8 +16,10 @@ import com.google.auth.Credentials;
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.file.DataFileReader;
 import org.apache.avro.file.DataFileStream;
 import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
@@ -27,24 +29,41 @@ import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.channels.Channels;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 @Slf4j
 public class GoogleStorageService {
 
+    /** size of blob chunks read ahead while decoding */
+    public static final int READ_CHUNK_SIZE = 2 * 1024 * 1024;
+
+    /** blob metadata counting parts read when a blob is split between several readers */
+    static final String RELEASED_PARTS = "talend-released-parts";
+
+    /** http status of a failed precondition */
+    private static final int PRECONDITION_FAILED = 412;
+
     public Storage getStorage(Credentials credentials) {
         StorageOptions storageOptions = StorageOptions.newBuilder().setCredentials(credentials).build();
         return new StorageOptions.DefaultStorageFactory().create(storageOptions);
     }
 
     public DataFileStream<GenericRecord> getDataFileStream(Storage storage, String bucket, String gsBlob) throws IOException {
+        return getDataFileReader(storage, bucket, gsBlob);
+    }
+
+    /**
+     * Open an avro blob, next chunk of blob being read while current one is decoded.
+     * The reader can be moved to a range of the blob with {@link DataFileReader#sync(long)}.
+     */
+    public DataFileReader<GenericRecord> getDataFileReader(Storage storage, String bucket, String gsBlob) throws IOException {
         Blob blob = storage.get(bucket, gsBlob);
         DatumReader<GenericRecord> datumReader = new GenericDatumReader<>();
         ReadChannel rc = blob.reader();
-        InputStream in = Channels.newInputStream(rc);
-        return new DataFileStream(in, datumReader);
+        long length = blob.getSize() == null ? Long.MAX_VALUE : blob.getSize();
+        return new DataFileReader<>(new ReadAheadInput(rc, length, READ_CHUNK_SIZE), datumReader);
     }
 
     public void deleteBlob(Storage storage, String bucket, String gsBlob) {
@@ -53,4 +72,38 @@ public class GoogleStorageService {
             blob.delete();
         }
     }
+
+    /**
+     * Release a part of a blob split between several readers; blob is deleted by the last part released.
+     * Released parts are counted in blob metadata, updates being guarded by metageneration.
+     */
+    public void releaseBlobPart(Storage storage, String bucket, String gsBlob, int parts) {
+        if (parts <= 1) {
+            deleteBlob(storage, bucket, gsBlob);
+            return;
+        }
+        while (true) {
+            Blob blob = storage.get(bucket, gsBlob);
+            if (blob == null) {
+                return;
+            }
+            Map<String, String> metadata = blob.getMetadata() == null ? new HashMap<>() : new HashMap<>(blob.getMetadata());
+            int released = Integer.parseInt(metadata.getOrDefault(RELEASED_PARTS, "0")) + 1;
+            try {
+                if (released >= parts) {
+                    storage.delete(blob.getBlobId(), Storage.BlobSourceOption.metagenerationMatch(blob.getMetageneration()));
+                } else {
+                    metadata.put(RELEASED_PARTS, String.valueOf(released));
+                    storage.update(blob.toBuilder().setMetadata(metadata).build(),
+                            Storage.BlobTargetOption.metagenerationMatch());
+                }
+                return;
+            } catch (StorageException e) {
+                if (e.getCode() != PRECONDITION_FAILED) {
+                    throw e;
+                }
+                log.debug("Blob {} updated by another reader, retry", gsBlob);
+            }
+        }
+    }
 }
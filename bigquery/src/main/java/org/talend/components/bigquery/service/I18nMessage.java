@@ -56,4 +56,8 @@ public interface I18nMessage {
     String errorReadingCredentials(String message);
 
     String errorBigqueryLoadJob();
+
+    String errorStagedFilesKept(String sourceUri);
+
+    String warnBulkLoadSkipped(String sourceUri);
 }
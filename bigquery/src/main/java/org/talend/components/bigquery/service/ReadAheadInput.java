@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.service;
+
+import com.google.cloud.ReadChannel;
+import org.apache.avro.file.SeekableInput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Seekable input on a blob channel, reading next chunk in background while current one is decoded.
+ */
+public class ReadAheadInput implements SeekableInput {
+
+    private final ReadChannel channel;
+
+    private final long length;
+
+    private final int chunkSize;
+
+    private final ExecutorService executor;
+
+    /** chunk being read */
+    private ByteBuffer current = ByteBuffer.allocate(0);
+
+    /** position of current chunk in blob */
+    private long chunkStart = 0L;
+
+    /** read of chunk following current one, null at blob end */
+    private Future<ByteBuffer> next;
+
+    public ReadAheadInput(ReadChannel channel, long length, int chunkSize) {
+        this.channel = channel;
+        this.length = length;
+        this.chunkSize = chunkSize;
+        this.channel.setChunkSize(chunkSize);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "bigquery-blob-read-ahead");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.readNext();
+    }
+
+    @Override
+    public void seek(long position) throws IOException {
+        if (position >= chunkStart && position <= chunkStart + current.limit()) {
+            current.position((int) (position - chunkStart));
+            return;
+        }
+        if (next != null) {
+            // wait for channel to be free, chunk is dropped.
+            try {
+                await(next);
+            } catch (IOException e) {
+                // chunk not needed
+            }
+        }
+        channel.seek(position);
+        chunkStart = position;
+        current = ByteBuffer.allocate(0);
+        this.readNext();
+    }
+
+    @Override
+    public long tell() {
+        return chunkStart + current.position();
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (!current.hasRemaining()) {
+            if (next == null) {
+                return -1;
+            }
+            ByteBuffer chunk = await(next);
+            chunkStart += current.limit();
+            current = chunk;
+            if (!chunk.hasRemaining()) {
+                next = null;
+                return -1;
+            }
+            this.readNext();
+        }
+        int size = Math.min(len, current.remaining());
+        current.get(b, off, size);
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        channel.close();
+    }
+
+    private void readNext() {
+        next = chunkStart + current.limit() < length ? executor.submit(this::readChunk) : null;
+    }
+
+    private ByteBuffer readChunk() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // fill chunk
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ByteBuffer await(Future<ByteBuffer> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+}
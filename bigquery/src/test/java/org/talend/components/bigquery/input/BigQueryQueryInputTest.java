@@ -31,7 +31,7 @@ import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Base64;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 
 @Slf4j
@@ -55,8 +55,6 @@ public class BigQueryQueryInputTest {
 
     private TableResult tableResult;
 
-    private Iterator<FieldValueList> queryResult;
-
     private Schema tableSchema;
 
     @BeforeEach
@@ -88,10 +86,7 @@ public class BigQueryQueryInputTest {
 
         Mockito.when(bigQuery.query(Mockito.any(QueryJobConfiguration.class))).thenReturn(tableResult);
 
-        queryResult = Mockito.mock(Iterator.class);
-        Iterable<FieldValueList> iterable = Mockito.mock(Iterable.class);
-        Mockito.when(tableResult.iterateAll()).thenReturn(iterable);
-        Mockito.when(iterable.iterator()).thenReturn(queryResult);
+        Mockito.when(tableResult.hasNextPage()).thenReturn(false);
 
         tableSchema = Schema.of(getFields());
         Mockito.when(tableResult.getSchema()).thenReturn(tableSchema);
@@ -112,8 +107,7 @@ public class BigQueryQueryInputTest {
 
     @Test
     public void justRun() throws Exception {
-        Mockito.when(queryResult.hasNext()).thenReturn(true, false);
-        Mockito.when(queryResult.next()).thenReturn(getRecord(), null);
+        Mockito.when(tableResult.getValues()).thenReturn(Collections.singletonList(getRecord()));
 
         beanUnderTest = new BigQueryQueryInput(config, bigQueryService, i18nMessage, builderFactory);
         beanUnderTest.init();
@@ -16,6 +16,7 @@ import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -164,7 +165,7 @@ public class BigQueryTableExtractInputTest {
 
         String gsBlob = "aBlob";
         BigQueryTableExtractInput beanUnderTest = new BigQueryTableExtractInput(configuration, service, storageService, i18n,
-                builderFactory, gsBlob, getTckSchema());
+                builderFactory, Collections.singletonList(ExtractedBlob.whole(gsBlob, 42L)), getTckSchema());
         beanUnderTest.init();
 
         Record record1 = beanUnderTest.next();
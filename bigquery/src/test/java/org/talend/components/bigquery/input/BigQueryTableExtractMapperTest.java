@@ -31,8 +31,12 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -128,7 +132,11 @@ public class BigQueryTableExtractMapperTest {
         Mockito.when(blobs.iterateAll()).thenReturn(blobsIterable);
 
         Blob blob1 = Mockito.mock(Blob.class);
+        Mockito.when(blob1.getName()).thenReturn("f_1.avro");
+        Mockito.when(blob1.getSize()).thenReturn(30L);
         Blob blob2 = Mockito.mock(Blob.class);
+        Mockito.when(blob2.getName()).thenReturn("f_2.avro");
+        Mockito.when(blob2.getSize()).thenReturn(30L);
 
         Mockito.when(blobsIterator.hasNext()).thenReturn(true, true, false);
         Mockito.when(blobsIterator.next()).thenReturn(blob1, blob2);
@@ -146,4 +154,33 @@ public class BigQueryTableExtractMapperTest {
         Assertions.assertNotNull(sources);
         Assertions.assertEquals(2, sources.size());
     }
+
+    @Test
+    public void testBundle() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put("f_1.avro", 10L);
+        sizes.put("f_2.avro", 250L);
+        sizes.put("f_3.avro", 60L);
+        sizes.put("f_4.avro", 40L);
+        sizes.put("f_5.avro", 50L);
+
+        List<ArrayList<ExtractedBlob>> bundles = BigQueryTableExtractMapper.bundle(sizes, 100L);
+
+        // f_2 split in 3 ranges, then small blobs packed: [f_3, f_4], [f_5, f_1]
+        Assertions.assertEquals(5, bundles.size());
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(1, bundles.get(i).size());
+            ExtractedBlob range = bundles.get(i).get(0);
+            Assertions.assertEquals("f_2.avro", range.getName());
+            Assertions.assertEquals(250L * i / 3, range.getStart());
+            Assertions.assertEquals(250L * (i + 1) / 3, range.getEnd());
+            Assertions.assertEquals(3, range.getParts());
+            Assertions.assertFalse(range.isWhole());
+        }
+        Assertions.assertEquals(Arrays.asList("f_3.avro", "f_4.avro"),
+                bundles.get(3).stream().map(ExtractedBlob::getName).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList("f_5.avro", "f_1.avro"),
+                bundles.get(4).stream().map(ExtractedBlob::getName).collect(Collectors.toList()));
+        Assertions.assertTrue(bundles.get(4).stream().allMatch(ExtractedBlob::isWhole));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.Table;
+import com.google.cloud.bigquery.TableId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.bigquery.dataset.TableDataSet;
+import org.talend.components.bigquery.datastore.BigQueryConnection;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
+import org.talend.components.bigquery.service.BigQueryService;
+import org.talend.components.bigquery.service.I18nMessage;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.util.List;
+
+public class BigQueryTableInputMapperTest {
+
+    private BigQueryTableInputConfig configuration;
+
+    private BigQueryService service;
+
+    private I18nMessage i18n;
+
+    private RecordBuilderFactory builderFactory;
+
+    private BigQuery bigQuery;
+
+    private Table table;
+
+    @BeforeEach
+    public void reinit() {
+        BigQueryConnection connection = new BigQueryConnection();
+        connection.setProjectName("projectName");
+        connection.setJsonCredentials("");
+
+        configuration = new BigQueryTableInputConfig();
+        TableDataSet tableDataSet = new TableDataSet();
+        tableDataSet.setTableName("tableName");
+        tableDataSet.setBqDataset("bqDataset");
+        tableDataSet.setConnection(connection);
+        configuration.setTableDataset(tableDataSet);
+
+        i18n = Mockito.mock(I18nMessage.class);
+        builderFactory = new RecordBuilderFactoryImpl(null);
+        service = Mockito.mock(BigQueryService.class);
+        bigQuery = Mockito.mock(BigQuery.class);
+        Mockito.when(service.createClient(connection)).thenReturn(bigQuery);
+        table = Mockito.mock(Table.class);
+        Mockito.when(bigQuery.getTable(Mockito.any(TableId.class))).thenReturn(table);
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        Mockito.when(table.getNumBytes()).thenReturn(1000L);
+        Mockito.when(table.getNumRows()).thenReturn(BigInteger.valueOf(100L));
+
+        BigQueryTableInputMapper beanUnderTest = new BigQueryTableInputMapper(configuration, service, i18n, builderFactory);
+        beanUnderTest.init();
+        Assertions.assertEquals(1000L, beanUnderTest.estimateSize());
+
+        List<BigQueryTableInputMapper> mappers = beanUnderTest.split(300L);
+        Assertions.assertEquals(4, mappers.size());
+        for (int i = 0; i < mappers.size(); i++) {
+            Assertions.assertEquals(i * 30L, getLong(mappers.get(i), "startIndex"));
+        }
+        Assertions.assertEquals(30L, getLong(mappers.get(2), "rowCount"));
+        // last range reads until table end
+        Assertions.assertEquals(-1L, getLong(mappers.get(3), "rowCount"));
+        Assertions.assertNotNull(mappers.get(3).createSource());
+    }
+
+    @Test
+    public void testNoSplit() throws Exception {
+        Mockito.when(table.getNumBytes()).thenReturn(1000L);
+        Mockito.when(table.getNumRows()).thenReturn(BigInteger.valueOf(100L));
+
+        BigQueryTableInputMapper beanUnderTest = new BigQueryTableInputMapper(configuration, service, i18n, builderFactory);
+        beanUnderTest.init();
+
+        List<BigQueryTableInputMapper> mappers = beanUnderTest.split(2000L);
+        Assertions.assertEquals(1, mappers.size());
+        Assertions.assertEquals(0L, getLong(mappers.get(0), "startIndex"));
+        Assertions.assertEquals(-1L, getLong(mappers.get(0), "rowCount"));
+    }
+
+    @Test
+    public void testNoTable() {
+        Mockito.when(bigQuery.getTable(Mockito.any(TableId.class))).thenReturn(null);
+
+        BigQueryTableInputMapper beanUnderTest = new BigQueryTableInputMapper(configuration, service, i18n, builderFactory);
+        Assertions.assertThrows(BigQueryConnectorException.class, beanUnderTest::init);
+    }
+
+    private static long getLong(BigQueryTableInputMapper mapper, String name) throws Exception {
+        Field field = BigQueryTableInputMapper.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.getLong(mapper);
+    }
+}
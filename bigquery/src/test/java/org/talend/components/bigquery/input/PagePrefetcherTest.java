@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.input;
+
+import com.google.api.gax.paging.Page;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PagePrefetcherTest {
+
+    @Test
+    public void readAllPages() {
+        AtomicInteger fetched = new AtomicInteger();
+        try (PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(new FakePage(0, 5, 3, fetched, -1), 2, -1L)) {
+            Assertions.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14), read(prefetcher));
+        }
+        Assertions.assertEquals(5, fetched.get());
+    }
+
+    @Test
+    public void readRange() {
+        AtomicInteger fetched = new AtomicInteger();
+        try (PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(new FakePage(0, 10, 3, fetched, -1), 2, 4L)) {
+            Assertions.assertEquals(Arrays.asList(0, 1, 2, 3), read(prefetcher));
+        }
+        // stop fetching once range is read.
+        Assertions.assertEquals(2, fetched.get());
+    }
+
+    @Test
+    public void fetchError() {
+        try (PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(new FakePage(0, 5, 3, new AtomicInteger(), 2), 1, -1L)) {
+            for (int i = 0; i < 6; i++) {
+                Assertions.assertEquals(i, prefetcher.next());
+            }
+            Assertions.assertThrows(IllegalStateException.class, prefetcher::hasNext);
+            Assertions.assertFalse(prefetcher.hasNext());
+        }
+    }
+
+    @Test
+    public void closeBeforeEnd() throws InterruptedException {
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(new FakePage(0, 100, 3, new AtomicInteger(), -1), 1, -1L);
+        Assertions.assertEquals(0, prefetcher.next());
+        prefetcher.close();
+        Assertions.assertFalse(prefetcher.hasNext());
+    }
+
+    private static List<Integer> read(PagePrefetcher<Integer> prefetcher) {
+        List<Integer> values = new ArrayList<>();
+        prefetcher.forEachRemaining(values::add);
+        return values;
+    }
+
+    /**
+     * Page of consecutive integers, next page being built on demand.
+     */
+    private static class FakePage implements Page<Integer> {
+
+        private final int index;
+
+        private final int pages;
+
+        private final int size;
+
+        private final AtomicInteger fetched;
+
+        /** index of page failing on fetch, -1 for none */
+        private final int failingPage;
+
+        FakePage(int index, int pages, int size, AtomicInteger fetched, int failingPage) {
+            if (index == failingPage) {
+                throw new IllegalStateException("Page " + index + " fetch failed");
+            }
+            this.index = index;
+            this.pages = pages;
+            this.size = size;
+            this.fetched = fetched;
+            this.failingPage = failingPage;
+            fetched.incrementAndGet();
+        }
+
+        @Override
+        public boolean hasNextPage() {
+            return index + 1 < pages;
+        }
+
+        @Override
+        public String getNextPageToken() {
+            return hasNextPage() ? String.valueOf(index + 1) : null;
+        }
+
+        @Override
+        public Page<Integer> getNextPage() {
+            return hasNextPage() ? new FakePage(index + 1, pages, size, fetched, failingPage) : null;
+        }
+
+        @Override
+        public Iterable<Integer> iterateAll() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<Integer> getValues() {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                values.add(index * size + i);
+            }
+            return values;
+        }
+    }
+}
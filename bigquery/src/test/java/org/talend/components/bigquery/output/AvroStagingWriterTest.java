@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.talend.components.bigquery.avro.AvroConverter;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class AvroStagingWriterTest {
+
+    private final Map<String, ByteArrayOutputStream> files = new LinkedHashMap<>();
+
+    @Test
+    public void rollingFiles() throws IOException {
+        Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storage.create(Mockito.any(BlobInfo.class))).thenAnswer(invocation -> {
+            BlobInfo info = (BlobInfo) invocation.getArguments()[0];
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            files.put(info.getName(), content);
+            Blob blob = Mockito.mock(Blob.class);
+            Mockito.when(blob.writer()).thenReturn(new FakeWriteChannel(content));
+            return blob;
+        });
+
+        RecordBuilderFactory factory = new RecordBuilderFactoryImpl(null);
+        AvroStagingWriter writer = new AvroStagingWriter(storage, "bucket", "temp/id/table-", 1L, AvroConverter.of(factory));
+        writer.write(buildRecords(factory, 0, 10));
+        writer.write(buildRecords(factory, 10, 5));
+        writer.close();
+
+        Assertions.assertEquals("gs://bucket/temp/id/table-*.avro", writer.getSourceUri());
+        Assertions.assertEquals(2, writer.getFileCount());
+        Assertions.assertEquals(10, countRecords(files.get("temp/id/table-00000.avro")));
+        Assertions.assertEquals(5, countRecords(files.get("temp/id/table-00001.avro")));
+
+        writer.delete();
+        Mockito.verify(storage).delete(Mockito.anyListOf(com.google.cloud.storage.BlobId.class));
+    }
+
+    private int countRecords(ByteArrayOutputStream content) throws IOException {
+        int count = 0;
+        try (DataFileStream<GenericRecord> records = new DataFileStream<>(new ByteArrayInputStream(content.toByteArray()),
+                new GenericDatumReader<>())) {
+            while (records.hasNext()) {
+                GenericRecord record = records.next();
+                Assertions.assertNotNull(record.get("f1"));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Record> buildRecords(RecordBuilderFactory factory, int start, int count) {
+        return IntStream.range(start, start + count)
+                .mapToObj(i -> factory.newRecordBuilder().withString("f1", "value" + i).withInt("f2", i).build())
+                .collect(Collectors.toList());
+    }
+
+    static class FakeWriteChannel implements WriteChannel {
+
+        private final ByteArrayOutputStream content;
+
+        private boolean open = true;
+
+        FakeWriteChannel(ByteArrayOutputStream content) {
+            this.content = content;
+        }
+
+        @Override
+        public void setChunkSize(int chunkSize) {
+        }
+
+        @Override
+        public RestorableState<WriteChannel> capture() {
+            return null;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            int size = src.remaining();
+            byte[] bytes = new byte[size];
+            src.get(bytes);
+            content.write(bytes, 0, size);
+            return size;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -12,12 +12,19 @@
  */
 package org.talend.components.bigquery.output;
 
+import com.google.auth.Credentials;
 import com.google.cloud.bigquery.*;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.talend.components.bigquery.dataset.TableDataSet;
 import org.talend.components.bigquery.datastore.BigQueryConnection;
+import org.talend.components.bigquery.service.BigQueryConnectorException;
 import org.talend.components.bigquery.service.BigQueryService;
 import org.talend.components.bigquery.service.GoogleStorageService;
 import org.talend.components.bigquery.service.I18nMessage;
@@ -27,6 +34,8 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.junit5.WithComponents;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -84,16 +93,116 @@ public class BigQueryOutputTest {
         Mockito.when(table.getDefinition()).thenReturn(definition);
         Mockito.when(definition.getSchema()).thenReturn(Schema.of(getFields()));
 
-        BigQueryOutput beanUnderTest = new BigQueryOutput(configuration, service, storageService, ioRepository, i18n);
+        BigQueryOutput beanUnderTest = new BigQueryOutput(configuration, service, storageService, ioRepository, i18n,
+                new RecordBuilderFactoryImpl(null));
         beanUnderTest.init();
 
         beanUnderTest.beforeGroup();
         List<Record> records = getRecordsToStore();
         records.stream().forEach(beanUnderTest::onElement);
-        beanUnderTest.afterGroup();
+        List<Record> rejects = new ArrayList<>();
+        beanUnderTest.afterGroup(rejects::add);
+        beanUnderTest.release();
+        Assertions.assertTrue(rejects.isEmpty());
+        Mockito.verify(bigQuery).insertAll(Mockito.any(InsertAllRequest.class));
 
     }
 
+    @Test
+    public void bulkLoad() throws Exception {
+        Storage storage = mockBulkLoad();
+        Job job = mockLoadJob(null);
+
+        BigQueryOutput beanUnderTest = runBulkLoad();
+        beanUnderTest.release();
+
+        // records of all groups are loaded with one job
+        ArgumentCaptor<JobInfo> jobInfo = ArgumentCaptor.forClass(JobInfo.class);
+        Mockito.verify(bigQuery, Mockito.times(1)).create(jobInfo.capture());
+        LoadJobConfiguration loadConfiguration = jobInfo.getValue().getConfiguration();
+        Assertions.assertTrue(loadConfiguration.getSourceUris().get(0).startsWith("gs://gsBucket/temp/"));
+        Assertions.assertEquals(JobInfo.WriteDisposition.WRITE_APPEND, loadConfiguration.getWriteDisposition());
+        Mockito.verify(job).waitFor();
+        Mockito.verify(storage, Mockito.times(1)).create(Mockito.any(BlobInfo.class));
+        Mockito.verify(storage).delete(Mockito.anyListOf(com.google.cloud.storage.BlobId.class));
+        Mockito.verify(bigQuery, Mockito.never()).insertAll(Mockito.any(InsertAllRequest.class));
+    }
+
+    @Test
+    public void bulkLoadError() throws Exception {
+        Storage storage = mockBulkLoad();
+        mockLoadJob(new BigQueryError("invalid", "f1", "invalid value"));
+
+        BigQueryOutput beanUnderTest = runBulkLoad();
+        Assertions.assertThrows(BigQueryConnectorException.class, beanUnderTest::release);
+
+        // staged files are kept to run load again
+        Mockito.verify(storage, Mockito.never()).delete(Mockito.anyListOf(com.google.cloud.storage.BlobId.class));
+    }
+
+    @Test
+    public void bulkLoadIncompleteGroup() throws Exception {
+        Storage storage = mockBulkLoad();
+        mockLoadJob(null);
+
+        BigQueryOutput beanUnderTest = runBulkLoad();
+        beanUnderTest.beforeGroup();
+        getRecordsToStore().forEach(beanUnderTest::onElement);
+        // group fails before afterGroup
+        beanUnderTest.release();
+
+        Mockito.verify(bigQuery, Mockito.never()).create(Mockito.any(JobInfo.class));
+        Mockito.verify(storage, Mockito.never()).delete(Mockito.anyListOf(com.google.cloud.storage.BlobId.class));
+    }
+
+    private Storage mockBulkLoad() {
+        configuration.setBulkLoad(true);
+        Table table = Mockito.mock(Table.class);
+        Mockito.when(bigQuery.getTable(Mockito.any(TableId.class))).thenReturn(table);
+        TableDefinition definition = Mockito.mock(TableDefinition.class);
+        Mockito.when(table.getDefinition()).thenReturn(definition);
+        Mockito.when(definition.getSchema()).thenReturn(Schema.of(getFields()));
+
+        BigQueryOptions options = Mockito.mock(BigQueryOptions.class);
+        Mockito.when(bigQuery.getOptions()).thenReturn(options);
+        Credentials credentials = Mockito.mock(Credentials.class);
+        Mockito.when(options.getCredentials()).thenReturn(credentials);
+        Storage storage = Mockito.mock(Storage.class);
+        Mockito.when(storageService.getStorage(credentials)).thenReturn(storage);
+        Mockito.when(storage.create(Mockito.any(BlobInfo.class))).thenAnswer(invocation -> {
+            Blob blob = Mockito.mock(Blob.class);
+            Mockito.when(blob.writer()).thenReturn(new AvroStagingWriterTest.FakeWriteChannel(new ByteArrayOutputStream()));
+            return blob;
+        });
+        return storage;
+    }
+
+    private Job mockLoadJob(BigQueryError error) throws Exception {
+        Job job = Mockito.mock(Job.class);
+        Mockito.when(bigQuery.create(Mockito.any(JobInfo.class))).thenReturn(job);
+        Mockito.when(job.waitFor()).thenReturn(job);
+        JobStatus status = Mockito.mock(JobStatus.class);
+        Mockito.when(job.getStatus()).thenReturn(status);
+        Mockito.when(status.getError()).thenReturn(error);
+        return job;
+    }
+
+    /**
+     * Stage records of two groups.
+     */
+    private BigQueryOutput runBulkLoad() {
+        BigQueryOutput beanUnderTest = new BigQueryOutput(configuration, service, storageService, ioRepository, i18n,
+                new RecordBuilderFactoryImpl(null));
+        beanUnderTest.init();
+        for (int group = 0; group < 2; group++) {
+            beanUnderTest.beforeGroup();
+            getRecordsToStore().forEach(beanUnderTest::onElement);
+            beanUnderTest.afterGroup(r -> Assertions.fail("No reject expected"));
+        }
+        Mockito.verify(bigQuery, Mockito.never()).create(Mockito.any(JobInfo.class));
+        return beanUnderTest;
+    }
+
     private List<Record> getRecordsToStore() {
         RecordBuilderFactory rbf = new RecordBuilderFactoryImpl(null);
         return IntStream.of(10).mapToObj(i -> {
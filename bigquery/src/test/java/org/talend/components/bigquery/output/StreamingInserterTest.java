@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.output;
+
+import com.google.cloud.bigquery.BigQuery;
+import com.google.cloud.bigquery.BigQueryError;
+import com.google.cloud.bigquery.InsertAllRequest;
+import com.google.cloud.bigquery.InsertAllResponse;
+import com.google.cloud.bigquery.TableId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class StreamingInserterTest {
+
+    private final TableId tableId = TableId.of("project", "dataset", "table");
+
+    private ExecutorService executor;
+
+    private BigQuery bigQuery;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newFixedThreadPool(3);
+        bigQuery = Mockito.mock(BigQuery.class);
+    }
+
+    @AfterEach
+    public void release() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void packByRowCount() {
+        InsertAllResponse response = Mockito.mock(InsertAllResponse.class);
+        Mockito.when(bigQuery.insertAll(Mockito.any(InsertAllRequest.class))).thenReturn(response);
+
+        StreamingInserter inserter = new StreamingInserter(bigQuery, tableId, 10, 3, 2, executor);
+        List<StreamingInserter.Reject> rejects = inserter.insert(buildRows(25, 10));
+
+        Assertions.assertTrue(rejects.isEmpty());
+        ArgumentCaptor<InsertAllRequest> requests = ArgumentCaptor.forClass(InsertAllRequest.class);
+        Mockito.verify(bigQuery, Mockito.times(3)).insertAll(requests.capture());
+        List<Integer> sizes = requests.getAllValues().stream().map(r -> r.getRows().size()).sorted()
+                .collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList(5, 10, 10), sizes);
+    }
+
+    @Test
+    public void packBySize() {
+        InsertAllResponse response = Mockito.mock(InsertAllResponse.class);
+        Mockito.when(bigQuery.insertAll(Mockito.any(InsertAllRequest.class))).thenReturn(response);
+
+        // each row is about a third of max request size.
+        int valueSize = (int) (StreamingInserter.MAX_REQUEST_BYTES / 3);
+        StreamingInserter inserter = new StreamingInserter(bigQuery, tableId, 10_000, 2, 2, executor);
+        inserter.insert(buildRows(5, valueSize));
+
+        ArgumentCaptor<InsertAllRequest> requests = ArgumentCaptor.forClass(InsertAllRequest.class);
+        Mockito.verify(bigQuery, Mockito.times(3)).insertAll(requests.capture());
+        requests.getAllValues().forEach(r -> Assertions.assertTrue(r.getRows().size() <= 2));
+    }
+
+    @Test
+    public void retryFailedRows() {
+        BigQueryError invalid = new BigQueryError("invalid", "f1", "bad value");
+        BigQueryError stopped = new BigQueryError("stopped", "", "");
+        Map<Long, List<BigQueryError>> errors = new HashMap<>();
+        errors.put(1L, Collections.singletonList(invalid));
+        errors.put(2L, Collections.singletonList(stopped));
+        InsertAllResponse failure = Mockito.mock(InsertAllResponse.class);
+        Mockito.when(failure.hasErrors()).thenReturn(true);
+        Mockito.when(failure.getInsertErrors()).thenReturn(errors);
+        InsertAllResponse success = Mockito.mock(InsertAllResponse.class);
+        Mockito.when(bigQuery.insertAll(Mockito.any(InsertAllRequest.class))).thenReturn(failure, success);
+
+        StreamingInserter inserter = new StreamingInserter(bigQuery, tableId, 10, 1, 2, executor);
+        List<StreamingInserter.Reject> rejects = inserter.insert(buildRows(4, 10));
+
+        Assertions.assertEquals(1, rejects.size());
+        Assertions.assertEquals(1, rejects.get(0).getIndex());
+        Assertions.assertEquals("bad value", rejects.get(0).getMessage());
+
+        // only stopped row is sent again.
+        ArgumentCaptor<InsertAllRequest> requests = ArgumentCaptor.forClass(InsertAllRequest.class);
+        Mockito.verify(bigQuery, Mockito.times(2)).insertAll(requests.capture());
+        List<InsertAllRequest.RowToInsert> retried = requests.getAllValues().get(1).getRows();
+        Assertions.assertEquals(1, retried.size());
+        Assertions.assertEquals(2, retried.get(0).getContent().get("index"));
+
+        // retried row keeps its insert id, rows have distinct ids.
+        List<InsertAllRequest.RowToInsert> first = requests.getAllValues().get(0).getRows();
+        Assertions.assertEquals(first.get(2).getId(), retried.get(0).getId());
+        Assertions.assertEquals(4, first.stream().map(InsertAllRequest.RowToInsert::getId).distinct().count());
+    }
+
+    @Test
+    public void estimateUtf8Size() {
+        Assertions.assertEquals(3L, StreamingInserter.estimateSize("a"));
+        Assertions.assertEquals(4L, StreamingInserter.estimateSize("\u00e9"));
+        Assertions.assertEquals(5L, StreamingInserter.estimateSize("\u20ac"));
+        Assertions.assertEquals(6L, StreamingInserter.estimateSize("\ud83d\ude00"));
+        // braces, key, quotes and colon of key, value
+        Assertions.assertEquals(2L + 2L + 4L + 5L, StreamingInserter.estimateSize(Collections.singletonMap("\u00e9", "\u20ac")));
+    }
+
+    private List<Map<String, ?>> buildRows(int count, int valueSize) {
+        char[] value = new char[valueSize];
+        Arrays.fill(value, 'a');
+        return IntStream.range(0, count).mapToObj(i -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("index", i);
+            row.put("value", new String(value));
+            return row;
+        }).collect(Collectors.toList());
+    }
+}
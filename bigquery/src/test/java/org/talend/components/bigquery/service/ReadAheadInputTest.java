@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.bigquery.service;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+public class ReadAheadInputTest {
+
+    private static final Schema SCHEMA = SchemaBuilder.record("row").fields().requiredLong("id").requiredString("name")
+            .endRecord();
+
+    @Test
+    public void readChunks() throws IOException {
+        byte[] content = new byte[1000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        try (ReadAheadInput input = new ReadAheadInput(new FakeReadChannel(content), content.length, 64)) {
+            Assertions.assertEquals(1000L, input.length());
+            byte[] read = new byte[1000];
+            int total = 0;
+            int size;
+            while ((size = input.read(read, total, Math.min(100, read.length - total))) > 0) {
+                total += size;
+            }
+            Assertions.assertEquals(1000, total);
+            Assertions.assertArrayEquals(content, read);
+            Assertions.assertEquals(-1, input.read(read, 0, 10));
+
+            input.seek(500L);
+            Assertions.assertEquals(500L, input.tell());
+            Assertions.assertEquals(1, input.read(read, 0, 1));
+            Assertions.assertEquals(content[500], read[0]);
+        }
+    }
+
+    @Test
+    public void readRanges() throws IOException {
+        byte[] content = avroFile(2000L);
+        List<Long> expected = LongStream.range(0L, 2000L).boxed().collect(Collectors.toList());
+
+        Assertions.assertEquals(expected, readRange(content, 0L, content.length));
+
+        List<Long> ids = new ArrayList<>();
+        int parts = 3;
+        for (int i = 0; i < parts; i++) {
+            ids.addAll(readRange(content, (long) content.length * i / parts, (long) content.length * (i + 1) / parts));
+        }
+        Assertions.assertEquals(expected, ids);
+    }
+
+    private static List<Long> readRange(byte[] content, long start, long end) throws IOException {
+        List<Long> ids = new ArrayList<>();
+        ReadAheadInput input = new ReadAheadInput(new FakeReadChannel(content), content.length, 256);
+        try (DataFileReader<GenericRecord> reader = new DataFileReader<>(input, new GenericDatumReader<>())) {
+            if (start > 0) {
+                reader.sync(start);
+            }
+            while (reader.hasNext() && !reader.pastSync(end)) {
+                ids.add((Long) reader.next().get("id"));
+            }
+        }
+        return ids;
+    }
+
+    private static byte[] avroFile(long rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<GenericRecord>(SCHEMA))) {
+            writer.setSyncInterval(100);
+            writer.create(SCHEMA, out);
+            for (long i = 0; i < rows; i++) {
+                GenericRecord record = new GenericData.Record(SCHEMA);
+                record.put("id", i);
+                record.put("name", "name" + i);
+                writer.append(record);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static class FakeReadChannel implements ReadChannel {
+
+        private final byte[] content;
+
+        private int position = 0;
+
+        private boolean open = true;
+
+        FakeReadChannel(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public void seek(long position) {
+            this.position = (int) position;
+        }
+
+        @Override
+        public void setChunkSize(int chunkSize) {
+        }
+
+        @Override
+        public RestorableState<ReadChannel> capture() {
+            return null;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position >= content.length) {
+                return -1;
+            }
+            int size = Math.min(dst.remaining(), content.length - position);
+            dst.put(content, position, size);
+            position += size;
+            return size;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
@@ -23,4 +23,20 @@ public class AvroConfiguration implements ContentFormat {
 
     private String avroSchema;
 
+    /** compression of data blocks, when schema is attached (avro container file). */
+    private Codec codec = Codec.DEFLATE;
+
+    /** compression level for DEFLATE (1 to 9) and XZ (0 to 9) codecs. */
+    private int compressionLevel = 6;
+
+    /** approximate size in bytes of data blocks between two sync markers, when schema is attached. */
+    private int syncInterval = 64_000;
+
+    public enum Codec {
+        NONE,
+        DEFLATE,
+        SNAPPY,
+        BZIP2,
+        XZ
+    }
 }
@@ -14,6 +14,8 @@ package org.talend.components.common.stream.format.json;
 
 import org.talend.components.common.stream.format.ContentFormat;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.DefaultValue;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
@@ -22,7 +24,8 @@ import lombok.Data;
 
 @Data
 @GridLayout({ @GridLayout.Row("jsonPointer") })
-@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("forceDouble") })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("forceDouble"), @GridLayout.Row("stableSchema"),
+        @GridLayout.Row("schemaInferenceSize") })
 @Documentation("Json Configuration with json pointer rules.")
 public class JsonConfiguration implements ContentFormat {
 
@@ -35,4 +38,14 @@ public class JsonConfiguration implements ContentFormat {
     @Documentation("Force json number to double.")
     private boolean forceDouble = true;
 
+    @Option
+    @Documentation("Build all records with a stable schema, extended only by fields with a new name or type.")
+    private boolean stableSchema = false;
+
+    @Option
+    @Min(0)
+    @ActiveIf(target = "stableSchema", value = "true")
+    @Documentation("Number of first documents read to infer the schema shared by records.")
+    private int schemaInferenceSize = 100;
+
 }
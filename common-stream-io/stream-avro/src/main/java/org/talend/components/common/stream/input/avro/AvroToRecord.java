@@ -18,9 +18,12 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.avro.generic.GenericRecord;
 import org.talend.components.common.stream.AvroHelper;
@@ -44,41 +47,28 @@ public class AvroToRecord {
 
     private final RecordBuilderFactory recordBuilderFactory;
 
-    private Schema recordSchema;
+    /** compiled converters, by avro record schema instance */
+    private final Map<org.apache.avro.Schema, RecordConverter> converters = new IdentityHashMap<>();
 
     public AvroToRecord(RecordBuilderFactory recordBuilderFactory) {
         this.recordBuilderFactory = recordBuilderFactory;
     }
 
     public Schema inferSchema(GenericRecord record) {
-        Schema.Builder builder = recordBuilderFactory.newSchemaBuilder(Type.RECORD);
-        record.getSchema().getFields().stream().map(this::inferAvroField).forEach(builder::withEntry);
-        return builder.build();
+        return this.converterOf(record.getSchema()).schema;
     }
 
     public Record toRecord(GenericRecord record) {
-        if (recordSchema == null) {
-            recordSchema = inferSchema(record);
-        }
-        return avroToRecord(record, record.getSchema().getFields(), recordBuilderFactory.newRecordBuilder(recordSchema));
+        return this.converterOf(record.getSchema()).toRecord(record);
     }
 
-    private Record avroToRecord(GenericRecord genericRecord, List<org.apache.avro.Schema.Field> fields,
-            Record.Builder recordBuilder) {
-        if (recordBuilder == null) {
-            recordBuilder = recordBuilderFactory.newRecordBuilder(recordSchema);
-        }
-        for (org.apache.avro.Schema.Field field : fields) {
-            Object value = genericRecord.get(field.name());
-            Entry entry = inferAvroField(field);
-            if (org.apache.avro.Schema.Type.ARRAY.equals(field.schema().getType()) && value instanceof Collection) {
-                buildArrayField(field, (Collection<?>) value, recordBuilder, entry);
-            } else if (!entry.isNullable() || value != null) {
-                buildField(field, value, recordBuilder, entry);
-            }
-
+    private RecordConverter converterOf(org.apache.avro.Schema avroSchema) {
+        RecordConverter converter = this.converters.get(avroSchema);
+        if (converter == null) {
+            converter = new RecordConverter(avroSchema);
+            this.converters.put(avroSchema, converter);
         }
-        return recordBuilder.build();
+        return converter;
     }
 
     private Entry inferAvroField(org.apache.avro.Schema.Field field) {
@@ -91,21 +81,22 @@ public class AvroToRecord {
         switch (type) {
         case RECORD:
             builder.withType(Type.RECORD);
-            //
-            Schema.Builder subBuilder = recordBuilderFactory.newSchemaBuilder(Type.RECORD);
             org.apache.avro.Schema extractedSchema = AvroHelper.getUnionSchema(field.schema());
-            extractedSchema.getFields().stream().map(this::inferAvroField).forEach(subBuilder::withEntry);
-            builder.withElementSchema(subBuilder.build());
+            builder.withElementSchema(this.converterOf(extractedSchema).schema);
             break;
         case ENUM:
+            builder.withType(Type.STRING);
+            break;
         case ARRAY:
             builder.withType(Type.ARRAY);
             extractedSchema = AvroHelper.getUnionSchema(AvroHelper.getUnionSchema(field.schema()).getElementType());
             Type toType = translateToRecordType((extractedSchema.getType()));
-            subBuilder = recordBuilderFactory.newSchemaBuilder(toType);
             switch (toType) {
             case RECORD:
+                builder.withElementSchema(this.converterOf(extractedSchema).schema);
+                break;
             case ARRAY:
+                Schema.Builder subBuilder = recordBuilderFactory.newSchemaBuilder(toType);
                 extractedSchema.getFields().stream().map(this::inferAvroField).forEach(subBuilder::withEntry);
                 builder.withElementSchema(subBuilder.build());
                 break;
@@ -117,7 +108,7 @@ public class AvroToRecord {
             case DOUBLE:
             case BOOLEAN:
             case DATETIME:
-                builder.withElementSchema(subBuilder.build());
+                builder.withElementSchema(recordBuilderFactory.newSchemaBuilder(toType).build());
                 break;
             }
             break;
@@ -140,92 +131,73 @@ public class AvroToRecord {
         return builder.build();
     }
 
-    private void buildArrayField(org.apache.avro.Schema.Field field, Collection<?> value, Record.Builder recordBuilder,
-            Entry entry) {
-        final org.apache.avro.Schema arraySchema = AvroHelper.getUnionSchema(field.schema());
-        final org.apache.avro.Schema arrayInnerType = arraySchema.getElementType();
-
-        final Collection<?> objectArray;
-        switch (arrayInnerType.getType()) {
+    /**
+     * Build the writer of a field value, depending on field avro type.
+     */
+    private ValueWriter fieldWriter(org.apache.avro.Schema.Field field) {
+        final String logicalType = field.schema().getProp(AVRO_LOGICAL_TYPE);
+        final org.apache.avro.Schema.Type fieldType = AvroHelper.getFieldType(field);
+        switch (fieldType) {
         case RECORD:
-            objectArray = ((Collection<GenericRecord>) value).stream()
-                    .map(record -> avroToRecord(record, arrayInnerType.getFields(), recordBuilderFactory.newRecordBuilder()))
-                    .collect(Collectors.toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withRecord(entry,
+                    this.toRecord((GenericRecord) value));
+        case ARRAY:
+            final Function<Collection<?>, Collection<?>> toArray = this.arrayConverter(field);
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withArray(entry,
+                    toArray.apply((Collection<?>) value));
+        case ENUM:
         case STRING:
-            objectArray = value.stream().map(Object::toString).collect(Collectors.toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withString(entry, value.toString());
         case BYTES:
-            objectArray = ((Collection<ByteBuffer>) value).stream().map(ByteBuffer::array).collect(toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withBytes(entry, ((ByteBuffer) value).array());
         case INT:
-            objectArray = ((Collection<Integer>) value).stream().collect(toList());
-            break;
+            if (AVRO_LOGICAL_TYPE_DATE.equals(logicalType) || AVRO_LOGICAL_TYPE_TIME_MILLIS.equals(logicalType)) {
+                return (Record.Builder builder, Entry entry, Object value) -> builder.withDateTime(entry,
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli((Integer) value), ZoneOffset.UTC));
+            }
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withInt(entry, (Integer) value);
         case FLOAT:
-            objectArray = ((Collection<Float>) value).stream().collect(toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withFloat(entry, (Float) value);
         case DOUBLE:
-            objectArray = ((Collection<Double>) value).stream().collect(toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withDouble(entry, (Double) value);
         case BOOLEAN:
-            objectArray = ((Collection<Boolean>) value).stream().collect(toList());
-            break;
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withBoolean(entry, (Boolean) value);
         case LONG:
-            objectArray = ((Collection<Long>) value).stream().collect(toList());
-            break;
+            if (AVRO_LOGICAL_TYPE_TIMESTAMP_MILLIS.equals(logicalType)) {
+                return (Record.Builder builder, Entry entry, Object value) -> builder.withDateTime(entry,
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli((Long) value), ZoneOffset.UTC));
+            }
+            return (Record.Builder builder, Entry entry, Object value) -> builder.withLong(entry, (Long) value);
         default:
-            throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, entry.getType().name()));
+            return (Record.Builder builder, Entry entry, Object value) -> {
+                throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, entry.getType().name()));
+            };
         }
-        recordBuilder.withArray(entry, objectArray);
     }
 
-    protected void buildField(org.apache.avro.Schema.Field field, Object value, Record.Builder recordBuilder, Entry entry) {
-        String logicalType = field.schema().getProp(AVRO_LOGICAL_TYPE);
-        org.apache.avro.Schema.Type fieldType = AvroHelper.getFieldType(field);
-        switch (fieldType) {
+    private Function<Collection<?>, Collection<?>> arrayConverter(org.apache.avro.Schema.Field field) {
+        final org.apache.avro.Schema arraySchema = AvroHelper.getUnionSchema(field.schema());
+        final org.apache.avro.Schema arrayInnerType = arraySchema.getElementType();
+
+        switch (arrayInnerType.getType()) {
         case RECORD:
-            recordBuilder.withRecord(entry, avroToRecord((GenericRecord) value, ((GenericRecord) value).getSchema().getFields(),
-                    recordBuilderFactory.newRecordBuilder()));
-            break;
-        case ARRAY:
-            if (value instanceof Collection<?>) {
-                buildArrayField(field, (Collection<?>) value, recordBuilder, entry);
-            }
-            break;
+            return (Collection<?> values) -> values.stream().map((Object record) -> this.toRecord((GenericRecord) record))
+                    .collect(toList());
         case STRING:
-            recordBuilder.withString(entry, value != null ? value.toString() : null);
-            break;
+            return (Collection<?> values) -> values.stream().map(Object::toString).collect(toList());
         case BYTES:
-            byte[] bytes = value != null ? ((java.nio.ByteBuffer) value).array() : null;
-            recordBuilder.withBytes(entry, bytes);
-            break;
+            return (Collection<?> values) -> values.stream().map((Object bytes) -> ((ByteBuffer) bytes).array())
+                    .collect(toList());
         case INT:
-            int ivalue = value != null ? (Integer) value : 0;
-            if (AVRO_LOGICAL_TYPE_DATE.equals(logicalType) || AVRO_LOGICAL_TYPE_TIME_MILLIS.equals(logicalType)) {
-                recordBuilder.withDateTime(entry, ZonedDateTime.ofInstant(Instant.ofEpochMilli(ivalue), ZoneOffset.UTC));
-            } else {
-                recordBuilder.withInt(entry, ivalue);
-            }
-            break;
         case FLOAT:
-            recordBuilder.withFloat(entry, value != null ? (Float) value : 0);
-            break;
         case DOUBLE:
-            recordBuilder.withDouble(entry, value != null ? (Double) value : 0);
-            break;
         case BOOLEAN:
-            recordBuilder.withBoolean(entry, value != null ? (Boolean) value : Boolean.FALSE);
-            break;
         case LONG:
-            long lvalue = value != null ? (Long) value : 0;
-            if (AVRO_LOGICAL_TYPE_TIMESTAMP_MILLIS.equals(logicalType)) {
-                recordBuilder.withDateTime(entry, ZonedDateTime.ofInstant(Instant.ofEpochMilli(lvalue), ZoneOffset.UTC));
-            } else {
-                recordBuilder.withLong(entry, lvalue);
-            }
-            break;
+            return ArrayList::new;
         default:
-            throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, entry.getType().name()));
+            return (Collection<?> values) -> {
+                throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, Type.ARRAY.name()));
+            };
         }
     }
 
@@ -253,4 +225,58 @@ public class AvroToRecord {
             throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, type.name()));
         }
     }
+
+    @FunctionalInterface
+    private interface ValueWriter {
+
+        void write(Record.Builder builder, Entry entry, Object value);
+    }
+
+    /**
+     * Conversion of an avro record schema, computed once : record schema and one writer per field.
+     */
+    private class RecordConverter {
+
+        private final Schema schema;
+
+        private final int[] positions;
+
+        private final Entry[] entries;
+
+        private final ValueWriter[] writers;
+
+        /** array fields are written only for collection values */
+        private final boolean[] arrays;
+
+        RecordConverter(org.apache.avro.Schema avroSchema) {
+            final List<org.apache.avro.Schema.Field> fields = avroSchema.getFields();
+            final int size = fields.size();
+            this.positions = new int[size];
+            this.entries = new Entry[size];
+            this.writers = new ValueWriter[size];
+            this.arrays = new boolean[size];
+
+            final Schema.Builder builder = recordBuilderFactory.newSchemaBuilder(Type.RECORD);
+            for (int i = 0; i < size; i++) {
+                final org.apache.avro.Schema.Field field = fields.get(i);
+                this.positions[i] = field.pos();
+                this.entries[i] = inferAvroField(field);
+                this.writers[i] = fieldWriter(field);
+                this.arrays[i] = AvroHelper.getFieldType(field) == org.apache.avro.Schema.Type.ARRAY;
+                builder.withEntry(this.entries[i]);
+            }
+            this.schema = builder.build();
+        }
+
+        Record toRecord(GenericRecord genericRecord) {
+            final Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(this.schema);
+            for (int i = 0; i < this.entries.length; i++) {
+                final Object value = genericRecord.get(this.positions[i]);
+                if (this.arrays[i] ? value instanceof Collection : value != null) {
+                    this.writers[i].write(recordBuilder, this.entries[i], value);
+                }
+            }
+            return recordBuilder.build();
+        }
+    }
 }
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 
 import org.apache.avro.Schema;
+import org.apache.avro.file.CodecFactory;
 import org.apache.avro.file.DataFileWriter;
 import org.apache.avro.generic.GenericDatumWriter;
 import org.apache.avro.generic.GenericRecord;
@@ -37,7 +38,7 @@ public abstract class AvroOutput implements AutoCloseable {
 
     public static AvroOutput buildOutput(final AvroConfiguration avroConfig, final TargetFinder destinationFinder) {
         if (avroConfig.isAttachSchema()) {
-            return new WithHead(destinationFinder);
+            return new WithHead(destinationFinder, AvroOutput.codec(avroConfig), avroConfig.getSyncInterval());
         } else {
             final Schema schema = avroConfig.getAvroSchema() != null ? new Schema.Parser().parse(avroConfig.getAvroSchema())
                     : null;
@@ -45,6 +46,24 @@ public abstract class AvroOutput implements AutoCloseable {
         }
     }
 
+    static CodecFactory codec(final AvroConfiguration avroConfig) {
+        if (avroConfig.getCodec() == null) {
+            return CodecFactory.nullCodec();
+        }
+        switch (avroConfig.getCodec()) {
+        case DEFLATE:
+            return CodecFactory.deflateCodec(avroConfig.getCompressionLevel());
+        case SNAPPY:
+            return CodecFactory.snappyCodec();
+        case BZIP2:
+            return CodecFactory.bzip2Codec();
+        case XZ:
+            return CodecFactory.xzCodec(avroConfig.getCompressionLevel());
+        default:
+            return CodecFactory.nullCodec();
+        }
+    }
+
     public AvroOutput(final TargetFinder destination) {
         this.destination = destination;
     }
@@ -74,10 +93,10 @@ public abstract class AvroOutput implements AutoCloseable {
 
         private final DataFileWriter<GenericRecord> dataFileWriter;
 
-        public WithHead(final TargetFinder destination) {
+        public WithHead(final TargetFinder destination, final CodecFactory codec, final int syncInterval) {
             super(destination);
             final DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>();
-            this.dataFileWriter = new DataFileWriter<>(datumWriter);
+            this.dataFileWriter = new DataFileWriter<>(datumWriter).setCodec(codec).setSyncInterval(syncInterval);
         }
 
         @Override
@@ -16,9 +16,12 @@ import java.nio.ByteBuffer;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -47,10 +50,22 @@ public class RecordToAvro implements RecordConverter<GenericRecord, org.apache.a
 
     private static final String RECORD_NAME = "talend_";
 
+    /** over this size, schema instance caches are reset */
+    private static final int MAX_CACHED_SCHEMAS = 256;
+
     private org.apache.avro.Schema avroSchema;
 
     private final String currentRecordNamespace;
 
+    /** converters of first level records (to avroSchema), by record schema instance */
+    private final Map<Schema, SchemaConverter> converters = new IdentityHashMap<>();
+
+    /** converters of sub-records (to their own avro schema), by record schema instance */
+    private final Map<Schema, SchemaConverter> subConverters = new IdentityHashMap<>();
+
+    /** avro schema of equivalent record schema (for different instances of same schema) */
+    private final Map<Schema, org.apache.avro.Schema> avroSchemas = new HashMap<>();
+
     public RecordToAvro(String currentRecordNamespace) {
         assert currentRecordNamespace != null : "currentRecordNamespace can't be null";
         this.currentRecordNamespace = currentRecordNamespace;
@@ -61,96 +76,105 @@ public class RecordToAvro implements RecordConverter<GenericRecord, org.apache.a
         if (avroSchema == null) {
             avroSchema = fromRecordSchema(record.getSchema());
         }
-        return recordToAvro(record, new GenericData.Record(avroSchema));
+        SchemaConverter converter = this.converters.get(record.getSchema());
+        if (converter == null) {
+            converter = new SchemaConverter(record.getSchema(), this.avroSchema);
+            this.cache(this.converters, record.getSchema(), converter);
+        }
+        return converter.convert(record);
     }
 
-    private GenericRecord recordToAvro(Record fromRecord, GenericRecord toRecord) {
-        if (fromRecord == null) {
-            return toRecord;
+    private GenericRecord subRecordToAvro(Record record) {
+        SchemaConverter converter = this.subConverters.get(record.getSchema());
+        if (converter == null) {
+            final org.apache.avro.Schema subSchema = this.avroSchemas.computeIfAbsent(record.getSchema(),
+                    this::fromRecordSchema);
+            converter = new SchemaConverter(record.getSchema(), subSchema);
+            this.cache(this.subConverters, record.getSchema(), converter);
         }
-        for (org.apache.avro.Schema.Field f : toRecord.getSchema().getFields()) {
-            final String name = f.name();
-            final org.apache.avro.Schema.Type fieldType = AvroHelper.getFieldType(f);
-            switch (fieldType) {
-            case RECORD:
+        return converter.convert(record);
+    }
+
+    private void cache(Map<Schema, SchemaConverter> cache, Schema schema, SchemaConverter converter) {
+        if (cache.size() >= MAX_CACHED_SCHEMAS) {
+            // records with new schema instance each time.
+            cache.clear();
+            this.avroSchemas.clear();
+        }
+        cache.put(schema, converter);
+    }
+
+    /**
+     * Build the writer of a field, depending on avro field type.
+     *
+     * @param field : avro field.
+     * @param entry : record entry for this field (may be null).
+     * @return writer.
+     */
+    private FieldWriter fieldWriter(org.apache.avro.Schema.Field field, Entry entry) {
+        final String name = field.name();
+        final int pos = field.pos();
+        final org.apache.avro.Schema.Type fieldType = AvroHelper.getFieldType(field);
+        switch (fieldType) {
+        case RECORD:
+            return (Record fromRecord, GenericRecord toRecord) -> {
                 final Record record = fromRecord.getRecord(name);
-                final Schema schema = fromRecord.getSchema().getEntries().stream().filter(e -> name.equals(e.getName()))
-                        .findFirst().map(Entry::getElementSchema).orElse(null);
                 if (record != null) {
-                    final org.apache.avro.Schema subSchema = fromRecordSchema(record.getSchema());
-                    final GenericRecord subrecord = recordToAvro(record, new GenericData.Record(subSchema));
-                    toRecord.put(name, subrecord);
+                    toRecord.put(pos, this.subRecordToAvro(record));
                 }
-                break;
-            case ARRAY:
-                final Entry e = getSchemaForEntry(name, fromRecord.getSchema());
-                final Collection<Object> recordArray = fromRecord.getOptionalArray(Object.class, name).orElse(new ArrayList<>());
+            };
+        case ARRAY:
+            final Class<?> elementClass = entry != null && entry.getElementSchema() != null
+                    ? getJavaClassForType(entry.getElementSchema().getType())
+                    : Object.class;
+            return (Record fromRecord, GenericRecord toRecord) -> {
+                final Collection<Object> recordArray = fromRecord.getOptionalArray(Object.class, name)
+                        .orElse(Collections.emptyList());
                 if (!recordArray.isEmpty()) {
                     final Object firstArrayValue = recordArray.iterator().next();
                     if (firstArrayValue instanceof Record) {
-                        final org.apache.avro.Schema subSchema = fromRecordSchema(((Record) firstArrayValue).getSchema());
-                        final List<GenericRecord> records = recordArray.stream()
-                                .map(o -> recordToAvro((Record) o, new GenericData.Record(subSchema)))
-                                .collect(Collectors.toList());
-                        toRecord.put(name, records);
+                        final List<GenericRecord> records = new ArrayList<>(recordArray.size());
+                        for (Object value : recordArray) {
+                            records.add(this.subRecordToAvro((Record) value));
+                        }
+                        toRecord.put(pos, records);
                     } else {
-                        toRecord.put(name, fromRecord.getArray(getJavaClassForType(e.getElementSchema().getType()), name));
+                        toRecord.put(pos, fromRecord.getArray(elementClass, name));
                     }
                 }
-                break;
-            case STRING:
-                toRecord.put(name, fromRecord.getOptionalString(name).orElse(null));
-                break;
-            case BYTES:
-                final Optional<byte[]> optionalBytesValue = fromRecord.getOptionalBytes(name);
-                if (optionalBytesValue.isPresent()) {
-                    ByteBuffer byteBuffer = ByteBuffer.wrap(fromRecord.getBytes(name));
-                    toRecord.put(name, byteBuffer);
-                } else {
-                    toRecord.put(name, null);
-                }
-                break;
-            case INT:
-                OptionalInt optionalIntValue = fromRecord.getOptionalInt(name);
-                if (optionalIntValue.isPresent()) {
-                    toRecord.put(name, optionalIntValue.getAsInt());
-                } else {
-                    toRecord.put(name, null);
-                }
-                break;
-            case LONG:
-                OptionalLong optionalLongValue = fromRecord.getOptionalLong(name);
-                if (optionalLongValue.isPresent()) {
-                    toRecord.put(name, optionalLongValue.getAsLong());
-                } else {
-                    toRecord.put(name, null);
-                }
-                break;
-            case FLOAT:
-                OptionalDouble optionalFloat = fromRecord.getOptionalFloat(name);
-                if (optionalFloat.isPresent()) {
-                    toRecord.put(name, Double.valueOf(optionalFloat.getAsDouble()).floatValue());
-                } else {
-                    toRecord.put(name, null);
-                }
-                break;
-            case DOUBLE:
-                OptionalDouble optionalDouble = fromRecord.getOptionalDouble(name);
-                if (optionalDouble.isPresent()) {
-                    toRecord.put(name, optionalDouble.getAsDouble());
-                } else {
-                    toRecord.put(name, null);
-                }
-                break;
-            case BOOLEAN:
-                toRecord.put(name, fromRecord.getOptionalBoolean(name).orElse(null));
-                break;
-            default:
-                throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, fieldType.name()));
-            }
+            };
+        case STRING:
+            return (Record fromRecord, GenericRecord toRecord) -> toRecord.put(pos,
+                    fromRecord.getOptionalString(name).orElse(null));
+        case BYTES:
+            return (Record fromRecord, GenericRecord toRecord) -> toRecord.put(pos,
+                    fromRecord.getOptionalBytes(name).map(ByteBuffer::wrap).orElse(null));
+        case INT:
+            return (Record fromRecord, GenericRecord toRecord) -> {
+                final OptionalInt optionalIntValue = fromRecord.getOptionalInt(name);
+                toRecord.put(pos, optionalIntValue.isPresent() ? optionalIntValue.getAsInt() : null);
+            };
+        case LONG:
+            return (Record fromRecord, GenericRecord toRecord) -> {
+                final OptionalLong optionalLongValue = fromRecord.getOptionalLong(name);
+                toRecord.put(pos, optionalLongValue.isPresent() ? optionalLongValue.getAsLong() : null);
+            };
+        case FLOAT:
+            return (Record fromRecord, GenericRecord toRecord) -> {
+                final OptionalDouble optionalFloat = fromRecord.getOptionalFloat(name);
+                toRecord.put(pos, optionalFloat.isPresent() ? (float) optionalFloat.getAsDouble() : null);
+            };
+        case DOUBLE:
+            return (Record fromRecord, GenericRecord toRecord) -> {
+                final OptionalDouble optionalDouble = fromRecord.getOptionalDouble(name);
+                toRecord.put(pos, optionalDouble.isPresent() ? optionalDouble.getAsDouble() : null);
+            };
+        case BOOLEAN:
+            return (Record fromRecord, GenericRecord toRecord) -> toRecord.put(pos,
+                    fromRecord.getOptionalBoolean(name).orElse(null));
+        default:
+            throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, fieldType.name()));
         }
-
-        return toRecord;
     }
 
     /**
@@ -243,15 +267,6 @@ public class RecordToAvro implements RecordConverter<GenericRecord, org.apache.a
         throw new IllegalStateException(String.format(ERROR_UNDEFINED_TYPE, type.name()));
     }
 
-    private Entry getSchemaForEntry(String name, Schema schema) {
-        for (Entry e : schema.getEntries()) {
-            if (name.equals(e.getName())) {
-                return e;
-            }
-        }
-        return null;
-    }
-
     private Class<?> getJavaClassForType(Schema.Type type) {
         switch (type) {
         case RECORD:
@@ -277,4 +292,41 @@ public class RecordToAvro implements RecordConverter<GenericRecord, org.apache.a
         }
         return Object.class;
     }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+
+        void write(Record fromRecord, GenericRecord toRecord);
+    }
+
+    /**
+     * Conversion from records of a schema to an avro schema, computed once.
+     */
+    private class SchemaConverter {
+
+        private final org.apache.avro.Schema avroSchema;
+
+        private final FieldWriter[] writers;
+
+        SchemaConverter(Schema recordSchema, org.apache.avro.Schema avroSchema) {
+            this.avroSchema = avroSchema;
+            final Map<String, Entry> entries = new HashMap<>();
+            recordSchema.getEntries().forEach((Entry e) -> entries.put(e.getName(), e));
+
+            final List<org.apache.avro.Schema.Field> fields = avroSchema.getFields();
+            this.writers = new FieldWriter[fields.size()];
+            for (int i = 0; i < this.writers.length; i++) {
+                final org.apache.avro.Schema.Field field = fields.get(i);
+                this.writers[i] = fieldWriter(field, entries.get(field.name()));
+            }
+        }
+
+        GenericRecord convert(Record fromRecord) {
+            final GenericRecord toRecord = new GenericData.Record(this.avroSchema);
+            for (FieldWriter writer : this.writers) {
+                writer.write(fromRecord, toRecord);
+            }
+            return toRecord;
+        }
+    }
 }
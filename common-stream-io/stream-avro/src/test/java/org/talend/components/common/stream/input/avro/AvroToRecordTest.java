@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.apache.avro.SchemaBuilder;
@@ -102,4 +103,38 @@ class AvroToRecordTest {
         assertEquals("Hello", record1.getString("f2"));
     }
 
-}
\ No newline at end of file
+    @Test
+    void toRecordReuseSchema() {
+        final org.apache.avro.Schema itemSchema = SchemaBuilder.builder().record("item").fields() //
+                .name("id").type().intType().noDefault() //
+                .name("label").type().nullable().stringType().noDefault().endRecord();
+        final org.apache.avro.Schema schema = SchemaBuilder.builder().record("order").fields() //
+                .name("items").type().array().items(itemSchema).noDefault() //
+                .name("status").type().enumeration("status").symbols("OPEN", "CLOSED").noDefault().endRecord();
+
+        AvroToRecord toRecord = new AvroToRecord(recordBuilderFactory);
+        Record first = null;
+        for (int i = 0; i < 3; i++) {
+            final GenericRecord item = new GenericData.Record(itemSchema);
+            item.put("id", i);
+            item.put("label", i % 2 == 0 ? "label" + i : null);
+            final GenericRecord order = new GenericData.Record(schema);
+            order.put("items", Arrays.asList(item, item));
+            order.put("status", new GenericData.EnumSymbol(schema.getField("status").schema(), "OPEN"));
+
+            final Record record = toRecord.toRecord(order);
+            if (first == null) {
+                first = record;
+            }
+            assertEquals(first.getSchema(), record.getSchema());
+            assertEquals("OPEN", record.getString("status"));
+
+            final List<Record> items = (List<Record>) record.getArray(Record.class, "items");
+            assertEquals(2, items.size());
+            assertEquals(i, items.get(0).getInt("id"));
+            assertEquals(i % 2 == 0 ? "label" + i : null, items.get(0).getString("label"));
+            assertEquals(first.getSchema().getEntries().get(0).getElementSchema(), items.get(0).getSchema());
+        }
+    }
+
+}
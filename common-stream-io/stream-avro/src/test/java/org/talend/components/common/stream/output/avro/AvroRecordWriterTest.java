@@ -12,6 +12,7 @@
  */
 package org.talend.components.common.stream.output.avro;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -21,11 +22,18 @@ import java.util.Arrays;
 
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileConstants;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.talend.components.common.stream.api.output.RecordWriter;
 import org.talend.components.common.stream.api.output.RecordWriterSupplier;
 import org.talend.components.common.stream.format.avro.AvroConfiguration;
+import org.talend.components.common.stream.format.avro.AvroConfiguration.Codec;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema.Entry;
 import org.talend.sdk.component.api.record.Schema.Type;
@@ -57,6 +65,35 @@ class AvroRecordWriterTest {
         }
     }
 
+    @ParameterizedTest
+    @EnumSource(Codec.class)
+    void addWithCodec(final Codec codec) throws IOException {
+        final AvroConfiguration cfg = new AvroConfiguration();
+        cfg.setCodec(codec);
+        cfg.setSyncInterval(1024);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (RecordWriter writer = new AvroWriterSupplier().getWriter(() -> out, cfg)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.add(factory.newRecordBuilder().withInt("ID", i).withString("content", "Hello " + i).build());
+            }
+        }
+
+        int count = 0;
+        try (DataFileStream<GenericRecord> reader = new DataFileStream<>(new ByteArrayInputStream(out.toByteArray()),
+                new GenericDatumReader<>())) {
+            final String expectedCodec = codec == Codec.NONE ? DataFileConstants.NULL_CODEC : codec.name().toLowerCase();
+            Assertions.assertEquals(expectedCodec, reader.getMetaString(DataFileConstants.CODEC));
+            while (reader.hasNext()) {
+                final GenericRecord record = reader.next();
+                Assertions.assertEquals(count, record.get("ID"));
+                Assertions.assertEquals("Hello " + count, record.get("content").toString());
+                count++;
+            }
+        }
+        Assertions.assertEquals(1000, count);
+    }
+
     @Test
     void addHeadLess() throws IOException {
         final ByteArrayOutputStream out = new ByteArrayOutputStream();
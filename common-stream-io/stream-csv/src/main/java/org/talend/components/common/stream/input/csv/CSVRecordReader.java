@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.LineConfiguration;
+import org.talend.components.common.stream.format.csv.CSVConfiguration;
+import org.talend.components.common.stream.input.line.schema.SchemaBuilder;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.record.Schema.Entry;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+/**
+ * Read CSV content to records with one parser for whole stream
+ * (so quoted values can contain record separator).
+ */
+public class CSVRecordReader implements RecordReader {
+
+    /** record factory */
+    private final RecordBuilderFactory factory;
+
+    private final CSVConfiguration configuration;
+
+    private final SchemaBuilder schemaBuilder = new SchemaBuilder();
+
+    /** current parser */
+    private CSVStreamParser parser = null;
+
+    public CSVRecordReader(RecordBuilderFactory factory, CSVConfiguration configuration) {
+        this.factory = factory;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Iterator<Record> read(InputStream reader) {
+        this.close();
+        final LineConfiguration lineConfig = this.configuration.getLineConfiguration();
+        final Charset charset = Charset.forName(lineConfig.getEncoding().getEncoding());
+        this.parser = new CSVStreamParser(new InputStreamReader(reader, charset), this.configuration.findFieldSeparator(),
+                this.configuration.getQuotedValue(), this.configuration.getEscape(), lineConfig.getLineSeparator());
+
+        this.treatHeader(this.parser, lineConfig.calcHeader());
+        return new RecordIterator(this.parser);
+    }
+
+    @Override
+    public void close() {
+        if (this.parser != null) {
+            this.parser.close();
+            this.parser = null;
+        }
+    }
+
+    private void treatHeader(CSVStreamParser csvParser, int headerLines) {
+        if (headerLines <= 0) {
+            return;
+        }
+        // skip un-usefull lines
+        for (int i = 1; i < headerLines; i++) {
+            if (nextRecord(csvParser) == null) {
+                return;
+            }
+        }
+        final List<String> headers = nextRecord(csvParser);
+        if (headers != null) {
+            this.schemaBuilder.get(this.factory, headers, true);
+        }
+    }
+
+    /**
+     * Next non empty record; empty lines are skipped as with line reader.
+     *
+     * @param csvParser : parser.
+     * @return values of next record, null at end of stream.
+     */
+    private static List<String> nextRecord(CSVStreamParser csvParser) {
+        List<String> fields = csvParser.nextRecord();
+        while (fields != null && fields.isEmpty()) {
+            fields = csvParser.nextRecord();
+        }
+        return fields;
+    }
+
+    private Record toRecord(List<String> fields) {
+        final Schema schema = this.schemaBuilder.get(this.factory, fields, false);
+        final Record.Builder recordBuilder = this.factory.newRecordBuilder(schema);
+
+        final List<Entry> entries = schema.getEntries();
+        final int size = Math.min(fields.size(), entries.size());
+        for (int i = 0; i < size; i++) {
+            recordBuilder.withString(entries.get(i), fields.get(i));
+        }
+        return recordBuilder.build();
+    }
+
+    private class RecordIterator implements Iterator<Record> {
+
+        private final CSVStreamParser csvParser;
+
+        private Record next = null;
+
+        RecordIterator(CSVStreamParser csvParser) {
+            this.csvParser = csvParser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                final List<String> fields = CSVRecordReader.nextRecord(this.csvParser);
+                if (fields != null) {
+                    this.next = CSVRecordReader.this.toRecord(fields);
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Record current = this.next;
+            this.next = null;
+            return current;
+        }
+    }
+}
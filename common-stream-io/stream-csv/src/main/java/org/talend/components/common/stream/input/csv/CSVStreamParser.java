@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Continuous CSV parser over a reader.
+ * Quoted values can contain field and record separators; field buffers are reused from one record to the next.
+ */
+class CSVStreamParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int NONE = -1;
+
+    private final Reader reader;
+
+    private final char delimiter;
+
+    /** quote char or NONE */
+    private final int quote;
+
+    /** escape char or NONE */
+    private final int escape;
+
+    private final char[] recordSeparator;
+
+    /** with LF record separator, a CR right before LF belongs to separator (as for commons-csv) */
+    private final boolean crBeforeLf;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position = 0;
+
+    private int limit = 0;
+
+    private boolean endOfStream = false;
+
+    /** current field value */
+    private final StringBuilder field = new StringBuilder();
+
+    /** current record values, reused */
+    private final List<String> fields = new ArrayList<>();
+
+    CSVStreamParser(Reader reader, char delimiter, Character quote, Character escape, String recordSeparator) {
+        if (recordSeparator == null || recordSeparator.isEmpty()) {
+            throw new IllegalArgumentException("Line separator can't be empty");
+        }
+        this.reader = reader;
+        this.delimiter = delimiter;
+        this.quote = quote == null ? NONE : quote;
+        this.escape = escape == null ? NONE : escape;
+        this.recordSeparator = recordSeparator.toCharArray();
+        this.crBeforeLf = "\n".equals(recordSeparator);
+    }
+
+    /**
+     * Parse next record.
+     * Returned list is reused by next call.
+     *
+     * @return values of next record, null at end of stream.
+     */
+    public List<String> nextRecord() {
+        this.fields.clear();
+        if (!this.ensure(1)) {
+            return null;
+        }
+        final int separatorLength = this.recordSeparatorLength();
+        if (separatorLength > 0) {
+            // empty line.
+            this.position += separatorLength;
+            return this.fields;
+        }
+        boolean endOfRecord = false;
+        while (!endOfRecord) {
+            endOfRecord = this.parseField();
+            this.fields.add(this.field.toString());
+            this.field.setLength(0);
+        }
+        return this.fields;
+    }
+
+    /**
+     * Parse a field value into field buffer.
+     *
+     * @return true if field ends the record.
+     */
+    private boolean parseField() {
+        boolean quoted = false;
+        if (this.ensure(1) && this.buffer[this.position] == this.quote) {
+            quoted = true;
+            this.position++;
+        }
+        while (this.ensure(1)) {
+            final int start = this.position;
+            if (quoted) {
+                while (this.position < this.limit && this.buffer[this.position] != this.quote
+                        && this.buffer[this.position] != this.escape) {
+                    this.position++;
+                }
+            } else {
+                while (this.position < this.limit && this.buffer[this.position] != this.delimiter
+                        && this.buffer[this.position] != this.recordSeparator[0] && this.buffer[this.position] != this.escape
+                        && !(this.crBeforeLf && this.buffer[this.position] == '\r')) {
+                    this.position++;
+                }
+            }
+            this.field.append(this.buffer, start, this.position - start);
+            if (this.position >= this.limit) {
+                continue;
+            }
+
+            final char current = this.buffer[this.position];
+            if (quoted && current == this.quote) {
+                this.position++;
+                if (this.ensure(1) && this.buffer[this.position] == this.quote) {
+                    // doubled quote
+                    this.field.append(current);
+                    this.position++;
+                } else {
+                    quoted = false;
+                }
+            } else if (current == this.escape) {
+                this.readEscape();
+            } else if (current == this.delimiter) {
+                this.position++;
+                return false;
+            } else {
+                final int separatorLength = this.recordSeparatorLength();
+                if (separatorLength > 0) {
+                    this.position += separatorLength;
+                    return true;
+                }
+                // start of record separator only.
+                this.field.append(current);
+                this.position++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same translation as commons-csv for escaped chars.
+     */
+    private void readEscape() {
+        final char escapeChar = this.buffer[this.position];
+        this.position++;
+        if (!this.ensure(1)) {
+            this.field.append(escapeChar);
+            return;
+        }
+        final char escaped = this.buffer[this.position];
+        this.position++;
+        switch (escaped) {
+        case 'r':
+            this.field.append('\r');
+            break;
+        case 'n':
+            this.field.append('\n');
+            break;
+        case 't':
+            this.field.append('\t');
+            break;
+        case 'b':
+            this.field.append('\b');
+            break;
+        case 'f':
+            this.field.append('\f');
+            break;
+        case '\r':
+        case '\n':
+        case '\t':
+        case '\b':
+        case '\f':
+            this.field.append(escaped);
+            break;
+        default:
+            if (escaped == this.delimiter || escaped == this.quote || escaped == this.escape) {
+                this.field.append(escaped);
+            } else {
+                this.field.append(escapeChar).append(escaped);
+            }
+        }
+    }
+
+    /**
+     * @return length of record separator at current position, 0 if there is none.
+     */
+    private int recordSeparatorLength() {
+        if (this.crBeforeLf && this.buffer[this.position] == '\r') {
+            if (!this.ensure(2)) {
+                // CR at end of stream
+                return 1;
+            }
+            return this.buffer[this.position + 1] == '\n' ? 2 : 0;
+        }
+        return this.isRecordSeparator() ? this.recordSeparator.length : 0;
+    }
+
+    private boolean isRecordSeparator() {
+        if (this.buffer[this.position] != this.recordSeparator[0]) {
+            return false;
+        }
+        if (this.recordSeparator.length == 1) {
+            return true;
+        }
+        if (!this.ensure(this.recordSeparator.length)) {
+            return false;
+        }
+        for (int i = 1; i < this.recordSeparator.length; i++) {
+            if (this.buffer[this.position + i] != this.recordSeparator[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ensure buffer contains at least size chars after current position.
+     *
+     * @param size : number of chars needed.
+     * @return false if end of stream is reached before.
+     */
+    private boolean ensure(int size) {
+        if (this.limit - this.position >= size) {
+            return true;
+        }
+        if (this.endOfStream) {
+            return false;
+        }
+        final int remaining = this.limit - this.position;
+        System.arraycopy(this.buffer, this.position, this.buffer, 0, remaining);
+        this.position = 0;
+        this.limit = remaining;
+        try {
+            while (this.limit < size) {
+                final int read = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);
+                if (read < 0) {
+                    this.endOfStream = true;
+                    return false;
+                }
+                this.limit += read;
+            }
+        } catch (IOException exIO) {
+            throw new UncheckedIOException("Unable to read CSV content : " + exIO.getMessage(), exIO);
+        }
+        return true;
+    }
+
+    public void close() {
+        try {
+            this.reader.close();
+        } catch (IOException exIO) {
+            throw new UncheckedIOException("Unable to close CSV content : " + exIO.getMessage(), exIO);
+        }
+    }
+}
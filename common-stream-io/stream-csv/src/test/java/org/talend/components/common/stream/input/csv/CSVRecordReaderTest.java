@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.csv;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.common.stream.format.LineConfiguration;
+import org.talend.components.common.stream.format.LineConfiguration.LineSeparatorType;
+import org.talend.components.common.stream.format.OptionalLine;
+import org.talend.components.common.stream.format.csv.CSVConfiguration;
+import org.talend.components.common.stream.format.csv.FieldSeparator;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class CSVRecordReaderTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void readMultiLineValues() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.LF);
+        final List<Record> records = this
+                .readAll(configuration, "name,comment\nJohn,\"first line\nsecond, line\"\n\"Doe \\\"Jr\\\"\",\"x\"\"y\"\n");
+
+        Assertions.assertEquals(3, records.size());
+        Assertions.assertEquals("name", records.get(0).getString("field_1"));
+        Assertions.assertEquals("first line\nsecond, line", records.get(1).getString("field_2"));
+        Assertions.assertEquals("Doe \"Jr\"", records.get(2).getString("field_1"));
+        Assertions.assertEquals("x\"y", records.get(2).getString("field_2"));
+    }
+
+    @Test
+    void readWithHeader() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.CRLF);
+        final OptionalLine header = new OptionalLine();
+        header.setActive(true);
+        header.setSize(1);
+        configuration.getLineConfiguration().setHeader(header);
+
+        final List<Record> records = this.readAll(configuration, "name,city\r\nJohn,\"New\r\nYork\"\r\nJack,Paris\r\n");
+
+        Assertions.assertEquals(2, records.size());
+        Assertions.assertEquals("John", records.get(0).getString("name"));
+        Assertions.assertEquals("New\r\nYork", records.get(0).getString("city"));
+        Assertions.assertEquals("Paris", records.get(1).getString("city"));
+    }
+
+    @Test
+    void readCrLfWithLfSeparator() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.LF);
+        final OptionalLine header = new OptionalLine();
+        header.setActive(true);
+        header.setSize(1);
+        configuration.getLineConfiguration().setHeader(header);
+
+        final List<Record> records = this.readAll(configuration, "name,city\r\nJohn,\"New\r\nYork\"\r\nJack,Paris\r");
+
+        // same values as commons-csv line parsing : CR before LF is not part of last value
+        Assertions.assertEquals(2, records.size());
+        Assertions.assertEquals(2, records.get(0).getSchema().getEntries().size());
+        Assertions.assertEquals("John", records.get(0).getString("name"));
+        Assertions.assertEquals("New\r\nYork", records.get(0).getString("city"));
+        Assertions.assertEquals("Jack", records.get(1).getString("name"));
+        Assertions.assertEquals("Paris", records.get(1).getString("city"));
+    }
+
+    @Test
+    void skipBlankLines() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.LF);
+        final List<Record> records = this.readAll(configuration, "\n\r\nJohn,Paris\n\n,Nantes\nJack,\n\r\n");
+
+        // blank lines are skipped as with line reader, leading or trailing field separator gives empty value
+        Assertions.assertEquals(3, records.size());
+        Assertions.assertEquals(2, records.get(0).getSchema().getEntries().size());
+        Assertions.assertEquals("John", records.get(0).getString("field_1"));
+        Assertions.assertEquals("Paris", records.get(0).getString("field_2"));
+        Assertions.assertEquals("", records.get(1).getString("field_1"));
+        Assertions.assertEquals("Nantes", records.get(1).getString("field_2"));
+        Assertions.assertEquals("Jack", records.get(2).getString("field_1"));
+        Assertions.assertEquals("", records.get(2).getString("field_2"));
+    }
+
+    @Test
+    void skipBlankLinesBeforeHeader() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.CRLF);
+        final OptionalLine header = new OptionalLine();
+        header.setActive(true);
+        header.setSize(1);
+        configuration.getLineConfiguration().setHeader(header);
+
+        final List<Record> records = this.readAll(configuration, "\r\nname,city\r\n\r\nJohn,Paris\r\n");
+
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals("John", records.get(0).getString("name"));
+        Assertions.assertEquals("Paris", records.get(0).getString("city"));
+    }
+
+    @Test
+    void readLargeContent() {
+        final CSVConfiguration configuration = this.buildConfig(LineSeparatorType.OTHER);
+        configuration.getLineConfiguration().setLineSeparator("||");
+
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 30_000; i++) {
+            content.append("value").append(i).append(",\"quoted|value ").append(i).append("\"||");
+        }
+        final List<Record> records = this.readAll(configuration, content.toString());
+
+        Assertions.assertEquals(30_000, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals("value" + i, records.get(i).getString("field_1"));
+            Assertions.assertEquals("quoted|value " + i, records.get(i).getString("field_2"));
+        }
+    }
+
+    private CSVConfiguration buildConfig(LineSeparatorType separatorType) {
+        final CSVConfiguration configuration = new CSVConfiguration();
+        configuration.setQuotedValue('"');
+        configuration.setEscape('\\');
+        configuration.setFieldSeparator(new FieldSeparator());
+        configuration.getFieldSeparator().setFieldSeparatorType(FieldSeparator.Type.COMMA);
+        configuration.setLineConfiguration(new LineConfiguration());
+        configuration.getLineConfiguration().setLineSeparatorType(separatorType);
+        return configuration;
+    }
+
+    private List<Record> readAll(CSVConfiguration configuration, String content) {
+        final List<Record> records = new ArrayList<>();
+        try (CSVRecordReader reader = new CSVRecordReader(this.factory, configuration)) {
+            final Iterator<Record> iterator = reader.read(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+            iterator.forEachRemaining(records::add);
+        }
+        return records;
+    }
+}
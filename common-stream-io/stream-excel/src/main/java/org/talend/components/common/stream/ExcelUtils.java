@@ -17,11 +17,20 @@ import java.io.InputStream;
 
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.talend.components.common.stream.format.excel.ExcelConfiguration.ExcelFormat;
 
+import com.monitorjbl.xlsx.StreamingReader;
+
 public class ExcelUtils {
 
+    /** number of rows kept in memory by streaming workbooks */
+    public static final int ROW_WINDOW_SIZE = 1000;
+
+    /** size of input buffer for streaming reader */
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
     public static Workbook createWorkBook(ExcelFormat format) {
         return format == ExcelFormat.EXCEL97 ? new HSSFWorkbook() : new XSSFWorkbook();
     }
@@ -35,4 +44,45 @@ public class ExcelUtils {
         }
         return new HSSFWorkbook(input);
     }
+
+    /**
+     * Create a workbook for writing that keeps only a window of rows in memory for EXCEL2007 format,
+     * older rows are flushed to a temporary file (to be disposed once written).
+     *
+     * @param format : excel format.
+     * @return workbook.
+     */
+    public static Workbook createStreamingWorkBook(ExcelFormat format) {
+        if (format == ExcelFormat.EXCEL2007) {
+            return new SXSSFWorkbook(ROW_WINDOW_SIZE);
+        }
+        return ExcelUtils.createWorkBook(format);
+    }
+
+    /**
+     * Open workbook for reading, EXCEL2007 workbook is parsed on the fly (SAX) with only a window of rows in memory.
+     * Other formats are fully loaded.
+     *
+     * @param format : excel format.
+     * @param input : excel content.
+     * @return workbook.
+     */
+    public static Workbook readStreamingWorkBook(ExcelFormat format, InputStream input) throws IOException {
+        if (format == ExcelFormat.EXCEL2007) {
+            return StreamingReader.builder().rowCacheSize(ROW_WINDOW_SIZE).bufferSize(READ_BUFFER_SIZE).open(input);
+        }
+        return ExcelUtils.readWorkBook(format, input);
+    }
+
+    /**
+     * Release resources of workbook (temporary files of streaming workbook).
+     *
+     * @param workbook : workbook to release.
+     */
+    public static void release(Workbook workbook) throws IOException {
+        if (workbook instanceof SXSSFWorkbook) {
+            ((SXSSFWorkbook) workbook).dispose();
+        }
+        workbook.close();
+    }
 }
@@ -39,12 +39,15 @@ public class ExcelWriter implements RecordWriter {
 
     private boolean first = true;
 
+    /** index of next row to create */
+    private int rowIndex = 0;
+
     public ExcelWriter(ExcelConfiguration configuration, TargetFinder target) {
 
         this.target = target;
         this.toExcel = new RecordToExcel();
 
-        this.excelWorkbook = ExcelUtils.createWorkBook(configuration.getExcelFormat());
+        this.excelWorkbook = ExcelUtils.createStreamingWorkBook(configuration.getExcelFormat());
         this.excelSheet = this.excelWorkbook.createSheet(configuration.getSheetName());
         this.config = configuration;
     }
@@ -67,6 +70,8 @@ public class ExcelWriter implements RecordWriter {
         this.appendFooter();
         try (final OutputStream outputStream = this.target.find()) {
             this.excelWorkbook.write(outputStream);
+        } finally {
+            ExcelUtils.release(this.excelWorkbook);
         }
     }
 
@@ -91,7 +96,6 @@ public class ExcelWriter implements RecordWriter {
     }
 
     private Row buildRow() {
-        int pos = this.excelSheet.getPhysicalNumberOfRows();
-        return this.excelSheet.createRow(pos);
+        return this.excelSheet.createRow(this.rowIndex++);
     }
 }
@@ -13,19 +13,25 @@
 package org.talend.components.common.stream.output.excel;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.talend.components.common.stream.ExcelUtils;
+import org.talend.components.common.stream.api.input.RecordReader;
 import org.talend.components.common.stream.api.output.RecordWriter;
 import org.talend.components.common.stream.api.output.TargetFinder;
 import org.talend.components.common.stream.format.OptionalLine;
 import org.talend.components.common.stream.format.excel.ExcelConfiguration;
 import org.talend.components.common.stream.format.excel.ExcelConfiguration.ExcelFormat;
+import org.talend.components.common.stream.input.excel.ExcelReaderSupplier;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
@@ -66,6 +72,47 @@ class ExcelWriterTest {
         Assertions.assertTrue(excelFile.length() > 20, () -> "Length " + excelFile.length() + " is to small");
     }
 
+    @Test
+    void writeMoreRowsThanWindow() throws IOException {
+        final ExcelConfiguration cfg = new ExcelConfiguration();
+        cfg.setHeader(new OptionalLine());
+        cfg.getHeader().setActive(true);
+        cfg.getHeader().setSize(1);
+        cfg.setFooter(new OptionalLine());
+        cfg.getFooter().setActive(false);
+        cfg.setExcelFormat(ExcelFormat.EXCEL2007);
+        cfg.setSheetName("talend_sheet");
+
+        URL outrepo = Thread.currentThread().getContextClassLoader().getResource(".");
+        File excelFile = new File(outrepo.getPath(), "excel_big.xlsx");
+        if (excelFile.exists()) {
+            excelFile.delete();
+        }
+        final TargetFinder target = () -> new FileOutputStream(excelFile);
+
+        final int size = ExcelUtils.ROW_WINDOW_SIZE * 3 + 7;
+        final List<Record> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(this.factory.newRecordBuilder().withString("name", "name" + i).withInt("index", i).build());
+        }
+        try (RecordWriter writer = new ExcelWriterSupplier().getWriter(target, cfg)) {
+            writer.add(records);
+        }
+
+        int count = 0;
+        try (InputStream input = new FileInputStream(excelFile);
+                RecordReader reader = new ExcelReaderSupplier().getReader(this.factory, cfg)) {
+            final Iterator<Record> excelRecords = reader.read(input);
+            while (excelRecords.hasNext()) {
+                final Record excelRecord = excelRecords.next();
+                Assertions.assertEquals("name" + count, excelRecord.getString("name"));
+                Assertions.assertEquals(count, excelRecord.getDouble("index"), 0.01);
+                count++;
+            }
+        }
+        Assertions.assertEquals(size, count);
+    }
+
     Iterable<Record> buildRecords() {
         List<Record> records = new ArrayList<>(3);
         Record rec1 = this.factory.newRecordBuilder().withString("firstname", "peter").withString("lastname", "falker")
@@ -64,8 +64,8 @@ public class JsonPointerParser {
     public Iterator<JsonValue> values(JsonParser parser) {
 
         final Iterator<JsonValue> valuesIterator;
-        if (rootGetter.get(parser) && parser.hasNext()) {
-            Event evt = parser.next();
+        final Event evt = this.find(parser);
+        if (evt != null) {
             if (evt == Event.START_ARRAY) {
                 valuesIterator = new JsonIterator(parser);
             } else {
@@ -79,6 +79,19 @@ public class JsonPointerParser {
         return valuesIterator;
     }
 
+    /**
+     * Move parser on value pointed by json pointer.
+     *
+     * @param parser : json parser.
+     * @return first event of pointed value (START_ARRAY, START_OBJECT or a simple value), null if not found.
+     */
+    public Event find(JsonParser parser) {
+        if (rootGetter.get(parser) && parser.hasNext()) {
+            return parser.next();
+        }
+        return null;
+    }
+
     /**
      * Iterator on Json Value.
      * (iterating on all object of array if jsonpointer point an array, single object otherwire).
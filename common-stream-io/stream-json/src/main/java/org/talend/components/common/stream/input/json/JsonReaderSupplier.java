@@ -17,6 +17,7 @@ import org.talend.components.common.stream.api.input.RecordReaderSupplier;
 import org.talend.components.common.stream.format.ContentFormat;
 import org.talend.components.common.stream.format.json.JsonConfiguration;
 import org.talend.components.common.stream.format.json.JsonPointerParser;
+import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 public class JsonReaderSupplier implements RecordReaderSupplier {
@@ -29,6 +30,11 @@ public class JsonReaderSupplier implements RecordReaderSupplier {
 
         final JsonConfiguration jsonConfig = (JsonConfiguration) config;
         final JsonPointerParser parser = JsonPointerParser.of(jsonConfig.getJsonPointer());
+        if (jsonConfig.isStableSchema()) {
+            final Schema schema = extraParameter instanceof Schema ? (Schema) extraParameter : null;
+            final JsonStreamToRecord toRecord = new JsonStreamToRecord(factory, jsonConfig.isForceDouble(), schema);
+            return new JsonStreamRecordReader(parser, toRecord, schema == null ? jsonConfig.getSchemaInferenceSize() : 0);
+        }
         final JsonToRecord toRecord = new JsonToRecord(factory, jsonConfig.isForceDouble());
         return new JsonRecordReader(parser, toRecord);
     }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.json;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+import javax.json.stream.JsonParserFactory;
+
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.json.JsonPointerParser;
+import org.talend.sdk.component.api.record.Record;
+
+/**
+ * Read json objects from a stream and convert them to records with a stable schema,
+ * directly from parser events (without json object per element).
+ */
+public class JsonStreamRecordReader implements RecordReader {
+
+    /** json pointer config */
+    private final JsonPointerParser jsonPointer;
+
+    /** converter from json events to record. */
+    private final JsonStreamToRecord toRecord;
+
+    /** number of first records read before building them, to infer schema */
+    private final int inferenceSize;
+
+    private final JsonParserFactory parserFactory = Json.createParserFactory(Collections.emptyMap());
+
+    private final JsonBuilderFactory jsonFactory = Json.createBuilderFactory(Collections.emptyMap());
+
+    /** current json parser */
+    private JsonParser jsonParser = null;
+
+    public JsonStreamRecordReader(JsonPointerParser jsonPointer, JsonStreamToRecord toRecord, int inferenceSize) {
+        this.jsonPointer = jsonPointer;
+        this.toRecord = toRecord;
+        this.inferenceSize = inferenceSize;
+    }
+
+    @Override
+    public Iterator<Record> read(InputStream reader) {
+        this.jsonParser = this.parserFactory.createParser(reader);
+
+        final Event first = this.jsonPointer.find(this.jsonParser);
+        final Iterator<Record> records;
+        if (first == null) {
+            records = Collections.emptyIterator();
+        } else if (first == Event.START_ARRAY) {
+            records = new ElementIterator(this.jsonParser);
+        } else {
+            records = Collections.singletonList(this.convert(this.jsonParser, first)).iterator();
+        }
+        if (this.inferenceSize > 1) {
+            return new InferenceIterator(records);
+        }
+        return records;
+    }
+
+    @Override
+    public void close() {
+        if (this.jsonParser != null) {
+            this.jsonParser.close();
+            this.jsonParser = null;
+        }
+    }
+
+    /**
+     * Convert current json value of parser to record.
+     *
+     * @param parser : parser.
+     * @param event : first event of value.
+     * @return Record.
+     */
+    private Record convert(JsonParser parser, Event event) {
+        if (event == Event.START_OBJECT) {
+            return this.toRecord.toRecord(parser);
+        }
+        final JsonObject json = this.jsonFactory.createObjectBuilder().add("field", parser.getValue()).build();
+        return this.toRecord.toRecord(json);
+    }
+
+    /**
+     * Iterate on elements of json array.
+     */
+    private class ElementIterator implements Iterator<Record> {
+
+        private final JsonParser parser;
+
+        private Event nextEvent = null;
+
+        ElementIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.nextEvent == null && this.parser.hasNext()) {
+                this.nextEvent = this.parser.next();
+            }
+            return this.nextEvent != null && this.nextEvent != Event.END_ARRAY;
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more json element");
+            }
+            final Event event = this.nextEvent;
+            this.nextEvent = null;
+            return JsonStreamRecordReader.this.convert(this.parser, event);
+        }
+    }
+
+    /**
+     * Read first records to infer schema, then align them on it.
+     */
+    private class InferenceIterator implements Iterator<Record> {
+
+        private final Iterator<Record> records;
+
+        private Deque<Record> firstRecords = null;
+
+        InferenceIterator(Iterator<Record> records) {
+            this.records = records;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.firstRecords == null) {
+                this.firstRecords = new ArrayDeque<>(JsonStreamRecordReader.this.inferenceSize);
+                while (this.firstRecords.size() < JsonStreamRecordReader.this.inferenceSize && this.records.hasNext()) {
+                    this.firstRecords.add(this.records.next());
+                }
+            }
+            return !this.firstRecords.isEmpty() || this.records.hasNext();
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more json element");
+            }
+            if (!this.firstRecords.isEmpty()) {
+                return JsonStreamRecordReader.this.toRecord.alignSchema(this.firstRecords.poll());
+            }
+            return this.records.next();
+        }
+    }
+}
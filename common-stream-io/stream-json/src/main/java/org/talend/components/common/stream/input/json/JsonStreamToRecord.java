@@ -0,0 +1,448 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.json;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParser.Event;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.record.Schema.Entry;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+/**
+ * Convert json objects to records directly from parser events, with a stable schema.
+ * Records are built against the current schema; only fields that are new (or with a new type) are inferred,
+ * and extend the schema for next documents.
+ */
+public class JsonStreamToRecord {
+
+    /** value doesn't match schema entry (and was not consumed from parser). */
+    private static final Object NO_MATCH = new Object();
+
+    private final RecordBuilderFactory factory;
+
+    /** converter to infer new fields. */
+    private final JsonToRecord inference;
+
+    private final JsonBuilderFactory jsonFactory = Json.createBuilderFactory(Collections.emptyMap());
+
+    private final boolean forceDouble;
+
+    /** current documents shape */
+    private Shape root;
+
+    public JsonStreamToRecord(RecordBuilderFactory factory, boolean forceDouble, Schema schema) {
+        this.factory = factory;
+        this.forceDouble = forceDouble;
+        this.inference = new JsonToRecord(factory, forceDouble);
+        this.root = new Shape(schema == null ? this.emptySchema() : schema);
+    }
+
+    /**
+     * @return current schema of documents.
+     */
+    public Schema getSchema() {
+        return this.root.schema;
+    }
+
+    /**
+     * Convert json object from parser to record.
+     *
+     * @param parser : json parser, START_OBJECT event just consumed.
+     * @return record.
+     */
+    public Record toRecord(JsonParser parser) {
+        final Record record = this.parseObject(parser, this.root);
+        if (record.getSchema() != this.root.schema) {
+            this.root = new Shape(record.getSchema());
+        }
+        return record;
+    }
+
+    /**
+     * Convert json object with schema inference only (for wrapped values).
+     *
+     * @param object : json object.
+     * @return record.
+     */
+    public Record toRecord(JsonObject object) {
+        return this.inference.toRecord(object);
+    }
+
+    /**
+     * Rebuild record with current schema, if it was built with a previous compatible schema.
+     *
+     * @param record : record built by this converter.
+     * @return record with current schema if possible, same record otherwise.
+     */
+    public Record alignSchema(Record record) {
+        if (record.getSchema() == this.root.schema) {
+            return record;
+        }
+        for (Entry entry : record.getSchema().getEntries()) {
+            final int index = this.root.indexOf(entry.getName());
+            if (index < 0 || this.root.entries.get(index).getType() != entry.getType()) {
+                return record;
+            }
+        }
+        final Record.Builder builder = this.factory.newRecordBuilder(this.root.schema);
+        for (Entry entry : record.getSchema().getEntries()) {
+            final Object value = record.get(Object.class, entry.getName());
+            if (value != null) {
+                this.setValue(builder, this.root.entries.get(this.root.indexOf(entry.getName())), value);
+            }
+        }
+        return builder.build();
+    }
+
+    private Record parseObject(JsonParser parser, Shape shape) {
+        final Object[] values = new Object[shape.entries.size()];
+        Map<String, Entry> newEntries = null;
+        Map<String, Object> newValues = null;
+
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            if (event == Event.END_OBJECT) {
+                break;
+            }
+            final String key = parser.getString();
+            event = parser.next();
+
+            final int index = shape.indexOf(key);
+            Object value = index < 0 ? NO_MATCH
+                    : this.readValue(parser, event, shape.entries.get(index), shape.subShapes[index]);
+            Entry changedEntry = null;
+            if (value == NO_MATCH) {
+                // new field or new type : infer it.
+                final JsonObject single = this.jsonFactory.createObjectBuilder().add(key, parser.getValue()).build();
+                final Record field = this.inference.toRecord(single);
+                if (field.getSchema().getEntries().isEmpty()) {
+                    continue;
+                }
+                changedEntry = this.nullable(field.getSchema().getEntries().get(0), null);
+                value = field.get(Object.class, key);
+            } else if (value instanceof ArrayValue) {
+                final ArrayValue array = (ArrayValue) value;
+                value = array.items;
+                if (array.elementSchema != shape.entries.get(index).getElementSchema()) {
+                    changedEntry = this.nullable(shape.entries.get(index), array.elementSchema);
+                }
+            } else if (value instanceof Record && ((Record) value).getSchema() != shape.entries.get(index).getElementSchema()) {
+                changedEntry = this.nullable(shape.entries.get(index), ((Record) value).getSchema());
+            }
+
+            if (changedEntry == null) {
+                values[index] = value;
+            } else {
+                if (newEntries == null) {
+                    newEntries = new LinkedHashMap<>();
+                    newValues = new HashMap<>();
+                }
+                newEntries.put(key, changedEntry);
+                newValues.put(key, value);
+            }
+        }
+
+        if (newEntries == null) {
+            return this.build(shape.schema, shape.entries, values);
+        }
+        return this.buildNewShape(shape, values, newEntries, newValues);
+    }
+
+    private Record buildNewShape(Shape shape, Object[] values, Map<String, Entry> newEntries, Map<String, Object> newValues) {
+        final Schema.Builder schemaBuilder = this.factory.newSchemaBuilder(Schema.Type.RECORD);
+        final List<Entry> entries = new ArrayList<>(shape.entries.size() + newEntries.size());
+        final List<Object> allValues = new ArrayList<>(shape.entries.size() + newEntries.size());
+        for (int i = 0; i < shape.entries.size(); i++) {
+            final Entry entry = shape.entries.get(i);
+            final Entry newEntry = newEntries.remove(entry.getName());
+            if (newEntry == null) {
+                entries.add(entry);
+                allValues.add(values[i]);
+            } else {
+                entries.add(newEntry);
+                allValues.add(newValues.get(entry.getName()));
+            }
+        }
+        newEntries.forEach((String name, Entry entry) -> {
+            entries.add(entry);
+            allValues.add(newValues.get(name));
+        });
+        entries.forEach(schemaBuilder::withEntry);
+
+        return this.build(schemaBuilder.build(), entries, allValues.toArray());
+    }
+
+    private Record build(Schema schema, List<Entry> entries, Object[] values) {
+        final Record.Builder builder = this.factory.newRecordBuilder(schema);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                this.setValue(builder, entries.get(i), values[i]);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Read value for a known entry.
+     *
+     * @return value, null for json null, NO_MATCH if value doesn't fit entry type.
+     */
+    private Object readValue(JsonParser parser, Event event, Entry entry, Shape subShape) {
+        final Schema.Type type = entry.getType();
+        switch (event) {
+        case VALUE_NULL:
+            return null;
+        case VALUE_STRING:
+            if (type == Schema.Type.STRING) {
+                return parser.getString();
+            }
+            if (type == Schema.Type.DATETIME) {
+                try {
+                    return ZonedDateTime.parse(parser.getString());
+                } catch (DateTimeParseException ex) {
+                    return NO_MATCH;
+                }
+            }
+            return NO_MATCH;
+        case VALUE_NUMBER:
+            return this.readNumber(parser, type);
+        case VALUE_TRUE:
+            return type == Schema.Type.BOOLEAN ? Boolean.TRUE : NO_MATCH;
+        case VALUE_FALSE:
+            return type == Schema.Type.BOOLEAN ? Boolean.FALSE : NO_MATCH;
+        case START_OBJECT:
+            return type == Schema.Type.RECORD ? this.parseObject(parser, subShape) : NO_MATCH;
+        case START_ARRAY:
+            return type == Schema.Type.ARRAY ? this.readArray(parser, entry.getElementSchema(), subShape) : NO_MATCH;
+        default:
+            throw new IllegalArgumentException("Unexpected json event " + event);
+        }
+    }
+
+    private Object readNumber(JsonParser parser, Schema.Type type) {
+        switch (type) {
+        case DOUBLE:
+            return parser.getBigDecimal().doubleValue();
+        case FLOAT:
+            return parser.getBigDecimal().floatValue();
+        case LONG:
+            return parser.isIntegralNumber() ? (Object) parser.getLong() : NO_MATCH;
+        case INT:
+            return parser.isIntegralNumber() ? (Object) parser.getInt() : NO_MATCH;
+        default:
+            return NO_MATCH;
+        }
+    }
+
+    private ArrayValue readArray(JsonParser parser, Schema elementSchema, Shape elementShape) {
+        final List<Object> items = new ArrayList<>();
+        Shape itemShape = elementShape;
+        boolean matches = elementSchema != null;
+
+        while (parser.hasNext()) {
+            final Event event = parser.next();
+            if (event == Event.END_ARRAY) {
+                break;
+            }
+            if (event == Event.START_OBJECT) {
+                if (itemShape == null) {
+                    itemShape = new Shape(this.emptySchema());
+                }
+                final Record record = this.parseObject(parser, itemShape);
+                if (record.getSchema() != itemShape.schema) {
+                    // merge schema with next items.
+                    itemShape = new Shape(record.getSchema());
+                }
+                matches = matches && elementSchema.getType() == Schema.Type.RECORD;
+                items.add(record);
+            } else if (event == Event.START_ARRAY) {
+                items.add(this.inference.mapJson(parser.getArray()));
+                matches = false;
+            } else {
+                Object item = this.simpleValue(parser, event);
+                if (item instanceof Long && matches && elementSchema.getType() == Schema.Type.DOUBLE) {
+                    item = ((Long) item).doubleValue();
+                }
+                matches = matches && (item == null || this.isOfType(item, elementSchema.getType()));
+                items.add(item);
+            }
+        }
+
+        final Schema resultSchema;
+        if (matches) {
+            resultSchema = elementSchema.getType() == Schema.Type.RECORD && itemShape != null ? itemShape.schema : elementSchema;
+        } else if (items.isEmpty()) {
+            resultSchema = elementSchema != null ? elementSchema : this.factory.newSchemaBuilder(Schema.Type.STRING).build();
+        } else {
+            final Schema inferred = this.inference.getArrayElementSchema(this.factory, items);
+            resultSchema = inferred.equals(elementSchema) ? elementSchema : inferred;
+        }
+        return new ArrayValue(items, resultSchema);
+    }
+
+    private Object simpleValue(JsonParser parser, Event event) {
+        switch (event) {
+        case VALUE_STRING:
+            return parser.getString();
+        case VALUE_NUMBER:
+            if (this.forceDouble || !parser.isIntegralNumber()) {
+                return parser.getBigDecimal().doubleValue();
+            }
+            return parser.getLong();
+        case VALUE_TRUE:
+            return Boolean.TRUE;
+        case VALUE_FALSE:
+            return Boolean.FALSE;
+        case VALUE_NULL:
+            return null;
+        default:
+            throw new IllegalArgumentException("Unexpected json event " + event);
+        }
+    }
+
+    private boolean isOfType(Object value, Schema.Type type) {
+        switch (type) {
+        case STRING:
+            return value instanceof String;
+        case LONG:
+            return value instanceof Long;
+        case DOUBLE:
+            return value instanceof Double;
+        case BOOLEAN:
+            return value instanceof Boolean;
+        default:
+            return false;
+        }
+    }
+
+    private void setValue(Record.Builder builder, Entry entry, Object value) {
+        switch (entry.getType()) {
+        case RECORD:
+            builder.withRecord(entry, (Record) value);
+            break;
+        case ARRAY:
+            builder.withArray(entry, (Collection<?>) value);
+            break;
+        case STRING:
+            builder.withString(entry, value.toString());
+            break;
+        case LONG:
+            builder.withLong(entry, ((Number) value).longValue());
+            break;
+        case INT:
+            builder.withInt(entry, ((Number) value).intValue());
+            break;
+        case DOUBLE:
+            builder.withDouble(entry, ((Number) value).doubleValue());
+            break;
+        case FLOAT:
+            builder.withFloat(entry, ((Number) value).floatValue());
+            break;
+        case BOOLEAN:
+            builder.withBoolean(entry, (Boolean) value);
+            break;
+        case DATETIME:
+            builder.withDateTime(entry, (ZonedDateTime) value);
+            break;
+        case BYTES:
+            builder.withBytes(entry, (byte[]) value);
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported type " + entry.getType() + " for " + entry.getName());
+        }
+    }
+
+    /**
+     * Copy of entry, nullable (as json field can be missing), with given element schema.
+     */
+    private Entry nullable(Entry entry, Schema elementSchema) {
+        return this.factory.newEntryBuilder() //
+                .withName(entry.getName()) //
+                .withType(entry.getType()) //
+                .withNullable(true) //
+                .withComment(entry.getComment()) //
+                .withElementSchema(elementSchema != null ? elementSchema : entry.getElementSchema()) //
+                .build();
+    }
+
+    private Schema emptySchema() {
+        return this.factory.newSchemaBuilder(Schema.Type.RECORD).build();
+    }
+
+    /**
+     * Array items with their element schema.
+     */
+    private static class ArrayValue {
+
+        private final List<Object> items;
+
+        private final Schema elementSchema;
+
+        ArrayValue(List<Object> items, Schema elementSchema) {
+            this.items = items;
+            this.elementSchema = elementSchema;
+        }
+    }
+
+    /**
+     * Schema with its entry table and shapes of sub-records.
+     */
+    private class Shape {
+
+        private final Schema schema;
+
+        private final List<Entry> entries;
+
+        private final Map<String, Integer> indexes;
+
+        private final Shape[] subShapes;
+
+        Shape(Schema schema) {
+            this.schema = schema;
+            this.entries = schema.getEntries();
+            this.indexes = new HashMap<>(this.entries.size() * 2);
+            this.subShapes = new Shape[this.entries.size()];
+            for (int i = 0; i < this.entries.size(); i++) {
+                final Entry entry = this.entries.get(i);
+                this.indexes.put(entry.getName(), i);
+                final Schema elementSchema = entry.getElementSchema();
+                if (entry.getType() == Schema.Type.RECORD) {
+                    this.subShapes[i] = new Shape(elementSchema != null ? elementSchema : JsonStreamToRecord.this.emptySchema());
+                } else if (entry.getType() == Schema.Type.ARRAY && elementSchema != null
+                        && elementSchema.getType() == Schema.Type.RECORD) {
+                    this.subShapes[i] = new Shape(elementSchema);
+                }
+            }
+        }
+
+        int indexOf(String name) {
+            final Integer index = this.indexes.get(name);
+            return index == null ? -1 : index;
+        }
+    }
+}
@@ -96,7 +96,7 @@ public class JsonToRecord {
         return builder.build();
     }
 
-    private Object mapJson(final JsonValue it) {
+    Object mapJson(final JsonValue it) {
         if (JsonObject.class.isInstance(it)) {
             return toRecord(it.asJsonObject());
         }
@@ -121,7 +121,7 @@ public class JsonToRecord {
         return it;
     }
 
-    private Schema getArrayElementSchema(final RecordBuilderFactory factory, final List<Object> items) {
+    Schema getArrayElementSchema(final RecordBuilderFactory factory, final List<Object> items) {
         if (items.isEmpty()) {
             return factory.newSchemaBuilder(Schema.Type.STRING).build();
         }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.json;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.common.stream.api.input.RecordReader;
+import org.talend.components.common.stream.format.json.JsonConfiguration;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class JsonStreamRecordReaderTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void readStableSchema() {
+        final JsonConfiguration jsonCfg = this.stableConfig("/data", 10);
+        final String json = "{\"data\": [" //
+                + "{\"aaa\": \"hello\", \"bbb\": \"goodbye\"}," //
+                + "{\"aaa\": \"hello\", \"ccc\": 123, \"sub\": {\"x\": true}}," //
+                + "{\"aaa\": \"world\", \"arr\": [1, 2, 3]}" //
+                + "]}";
+
+        final List<Record> records = this.read(jsonCfg, null, json);
+        Assertions.assertEquals(3, records.size());
+        final Schema schema = records.get(0).getSchema();
+        records.forEach((Record rec) -> Assertions.assertEquals(schema, rec.getSchema()));
+        Assertions.assertEquals(5, schema.getEntries().size());
+
+        Assertions.assertEquals("goodbye", records.get(0).getString("bbb"));
+        Assertions.assertNull(records.get(0).getRecord("sub"));
+        Assertions.assertEquals(123.0d, records.get(1).getDouble("ccc"), 0.0001d);
+        Assertions.assertTrue(records.get(1).getRecord("sub").getBoolean("x"));
+        final Collection<Double> arr = records.get(2).getArray(Double.class, "arr");
+        Assertions.assertEquals(3, arr.size());
+        Assertions.assertEquals(2.0d, arr.stream().skip(1).findFirst().get(), 0.0001d);
+    }
+
+    @Test
+    void readNewShapes() {
+        final JsonConfiguration jsonCfg = this.stableConfig("/", 0);
+        jsonCfg.setForceDouble(false);
+        final String json = "[" //
+                + "{\"id\": 1, \"name\": \"n1\"}," //
+                + "{\"id\": 2, \"name\": \"n2\"}," //
+                + "{\"id\": 3.5, \"name\": \"n3\", \"tags\": [\"a\", \"b\"]}," //
+                + "{\"id\": 4, \"name\": null}" //
+                + "]";
+
+        final List<Record> records = this.read(jsonCfg, null, json);
+        Assertions.assertEquals(4, records.size());
+        // same shape, same schema.
+        Assertions.assertEquals(records.get(0).getSchema(), records.get(1).getSchema());
+        Assertions.assertEquals(Schema.Type.LONG, records.get(0).getSchema().getEntries().get(0).getType());
+
+        final Schema extended = records.get(2).getSchema();
+        Assertions.assertEquals(Schema.Type.DOUBLE, extended.getEntries().get(0).getType());
+        Assertions.assertEquals(3, extended.getEntries().size());
+        Assertions.assertEquals(3.5d, records.get(2).getDouble("id"), 0.0001d);
+        Assertions.assertEquals(2, records.get(2).getArray(String.class, "tags").size());
+
+        // known shape : long value widen in double entry.
+        Assertions.assertEquals(extended, records.get(3).getSchema());
+        Assertions.assertEquals(4.0d, records.get(3).getDouble("id"), 0.0001d);
+        Assertions.assertNull(records.get(3).getString("name"));
+    }
+
+    @Test
+    void readWithSchema() {
+        final Schema schema = this.factory.newSchemaBuilder(Schema.Type.RECORD) //
+                .withEntry(this.newEntry("id", Schema.Type.INT)) //
+                .withEntry(this.newEntry("name", Schema.Type.STRING)) //
+                .build();
+        final JsonConfiguration jsonCfg = this.stableConfig("/", 10);
+        final String json = "[{\"id\": 1, \"name\": \"n1\"}, {\"name\": \"n2\"}, \"value\"]";
+
+        final List<Record> records = this.read(jsonCfg, schema, json);
+        Assertions.assertEquals(3, records.size());
+        Assertions.assertEquals(schema, records.get(0).getSchema());
+        Assertions.assertEquals(schema, records.get(1).getSchema());
+        Assertions.assertEquals(1, records.get(0).getInt("id"));
+        Assertions.assertEquals("n2", records.get(1).getString("name"));
+        Assertions.assertEquals("value", records.get(2).getString("field"));
+    }
+
+    private Schema.Entry newEntry(String name, Schema.Type type) {
+        return this.factory.newEntryBuilder().withName(name).withType(type).withNullable(true).build();
+    }
+
+    private JsonConfiguration stableConfig(String pointer, int inferenceSize) {
+        final JsonConfiguration jsonCfg = new JsonConfiguration();
+        jsonCfg.setJsonPointer(pointer);
+        jsonCfg.setStableSchema(true);
+        jsonCfg.setSchemaInferenceSize(inferenceSize);
+        return jsonCfg;
+    }
+
+    private List<Record> read(JsonConfiguration jsonCfg, Schema schema, String json) {
+        final RecordReader reader = new JsonReaderSupplier().getReader(this.factory, jsonCfg, schema);
+        final InputStream input = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        final List<Record> records = new ArrayList<>();
+        final Iterator<Record> iterator = reader.read(input);
+        iterator.forEachRemaining(records::add);
+        reader.close();
+        return records;
+    }
+}
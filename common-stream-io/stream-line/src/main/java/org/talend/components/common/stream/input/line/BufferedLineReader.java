@@ -0,0 +1,295 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.line;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.talend.components.common.stream.input.line.schema.HeaderHandler;
+
+/**
+ * Line reader scanning a char buffer for a literal separator, without regular expression.
+ * It splits the lines as {@link DefaultLineReader}: a separator at the very beginning of the input
+ * or at its end doesn't produce an empty line.
+ */
+public class BufferedLineReader implements LineReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** line separator */
+    private final char[] separator;
+
+    /** charset name. */
+    private final String charSetName;
+
+    /** headers treatment. */
+    private final HeaderHandler headers;
+
+    /** current reader */
+    private Reader reader = null;
+
+    public BufferedLineReader(String recordSeparator, String charSetName, HeaderHandler headers) {
+        if (recordSeparator == null || recordSeparator.isEmpty()) {
+            throw new IllegalArgumentException("Line separator can't be empty");
+        }
+        this.separator = recordSeparator.toCharArray();
+        this.charSetName = charSetName;
+        this.headers = headers;
+    }
+
+    @Override
+    public Iterator<String> read(InputStream input) {
+        this.close();
+        this.reader = new InputStreamReader(input, Charset.forName(this.charSetName));
+        final Iterator<String> lines = new LineIterator(this.reader, this.newMatcher());
+        this.headers.treat(lines);
+        return lines;
+    }
+
+    @Override
+    public void close() {
+        if (this.reader != null) {
+            try {
+                this.reader.close();
+            } catch (IOException exIO) {
+                throw new UncheckedIOException("Unable to close line reader : " + exIO.getMessage(), exIO);
+            }
+            this.reader = null;
+        }
+    }
+
+    private SeparatorMatcher newMatcher() {
+        if (this.separator.length == 1) {
+            return new CharMatcher(this.separator[0]);
+        }
+        if (this.separator.length == 2 && this.separator[0] == '\r' && this.separator[1] == '\n') {
+            return new CRLFMatcher();
+        }
+        return new LiteralMatcher(this.separator);
+    }
+
+    /**
+     * Search the separator in a buffer, keeping the partial match between two buffers.
+     */
+    interface SeparatorMatcher {
+
+        /**
+         * @return the index following the separator end in the buffer, -1 if not found before limit.
+         */
+        int find(char[] buffer, int from, int limit);
+
+        int length();
+    }
+
+    static class CharMatcher implements SeparatorMatcher {
+
+        private final char separator;
+
+        CharMatcher(char separator) {
+            this.separator = separator;
+        }
+
+        @Override
+        public int find(char[] buffer, int from, int limit) {
+            for (int i = from; i < limit; i++) {
+                if (buffer[i] == this.separator) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int length() {
+            return 1;
+        }
+    }
+
+    static class CRLFMatcher implements SeparatorMatcher {
+
+        /** last char was '\r' */
+        private boolean carriageReturn = false;
+
+        @Override
+        public int find(char[] buffer, int from, int limit) {
+            for (int i = from; i < limit; i++) {
+                final char c = buffer[i];
+                if (this.carriageReturn && c == '\n') {
+                    this.carriageReturn = false;
+                    return i + 1;
+                }
+                this.carriageReturn = c == '\r';
+            }
+            return -1;
+        }
+
+        @Override
+        public int length() {
+            return 2;
+        }
+    }
+
+    /**
+     * Knuth-Morris-Pratt search of any separator.
+     */
+    static class LiteralMatcher implements SeparatorMatcher {
+
+        private final char[] separator;
+
+        private final int[] failure;
+
+        private int matched = 0;
+
+        LiteralMatcher(char[] separator) {
+            this.separator = separator;
+            this.failure = new int[separator.length];
+            int k = 0;
+            for (int i = 1; i < separator.length; i++) {
+                while (k > 0 && separator[i] != separator[k]) {
+                    k = this.failure[k - 1];
+                }
+                if (separator[i] == separator[k]) {
+                    k++;
+                }
+                this.failure[i] = k;
+            }
+        }
+
+        @Override
+        public int find(char[] buffer, int from, int limit) {
+            for (int i = from; i < limit; i++) {
+                final char c = buffer[i];
+                while (this.matched > 0 && c != this.separator[this.matched]) {
+                    this.matched = this.failure[this.matched - 1];
+                }
+                if (c == this.separator[this.matched]) {
+                    this.matched++;
+                }
+                if (this.matched == this.separator.length) {
+                    this.matched = 0;
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int length() {
+            return this.separator.length;
+        }
+    }
+
+    static class LineIterator implements Iterator<String> {
+
+        private final Reader reader;
+
+        private final SeparatorMatcher matcher;
+
+        private final char[] buffer = new char[BUFFER_SIZE];
+
+        /** line part from previous buffers */
+        private final StringBuilder pending = new StringBuilder();
+
+        private int position = 0;
+
+        private int limit = 0;
+
+        private boolean first = true;
+
+        private String next = null;
+
+        LineIterator(Reader reader, SeparatorMatcher matcher) {
+            this.reader = reader;
+            this.matcher = matcher;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                this.next = this.readLine();
+                if (this.first) {
+                    this.first = false;
+                    if (this.next != null && this.next.isEmpty()) {
+                        // skip separator at start
+                        this.next = this.readLine();
+                    }
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final String line = this.next;
+            this.next = null;
+            return line;
+        }
+
+        private String readLine() {
+            int start = this.position;
+            while (true) {
+                if (this.position >= this.limit) {
+                    if (this.position > start) {
+                        this.pending.append(this.buffer, start, this.position - start);
+                    }
+                    if (!this.fill()) {
+                        return this.pending.length() == 0 ? null : this.flushPending();
+                    }
+                    start = 0;
+                }
+                final int end = this.matcher.find(this.buffer, this.position, this.limit);
+                if (end < 0) {
+                    this.position = this.limit;
+                } else {
+                    this.position = end;
+                    if (this.pending.length() == 0) {
+                        // whole line and separator in buffer
+                        return new String(this.buffer, start, end - start - this.matcher.length());
+                    }
+                    this.pending.append(this.buffer, start, end - start);
+                    this.pending.setLength(this.pending.length() - this.matcher.length());
+                    return this.flushPending();
+                }
+            }
+        }
+
+        private String flushPending() {
+            final String line = this.pending.toString();
+            this.pending.setLength(0);
+            return line;
+        }
+
+        private boolean fill() {
+            try {
+                int read = this.reader.read(this.buffer, 0, this.buffer.length);
+                while (read == 0) {
+                    read = this.reader.read(this.buffer, 0, this.buffer.length);
+                }
+                this.position = 0;
+                this.limit = Math.max(read, 0);
+                return read > 0;
+            } catch (IOException exIO) {
+                throw new UncheckedIOException("Unable to read line : " + exIO.getMessage(), exIO);
+            }
+        }
+    }
+}
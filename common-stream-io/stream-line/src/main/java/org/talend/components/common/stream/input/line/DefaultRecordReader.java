@@ -38,7 +38,7 @@ public class DefaultRecordReader implements RecordReader {
         final LineToRecord toRecord = new LineToRecord(factory, splitter);
         final HeaderHandler headerHandler = new HeaderHandler(lineConfig.calcHeader(), toRecord::withHeaders);
 
-        final LineReader lineReader = new DefaultLineReader(lineConfig.getLineSeparator(), lineConfig.getEncoding().getEncoding(),
+        final LineReader lineReader = new BufferedLineReader(lineConfig.getLineSeparator(), lineConfig.getEncoding().getEncoding(),
                 headerHandler);
 
         return new DefaultRecordReader(lineReader, toRecord);
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.line;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.talend.components.common.stream.input.line.schema.HeaderHandler;
+
+class BufferedLineReaderTest {
+
+    @ParameterizedTest
+    @MethodSource("lineProvider")
+    void read(String separator, String line, List<String> list) {
+        Assertions.assertEquals(list, this.readAll(separator, line));
+    }
+
+    @ParameterizedTest
+    @MethodSource("separatorProvider")
+    void readLargeContent(String separator) {
+        // lines overlapping internal buffer limit.
+        final List<String> expected = IntStream.range(0, 20_000).mapToObj((int i) -> "Line " + i + " with some content")
+                .collect(Collectors.toList());
+        final String content = String.join(separator, expected);
+
+        Assertions.assertEquals(expected, this.readAll(separator, content));
+    }
+
+    @Test
+    void readWithHeader() {
+        final List<String> headers = new ArrayList<>();
+        final HeaderHandler handler = new HeaderHandler(1, headers::add);
+        final BufferedLineReader reader = new BufferedLineReader("\n", "UTF-8", handler);
+
+        final Iterator<String> lines = reader.read(this.toStream("h1;h2\nv1;v2\nv3;v4"));
+        Assertions.assertEquals(Collections.singletonList("h1;h2"), headers);
+        Assertions.assertEquals("v1;v2", lines.next());
+        Assertions.assertEquals("v3;v4", lines.next());
+        Assertions.assertFalse(lines.hasNext());
+        reader.close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("lineProvider")
+    void sameAsDefault(String separator, String line, List<String> list) {
+        final DefaultLineReader reader = new DefaultLineReader(separator, "UTF-8", new HeaderHandler(0, null));
+        final List<String> lines = new ArrayList<>();
+        reader.read(this.toStream(line)).forEachRemaining(lines::add);
+        reader.close();
+
+        Assertions.assertEquals(lines, this.readAll(separator, line));
+    }
+
+    private List<String> readAll(String separator, String content) {
+        final BufferedLineReader reader = new BufferedLineReader(separator, "UTF-8", new HeaderHandler(0, null));
+        final List<String> lines = new ArrayList<>();
+        reader.read(this.toStream(content)).forEachRemaining(lines::add);
+        reader.close();
+        return lines;
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(Charset.forName("UTF-8")));
+    }
+
+    static Stream<String> separatorProvider() {
+        return Stream.of("\n", "\r\n", ";", "||", "aab");
+    }
+
+    static Stream<Arguments> lineProvider() {
+        return Stream.of(Arguments.arguments("\n", "Hello\nWorld\nTDI", Arrays.asList("Hello", "World", "TDI")),
+                Arguments.arguments("\r\n", "Hello\r\nWorld\r\nTDI", Arrays.asList("Hello", "World", "TDI")),
+                Arguments.arguments("\r\n", "Hello\rWorld\r\n\r\nTDI\r\n", Arrays.asList("Hello\rWorld", "", "TDI")),
+                Arguments.arguments("\n", "\nHello\n\nWorld\n", Arrays.asList("Hello", "", "World")),
+                Arguments.arguments("||", "Hello|||World||TDI", Arrays.asList("Hello", "|World", "TDI")),
+                Arguments.arguments("aab", "aaabHelloaab", Arrays.asList("a", "Hello")),
+                Arguments.arguments("\n", "", Collections.emptyList()));
+    }
+
+}
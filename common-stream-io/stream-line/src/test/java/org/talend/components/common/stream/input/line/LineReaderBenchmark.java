@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.stream.input.line;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.talend.components.common.stream.input.line.schema.HeaderHandler;
+
+/**
+ * Compare line readers on a 100 000 lines content.
+ * Run with main method from test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LineReaderBenchmark {
+
+    private static final int LINES = 100_000;
+
+    @Param({ "\n", "\r\n", "||" })
+    private String separator;
+
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        this.content = IntStream.range(0, LINES).mapToObj((int i) -> "value" + i + ";other value;" + (i * 3) + ";last value")
+                .collect(Collectors.joining(this.separator)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void scanner(Blackhole blackhole) {
+        this.consume(new DefaultLineReader(this.separator, "UTF-8", new HeaderHandler(0, null)), blackhole);
+    }
+
+    @Benchmark
+    public void buffered(Blackhole blackhole) {
+        this.consume(new BufferedLineReader(this.separator, "UTF-8", new HeaderHandler(0, null)), blackhole);
+    }
+
+    private void consume(LineReader reader, Blackhole blackhole) {
+        final Iterator<String> lines = reader.read(new ByteArrayInputStream(this.content));
+        while (lines.hasNext()) {
+            blackhole.consume(lines.next());
+        }
+        reader.close();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder().include(LineReaderBenchmark.class.getSimpleName()).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load contents of next sources (files, blobs) in background while current one is read.
+ * Contents are loaded on daemon threads; sub classes define how a source is loaded.
+ *
+ * @param <T> : type of sources.
+ */
+public abstract class ContentReadAhead<T> implements AutoCloseable {
+
+    /** max number of sources loaded in advance (and number of loading threads) */
+    protected final int count;
+
+    /** max weight of sources loaded in advance */
+    protected final long maxWeight;
+
+    protected final ExecutorService executor;
+
+    private ReadAheadIterator<T, LoadedContent<T>> loadedContents;
+
+    /**
+     * @param threadName : prefix of loading threads names.
+     * @param count : max number of sources loaded in advance.
+     * @param maxWeight : max weight of sources loaded in advance.
+     */
+    protected ContentReadAhead(String threadName, int count, long maxWeight) {
+        this.count = count;
+        this.maxWeight = maxWeight;
+        final AtomicInteger threadIndex = new AtomicInteger(0);
+        final ThreadFactory threadFactory = (Runnable task) -> {
+            final Thread thread = new Thread(task, threadName + "-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = Executors.newFixedThreadPool(count, threadFactory);
+    }
+
+    /**
+     * Start loading of sources.
+     *
+     * @param sources : sources to read.
+     * @return sources with their content, in same order.
+     */
+    public Iterator<LoadedContent<T>> read(Iterator<T> sources) {
+        this.loadedContents = new ReadAheadIterator<>(sources, (T source) -> new LoadedContent<>(source, this.load(source)),
+                this::weight, this.count, this.maxWeight, this.executor);
+        return this.loadedContents;
+    }
+
+    /**
+     * Cancel loadings, release loaded contents not yet read and stop loading threads.
+     */
+    @Override
+    public void close() {
+        if (this.loadedContents != null) {
+            this.loadedContents.close();
+        }
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Load content of source, called on loading thread.
+     *
+     * @param source : source to load.
+     * @return content of source.
+     */
+    protected abstract InputStream load(T source);
+
+    /**
+     * @param source : source to load.
+     * @return weight of source content loaded in advance (bytes for example).
+     */
+    protected abstract long weight(T source);
+}
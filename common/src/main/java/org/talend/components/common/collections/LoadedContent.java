@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Source (file, blob) with its content.
+ * Content is null when source was not loaded in advance, reader has then to open it.
+ *
+ * @param <T> : type of source.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadedContent<T> implements AutoCloseable {
+
+    private final T source;
+
+    private final InputStream content;
+
+    @Override
+    public void close() throws IOException {
+        if (this.content != null) {
+            this.content.close();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Iterator that loads next elements on a background executor while current one is consumed.
+ * (Usefull to open next files of a directory while current one is parsed).
+ * Read ahead is bounded by number of elements and by their weight (bytes for example);
+ * at least one element is always loaded.
+ *
+ * @param <T> : type of source elements.
+ * @param <R> : type of loaded elements.
+ */
+@Slf4j
+public class ReadAheadIterator<T, R> implements Iterator<R>, AutoCloseable {
+
+    /** elements to load */
+    private final Iterator<T> source;
+
+    /** load function, called on executor */
+    private final Function<T, R> loader;
+
+    /** weight of element */
+    private final ToLongFunction<T> weigher;
+
+    /** max number of elements loaded in advance */
+    private final int maxCount;
+
+    /** max total weight of elements loaded in advance */
+    private final long maxWeight;
+
+    private final ExecutorService executor;
+
+    /** elements loading (or loaded), in source order */
+    private final Deque<Loading<R>> loadings = new ArrayDeque<>();
+
+    /** total weight of loading elements */
+    private long loadingWeight = 0L;
+
+    /** next source element, taken but not yet loading (too heavy) */
+    private T pending;
+
+    private boolean hasPending = false;
+
+    public ReadAheadIterator(Iterator<T> source, Function<T, R> loader, ToLongFunction<T> weigher, int maxCount,
+            long maxWeight, ExecutorService executor) {
+        if (maxCount < 1) {
+            throw new IllegalArgumentException("Read ahead count must be positive (" + maxCount + ")");
+        }
+        this.source = source;
+        this.loader = loader;
+        this.weigher = weigher;
+        this.maxCount = maxCount;
+        this.maxWeight = maxWeight;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        this.fill();
+        return !this.loadings.isEmpty();
+    }
+
+    @Override
+    public R next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException("No more element to read");
+        }
+        final Loading<R> loading = this.loadings.poll();
+        this.loadingWeight -= loading.weight;
+        this.fill();
+        return loading.get();
+    }
+
+    /**
+     * Cancel all loadings; loaded elements that are AutoCloseable are closed.
+     */
+    @Override
+    public void close() {
+        Loading<R> loading = this.loadings.poll();
+        while (loading != null) {
+            loading.cancel();
+            loading = this.loadings.poll();
+        }
+        this.loadingWeight = 0L;
+    }
+
+    /**
+     * Start loading of next elements, while bounds are not reached.
+     */
+    private void fill() {
+        while (this.loadings.size() < this.maxCount) {
+            if (!this.hasPending) {
+                if (!this.source.hasNext()) {
+                    return;
+                }
+                this.pending = this.source.next();
+                this.hasPending = true;
+            }
+            final long weight = this.weigher.applyAsLong(this.pending);
+            if (!this.loadings.isEmpty() && this.loadingWeight + weight > this.maxWeight) {
+                return;
+            }
+            final T element = this.pending;
+            this.pending = null;
+            this.hasPending = false;
+            final Loading<R> loading = new Loading<>(weight);
+            loading.start(this.executor, () -> this.loader.apply(element));
+            this.loadings.add(loading);
+            this.loadingWeight += weight;
+        }
+    }
+
+    private static class Loading<R> {
+
+        private final long weight;
+
+        private Future<R> future;
+
+        /** loaded element, released if loading is cancelled */
+        private R loaded;
+
+        private boolean cancelled = false;
+
+        Loading(long weight) {
+            this.weight = weight;
+        }
+
+        void start(ExecutorService executor, Supplier<R> load) {
+            this.future = executor.submit(() -> this.loaded(load.get()));
+        }
+
+        R get() {
+            try {
+                return this.future.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while loading element", ex);
+            } catch (ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException("Error while loading element : " + ex.getCause().getMessage(), ex.getCause());
+            }
+        }
+
+        /**
+         * Cancel loading; element is released now if already loaded, or as soon as its (running) load ends.
+         */
+        void cancel() {
+            final R element;
+            synchronized (this) {
+                this.cancelled = true;
+                element = this.loaded;
+                this.loaded = null;
+            }
+            this.future.cancel(true);
+            Loading.release(element);
+        }
+
+        private synchronized R loaded(R element) {
+            if (this.cancelled) {
+                Loading.release(element);
+            } else {
+                this.loaded = element;
+            }
+            return element;
+        }
+
+        private static void release(Object element) {
+            if (element instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) element).close();
+                } catch (Exception ex) {
+                    log.warn("Can't release loaded element : {}", ex.getMessage());
+                }
+            }
+        }
+    }
+}
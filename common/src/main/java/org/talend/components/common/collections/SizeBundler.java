@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Split elements (files, blobs) in bundles of close total size, to share them between workers.
+ * Biggest elements are placed first, each one in the smallest bundle.
+ */
+public final class SizeBundler {
+
+    private SizeBundler() {
+    }
+
+    /**
+     * @param elements : elements to split.
+     * @param sizer : size of an element.
+     * @param bundleSize : expected size of a bundle (no split if not positive).
+     * @return bundles of elements; a single bundle with all elements if they fit in one bundle.
+     */
+    public static <T> List<List<T>> split(Collection<T> elements, ToLongFunction<T> sizer, long bundleSize) {
+        final long totalSize = elements.stream().mapToLong(sizer).sum();
+        if (bundleSize <= 0 || elements.size() <= 1 || totalSize <= bundleSize) {
+            return Collections.singletonList(new ArrayList<>(elements));
+        }
+        final int bundleCount = (int) Math.min(elements.size(), (totalSize + bundleSize - 1) / bundleSize);
+
+        final List<T> sorted = new ArrayList<>(elements);
+        sorted.sort(Comparator.comparingLong(sizer).reversed());
+        final PriorityQueue<Bundle<T>> bundles = new PriorityQueue<>(bundleCount, Comparator.comparingLong(Bundle::getSize));
+        for (int i = 0; i < bundleCount; i++) {
+            bundles.add(new Bundle<>());
+        }
+        for (T element : sorted) {
+            final Bundle<T> smallest = bundles.poll();
+            smallest.add(element, sizer.applyAsLong(element));
+            bundles.add(smallest);
+        }
+
+        final List<List<T>> result = new ArrayList<>(bundleCount);
+        for (Bundle<T> bundle : bundles) {
+            result.add(bundle.elements);
+        }
+        return result;
+    }
+
+    /**
+     * Elements read by one worker.
+     */
+    private static class Bundle<T> {
+
+        private final List<T> elements = new ArrayList<>();
+
+        private long size = 0L;
+
+        void add(T element, long elementSize) {
+            elements.add(element);
+            size += elementSize;
+        }
+
+        long getSize() {
+            return size;
+        }
+    }
+}
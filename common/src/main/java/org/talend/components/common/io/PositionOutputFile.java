@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * Parquet output file written directly in a remote stream, without local file.
+ * Parquet is provided by connectors using this class.
+ *
+ * @param <T> : type of remote stream.
+ */
+public class PositionOutputFile<T extends OutputStream> implements OutputFile {
+
+    /** open remote stream */
+    private final Supplier<T> output;
+
+    /** current position in remote stream */
+    private final ToLongFunction<T> position;
+
+    public PositionOutputFile(Supplier<T> output, ToLongFunction<T> position) {
+        this.output = output;
+        this.position = position;
+    }
+
+    @Override
+    public PositionOutputStream create(long blockSizeHint) {
+        return this.createOrOverwrite(blockSizeHint);
+    }
+
+    @Override
+    public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+        final T stream = this.output.get();
+        return new PositionOutputStream() {
+
+            @Override
+            public long getPos() {
+                return position.applyAsLong(stream);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                stream.write(b);
+            }
+
+            @Override
+            public void write(byte[] content, int offset, int length) throws IOException {
+                stream.write(content, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                stream.close();
+            }
+        };
+    }
+
+    @Override
+    public boolean supportsBlockSize() {
+        return false;
+    }
+
+    @Override
+    public long defaultBlockSize() {
+        return 0;
+    }
+}
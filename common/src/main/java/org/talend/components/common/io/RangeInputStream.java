@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Input stream on a remote content of known size, downloaded by ranges in parallel.
+ * Next ranges are requested in advance (bounded window) and consumed in content order.
+ */
+public class RangeInputStream extends InputStream {
+
+    /**
+     * Read a range of remote content.
+     */
+    @FunctionalInterface
+    public interface RangeReader {
+
+        /**
+         * @param offset : start of range.
+         * @param length : length of range.
+         * @return content of range (length bytes).
+         */
+        byte[] read(long offset, int length) throws IOException;
+    }
+
+    private final RangeReader reader;
+
+    /** size of whole content */
+    private final long size;
+
+    private final int rangeSize;
+
+    /** max number of ranges requested in advance */
+    private final int window;
+
+    private final ExecutorService executor;
+
+    /** requested ranges, in content order */
+    private final Deque<Future<byte[]>> ranges = new ArrayDeque<>();
+
+    /** offset of next range to request */
+    private long nextOffset = 0L;
+
+    /** current range */
+    private byte[] current = null;
+
+    /** position in current range */
+    private int position = 0;
+
+    public RangeInputStream(RangeReader reader, long size, int rangeSize, int window, ExecutorService executor) {
+        if (rangeSize < 1 || window < 1) {
+            throw new IllegalArgumentException("Range size (" + rangeSize + ") and window (" + window + ") must be positive");
+        }
+        this.reader = reader;
+        this.size = size;
+        this.rangeSize = rangeSize;
+        this.window = window;
+        this.executor = executor;
+        this.request();
+    }
+
+    /**
+     * Download content, in one request if it fits in a range, with parallel ranges otherwise.
+     * Must be called out of executor thread if content fits in a range (download is synchronous).
+     *
+     * @return stream on content.
+     */
+    public static InputStream of(RangeReader reader, long size, int rangeSize, int window, ExecutorService executor)
+            throws IOException {
+        if (size <= rangeSize) {
+            return new ByteArrayInputStream(reader.read(0L, (int) size));
+        }
+        return new RangeInputStream(reader, size, rangeSize, window, executor);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.ensure()) {
+            return -1;
+        }
+        return this.current[this.position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!this.ensure()) {
+            return -1;
+        }
+        final int count = Math.min(length, this.current.length - this.position);
+        System.arraycopy(this.current, this.position, buffer, offset, count);
+        this.position += count;
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.current == null ? 0 : this.current.length - this.position;
+    }
+
+    @Override
+    public void close() {
+        Future<byte[]> range = this.ranges.poll();
+        while (range != null) {
+            range.cancel(true);
+            range = this.ranges.poll();
+        }
+        this.nextOffset = this.size;
+        this.current = null;
+    }
+
+    /**
+     * Ensure current range has bytes to read.
+     *
+     * @return false if end of content.
+     */
+    private boolean ensure() throws IOException {
+        while (this.current == null || this.position >= this.current.length) {
+            final Future<byte[]> range = this.ranges.poll();
+            if (range == null) {
+                return false;
+            }
+            this.current = this.get(range);
+            this.position = 0;
+            this.request();
+        }
+        return true;
+    }
+
+    /**
+     * Request next ranges, up to window size.
+     */
+    private void request() {
+        while (this.ranges.size() < this.window && this.nextOffset < this.size) {
+            final long offset = this.nextOffset;
+            final int length = (int) Math.min(this.rangeSize, this.size - offset);
+            this.ranges.add(this.executor.submit(() -> this.reader.read(offset, length)));
+            this.nextOffset += length;
+        }
+    }
+
+    private byte[] get(Future<byte[]> range) throws IOException {
+        try {
+            return range.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading range", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException("Error while reading range : " + ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadAheadIteratorTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        this.executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void release() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void readInOrder() {
+        final List<Integer> integers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        final ReadAheadIterator<Integer, String> iterator = new ReadAheadIterator<>(integers.iterator(),
+                (Integer i) -> "V" + i, (Integer i) -> 1L, 3, 100L, this.executor);
+
+        final List<String> values = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            Assertions.assertTrue(iterator.hasNext());
+        }
+        iterator.forEachRemaining(values::add);
+        Assertions.assertEquals(10, values.size());
+        Assertions.assertEquals("V1", values.get(0));
+        Assertions.assertEquals("V10", values.get(9));
+        Assertions.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void boundedByWeight() {
+        final AtomicInteger loaded = new AtomicInteger(0);
+        final List<Integer> integers = Arrays.asList(10, 10, 30, 5, 5);
+        final ReadAheadIterator<Integer, Integer> iterator = new ReadAheadIterator<>(integers.iterator(),
+                (Integer i) -> {
+                    loaded.incrementAndGet();
+                    return i;
+                }, (Integer i) -> i, 10, 20L, this.executor);
+
+        Assertions.assertTrue(iterator.hasNext());
+        Assertions.assertEquals(10, iterator.next());
+        // 30 is heavier than bound, loaded alone.
+        Assertions.assertEquals(10, iterator.next());
+        Assertions.assertEquals(30, iterator.next());
+        Assertions.assertTrue(loaded.get() <= 5);
+        Assertions.assertEquals(5, iterator.next());
+        Assertions.assertEquals(5, iterator.next());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(5, loaded.get());
+    }
+
+    @Test
+    void loadError() {
+        final List<Integer> integers = Arrays.asList(1, 2);
+        final ReadAheadIterator<Integer, Integer> iterator = new ReadAheadIterator<>(integers.iterator(), (Integer i) -> {
+            if (i == 2) {
+                throw new IllegalArgumentException("error " + i);
+            }
+            return i;
+        }, (Integer i) -> 1L, 2, 10L, this.executor);
+
+        Assertions.assertEquals(1, iterator.next());
+        final IllegalArgumentException ex = Assertions.assertThrows(IllegalArgumentException.class, iterator::next);
+        Assertions.assertEquals("error 2", ex.getMessage());
+        iterator.close();
+    }
+
+    @Test
+    void closeReleasesCancelledWhileLoading() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final Resource resource = new Resource();
+        final ReadAheadIterator<Integer, Resource> iterator = new ReadAheadIterator<>(Arrays.asList(1).iterator(),
+                (Integer i) -> {
+                    started.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException ex) {
+                        // cancelled, load ends anyway (as an uninterruptible download would)
+                    }
+                    return resource;
+                }, (Integer i) -> 1L, 1, 10L, this.executor);
+
+        Assertions.assertTrue(iterator.hasNext());
+        started.await();
+        iterator.close();
+        finish.countDown();
+        // released by loading task when it ends
+        for (int i = 0; i < 500 && !resource.closed.get(); i++) {
+            Thread.sleep(10L);
+        }
+        Assertions.assertTrue(resource.closed.get());
+    }
+
+    private static class Resource implements AutoCloseable {
+
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        @Override
+        public void close() {
+            this.closed.set(true);
+        }
+    }
+}
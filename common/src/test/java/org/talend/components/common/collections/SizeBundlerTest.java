@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.collections;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SizeBundlerTest {
+
+    @Test
+    void noSplit() {
+        final List<Long> sizes = Arrays.asList(10L, 20L, 30L);
+        Assertions.assertEquals(1, SizeBundler.split(sizes, Long::longValue, 100L).size());
+        Assertions.assertEquals(1, SizeBundler.split(sizes, Long::longValue, 0L).size());
+        Assertions.assertEquals(sizes, SizeBundler.split(sizes, Long::longValue, 0L).get(0));
+        Assertions.assertEquals(1, SizeBundler.split(Arrays.asList(500L), Long::longValue, 100L).size());
+    }
+
+    @Test
+    void balancedBundles() {
+        final List<Long> sizes = Arrays.asList(10L, 60L, 20L, 40L, 30L, 50L);
+        final List<List<Long>> bundles = SizeBundler.split(sizes, Long::longValue, 70L);
+
+        Assertions.assertEquals(3, bundles.size());
+        for (List<Long> bundle : bundles) {
+            Assertions.assertEquals(70L, bundle.stream().mapToLong(Long::longValue).sum());
+        }
+        Assertions.assertEquals(6, bundles.stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void notMoreBundlesThanElements() {
+        final List<Long> sizes = Arrays.asList(1000L, 1000L);
+        final List<List<Long>> bundles = SizeBundler.split(sizes, Long::longValue, 10L);
+
+        Assertions.assertEquals(2, bundles.size());
+        Assertions.assertEquals(1, bundles.get(0).size());
+        Assertions.assertEquals(1, bundles.get(1).size());
+    }
+}
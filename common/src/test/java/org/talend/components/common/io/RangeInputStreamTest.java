@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.common.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RangeInputStreamTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        this.executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void release() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    void readRanges() throws IOException {
+        final byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        final RangeInputStream.RangeReader reader = (long offset, int length) -> Arrays.copyOfRange(content, (int) offset,
+                (int) offset + length);
+
+        try (InputStream input = RangeInputStream.of(reader, content.length, 999, 3, this.executor)) {
+            Assertions.assertTrue(input instanceof RangeInputStream);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Assertions.assertEquals(0, input.read());
+            final byte[] buffer = new byte[1500];
+            int read = input.read(buffer);
+            while (read > 0) {
+                out.write(buffer, 0, read);
+                read = input.read(buffer);
+            }
+            Assertions.assertEquals(-1, input.read());
+            Assertions.assertArrayEquals(Arrays.copyOfRange(content, 1, content.length), out.toByteArray());
+        }
+
+        try (InputStream input = RangeInputStream.of(reader, 500, 999, 3, this.executor)) {
+            Assertions.assertTrue(input instanceof ByteArrayInputStream);
+        }
+    }
+
+    @Test
+    void readError() {
+        final RangeInputStream.RangeReader reader = (long offset, int length) -> {
+            if (offset > 0) {
+                throw new IOException("range error");
+            }
+            return new byte[length];
+        };
+        final RangeInputStream input = new RangeInputStream(reader, 200, 100, 2, this.executor);
+        final byte[] buffer = new byte[100];
+        Assertions.assertThrows(IOException.class, () -> {
+            while (input.read(buffer) >= 0) {
+                // read all.
+            }
+        });
+        input.close();
+    }
+}
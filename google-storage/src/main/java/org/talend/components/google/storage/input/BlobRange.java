@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.talend.components.google.storage.service.StorageFacade;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Byte range of a blob read by a worker.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BlobRange implements Serializable {
+
+    private static final long serialVersionUID = -1827562012455385105L;
+
+    /** blob name */
+    private final String blob;
+
+    /** start of range (included) */
+    private final long start;
+
+    /** end of range (excluded) */
+    private final long end;
+
+    /** end of header lines, prefixed to range content if range doesn't start blob (0 for no header) */
+    private final long headerEnd;
+
+    /**
+     * @param blobsSize : size of blobs by name.
+     * @return ranges on whole blobs, in same order.
+     */
+    public static List<BlobRange> wholeBlobs(Map<String, Long> blobsSize) {
+        return blobsSize.entrySet().stream() //
+                .map((Map.Entry<String, Long> blob) -> new BlobRange(blob.getKey(), 0L, blob.getValue(), 0L)) //
+                .collect(Collectors.toList());
+    }
+
+    public long getSize() {
+        return this.end - this.start;
+    }
+
+    /**
+     * Build input stream getter on range.
+     *
+     * @param storage : storage.
+     * @param bucket : bucket of blob.
+     * @param chunkSize : size of chunks requested to storage.
+     * @return input stream getter on range (with header lines).
+     */
+    public Supplier<InputStream> input(StorageFacade storage, String bucket, int chunkSize) {
+        final Supplier<InputStream> content = storage.buildInput(bucket, this.blob, this.start, this.end, chunkSize);
+        return () -> this.withHeader(storage, bucket, content.get());
+    }
+
+    /**
+     * Prefix header lines of blob to range content, so range is read like a whole blob.
+     *
+     * @param storage : storage.
+     * @param bucket : bucket of blob.
+     * @param content : content of range.
+     * @return content with header lines.
+     */
+    public InputStream withHeader(StorageFacade storage, String bucket, InputStream content) {
+        if (this.start == 0L || this.headerEnd <= 0L) {
+            return content;
+        }
+        final byte[] header = storage.readRange(bucket, this.blob, 0L, (int) this.headerEnd);
+        return new SequenceInputStream(new ByteArrayInputStream(header), content);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.talend.components.google.storage.service.StorageFacade;
+
+/**
+ * Cut a blob of lines in byte ranges, each range ending just after a line separator.
+ */
+class BlobRangeSplitter {
+
+    /** size of content read to find line separators */
+    static final int SCAN_SIZE = 64 * 1024;
+
+    private final StorageFacade storage;
+
+    private final String bucket;
+
+    private final byte[] separator;
+
+    /** number of header lines of blobs */
+    private final int headerLines;
+
+    BlobRangeSplitter(StorageFacade storage, String bucket, byte[] separator, int headerLines) {
+        this.storage = storage;
+        this.bucket = bucket;
+        this.separator = separator;
+        this.headerLines = headerLines;
+    }
+
+    /**
+     * @param blob : blob name.
+     * @param size : blob size.
+     * @param rangeSize : expected size of ranges.
+     * @return ranges covering whole blob, in blob order.
+     */
+    List<BlobRange> split(String blob, long size, long rangeSize) {
+        final List<BlobRange> ranges = new ArrayList<>();
+        final long headerEnd = this.headerLines > 0 ? this.findBoundary(blob, size, 0L, this.headerLines) : 0L;
+        if (headerEnd < 0L) {
+            // not even header lines, keep whole blob.
+            ranges.add(new BlobRange(blob, 0L, size, 0L));
+            return ranges;
+        }
+        long start = 0L;
+        long cut = Math.max(rangeSize, headerEnd);
+        while (cut < size) {
+            final long boundary = this.findBoundary(blob, size, cut, 1);
+            if (boundary < 0L || boundary >= size) {
+                break;
+            }
+            ranges.add(new BlobRange(blob, start, boundary, headerEnd));
+            start = boundary;
+            cut = start + rangeSize;
+        }
+        ranges.add(new BlobRange(blob, start, size, headerEnd));
+        return ranges;
+    }
+
+    /**
+     * Find position following count-th line separator after a position.
+     *
+     * @param blob : blob name.
+     * @param size : blob size.
+     * @param from : position to start search.
+     * @param count : number of line separators.
+     * @return position after last separator, -1 if blob hasn't enough separators.
+     */
+    private long findBoundary(String blob, long size, long from, int count) {
+        long offset = from;
+        int found = 0;
+        while (offset < size) {
+            final int length = (int) Math.min(SCAN_SIZE, size - offset);
+            final byte[] content = this.storage.readRange(this.bucket, blob, offset, length);
+            int searchEnd = 0;
+            int index = this.indexOf(content, 0);
+            while (index >= 0) {
+                found++;
+                searchEnd = index + this.separator.length;
+                if (found == count) {
+                    return offset + searchEnd;
+                }
+                index = this.indexOf(content, searchEnd);
+            }
+            if (offset + length >= size) {
+                break;
+            }
+            // next content overlaps end of current one, for separator on both.
+            offset += Math.max(searchEnd, length - (this.separator.length - 1));
+        }
+        return -1L;
+    }
+
+    private int indexOf(byte[] content, int from) {
+        final int last = content.length - this.separator.length;
+        for (int i = from; i <= last; i++) {
+            int j = 0;
+            while (j < this.separator.length && content[i + j] == this.separator[j]) {
+                j++;
+            }
+            if (j == this.separator.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.talend.components.common.collections.ContentReadAhead;
+import org.talend.components.common.collections.IteratorMap;
+import org.talend.components.common.collections.LoadedContent;
+import org.talend.components.common.io.RangeInputStream;
+import org.talend.components.google.storage.service.StorageFacade;
+
+/**
+ * Download next blobs in background while current one is read.
+ * Big blobs are downloaded by ranges in parallel.
+ */
+public class BlobReadAhead extends ContentReadAhead<BlobRange> {
+
+    /** size of ranges for parallel download of big blobs */
+    static final int RANGE_SIZE = 4 * 1024 * 1024;
+
+    private final StorageFacade storage;
+
+    private final String bucket;
+
+    public BlobReadAhead(StorageFacade storage, String bucket, int blobCount, long maxSize) {
+        super("gcs-read-ahead", blobCount, maxSize);
+        this.storage = storage;
+        this.bucket = bucket;
+    }
+
+    /**
+     * Start download of blobs.
+     *
+     * @param blobs : ranges of blobs to read.
+     * @return contents of blobs ranges, in same order.
+     */
+    public Iterator<Supplier<InputStream>> inputs(List<BlobRange> blobs) {
+        return new IteratorMap<>(this.read(blobs.iterator()), this::input);
+    }
+
+    @Override
+    protected InputStream load(BlobRange blob) {
+        final String name = blob.getBlob();
+        final long start = blob.getStart();
+        try {
+            return RangeInputStream.of(
+                    (long offset, int length) -> this.storage.readRange(this.bucket, name, start + offset, length),
+                    blob.getSize(), RANGE_SIZE, this.count, this.executor);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    protected long weight(BlobRange blob) {
+        return Math.min(blob.getSize(), (long) RANGE_SIZE * this.count);
+    }
+
+    private Supplier<InputStream> input(LoadedContent<BlobRange> loaded) {
+        return () -> loaded.getSource().withHeader(this.storage, this.bucket, loaded.getContent());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.io.Serializable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.talend.components.common.collections.SizeBundler;
+import org.talend.components.common.stream.api.RecordIORepository;
+import org.talend.components.common.stream.format.LineConfiguration;
+import org.talend.components.google.storage.dataset.FormatConfiguration;
+import org.talend.components.google.storage.dataset.GSDataSet;
+import org.talend.components.google.storage.service.GSService;
+import org.talend.components.google.storage.service.StorageFacade;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Version
+@Slf4j
+@Icon(value = Icon.IconType.CUSTOM, custom = "cloudstorage")
+@PartitionMapper(family = "GoogleStorage", name = "Input")
+@Documentation("This component read content file from google cloud storage.")
+public class GoogleStorageMapper implements Serializable {
+
+    private static final long serialVersionUID = -2716226386574512734L;
+
+    /** google storage input configuration. */
+    private final InputConfiguration config;
+
+    /** record factory */
+    private final RecordBuilderFactory factory;
+
+    private final RecordIORepository ioRepository;
+
+    private final GSService services;
+
+    /** blob ranges read by this mapper, null for all blobs of data set */
+    private final List<BlobRange> ranges;
+
+    public GoogleStorageMapper(@Option("config") final InputConfiguration config, final RecordBuilderFactory factory,
+            final RecordIORepository ioRepository, final GSService services) {
+        this(config, factory, ioRepository, services, null);
+    }
+
+    private GoogleStorageMapper(final InputConfiguration config, final RecordBuilderFactory factory,
+            final RecordIORepository ioRepository, final GSService services, final List<BlobRange> ranges) {
+        this.config = config;
+        this.factory = factory;
+        this.ioRepository = ioRepository;
+        this.services = services;
+        this.ranges = ranges;
+    }
+
+    @Assessor
+    public long estimateSize() {
+        if (this.ranges != null) {
+            return this.ranges.stream().mapToLong(BlobRange::getSize).sum();
+        }
+        final GSDataSet dataset = this.config.getDataset();
+        final StorageFacade storage = this.services.buildStorage(dataset.getDataStore().getJsonCredentials());
+        return storage.findBlobsSize(dataset.getBucket(), dataset.getBlob()).values().stream().mapToLong(Long::longValue)
+                .sum();
+    }
+
+    /**
+     * Split blobs (and ranges of big CSV blobs if enabled) in bundles of close size.
+     */
+    @Split
+    public List<GoogleStorageMapper> split(@PartitionSize final long bundleSize) {
+        final List<BlobRange> blobs = this.listRanges(bundleSize);
+        final List<List<BlobRange>> bundles = SizeBundler.split(blobs, BlobRange::getSize, bundleSize);
+        if (bundles.size() <= 1) {
+            return Collections.singletonList(this);
+        }
+        final List<GoogleStorageMapper> mappers = new ArrayList<>(bundles.size());
+        for (List<BlobRange> bundle : bundles) {
+            mappers.add(new GoogleStorageMapper(this.config, this.factory, this.ioRepository, this.services, bundle));
+        }
+        log.info("Split {} blob ranges in {} bundles.", blobs.size(), mappers.size());
+        return mappers;
+    }
+
+    @Emitter
+    public GoogleStorageSource createWorker() {
+        return new GoogleStorageSource(this.config, this.factory, this.ioRepository, this.services, this.ranges);
+    }
+
+    private List<BlobRange> listRanges(long rangeSize) {
+        if (this.ranges != null) {
+            return new ArrayList<>(this.ranges);
+        }
+        final GSDataSet dataset = this.config.getDataset();
+        final StorageFacade storage = this.services.buildStorage(dataset.getDataStore().getJsonCredentials());
+        final Map<String, Long> blobsSize = storage.findBlobsSize(dataset.getBucket(), dataset.getBlob());
+        final BlobRangeSplitter splitter = this.buildSplitter(storage, dataset);
+        if (splitter == null || rangeSize <= 0) {
+            return BlobRange.wholeBlobs(blobsSize);
+        }
+        final List<BlobRange> blobs = new ArrayList<>();
+        blobsSize.forEach((String name, Long size) -> {
+            if (size > rangeSize) {
+                blobs.addAll(splitter.split(name, size, rangeSize));
+            } else {
+                blobs.add(new BlobRange(name, 0L, size, 0L));
+            }
+        });
+        return blobs;
+    }
+
+    /**
+     * @return splitter for big blobs, null if blobs mustn't be split.
+     */
+    private BlobRangeSplitter buildSplitter(StorageFacade storage, GSDataSet dataset) {
+        if (!this.config.isSplitBlobs() || dataset.getContentFormat().getContentFormat() != FormatConfiguration.Type.CSV) {
+            return null;
+        }
+        final LineConfiguration lineConfig = dataset.getContentFormat().getCsvConfiguration().getLineConfiguration();
+        final Charset charset = Charset.forName(lineConfig.getEncoding().getEncoding());
+        final byte[] separator = lineConfig.getLineSeparator().getBytes(charset);
+        if (separator.length == 0) {
+            return null;
+        }
+        return new BlobRangeSplitter(storage, dataset.getBucket(), separator, lineConfig.calcHeader());
+    }
+}
@@ -15,8 +15,10 @@ package org.talend.components.google.storage.input;
 import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Iterator;
+import java.util.List;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
+
+import javax.annotation.PreDestroy;
 
 import org.talend.components.common.collections.IteratorComposer;
 import org.talend.components.common.stream.api.RecordIORepository;
@@ -26,23 +28,13 @@ import org.talend.components.common.stream.format.ContentFormat;
 import org.talend.components.google.storage.dataset.GSDataSet;
 import org.talend.components.google.storage.service.GSService;
 import org.talend.components.google.storage.service.StorageFacade;
-import org.talend.sdk.component.api.component.Icon;
-import org.talend.sdk.component.api.component.Version;
-import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.Producer;
-import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-@Version
 @Slf4j
-@Icon(value = Icon.IconType.CUSTOM, custom = "cloudstorage")
-@Emitter(family = "GoogleStorage", name = "Input")
-@Documentation("This component read content file from google cloud storage.")
-@RequiredArgsConstructor
 public class GoogleStorageSource implements Serializable {
 
     private static final long serialVersionUID = 7373818898514942128L;
@@ -57,9 +49,29 @@ public class GoogleStorageSource implements Serializable {
 
     private final GSService services;
 
+    /** blob ranges read by this source, null for all blobs of data set */
+    private final List<BlobRange> ranges;
+
     /** current record iterator */
     private transient Iterator<Record> recordIterator = null;
 
+    /** background download of blobs (if enabled) */
+    private transient BlobReadAhead readAhead = null;
+
+    public GoogleStorageSource(InputConfiguration config, RecordBuilderFactory factory, RecordIORepository ioRepository,
+            GSService services) {
+        this(config, factory, ioRepository, services, null);
+    }
+
+    public GoogleStorageSource(InputConfiguration config, RecordBuilderFactory factory, RecordIORepository ioRepository,
+            GSService services, List<BlobRange> ranges) {
+        this.config = config;
+        this.factory = factory;
+        this.ioRepository = ioRepository;
+        this.services = services;
+        this.ranges = ranges;
+    }
+
     @Producer
     public Record next() {
         if (recordIterator == null) {
@@ -77,19 +89,38 @@ public class GoogleStorageSource implements Serializable {
         final StorageFacade storage = this.services.buildStorage(dataset.getDataStore().getJsonCredentials());
         this.services.checkBucket(storage, dataset.getBucket());
         this.services.checkBlob(storage, dataset.getBucket(), dataset.getBlob());
-        final Stream<String> blobsName = storage.findBlobsName(dataset.getBucket(), dataset.getBlob());
+        final List<BlobRange> blobs = this.ranges != null ? this.ranges
+                : BlobRange.wholeBlobs(storage.findBlobsSize(dataset.getBucket(), dataset.getBlob()));
+        final Iterator<Supplier<InputStream>> inputs;
+        if (this.config.isReadAhead()) {
+            this.readAhead = new BlobReadAhead(storage, dataset.getBucket(), this.config.getReadAheadBlobs(),
+                    this.config.getReadAheadSize() * 1024L * 1024L);
+            inputs = this.readAhead.inputs(blobs);
+        } else {
+            final int chunkSize = this.config.getReadChunkSize() * 1024;
+            inputs = IteratorComposer.of(blobs.iterator()) //
+                    .map((BlobRange blob) -> blob.input(storage, dataset.getBucket(), chunkSize)) // create input stream
+                    .build();
+        }
 
         // reader depending on format.
         final RecordReader recordReader = this.buildReader();
 
         // build iterator on record for each input
-        return IteratorComposer.of(blobsName.iterator()) //
-                .map((String name) -> storage.buildInput(dataset.getBucket(), name)) // create input stream
+        return IteratorComposer.of(inputs) //
                 .map((Supplier<InputStream> input) -> new RecordsInputStream(recordReader, input)) //
                 .flatmap(RecordsInputStream::records) //
                 .build();
     }
 
+    @PreDestroy
+    public void release() {
+        if (this.readAhead != null) {
+            this.readAhead.close();
+            this.readAhead = null;
+        }
+    }
+
     private RecordReader buildReader() {
         // reader depending on format.
         final ContentFormat format = this.getDataSet().getContentFormat().findFormat();
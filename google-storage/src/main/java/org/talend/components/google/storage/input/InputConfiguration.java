@@ -16,6 +16,8 @@ import java.io.Serializable;
 
 import org.talend.components.google.storage.dataset.GSDataSet;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
@@ -23,7 +25,9 @@ import lombok.Data;
 
 @Data
 @GridLayout({ @GridLayout.Row("dataset") })
-@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("dataset") })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("dataset"), @GridLayout.Row("readAhead"),
+        @GridLayout.Row({ "readAheadBlobs", "readAheadSize" }), @GridLayout.Row("readChunkSize"),
+        @GridLayout.Row("splitBlobs") })
 public class InputConfiguration implements Serializable {
 
     /** serialization */
@@ -33,4 +37,30 @@ public class InputConfiguration implements Serializable {
     @Documentation("Google storage data set.")
     private GSDataSet dataset;
 
+    @Option
+    @Documentation("Download next blobs in background while current one is read.")
+    private boolean readAhead = false;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max number of blobs (and blob ranges) downloaded in advance.")
+    private int readAheadBlobs = 4;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "readAhead", value = "true")
+    @Documentation("Max size in MB of blob content downloaded in advance.")
+    private int readAheadSize = 64;
+
+    @Option
+    @Min(1)
+    @Documentation("Size in KB of chunks requested to google storage while reading a blob.")
+    private int readChunkSize = 2048;
+
+    @Option
+    @ActiveIf(target = "dataset.contentFormat.contentFormat", value = "CSV")
+    @Documentation("Split big CSV blobs in ranges of lines read by different workers (values must not contain line separator).")
+    private boolean splitBlobs = false;
+
 }
@@ -15,6 +15,7 @@ package org.talend.components.google.storage.service;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -38,6 +39,19 @@ public interface StorageFacade extends Serializable {
      */
     Supplier<InputStream> buildInput(final String bucket, final String blob);
 
+    /**
+     * Build input stream getter on a range of bucket/blob.
+     *
+     * @param bucket : bucket.
+     * @param blob : blob.
+     * @param start : start of range.
+     * @param end : end of range (excluded), negative to read until end of blob.
+     * @param chunkSize : size of chunks requested to storage.
+     * @return input stream getter to read range.
+     */
+    Supplier<InputStream> buildInput(final String bucket, final String blob, final long start, final long end,
+            final int chunkSize);
+
     /**
      * Find all blob for a given bucket that match name.
      * 
@@ -47,6 +61,26 @@ public interface StorageFacade extends Serializable {
      */
     Stream<String> findBlobsName(final String bucket, final String blobStartName);
 
+    /**
+     * Find all blob for a given bucket that match name, with their size.
+     *
+     * @param bucket : bucket name.
+     * @param blobStartName : start name of blob (see findBlobsName).
+     * @return size in bytes of all blob that matches, by name (in listing order).
+     */
+    Map<String, Long> findBlobsSize(final String bucket, final String blobStartName);
+
+    /**
+     * Read a range of blob content.
+     *
+     * @param bucket : bucket name.
+     * @param blob : blob name.
+     * @param offset : start of range.
+     * @param length : length of range.
+     * @return content of range.
+     */
+    byte[] readRange(final String bucket, final String blob, final long offset, final int length);
+
     /**
      * Check if a bucket exist.
      * 
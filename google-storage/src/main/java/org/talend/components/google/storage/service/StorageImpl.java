@@ -12,9 +12,14 @@
  */
 package org.talend.components.google.storage.service;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -22,8 +27,10 @@ import java.util.stream.StreamSupport;
 
 import com.google.api.gax.paging.Page;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobListOption;
@@ -83,6 +90,27 @@ public class StorageImpl implements StorageFacade {
         return () -> Channels.newInputStream(blobObject.reader());
     }
 
+    @Override
+    public Supplier<InputStream> buildInput(final String bucket, final String blob, final long start, final long end,
+            final int chunkSize) {
+        return () -> {
+            final ReadChannel reader = this.getStorage().reader(BlobId.of(bucket, blob));
+            reader.setChunkSize(chunkSize);
+            try {
+                if (start > 0L) {
+                    reader.seek(start);
+                }
+            } catch (IOException ex) {
+                reader.close();
+                throw new UncheckedIOException(ex);
+            }
+            if (end < 0L) {
+                return Channels.newInputStream(reader);
+            }
+            return new RangeChannelInputStream(reader, end - start);
+        };
+    }
+
     @Override
     public Stream<String> findBlobsName(final String bucket, final String blobStartName) {
         final BlobListOption blobListOption = Storage.BlobListOption.prefix(blobStartName);
@@ -90,8 +118,36 @@ public class StorageImpl implements StorageFacade {
 
         return StreamSupport.stream(blobPage.iterateAll().spliterator(), false) //
                 .map(Blob::getName) //
-                .filter((String name) -> Objects.equals(blobStartName, name)
-                        || this.nameBuilder.isGenerated(blobStartName, name));
+                .filter((String name) -> this.isMatching(blobStartName, name));
+    }
+
+    @Override
+    public Map<String, Long> findBlobsSize(final String bucket, final String blobStartName) {
+        final BlobListOption blobListOption = Storage.BlobListOption.prefix(blobStartName);
+        final Page<Blob> blobPage = this.getStorage().list(bucket, blobListOption);
+
+        final Map<String, Long> sizes = new LinkedHashMap<>();
+        for (Blob blob : blobPage.iterateAll()) {
+            if (this.isMatching(blobStartName, blob.getName())) {
+                sizes.put(blob.getName(), blob.getSize() == null ? 0L : blob.getSize());
+            }
+        }
+        return sizes;
+    }
+
+    @Override
+    public byte[] readRange(final String bucket, final String blob, final long offset, final int length) {
+        final ByteBuffer content = ByteBuffer.allocate(length);
+        try (ReadChannel reader = this.getStorage().reader(BlobId.of(bucket, blob))) {
+            reader.setChunkSize(length);
+            reader.seek(offset);
+            while (content.hasRemaining() && reader.read(content) >= 0) {
+                // read until range is full.
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return content.array();
     }
 
     @Override
@@ -108,6 +164,10 @@ public class StorageImpl implements StorageFacade {
         return this.findBlobsName(bucketName, blobName).count() > 0;
     }
 
+    private boolean isMatching(final String blobStartName, final String name) {
+        return Objects.equals(blobStartName, name) || this.nameBuilder.isGenerated(blobStartName, name);
+    }
+
     private synchronized Storage getStorage() {
         if (this.storage == null) {
             this.storage = this.credentialService.newStorage(this.credentials);
@@ -115,4 +175,50 @@ public class StorageImpl implements StorageFacade {
         return this.storage;
     }
 
+    /**
+     * Input stream on read channel, limited to a range.
+     */
+    private static class RangeChannelInputStream extends InputStream {
+
+        private final ReadChannel reader;
+
+        /** bytes remaining in range */
+        private long remaining;
+
+        RangeChannelInputStream(ReadChannel reader, long length) {
+            this.reader = reader;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] content = new byte[1];
+            final int size = this.read(content, 0, 1);
+            return size < 0 ? -1 : content[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (this.remaining <= 0L) {
+                return -1;
+            }
+            final ByteBuffer content = ByteBuffer.wrap(buffer, offset, (int) Math.min(length, this.remaining));
+            int size = this.reader.read(content);
+            while (size == 0) {
+                size = this.reader.read(content);
+            }
+            if (size > 0) {
+                this.remaining -= size;
+            }
+            return size;
+        }
+
+        @Override
+        public void close() {
+            this.reader.close();
+        }
+    }
 }
@@ -12,14 +12,18 @@
  */
 package org.talend.components.google.storage;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.SortedMap;
 import java.util.TreeMap;
@@ -110,6 +114,14 @@ public class StorageFacadeFake implements StorageFacade {
         return null;
     }
 
+    @Override
+    public Supplier<InputStream> buildInput(String bucket, String blob, long start, long end, int chunkSize) {
+        return () -> {
+            final long length = (end < 0L ? this.bucket.getBlob(blob).length() : end) - start;
+            return new ByteArrayInputStream(this.readRange(bucket, blob, start, (int) length));
+        };
+    }
+
     @Override
     public Stream<String> findBlobsName(String bucket, String blobStartName) {
         if (Objects.equals(this.bucket.getName(), bucket)) {
@@ -118,6 +130,27 @@ public class StorageFacadeFake implements StorageFacade {
         return null;
     }
 
+    @Override
+    public Map<String, Long> findBlobsSize(String bucket, String blobStartName) {
+        final Map<String, Long> sizes = new LinkedHashMap<>();
+        if (Objects.equals(this.bucket.getName(), bucket)) {
+            this.bucket.list(blobStartName).forEach((String name) -> sizes.put(name, this.bucket.getBlob(name).length()));
+        }
+        return sizes;
+    }
+
+    @Override
+    public byte[] readRange(String bucket, String blob, long offset, int length) {
+        final byte[] content = new byte[length];
+        try (RandomAccessFile file = new RandomAccessFile(this.bucket.getBlob(blob), "r")) {
+            file.seek(offset);
+            file.readFully(content);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return content;
+    }
+
     @Override
     public boolean isBucketExist(String bucketName) {
         return Objects.equals(this.bucket.name, bucketName);
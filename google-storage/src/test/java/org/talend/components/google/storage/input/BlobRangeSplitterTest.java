@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.talend.components.google.storage.StorageFacadeFake;
+
+class BlobRangeSplitterTest {
+
+    @Test
+    void split(@TempDir Path folder) throws IOException {
+        final StringBuilder content = new StringBuilder("name,value\r\n");
+        for (int i = 0; i < 200; i++) {
+            content.append("line").append(i).append(",value").append(i).append("\r\n");
+        }
+        final byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        Files.write(folder.resolve("blob.csv"), bytes);
+        final File root = folder.toFile();
+        final StorageFacadeFake storage = new StorageFacadeFake("bucket", root);
+
+        final BlobRangeSplitter splitter = new BlobRangeSplitter(storage, "bucket", "\r\n".getBytes(StandardCharsets.UTF_8), 1);
+        final List<BlobRange> ranges = splitter.split("blob.csv", bytes.length, 500L);
+        Assertions.assertTrue(ranges.size() > 1);
+
+        long start = 0L;
+        for (BlobRange range : ranges) {
+            Assertions.assertEquals(start, range.getStart());
+            Assertions.assertEquals(12L, range.getHeaderEnd());
+            Assertions.assertEquals('\n', bytes[(int) range.getEnd() - 1]);
+            Assertions.assertEquals('\r', bytes[(int) range.getEnd() - 2]);
+            start = range.getEnd();
+
+            // content of range starts with header.
+            final String rangeContent = this.read(range.input(storage, "bucket", 1024).get());
+            Assertions.assertTrue(rangeContent.startsWith("name,value\r\n"));
+            if (range.getStart() > 0L) {
+                Assertions.assertTrue(rangeContent.substring(12).startsWith("line"));
+            }
+        }
+        Assertions.assertEquals(bytes.length, start);
+    }
+
+    @Test
+    void splitNoSeparator(@TempDir Path folder) throws IOException {
+        final byte[] bytes = "name,value,without,separator".getBytes(StandardCharsets.UTF_8);
+        Files.write(folder.resolve("blob.csv"), bytes);
+        final StorageFacadeFake storage = new StorageFacadeFake("bucket", folder.toFile());
+
+        final BlobRangeSplitter splitter = new BlobRangeSplitter(storage, "bucket", "\n".getBytes(StandardCharsets.UTF_8), 0);
+        final List<BlobRange> ranges = splitter.split("blob.csv", bytes.length, 5L);
+        Assertions.assertEquals(1, ranges.size());
+        Assertions.assertEquals(bytes.length, ranges.get(0).getSize());
+    }
+
+    private String read(InputStream input) throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[256];
+        int size = input.read(buffer);
+        while (size >= 0) {
+            content.write(buffer, 0, size);
+            size = input.read(buffer);
+        }
+        input.close();
+        return new String(content.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
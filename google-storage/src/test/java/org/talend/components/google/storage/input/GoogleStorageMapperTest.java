@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.google.storage.input;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.components.common.stream.api.RecordIORepository;
+import org.talend.components.common.stream.format.csv.FieldSeparator.Type;
+import org.talend.components.google.storage.GSServiceFake;
+import org.talend.components.google.storage.dataset.FormatConfiguration;
+import org.talend.components.google.storage.dataset.GSDataSet;
+import org.talend.components.google.storage.datastore.GSDataStore;
+import org.talend.components.google.storage.service.GSService;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.junit5.WithComponents;
+
+@WithComponents(value = "org.talend.components.google.storage")
+class GoogleStorageMapperTest {
+
+    @Service
+    private RecordIORepository repository;
+
+    @Service
+    private RecordBuilderFactory factory;
+
+    @Service
+    private GSService services;
+
+    @Test
+    void splitBlobs() throws IOException {
+        final GoogleStorageMapper mapper = this.buildMapper(false);
+        Assertions.assertEquals(34L, mapper.estimateSize());
+
+        final List<GoogleStorageMapper> mappers = mapper.split(20L);
+        Assertions.assertEquals(2, mappers.size());
+        Assertions.assertEquals(6, this.countRecords(mappers));
+    }
+
+    @Test
+    void splitBlobRanges() throws IOException {
+        final GoogleStorageMapper mapper = this.buildMapper(true);
+
+        final List<GoogleStorageMapper> mappers = mapper.split(6L);
+        Assertions.assertEquals(4, mappers.size());
+        Assertions.assertEquals(34L, mappers.stream().mapToLong(GoogleStorageMapper::estimateSize).sum());
+        Assertions.assertEquals(6, this.countRecords(mappers));
+    }
+
+    @Test
+    void noSplit() throws IOException {
+        final GoogleStorageMapper mapper = this.buildMapper(true);
+
+        final List<GoogleStorageMapper> mappers = mapper.split(100L);
+        Assertions.assertEquals(1, mappers.size());
+        Assertions.assertEquals(6, this.countRecords(mappers));
+    }
+
+    private int countRecords(List<GoogleStorageMapper> mappers) {
+        int count = 0;
+        for (GoogleStorageMapper mapper : mappers) {
+            final GoogleStorageSource source = mapper.createWorker();
+            Record record = source.next();
+            while (record != null) {
+                final String f1 = record.getString("field_1");
+                Assertions.assertEquals('b', f1.charAt(0), "explore wrong file");
+                record = source.next();
+                count++;
+            }
+            source.release();
+        }
+        return count;
+    }
+
+    private GoogleStorageMapper buildMapper(boolean splitBlobs) throws IOException {
+        final URL resource = Thread.currentThread().getContextClassLoader().getResource("./bucketSource");
+        final GSService fake = new GSServiceFake(this.services, new File(resource.getPath()), "test");
+
+        final GSDataSet dataset = new GSDataSet();
+        dataset.setBucket("test");
+        dataset.setBlob("blob");
+        dataset.setDataStore(this.buildDataStore());
+
+        final FormatConfiguration configuration = new FormatConfiguration();
+        configuration.setContentFormat(FormatConfiguration.Type.CSV);
+        configuration.getCsvConfiguration().getFieldSeparator().setFieldSeparatorType(Type.COMMA);
+        dataset.setContentFormat(configuration);
+
+        final InputConfiguration config = new InputConfiguration();
+        config.setDataset(dataset);
+        config.setSplitBlobs(splitBlobs);
+        return new GoogleStorageMapper(config, this.factory, this.repository, fake);
+    }
+
+    private GSDataStore buildDataStore() throws IOException {
+        final GSDataStore ds = new GSDataStore();
+        final URL urlJWT = Thread.currentThread().getContextClassLoader().getResource("./engineering-test.json");
+        ds.setJsonCredentials(new String(Files.readAllBytes(new File(urlJWT.getPath()).toPath())));
+        return ds;
+    }
+}
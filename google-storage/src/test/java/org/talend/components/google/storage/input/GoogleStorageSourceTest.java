@@ -50,6 +50,15 @@ class GoogleStorageSourceTest {
 
     @Test
     void source() throws IOException {
+        this.checkSource(false);
+    }
+
+    @Test
+    void sourceWithReadAhead() throws IOException {
+        this.checkSource(true);
+    }
+
+    private void checkSource(boolean readAhead) throws IOException {
         final URL resource = Thread.currentThread().getContextClassLoader().getResource("./bucketSource");
         final GSService fake = new GSServiceFake(this.services, new File(resource.getPath()), "test");
 
@@ -69,6 +78,8 @@ class GoogleStorageSourceTest {
         dataset.setContentFormat(configuration);
         final InputConfiguration config = new InputConfiguration();
         config.setDataset(dataset);
+        config.setReadAhead(readAhead);
+        config.setReadAheadBlobs(2);
 
         final GoogleStorageSource source = new GoogleStorageSource(config, this.factory, this.repository, fake);
         Record record = source.next();
@@ -81,7 +92,7 @@ class GoogleStorageSourceTest {
             count++;
         }
         Assertions.assertEquals(6, count);
-
+        source.release();
     }
 
     private GSDataStore buildDataStore() throws IOException {
@@ -0,0 +1,38 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.configuration;
+
+import lombok.Data;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.constraint.Required;
+import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
+import org.talend.sdk.component.api.meta.Documentation;
+
+import java.io.Serializable;
+
+@Data
+@GridLayout({ @GridLayout.Row({ "tableName", "streamTableName" }) })
+@Documentation("A table captured with its stream")
+public class CaptureStream implements Serializable {
+
+    @Option
+    @Required
+    @Documentation("The table name")
+    private String tableName;
+
+    @Option
+    @Required
+    @Documentation("The stream table name")
+    private String streamTableName;
+
+}
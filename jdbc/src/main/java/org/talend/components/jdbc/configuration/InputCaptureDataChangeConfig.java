@@ -15,11 +15,17 @@ package org.talend.components.jdbc.configuration;
 import lombok.Data;
 import org.talend.components.jdbc.dataset.ChangeDataCaptureDataset;
 import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
-@GridLayout({ @GridLayout.Row({ "dataSet" }), @GridLayout.Row("changeOffsetOnRead") })
+@GridLayout({ @GridLayout.Row({ "dataSet" }), @GridLayout.Row("changeOffsetOnRead"), @GridLayout.Row("additionalStreams") })
+@GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row({ "dataSet" }),
+        @GridLayout.Row({ "minPollInterval", "maxPollInterval" }) })
 @Documentation("Stream table input configuration")
 public class InputCaptureDataChangeConfig implements InputConfig {
 
@@ -31,6 +37,21 @@ public class InputCaptureDataChangeConfig implements InputConfig {
     @Documentation("Change offset on read")
     private ChangeOffsetOnReadStrategy changeOffsetOnRead = ChangeOffsetOnReadStrategy.NO;
 
+    @Option
+    @Documentation("Other tables captured with the same connection, each stream is read by its own worker")
+    private List<CaptureStream> additionalStreams = new ArrayList<>();
+
+    @Option
+    @Min(0)
+    @Documentation("Delay in milliseconds before reading again a stream that had no change")
+    private long minPollInterval = 2000;
+
+    @Option
+    @Min(0)
+    @Documentation("Maximum delay in milliseconds between two reads, the delay doubles after each read without change up to "
+            + "this value")
+    private long maxPollInterval = 30000;
+
     public enum ChangeOffsetOnReadStrategy {
         YES,
         NO
@@ -22,6 +22,7 @@ import org.talend.sdk.component.api.configuration.action.Suggestable;
 import org.talend.sdk.component.api.configuration.action.Validable;
 import org.talend.sdk.component.api.configuration.condition.ActiveIf;
 import org.talend.sdk.component.api.configuration.condition.ActiveIfs;
+import org.talend.sdk.component.api.configuration.constraint.Min;
 import org.talend.sdk.component.api.configuration.constraint.Required;
 import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
 import org.talend.sdk.component.api.meta.Documentation;
@@ -41,7 +42,9 @@ import static org.talend.sdk.component.api.configuration.condition.ActiveIfs.Ope
         @GridLayout.Row("varcharLength"), @GridLayout.Row("keys"), @GridLayout.Row("sortStrategy"), @GridLayout.Row("sortKeys"),
         @GridLayout.Row("distributionStrategy"), @GridLayout.Row("distributionKeys"), @GridLayout.Row("ignoreUpdate") })
 @GridLayout(names = GridLayout.FormType.ADVANCED, value = { @GridLayout.Row("dataset"),
-        @GridLayout.Row("rewriteBatchedStatements") })
+        @GridLayout.Row("rewriteBatchedStatements"), @GridLayout.Row("nativeUpsert"), @GridLayout.Row("asyncWrite"),
+        @GridLayout.Row({ "asyncBatchSize", "asyncWriters" }), @GridLayout.Row("snowflakeStagingFormat"),
+        @GridLayout.Row({ "snowflakeChunkSize", "snowflakeUploadConcurrency" }) })
 @Documentation("Those properties define an output data set for the JDBC output component")
 public class OutputConfig implements Serializable {
 
@@ -116,6 +119,50 @@ public class OutputConfig implements Serializable {
     @Documentation("Rewrite batched statements, to execute one statement per batch combining values in the sql query")
     private boolean rewriteBatchedStatements = true;
 
+    @Option
+    @ActiveIf(target = "actionOnData", value = "UPSERT")
+    @Documentation("Use the database set based upsert statement (merge, insert on conflict...) instead of looking up each "
+            + "record before updating or inserting it.\nThe keys must be a primary key or a unique constraint of the table.")
+    private boolean nativeUpsert = false;
+
+    @Option
+    @ActiveIf(target = "actionOnData", value = "INSERT")
+    @Documentation("Write the batches in background with a pool of connections, the upstream components are not blocked "
+            + "while the database commits.\nThe batches are committed in parallel so the insertion order is not kept.")
+    private boolean asyncWrite = false;
+
+    @Option
+    @Min(1)
+    @ActiveIfs(operator = AND, value = { @ActiveIf(target = "actionOnData", value = "INSERT"),
+            @ActiveIf(target = "asyncWrite", value = "true") })
+    @Documentation("Number of records written and committed at once by a writer")
+    private int asyncBatchSize = 1000;
+
+    @Option
+    @Min(1)
+    @ActiveIfs(operator = AND, value = { @ActiveIf(target = "actionOnData", value = "INSERT"),
+            @ActiveIf(target = "asyncWrite", value = "true") })
+    @Documentation("Number of concurrent writers, each one using its own connection. "
+            + "At most twice this number of batches are pending.")
+    private int asyncWriters = 2;
+
+    @Option
+    @ActiveIf(target = "../dataset.connection.dbType", value = { "Snowflake" })
+    @Documentation("Format of the files staged before being copied into the table")
+    private SnowflakeStagingFormat snowflakeStagingFormat = SnowflakeStagingFormat.CSV;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "../dataset.connection.dbType", value = { "Snowflake" })
+    @Documentation("Maximum size in MB of a compressed staged file")
+    private int snowflakeChunkSize = 16;
+
+    @Option
+    @Min(1)
+    @ActiveIf(target = "../dataset.connection.dbType", value = { "Snowflake" })
+    @Documentation("Number of files uploaded to the stage in parallel, each upload uses its own connection")
+    private int snowflakeUploadConcurrency = 4;
+
     public ActionOnData getActionOnData() {
         if (actionOnData == null || actionOnData.isEmpty()) {
             throw new IllegalArgumentException("label on data is required");
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.configuration;
+
+import lombok.Data;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.configuration.condition.ActiveIf;
+import org.talend.sdk.component.api.configuration.constraint.Min;
+import org.talend.sdk.component.api.configuration.ui.layout.GridLayout;
+import org.talend.sdk.component.api.meta.Documentation;
+
+import java.io.Serializable;
+
+import static org.talend.sdk.component.api.configuration.ui.layout.GridLayout.FormType.ADVANCED;
+
+@Data
+@GridLayout(names = ADVANCED, value = { @GridLayout.Row("parallelRead"), @GridLayout.Row("partitionColumn"),
+        @GridLayout.Row("partitionCount") })
+@Documentation("Parallel read configuration")
+public class PartitionConfig implements Serializable {
+
+    @Option
+    @Documentation("Split the read in several partitions, each one reading its own range of rows on its own connection.")
+    private boolean parallelRead = false;
+
+    @Option
+    @ActiveIf(target = "parallelRead", value = "true")
+    @Documentation("The column used to split the rows.\nNumeric and date columns are split into ranges, "
+            + "other columns are hashed. If empty, the first primary key column of the table is used.")
+    private String partitionColumn;
+
+    @Option
+    @Min(0)
+    @ActiveIf(target = "parallelRead", value = "true")
+    @Documentation("The number of partitions.\nIf the value specified is zero, "
+            + "the number of partitions is computed from the estimated size of the data.")
+    private int partitionCount = 0;
+
+}
@@ -66,6 +66,18 @@ public class ChangeDataCaptureDataset implements BaseDataSet {
         return "select * from " + get(connection, null).identifier(getStreamTableName());
     }
 
+    /**
+     * @return a copy of this dataset capturing an other table with the same connection
+     */
+    public ChangeDataCaptureDataset forStream(final String tableName, final String streamTableName) {
+        final ChangeDataCaptureDataset dataset = new ChangeDataCaptureDataset();
+        dataset.setConnection(connection);
+        dataset.setAdvancedCommon(advancedCommon);
+        dataset.setTableName(tableName);
+        dataset.setStreamTableName(streamTableName);
+        return dataset;
+    }
+
     // Snowflake CDC specific !!!
     public String createStreamTableIfNotExist() {
         return "create stream if not exists " + getQN(streamTableName) + " on table " + getQN(tableName);
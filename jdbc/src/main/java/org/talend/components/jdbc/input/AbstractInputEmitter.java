@@ -17,6 +17,7 @@ import static org.talend.sdk.component.api.record.Schema.Type.RECORD;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -27,6 +28,7 @@ import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
 import org.talend.components.jdbc.configuration.InputConfig;
+import org.talend.components.jdbc.dataset.BaseDataSet;
 import org.talend.components.jdbc.service.I18nMessage;
 import org.talend.components.jdbc.service.JdbcService;
 import org.talend.sdk.component.api.input.Producer;
@@ -47,6 +49,8 @@ public abstract class AbstractInputEmitter implements Serializable {
 
     private final I18nMessage i18n;
 
+    private final QueryPartition partition;
+
     protected Connection connection;
 
     private Statement statement;
@@ -58,28 +62,42 @@ public abstract class AbstractInputEmitter implements Serializable {
     private transient Schema schema;
 
     AbstractInputEmitter(final InputConfig inputConfig, final JdbcService jdbcDriversService,
-            final RecordBuilderFactory recordBuilderFactory, final I18nMessage i18nMessage) {
+            final RecordBuilderFactory recordBuilderFactory, final I18nMessage i18nMessage, final QueryPartition partition) {
         this.inputConfig = inputConfig;
         this.recordBuilderFactory = recordBuilderFactory;
         this.jdbcDriversService = jdbcDriversService;
         this.i18n = i18nMessage;
+        this.partition = partition;
     }
 
-    @PostConstruct
-    public void init() {
-        if (inputConfig.getDataSet().getQuery() == null || inputConfig.getDataSet().getQuery().trim().isEmpty()) {
+    static void validateQuery(final BaseDataSet dataSet, final JdbcService jdbcDriversService, final I18nMessage i18n) {
+        if (dataSet.getQuery() == null || dataSet.getQuery().trim().isEmpty()) {
             throw new IllegalArgumentException(i18n.errorEmptyQuery());
         }
-        if (jdbcDriversService.isNotReadOnlySQLQuery(inputConfig.getDataSet().getQuery())) {
+        if (jdbcDriversService.isNotReadOnlySQLQuery(dataSet.getQuery())) {
             throw new IllegalArgumentException(i18n.errorUnauthorizedQuery());
         }
+    }
+
+    @PostConstruct
+    public void init() {
+        validateQuery(inputConfig.getDataSet(), jdbcDriversService, i18n);
 
         try {
             dataSource = jdbcDriversService.createDataSource(inputConfig.getDataSet().getConnection());
             connection = dataSource.getConnection();
-            statement = connection.createStatement();
-            statement.setFetchSize(inputConfig.getDataSet().getFetchSize());
-            resultSet = statement.executeQuery(inputConfig.getDataSet().getQuery());
+            if (partition == null) {
+                statement = connection.createStatement();
+                statement.setFetchSize(inputConfig.getDataSet().getFetchSize());
+                resultSet = statement.executeQuery(inputConfig.getDataSet().getQuery());
+            } else {
+                final PreparedStatement preparedStatement = connection
+                        .prepareStatement(partition.apply(inputConfig.getDataSet().getQuery()));
+                statement = preparedStatement;
+                preparedStatement.setFetchSize(inputConfig.getDataSet().getFetchSize());
+                partition.bind(preparedStatement);
+                resultSet = preparedStatement.executeQuery();
+            }
         } catch (final SQLException e) {
             throw toIllegalStateException(e);
         }
@@ -39,40 +39,54 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Read a stream table. Each read of the stream runs in its own transaction, the stream is read once and, when the
+ * offset has to be changed, consumed in the same transaction so the offset moves exactly after the rows emitted.
+ * <p>
+ * The stream is read again as soon as the previous read returned some changes, otherwise after a delay doubling at
+ * each read without change. A failed read is rolled back, keeping the stream offset, and retried after the same delay.
+ */
 @Slf4j
 
 @Documentation("JDBC input using stream table name")
 public class ChangeDataCaptureInputEmitter implements Serializable {
 
+    /**
+     * Consecutive failed reads before giving up, the stream query or the connection are likely broken.
+     */
+    static final int MAX_FAILED_READS = 3;
+
     private final InputCaptureDataChangeConfig inputConfig;
 
-    private RecordBuilderFactory recordBuilderFactory;
+    private final RecordBuilderFactory recordBuilderFactory;
 
     private final JdbcService jdbcDriversService;
 
     private final I18nMessage i18n;
 
-    protected Connection connection;
+    private final ChangeDataCaptureDataset cdcDataset;
 
-    private static Statement statement;
+    private transient JdbcService.JdbcDatasource dataSource;
 
-    private Statement statementUpdate;
+    protected transient Connection connection;
 
-    private static ResultSet resultSet;
+    private transient Statement statement;
 
-    private static int resultSetSize;
+    private transient ResultSet resultSet;
 
-    private static JdbcService.JdbcDatasource dataSource;
+    private transient Schema schema;
 
-    private ChangeDataCaptureDataset cdcDataset;
+    private transient long nbRecords;
 
-    private transient Schema schema;
+    private transient long nbIterations;
 
-    private static int nbRecords = 0;
+    private transient long pollInterval;
 
-    private static int nbIterations = 0;
+    private transient long nextPollTime;
 
-    private static long lastFetchTime = 0;
+    private transient boolean completed;
+
+    private transient int failedReads;
 
     ChangeDataCaptureInputEmitter(@Option("configuration") final InputCaptureDataChangeConfig config,
             final JdbcService jdbcDriversService, final RecordBuilderFactory recordBuilderFactory,
@@ -94,42 +108,33 @@ public class ChangeDataCaptureInputEmitter implements Serializable {
             throw new IllegalArgumentException(i18n.errorUnauthorizedQuery());
         }
 
-        String createStreamStatement = this.cdcDataset.createStreamTableIfNotExist();
-
         try {
-            dataSource = jdbcDriversService.createDataSource(inputConfig.getDataSet().getConnection());
-            connection = dataSource.getConnection();
-            // first statement to create stream table if needed
-            statementUpdate = connection.createStatement();
-            int result = statementUpdate.executeUpdate(createStreamStatement);
-            fetchData();
+            connection = connect();
+            try (final Statement statementUpdate = connection.createStatement()) {
+                // create stream table and counter table if needed
+                statementUpdate.executeUpdate(cdcDataset.createStreamTableIfNotExist());
+                if (isConsuming()) {
+                    statementUpdate.executeUpdate(cdcDataset.createCounterTableIfNotExist());
+                }
+            }
+            connection.commit();
         } catch (final SQLException e) {
             throw toIllegalStateException(e);
         }
+        pollInterval = inputConfig.getMinPollInterval();
     }
 
     @Producer
     public Record next() {
-        log.debug("Next is called; nbRecords: " + nbRecords + ",nbIterations: " + nbIterations);
-        boolean commit = (inputConfig.getChangeOffsetOnRead() == InputCaptureDataChangeConfig.ChangeOffsetOnReadStrategy.YES);
         try {
-            boolean resultSetIsNull = (resultSet == null);
-            boolean noNext = resultSetIsNull || (resultSetSize == 0) || (resultSet.getRow() == resultSetSize);
-
-            if (noNext && commit) {
-                if (resultSet != null)
-                    resultSet.close();
-                fetchData();
-                if (resultSetSize == 0) {
-                    return null;
-                }
+            if (resultSet == null && !read()) {
+                return null;
+            }
+            if (!resultSet.next()) {
+                endRead();
+                return null;
             }
-
-            if (!resultSet.next())
-                if (!commit)
-                    return null;
             final ResultSetMetaData metaData = resultSet.getMetaData();
-
             if (schema == null) {
                 final Schema.Builder schemaBuilder = recordBuilderFactory.newSchemaBuilder(RECORD);
                 IntStream.rangeClosed(1, metaData.getColumnCount())
@@ -140,142 +145,115 @@ public class ChangeDataCaptureInputEmitter implements Serializable {
             final Record.Builder recordBuilder = recordBuilderFactory.newRecordBuilder(schema);
             IntStream.rangeClosed(1, metaData.getColumnCount())
                     .forEach(index -> jdbcDriversService.addColumn(recordBuilder, metaData, index, resultSet));
-
-            if (nbRecords == resultSetSize)
-                log.info("Last record of series emitted: " + getRowAsString());
-
             nbRecords++;
             return recordBuilder.build();
         } catch (final SQLException e) {
             log.error("Exception found in next() ", e);
             throw toIllegalStateException(e);
-        } catch (final Exception e) {
-            log.error("Exception found in next() ", e);
-            throw toIllegalStateException(e);
         }
     }
 
-    private int getSize(ResultSet rs) {
-        int rowscount = 0;
-        try {
-            if (rs == null || rs.isClosed())
-                return 0;
-            while (rs.next()) {
-                log.debug("advance cursor");
-            }
-            rowscount = rs.getRow();
-        } catch (final SQLException e) {
-            log.error("Exception found in next() ", e);
-            return 0;
-        }
-        return rowscount;
+    /**
+     * @return the connection used by all the reads of the stream
+     */
+    Connection connect() throws SQLException {
+        dataSource = jdbcDriversService.createDataSource(inputConfig.getDataSet().getConnection());
+        return dataSource.getConnection();
     }
 
-    private void fetchData() {
-        ResultSet resultSetCopy;
-        boolean commit = (inputConfig.getChangeOffsetOnRead() == InputCaptureDataChangeConfig.ChangeOffsetOnReadStrategy.YES);
-        log.info("Fetch data attempt, commmit: " + commit);
-        nbIterations++;
-        try {
-            long time = System.currentTimeMillis();
-
-            if ((time - lastFetchTime < 2000) && (resultSetSize == 0))
-                return;
-
-            resultSetSize = 0;
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
 
-            log.info("------------Fetch data------------------");
-            log.info("Fetch data with query: " + inputConfig.getDataSet().getQuery());
+    private boolean isConsuming() {
+        return inputConfig.getChangeOffsetOnRead() == InputCaptureDataChangeConfig.ChangeOffsetOnReadStrategy.YES;
+    }
 
-            lastFetchTime = time;
-            connection.setAutoCommit(false);
-            // then read from stream table to compute size
-            statement = connection.createStatement();
-            statement.setFetchSize(inputConfig.getDataSet().getFetchSize());
-            resultSetCopy = statement.executeQuery(inputConfig.getDataSet().getQuery());
-            resultSetSize = getSize(resultSetCopy);
-            resultSetCopy.close();
-            // then read from stream table to compute size
+    /**
+     * Start a read of the stream if the poll delay is elapsed.
+     * Without offset change the stream is read only once as the next reads would return the same rows.
+     */
+    private boolean read() throws SQLException {
+        if (completed || currentTimeMillis() < nextPollTime) {
+            return false;
+        }
+        nbIterations++;
+        nbRecords = 0;
+        log.debug("Read {} of stream {}", nbIterations, cdcDataset.getStreamTableName());
+        try {
             statement = connection.createStatement();
             statement.setFetchSize(inputConfig.getDataSet().getFetchSize());
             resultSet = statement.executeQuery(inputConfig.getDataSet().getQuery());
-            connection.commit();
-            connection.setAutoCommit(true);
-
-            // move the offset
-            if (commit && (resultSetSize != 0)) {
-                log.info("Result set size: " + resultSetSize);
-                connection.setAutoCommit(false);
-                statementUpdate = connection.createStatement();
-                String createStreamCounterStatement = this.cdcDataset.createCounterTableIfNotExist();
-                statementUpdate = connection.createStatement();
-                int resultCreateCounter = statementUpdate.executeUpdate(createStreamCounterStatement);
-                log.debug("Update statement changed records: " + resultCreateCounter);
-                String consumeRecordsStreamStatement = this.cdcDataset.createStatementConsumeStreamTable();
-                statementUpdate = connection.createStatement();
-                int resultConsumeRecordsStream = statementUpdate.executeUpdate(consumeRecordsStreamStatement);
-                connection.commit();
-                connection.setAutoCommit(true);
-            } else {
-                log.debug("consumption=no");
-            }
-
         } catch (final SQLException e) {
-            log.error("Exception found in next() ", e);
-            throw toIllegalStateException(e);
-        } catch (final Exception e) {
-            log.error("Exception found in next() ", e);
-            throw toIllegalStateException(e);
+            closeResultSet();
+            connection.rollback();
+            if (++failedReads >= MAX_FAILED_READS) {
+                throw e;
+            }
+            log.warn("Read {} of stream {} failed, retrying in {}ms: {}", nbIterations, cdcDataset.getStreamTableName(),
+                    pollInterval, e.getMessage());
+            backOff();
+            return false;
         }
+        failedReads = 0;
+        return true;
     }
 
-    private String getRowAsString() throws Exception {
-        if (resultSet == null) {
-            return "Cannot print ResultSet is null";
+    private void endRead() throws SQLException {
+        closeResultSet();
+        if (isConsuming() && nbRecords > 0) {
+            // same transaction as the read, the stream returns the same rows so they are all consumed
+            try (final Statement statementUpdate = connection.createStatement()) {
+                statementUpdate.executeUpdate(cdcDataset.createStatementConsumeStreamTable());
+            }
         }
-        final ResultSetMetaData metaData = resultSet.getMetaData();
-        final int current = resultSet.getRow();
-        String res = "Row " + current + ": ";
-
-        for (int index = 1; index <= metaData.getColumnCount(); index++) {
-            final String columnName = metaData.getColumnName(index);
-            final Object value = resultSet.getObject(index);
-            res = res + columnName + ":" + value + ", ";
+        connection.commit();
+        log.debug("{} changes read from stream {}", nbRecords, cdcDataset.getStreamTableName());
+
+        if (!isConsuming()) {
+            completed = true;
+        } else if (nbRecords > 0) {
+            pollInterval = inputConfig.getMinPollInterval();
+            nextPollTime = 0;
+        } else {
+            backOff();
         }
-        return res;
     }
 
-    @PreDestroy
-    public void release() {
-        /**
-         * Avoid closing resultSet - at least temporary - to be able to have more than 1 record
-         */
-        /*
-         * if (resultSet != null) {
-         * try {
-         * resultSet.close();
-         * } catch (SQLException e) {
-         * log.warn(i18n.warnResultSetCantBeClosed(), e);
-         * }
-         * }
-         */
+    private void backOff() {
+        nextPollTime = currentTimeMillis() + pollInterval;
+        pollInterval = Math.min(Math.max(1, pollInterval * 2),
+                Math.max(inputConfig.getMinPollInterval(), inputConfig.getMaxPollInterval()));
+    }
+
+    private void closeResultSet() {
+        if (resultSet != null) {
+            try {
+                resultSet.close();
+            } catch (SQLException e) {
+                log.warn(i18n.warnResultSetCantBeClosed(), e);
+            }
+            resultSet = null;
+        }
         if (statement != null) {
             try {
                 statement.close();
             } catch (SQLException e) {
                 log.warn(i18n.warnStatementCantBeClosed(), e);
             }
+            statement = null;
         }
+    }
+
+    @PreDestroy
+    public void release() {
+        closeResultSet();
         if (connection != null) {
             try {
-                connection.commit();
+                // an interrupted read didn't consume the stream, nothing to keep
+                connection.rollback();
             } catch (final SQLException e) {
                 log.error(i18n.errorSQL(e.getErrorCode(), e.getMessage()), e);
-                try {
-                    connection.rollback();
-                } catch (final SQLException rollbackError) {
-                    log.error(i18n.errorSQL(rollbackError.getErrorCode(), rollbackError.getMessage()), rollbackError);
-                }
             }
             try {
                 connection.close();
@@ -287,4 +265,4 @@ public class ChangeDataCaptureInputEmitter implements Serializable {
             dataSource.close();
         }
     }
-}
\ No newline at end of file
+}
@@ -23,8 +23,8 @@ import org.talend.sdk.component.api.meta.Documentation;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
-import static java.util.Collections.singletonList;
 
 @Version
 @Icon(value = Icon.IconType.DATASTORE)
@@ -55,9 +55,29 @@ public class ChangeDataCaptureInputMapper implements Serializable {
         return 1000L;
     }
 
+    /**
+     * One mapper per captured stream so the streams are read concurrently.
+     */
     @Split
     public List<ChangeDataCaptureInputMapper> split(@PartitionSize final long bundles) {
-        return singletonList(this);
+        final List<ChangeDataCaptureInputMapper> mappers = new ArrayList<>();
+        mappers.add(inputConfig.getAdditionalStreams().isEmpty() ? this
+                : new ChangeDataCaptureInputMapper(forStream(inputConfig.getDataSet().getTableName(),
+                        inputConfig.getDataSet().getStreamTableName()), jdbcDriversService, recordBuilderFactory, i18n));
+        inputConfig.getAdditionalStreams()
+                .forEach(stream -> mappers.add(new ChangeDataCaptureInputMapper(
+                        forStream(stream.getTableName(), stream.getStreamTableName()), jdbcDriversService,
+                        recordBuilderFactory, i18n)));
+        return mappers;
+    }
+
+    private InputCaptureDataChangeConfig forStream(final String tableName, final String streamTableName) {
+        final InputCaptureDataChangeConfig config = new InputCaptureDataChangeConfig();
+        config.setDataSet(inputConfig.getDataSet().forStream(tableName, streamTableName));
+        config.setChangeOffsetOnRead(inputConfig.getChangeOffsetOnRead());
+        config.setMinPollInterval(inputConfig.getMinPollInterval());
+        config.setMaxPollInterval(inputConfig.getMaxPollInterval());
+        return config;
     }
 
     @Emitter
@@ -0,0 +1,365 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.talend.components.jdbc.ErrorFactory.toIllegalStateException;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.talend.components.jdbc.configuration.InputConfig;
+import org.talend.components.jdbc.configuration.PartitionConfig;
+import org.talend.components.jdbc.dataset.TableNameDataset;
+import org.talend.components.jdbc.output.platforms.Platform;
+import org.talend.components.jdbc.output.platforms.PlatformFactory;
+import org.talend.components.jdbc.service.I18nMessage;
+import org.talend.components.jdbc.service.JdbcService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compute the partitions of a table or query input.
+ * <p>
+ * Numeric and date columns are split in ranges between their min and max values, other columns are spread using a
+ * database hash function. The size is estimated from the table statistics when available.
+ */
+@Slf4j
+class InputPartitioner {
+
+    private static final int MAX_PARTITIONS = 1024;
+
+    /**
+     * Cap the size of a single column in the row size estimation, large objects are rarely full.
+     */
+    private static final int MAX_COLUMN_SIZE = 1024;
+
+    private final InputConfig inputConfig;
+
+    private final PartitionConfig partitionConfig;
+
+    private final JdbcService jdbcService;
+
+    private final I18nMessage i18n;
+
+    private final Platform platform;
+
+    InputPartitioner(final InputConfig inputConfig, final PartitionConfig partitionConfig, final JdbcService jdbcService,
+            final I18nMessage i18n) {
+        this.inputConfig = inputConfig;
+        this.partitionConfig = partitionConfig;
+        this.jdbcService = jdbcService;
+        this.i18n = i18n;
+        this.platform = PlatformFactory.get(inputConfig.getDataSet().getConnection(), i18n);
+    }
+
+    boolean isEnabled() {
+        return partitionConfig != null && partitionConfig.isParallelRead();
+    }
+
+    /**
+     * @return the estimated size in bytes of the data read by the query
+     */
+    long estimateSize() {
+        AbstractInputEmitter.validateQuery(inputConfig.getDataSet(), jdbcService, i18n);
+        try (final JdbcService.JdbcDatasource dataSource = jdbcService.createDataSource(inputConfig.getDataSet().getConnection());
+                final Connection connection = dataSource.getConnection()) {
+            if (!isSplittable(connection)) {
+                return 1L;
+            }
+            return Math.max(1L, estimateRowCount(connection) * estimateRowSize(connection));
+        } catch (final SQLException e) {
+            throw toIllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param bundleSize the expected size in bytes of a partition
+     * @return the partitions of the query, a single null partition means the query can't be split
+     */
+    List<QueryPartition> split(final long bundleSize) {
+        if (!isEnabled()) {
+            return singletonList(null);
+        }
+        final int count = partitionConfig.getPartitionCount() > 0 ? partitionConfig.getPartitionCount()
+                : computePartitionCount(bundleSize);
+        if (count <= 1) {
+            return singletonList(null);
+        }
+
+        AbstractInputEmitter.validateQuery(inputConfig.getDataSet(), jdbcService, i18n);
+        try (final JdbcService.JdbcDatasource dataSource = jdbcService.createDataSource(inputConfig.getDataSet().getConnection());
+                final Connection connection = dataSource.getConnection()) {
+            if (!isSplittable(connection)) {
+                return singletonList(null);
+            }
+            final String column = findPartitionColumn(connection);
+            if (column == null) {
+                log.warn("[split] No partition column defined nor primary key found, the input is read by a single worker.");
+                return singletonList(null);
+            }
+            final List<QueryPartition> partitions = splitOn(connection, platform.identifier(column), count);
+            log.debug("[split] {} partitions on column {}.", partitions.size(), column);
+            return partitions;
+        } catch (final SQLException e) {
+            throw toIllegalStateException(e);
+        }
+    }
+
+    private int computePartitionCount(final long bundleSize) {
+        if (bundleSize <= 0) {
+            return 1;
+        }
+        final long size = estimateSize();
+        return (int) Math.min(MAX_PARTITIONS, Math.max(1L, (size + bundleSize - 1) / bundleSize));
+    }
+
+    /**
+     * The partitions wrap the query in a derived table, which some queries can't be: a common table expression on most
+     * databases or an ORDER BY without TOP on SQL Server for instance. Those queries are read by a single worker.
+     */
+    private boolean isSplittable(final Connection connection) {
+        try (final Statement statement = connection.createStatement();
+                final ResultSet ignored = statement
+                        .executeQuery("select * from (" + inputConfig.getDataSet().getQuery() + ") jdbc_probe where 1 = 0")) {
+            return true;
+        } catch (final SQLException e) {
+            log.warn("[split] The query can't be used as a derived table, the input is read by a single worker: {}",
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    private String findPartitionColumn(final Connection connection) throws SQLException {
+        if (partitionConfig.getPartitionColumn() != null && !partitionConfig.getPartitionColumn().trim().isEmpty()) {
+            return partitionConfig.getPartitionColumn().trim();
+        }
+        if (!(inputConfig.getDataSet() instanceof TableNameDataset)) {
+            return null;
+        }
+        final String table = ((TableNameDataset) inputConfig.getDataSet()).getTableName();
+        String column = findPrimaryKey(connection, table);
+        final String storedTable = storedCase(connection.getMetaData(), table);
+        if (column == null && !storedTable.equals(table)) {
+            column = findPrimaryKey(connection, storedTable);
+        }
+        return column;
+    }
+
+    private static String findPrimaryKey(final Connection connection, final String table) throws SQLException {
+        try (final ResultSet keys = connection.getMetaData().getPrimaryKeys(connection.getCatalog(),
+                JdbcService.getSchema(connection), table)) {
+            String column = null;
+            while (keys.next()) {
+                if (column == null || keys.getShort("KEY_SEQ") == 1) {
+                    column = keys.getString("COLUMN_NAME");
+                }
+            }
+            return column;
+        }
+    }
+
+    /**
+     * @return the identifier in the case the database stores the unquoted identifiers, the metadata lookups only match
+     * that case
+     */
+    private static String storedCase(final DatabaseMetaData metaData, final String identifier) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase(Locale.ROOT);
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase(Locale.ROOT);
+        }
+        return identifier;
+    }
+
+    private List<QueryPartition> splitOn(final Connection connection, final String column, final int count)
+            throws SQLException {
+        final String query = inputConfig.getDataSet().getQuery();
+        try (final Statement statement = connection.createStatement();
+                final ResultSet bounds = statement
+                        .executeQuery("select min(" + column + "), max(" + column + ") from (" + query + ") jdbc_bounds")) {
+            if (!bounds.next()) {
+                return singletonList(null);
+            }
+            switch (bounds.getMetaData().getColumnType(1)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return splitOnRange(column, bounds.getBigDecimal(1), bounds.getBigDecimal(2), count,
+                        isIntegral(bounds.getMetaData(), 1));
+            case Types.DATE:
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                final Timestamp min = bounds.getTimestamp(1);
+                final Timestamp max = bounds.getTimestamp(2);
+                if (min == null || max == null) {
+                    return singletonList(null);
+                }
+                final List<QueryPartition> partitions = new ArrayList<>();
+                final List<BigDecimal> boundaries = boundaries(BigDecimal.valueOf(min.getTime()),
+                        BigDecimal.valueOf(max.getTime()), count, true);
+                for (int i = 0; i < boundaries.size() - 1; i++) {
+                    partitions.add(rangePartition(column, new Timestamp(boundaries.get(i).longValue()),
+                            new Timestamp(boundaries.get(i + 1).longValue()), i == 0, i == boundaries.size() - 2));
+                }
+                return partitions;
+            default:
+                return splitOnHash(column, count);
+            }
+        }
+    }
+
+    private List<QueryPartition> splitOnRange(final String column, final BigDecimal min, final BigDecimal max, final int count,
+            final boolean integral) {
+        if (min == null || max == null) {
+            return singletonList(null);
+        }
+        final List<QueryPartition> partitions = new ArrayList<>();
+        final List<BigDecimal> boundaries = boundaries(min, max, count, integral);
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            partitions.add(rangePartition(column, boundaries.get(i), boundaries.get(i + 1), i == 0, i == boundaries.size() - 2));
+        }
+        return partitions;
+    }
+
+    private List<QueryPartition> splitOnHash(final String column, final int count) {
+        final String hash = platform.hash(column);
+        if (hash == null) {
+            log.warn("[split] {} doesn't support hash partitioning on {}, the input is read by a single worker.", platform.name(),
+                    column);
+            return singletonList(null);
+        }
+        final List<QueryPartition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String predicate = "ABS(" + platform.modulo(hash, count) + ") = " + i;
+            partitions.add(new QueryPartition(i == 0 ? "(" + column + " IS NULL OR " + predicate + ")" : predicate,
+                    emptyList()));
+        }
+        return partitions;
+    }
+
+    /**
+     * @return the distinct boundaries splitting [min, max] in count ranges of the same width, min and max included
+     */
+    private static List<BigDecimal> boundaries(final BigDecimal min, final BigDecimal max, final int count,
+            final boolean integral) {
+        final BigDecimal width = max.subtract(min);
+        final List<BigDecimal> boundaries = new ArrayList<>(count + 1);
+        boundaries.add(min);
+        for (int i = 1; i < count; i++) {
+            BigDecimal boundary = min
+                    .add(width.multiply(BigDecimal.valueOf(i)).divide(BigDecimal.valueOf(count), 10, RoundingMode.FLOOR));
+            if (integral) {
+                boundary = boundary.setScale(0, RoundingMode.FLOOR);
+            }
+            if (boundary.compareTo(boundaries.get(boundaries.size() - 1)) > 0 && boundary.compareTo(max) < 0) {
+                boundaries.add(boundary);
+            }
+        }
+        boundaries.add(max);
+        return boundaries;
+    }
+
+    private static QueryPartition rangePartition(final String column, final Serializable lower, final Serializable upper,
+            final boolean first, final boolean last) {
+        final String range = column + " >= ? AND " + column + (last ? " <= ?" : " < ?");
+        return new QueryPartition(first ? "(" + column + " IS NULL OR (" + range + "))" : range, asList(lower, upper));
+    }
+
+    private static boolean isIntegral(final ResultSetMetaData metaData, final int column) throws SQLException {
+        switch (metaData.getColumnType(column)) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+            return true;
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+            return metaData.getScale(column) == 0;
+        default:
+            return false;
+        }
+    }
+
+    private long estimateRowCount(final Connection connection) throws SQLException {
+        if (inputConfig.getDataSet() instanceof TableNameDataset) {
+            final String table = ((TableNameDataset) inputConfig.getDataSet()).getTableName();
+            try {
+                long rows = tableCardinality(connection, table);
+                final String storedTable = storedCase(connection.getMetaData(), table);
+                if (rows <= 0 && !storedTable.equals(table)) {
+                    rows = tableCardinality(connection, storedTable);
+                }
+                if (rows > 0) {
+                    return rows;
+                }
+            } catch (final SQLException e) {
+                log.debug("[estimateRowCount] table statistics are not available for {}.", table, e);
+            }
+        }
+
+        // no statistics, fallback on a count of the query result
+        try (final Statement statement = connection.createStatement();
+                final ResultSet count = statement
+                        .executeQuery("select count(*) from (" + inputConfig.getDataSet().getQuery() + ") jdbc_count")) {
+            return count.next() ? count.getLong(1) : 0L;
+        }
+    }
+
+    private static long tableCardinality(final Connection connection, final String table) throws SQLException {
+        try (final ResultSet statistics = connection.getMetaData().getIndexInfo(connection.getCatalog(),
+                JdbcService.getSchema(connection), table, false, true)) {
+            while (statistics.next()) {
+                if (statistics.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic
+                        && statistics.getLong("CARDINALITY") > 0) {
+                    return statistics.getLong("CARDINALITY");
+                }
+            }
+            return 0L;
+        }
+    }
+
+    private long estimateRowSize(final Connection connection) throws SQLException {
+        try (final Statement statement = connection.createStatement();
+                final ResultSet empty = statement
+                        .executeQuery("select * from (" + inputConfig.getDataSet().getQuery() + ") jdbc_empty where 1 = 0")) {
+            final ResultSetMetaData metaData = empty.getMetaData();
+            long size = 0;
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                size += Math.min(MAX_COLUMN_SIZE, Math.max(1, metaData.getColumnDisplaySize(i)));
+            }
+            return Math.max(1L, size);
+        }
+    }
+}
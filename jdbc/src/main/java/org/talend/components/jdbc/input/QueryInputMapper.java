@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.talend.components.jdbc.configuration.InputQueryConfig;
+import org.talend.components.jdbc.service.I18nMessage;
+import org.talend.components.jdbc.service.JdbcService;
+import org.talend.sdk.component.api.component.Icon;
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.meta.Documentation;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+@Version
+@Icon(value = Icon.IconType.DATASTORE)
+@PartitionMapper(name = "QueryInput")
+@Documentation("JDBC query input")
+public class QueryInputMapper implements Serializable {
+
+    private final InputQueryConfig config;
+
+    private final RecordBuilderFactory recordBuilderFactory;
+
+    private final JdbcService jdbcDriversService;
+
+    private final I18nMessage i18n;
+
+    private final QueryPartition partition;
+
+    public QueryInputMapper(@Option("configuration") final InputQueryConfig config, final JdbcService jdbcDriversService,
+            final RecordBuilderFactory recordBuilderFactory, final I18nMessage i18nMessage) {
+        this(config, jdbcDriversService, recordBuilderFactory, i18nMessage, null);
+    }
+
+    private QueryInputMapper(final InputQueryConfig config, final JdbcService jdbcDriversService,
+            final RecordBuilderFactory recordBuilderFactory, final I18nMessage i18nMessage, final QueryPartition partition) {
+        this.config = config;
+        this.jdbcDriversService = jdbcDriversService;
+        this.recordBuilderFactory = recordBuilderFactory;
+        this.i18n = i18nMessage;
+        this.partition = partition;
+    }
+
+    @Assessor
+    public long estimateSize() {
+        final InputPartitioner partitioner = new InputPartitioner(config, config.getPartitioning(), jdbcDriversService, i18n);
+        return partitioner.isEnabled() && partition == null ? partitioner.estimateSize() : 1L;
+    }
+
+    @Split
+    public List<QueryInputMapper> split(@PartitionSize final long bundleSize) {
+        if (partition != null) {
+            return singletonList(this);
+        }
+        return new InputPartitioner(config, config.getPartitioning(), jdbcDriversService, i18n).split(bundleSize).stream()
+                .map(p -> new QueryInputMapper(config, jdbcDriversService, recordBuilderFactory, i18n, p)).collect(toList());
+    }
+
+    @Emitter
+    public QueryInputEmitter createWorker() {
+        return new QueryInputEmitter(config, jdbcDriversService, recordBuilderFactory, i18n, partition);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * A slice of the input query read by a single worker. The slice is defined by a predicate applied on the query result.
+ */
+@Data
+public class QueryPartition implements Serializable {
+
+    private static final String ALIAS = "jdbc_partition";
+
+    private final String predicate;
+
+    private final List<Serializable> parameters;
+
+    public String apply(final String query) {
+        return "select * from (" + query + ") " + ALIAS + " where " + predicate;
+    }
+
+    public void bind(final PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            statement.setObject(i + 1, parameters.get(i));
+        }
+    }
+}
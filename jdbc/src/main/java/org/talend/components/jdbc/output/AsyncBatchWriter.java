@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output;
+
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.jdbc.output.statement.QueryManager;
+import org.talend.components.jdbc.service.JdbcService;
+import org.talend.sdk.component.api.record.Record;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.talend.components.jdbc.ErrorFactory.toIllegalStateException;
+
+/**
+ * Execute the output batches in background with a pool of writers, each writer has its own query manager and
+ * connection. The number of pending batches is bounded so the records are not accumulated in memory when the database
+ * is slower than the upstream components.
+ */
+@Slf4j
+class AsyncBatchWriter implements AutoCloseable {
+
+    private final JdbcService.JdbcDatasource datasource;
+
+    private final ExecutorService executor;
+
+    private final BlockingQueue<QueryManager> queryManagers;
+
+    private final int maxInFlight;
+
+    private final Semaphore inFlight;
+
+    private final Queue<Reject> rejects = new ConcurrentLinkedQueue<>();
+
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+
+    AsyncBatchWriter(final JdbcService.JdbcDatasource datasource, final Supplier<QueryManager> queryManagerFactory,
+            final int writers) {
+        this.datasource = datasource;
+        this.queryManagers = new LinkedBlockingQueue<>();
+        for (int i = 0; i < writers; i++) {
+            queryManagers.add(queryManagerFactory.get());
+        }
+        // one batch executing and one waiting per writer
+        this.maxInFlight = writers * 2;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = Executors.newFixedThreadPool(writers, new WriterThreadFactory());
+    }
+
+    /**
+     * Hand a batch to the writers, blocks while the maximum number of pending batches is reached.
+     */
+    void submit(final List<Record> batch) {
+        throwIfFailed();
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw toIllegalStateException(e);
+        }
+        try {
+            executor.execute(() -> write(batch));
+        } catch (final RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for the pending batches.
+     *
+     * @return the records rejected since the last call
+     */
+    List<Reject> flush() {
+        try {
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw toIllegalStateException(e);
+        }
+        final List<Reject> discards = new ArrayList<>();
+        Reject reject;
+        while ((reject = rejects.poll()) != null) {
+            discards.add(reject);
+        }
+        throwIfFailed();
+        return discards;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Some output batches are still running, interrupting them");
+                executor.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(final List<Record> batch) {
+        final QueryManager queryManager = queryManagers.poll();
+        try {
+            if (error.get() == null) {
+                rejects.addAll(queryManager.execute(batch, datasource));
+            } else {
+                batch.stream().map(r -> new Reject("not written due to a previous error", r)).forEach(rejects::add);
+            }
+        } catch (final Throwable e) {
+            batch.stream().map(r -> new Reject(e.getMessage(), r)).map(Reject::toString).forEach(log::error);
+            error.compareAndSet(null, e);
+        } finally {
+            queryManagers.add(queryManager);
+            inFlight.release();
+        }
+    }
+
+    private void throwIfFailed() {
+        final Throwable e = error.get();
+        if (e != null) {
+            throw toIllegalStateException(e);
+        }
+    }
+
+    private static class WriterThreadFactory implements ThreadFactory {
+
+        private static final AtomicInteger POOL = new AtomicInteger();
+
+        private final int pool = POOL.incrementAndGet();
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "jdbc-output-" + pool + "-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
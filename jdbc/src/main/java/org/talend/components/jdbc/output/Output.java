@@ -40,17 +40,21 @@ import static org.talend.components.jdbc.service.JdbcService.checkTableExistence
 @Slf4j
 public abstract class Output implements Serializable {
 
+    @Getter
     private final OutputConfig configuration;
 
     @Getter
     private final JdbcService jdbcService;
 
+    @Getter
     private final I18nMessage i18n;
 
     private transient List<Record> records;
 
     private transient JdbcService.JdbcDatasource datasource;
 
+    private transient AsyncBatchWriter asyncWriter;
+
     private Boolean tableExistsCheck;
 
     private boolean tableCreated;
@@ -65,6 +69,11 @@ public abstract class Output implements Serializable {
 
     protected abstract QueryManager getQueryManager();
 
+    /**
+     * @return a new query manager, used when the batches are written concurrently as the query managers are stateful
+     */
+    protected abstract QueryManager newQueryManager();
+
     protected abstract Platform getPlatform();
 
     @BeforeGroup
@@ -80,12 +89,21 @@ public abstract class Output implements Serializable {
             lazyInit();
         }
         records.add(record);
+        if (asyncWriter != null && records.size() >= configuration.getAsyncBatchSize()) {
+            createTableIfNotExists();
+            asyncWriter.submit(records);
+            records = new ArrayList<>();
+        }
     }
 
     private void lazyInit() throws SQLException {
         this.init = true;
-        this.datasource = jdbcService.createDataSource(configuration.getDataset().getConnection(),
-                configuration.isRewriteBatchedStatements());
+        final int writers = isAsyncWrite() ? configuration.getAsyncWriters() : 1;
+        this.datasource = jdbcService.createDataSource(configuration.getDataset().getConnection(), false,
+                configuration.isRewriteBatchedStatements(), writers * getQueryManager().getMaxConnections());
+        if (isAsyncWrite()) {
+            this.asyncWriter = new AsyncBatchWriter(datasource, this::newQueryManager, writers);
+        }
         if (this.tableExistsCheck == null) {
             this.tableExistsCheck = checkTableExistence(configuration.getDataset().getTableName(), datasource);
         }
@@ -94,16 +112,23 @@ public abstract class Output implements Serializable {
         }
     }
 
+    private boolean isAsyncWrite() {
+        return configuration.isAsyncWrite() && configuration.getActionOnData() == OutputConfig.ActionOnData.INSERT;
+    }
+
     @AfterGroup
     public void afterGroup() throws SQLException {
-        if (!tableExistsCheck && !tableCreated && configuration.isCreateTableIfNotExists()) {
-            try (final Connection connection = datasource.getConnection()) {
-                getPlatform().createTableIfNotExist(connection, configuration.getDataset().getTableName(),
-                        configuration.getKeys(), configuration.getSortStrategy(), configuration.getSortKeys(),
-                        configuration.getDistributionStrategy(), configuration.getDistributionKeys(),
-                        configuration.getVarcharLength(), records);
-                tableCreated = true;
+        if (!init) {
+            return;
+        }
+        createTableIfNotExists();
+        if (asyncWriter != null) {
+            if (!records.isEmpty()) {
+                asyncWriter.submit(records);
+                records = new ArrayList<>();
             }
+            asyncWriter.flush().stream().map(Object::toString).forEach(log::error);
+            return;
         }
 
         // TODO : handle discarded records
@@ -116,10 +141,32 @@ public abstract class Output implements Serializable {
         }
     }
 
+    private void createTableIfNotExists() throws SQLException {
+        if (!tableExistsCheck && !tableCreated && configuration.isCreateTableIfNotExists()) {
+            try (final Connection connection = datasource.getConnection()) {
+                getPlatform().createTableIfNotExist(connection, configuration.getDataset().getTableName(),
+                        configuration.getKeys(), configuration.getSortStrategy(), configuration.getSortKeys(),
+                        configuration.getDistributionStrategy(), configuration.getDistributionKeys(),
+                        configuration.getVarcharLength(), records);
+                tableCreated = true;
+            }
+        }
+    }
+
     @PreDestroy
     public void preDestroy() {
-        if (datasource != null) {
-            datasource.close();
+        try {
+            if (asyncWriter != null) {
+                try {
+                    asyncWriter.flush().stream().map(Object::toString).forEach(log::error);
+                } finally {
+                    asyncWriter.close();
+                }
+            }
+        } finally {
+            if (datasource != null) {
+                datasource.close();
+            }
         }
     }
 
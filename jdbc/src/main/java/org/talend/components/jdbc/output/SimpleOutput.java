@@ -51,6 +51,11 @@ public class SimpleOutput extends Output implements Serializable {
         this.queryManager = QueryManagerFactory.getQueryManager(platform, i18n, configuration);
     }
 
+    @Override
+    protected QueryManagerImpl newQueryManager() {
+        return QueryManagerFactory.getQueryManager(platform, getI18n(), getConfiguration());
+    }
+
     @Slf4j
     public static class Migration implements MigrationHandler {
 
@@ -14,6 +14,7 @@ package org.talend.components.jdbc.output.platforms;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -68,6 +69,35 @@ public class DerbyPlatform extends Platform {
         return e instanceof SQLException && "X0Y32".equals(((SQLException) e).getSQLState());
     }
 
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    /**
+     * Derby merge source must be a table, the row values are bound directly in the merge clauses.
+     */
+    @Override
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        final List<String> parameters = new ArrayList<>(keys);
+        final StringBuilder sql = new StringBuilder("MERGE INTO ");
+        sql.append(identifier(table));
+        sql.append(" USING SYSIBM.SYSDUMMY1 ON ");
+        sql.append(keys.stream().map(c -> identifier(table) + "." + identifier(c) + " = ?").collect(joining(" AND ")));
+        if (!updatableColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+            sql.append(updatableColumns.stream().map(this::identifier).map(c -> c + " = ?").collect(joining(",")));
+            parameters.addAll(updatableColumns);
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT");
+        sql.append(columns.stream().map(this::identifier).collect(joining(",", "(", ")")));
+        sql.append(" VALUES");
+        sql.append(columns.stream().map(c -> "?").collect(joining(",", "(", ")")));
+        parameters.addAll(columns);
+        return new UpsertQuery(sql.toString(), parameters);
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(joining(","));
     }
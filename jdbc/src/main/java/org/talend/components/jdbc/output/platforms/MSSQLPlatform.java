@@ -74,6 +74,48 @@ public class MSSQLPlatform extends Platform {
                 && 2714 == ((SQLException) e).getErrorCode();
     }
 
+    @Override
+    public String hash(final String column) {
+        return "CHECKSUM(" + column + ")";
+    }
+
+    @Override
+    public String modulo(final String expression, final int divisor) {
+        return "(" + expression + ") % " + divisor;
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        final StringBuilder sql = new StringBuilder("MERGE INTO ");
+        sql.append(identifier(table)).append(" AS target");
+        sql.append(" USING (VALUES");
+        sql.append(columns.stream().map(c -> "?").collect(Collectors.joining(",", "(", ")")));
+        sql.append(") AS source");
+        sql.append(columns.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        sql.append(" ON (");
+        sql.append(keys.stream().map(this::identifier).map(c -> "target." + c + " = source." + c)
+                .collect(Collectors.joining(" AND ")));
+        sql.append(")");
+        if (!updatableColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+            sql.append(updatableColumns.stream().map(this::identifier).map(c -> "target." + c + " = source." + c)
+                    .collect(Collectors.joining(",")));
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT");
+        sql.append(columns.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        sql.append(" VALUES");
+        sql.append(columns.stream().map(this::identifier).map(c -> "source." + c).collect(Collectors.joining(",", "(", ")")));
+        // a merge statement must be terminated by a semicolon
+        sql.append(";");
+        return new UpsertQuery(sql.toString(), columns);
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
     }
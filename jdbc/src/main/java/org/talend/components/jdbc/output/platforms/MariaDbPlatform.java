@@ -12,17 +12,14 @@
  */
 package org.talend.components.jdbc.output.platforms;
 
-import java.sql.Connection;
-import java.sql.SQLException;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import org.talend.components.jdbc.service.I18nMessage;
 
-import lombok.extern.slf4j.Slf4j;
+import com.zaxxer.hikari.HikariDataSource;
 
-@Slf4j
-public class MariaDbPlatform extends Platform {
+/**
+ * MariaDB shares the MySQL dialect, only the driver options differ.
+ */
+public class MariaDbPlatform extends MySQLPlatform {
 
     public static final String MARIADB = "mariadb";
 
@@ -36,73 +33,8 @@ public class MariaDbPlatform extends Platform {
     }
 
     @Override
-    protected String delimiterToken() {
-        return "`";
-    }
-
-    @Override
-    protected String buildQuery(final Connection connection, final Table table) throws SQLException {
-        // keep the string builder for readability
-        final StringBuilder sql = new StringBuilder("CREATE TABLE");
-        sql.append(" ");
-        sql.append("IF NOT EXISTS");
-        sql.append(" ");
-        if (table.getSchema() != null && !table.getSchema().isEmpty()) {
-            sql.append(identifier(table.getSchema())).append(".");
-        }
-        sql.append(identifier(table.getName()));
-        sql.append("(");
-        sql.append(createColumns(table.getColumns()));
-        sql.append(createPKs(connection.getMetaData(), table.getName(),
-                table.getColumns().stream().filter(Column::isPrimaryKey).collect(Collectors.toList())));
-        sql.append(")");
-        // todo create index
-
-        log.debug("### create table query ###");
-        log.debug(sql.toString());
-        return sql.toString();
-    }
-
-    @Override
-    protected boolean isTableExistsCreationError(Throwable e) {
-        return false;
-    }
-
-    private String createColumns(final List<Column> columns) {
-        return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
-    }
-
-    private String createColumn(final Column column) {
-        return identifier(column.getName())//
-                + " " + toDBType(column)//
-                + " " + isRequired(column)//
-        ;
-    }
-
-    private String toDBType(final Column column) {
-        switch (column.getType()) {
-        case STRING:
-            return column.getSize() <= -1 ? (column.isPrimaryKey() ? "VARCHAR(255)" : "TEXT")
-                    : "VARCHAR(" + column.getSize() + ")";
-        case BOOLEAN:
-            return "BOOLEAN";
-        case DOUBLE:
-            return "DOUBLE";
-        case FLOAT:
-            return "FLOAT";
-        case LONG:
-            return "BIGINT";
-        case INT:
-            return "INT";
-        case BYTES:
-            return "BLOB";
-        case DATETIME:
-            return "DATETIME(6)";
-        case RECORD:
-        case ARRAY:
-        default:
-            throw new IllegalStateException(getI18n().errorUnsupportedType(column.getType().name(), column.getName()));
-        }
+    public void addDataSourceProperties(final HikariDataSource dataSource) {
+        // the MariaDB driver streams results by fetch size, it has no cursor fetch option
     }
 
 }
@@ -14,6 +14,7 @@ package org.talend.components.jdbc.output.platforms;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -80,6 +81,39 @@ public class MySQLPlatform extends Platform {
         return false;
     }
 
+    @Override
+    public String hash(final String column) {
+        return "CRC32(" + column + ")";
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        final StringBuilder sql = new StringBuilder("INSERT INTO ");
+        sql.append(identifier(table));
+        sql.append(columns.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        sql.append(" VALUES");
+        sql.append(columns.stream().map(c -> "?").collect(Collectors.joining(",", "(", ")")));
+        sql.append(" ON DUPLICATE KEY UPDATE ");
+        if (updatableColumns.isEmpty()) {
+            // a no-op assignment keeps the existing row when there is nothing to update
+            final String key = identifier(keys.get(0));
+            sql.append(key).append(" = ").append(key);
+            return new UpsertQuery(sql.toString(), columns);
+        }
+        // the updated values are bound again rather than read back with VALUES(col), deprecated since MySQL 8.0.20,
+        // the row alias replacing it needs 8.0.19 and isn't understood by MariaDB
+        sql.append(updatableColumns.stream().map(c -> identifier(c) + " = ?").collect(Collectors.joining(",")));
+        final List<String> parameters = new ArrayList<>(columns);
+        parameters.addAll(updatableColumns);
+        return new UpsertQuery(sql.toString(), parameters);
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
     }
@@ -83,6 +83,40 @@ public class OraclePlatform extends Platform {
                 && ((SQLException) e).getErrorCode() == 955;
     }
 
+    @Override
+    public String hash(final String column) {
+        return "ORA_HASH(" + column + ")";
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        final StringBuilder sql = new StringBuilder("MERGE INTO ");
+        sql.append(identifier(table)).append(" target");
+        sql.append(" USING (SELECT ");
+        sql.append(columns.stream().map(this::identifier).map(c -> "? " + c).collect(Collectors.joining(",")));
+        sql.append(" FROM DUAL) source");
+        sql.append(" ON (");
+        sql.append(keys.stream().map(this::identifier).map(c -> "target." + c + " = source." + c)
+                .collect(Collectors.joining(" AND ")));
+        sql.append(")");
+        if (!updatableColumns.isEmpty()) {
+            sql.append(" WHEN MATCHED THEN UPDATE SET ");
+            sql.append(updatableColumns.stream().map(this::identifier).map(c -> "target." + c + " = source." + c)
+                    .collect(Collectors.joining(",")));
+        }
+        sql.append(" WHEN NOT MATCHED THEN INSERT");
+        sql.append(columns.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        sql.append(" VALUES");
+        sql.append(columns.stream().map(this::identifier).map(c -> "source." + c).collect(Collectors.joining(",", "(", ")")));
+        return new UpsertQuery(sql.toString(), columns);
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
     }
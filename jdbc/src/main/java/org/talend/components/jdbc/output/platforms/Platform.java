@@ -140,4 +140,46 @@ public abstract class Platform implements Serializable {
     public void addDataSourceProperties(final HikariDataSource dataSource) {
         // to be override by impl
     }
+
+    /**
+     * Build an integer hash expression of a column, used to spread rows over partitions when the column can't be split
+     * into ranges.
+     *
+     * @param column the delimited column name
+     * @return the hash expression or null if the database doesn't provide a hash function
+     */
+    public String hash(final String column) {
+        // to be override by impl
+        return null;
+    }
+
+    /**
+     * @param expression an integer sql expression
+     * @param divisor the divisor
+     * @return the sql expression computing the remainder of the division
+     */
+    public String modulo(final String expression, final int divisor) {
+        return "MOD(" + expression + ", " + divisor + ")";
+    }
+
+    /**
+     * @return true if the platform implements {@link #upsert(String, List, List, List)}
+     */
+    public boolean isUpsertSupported() {
+        return false;
+    }
+
+    /**
+     * Build a set based upsert statement inserting a row or updating it when a row with the same keys already exists.
+     *
+     * @param table the table name
+     * @param columns all the columns of the row
+     * @param keys the columns identifying the row
+     * @param updatableColumns the columns updated when the row exists
+     * @return the upsert statement
+     */
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        throw new IllegalStateException(i18n.errorUnsupportedDatabaseAction());
+    }
 }
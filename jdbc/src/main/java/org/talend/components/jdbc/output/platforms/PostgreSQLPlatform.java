@@ -74,6 +74,36 @@ public class PostgreSQLPlatform extends Platform {
         return e instanceof SQLException && "23505".equals(((SQLException) e).getSQLState());
     }
 
+    @Override
+    public String hash(final String column) {
+        return "hashtext(CAST(" + column + " AS text))";
+    }
+
+    @Override
+    public boolean isUpsertSupported() {
+        return true;
+    }
+
+    @Override
+    public UpsertQuery upsert(final String table, final List<String> columns, final List<String> keys,
+            final List<String> updatableColumns) {
+        final StringBuilder sql = new StringBuilder("INSERT INTO ");
+        sql.append(identifier(table));
+        sql.append(columns.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        sql.append(" VALUES");
+        sql.append(columns.stream().map(c -> "?").collect(Collectors.joining(",", "(", ")")));
+        sql.append(" ON CONFLICT ");
+        sql.append(keys.stream().map(this::identifier).collect(Collectors.joining(",", "(", ")")));
+        if (updatableColumns.isEmpty()) {
+            sql.append(" DO NOTHING");
+        } else {
+            sql.append(" DO UPDATE SET ");
+            sql.append(updatableColumns.stream().map(this::identifier).map(c -> c + " = EXCLUDED." + c)
+                    .collect(Collectors.joining(",")));
+        }
+        return new UpsertQuery(sql.toString(), columns);
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
     }
@@ -105,6 +105,11 @@ public class RedshiftPlatform extends Platform {
         return e instanceof SQLException && "23505".equals(((SQLException) e).getSQLState());
     }
 
+    @Override
+    public String hash(final String column) {
+        return "CHECKSUM(" + column + ")";
+    }
+
     private String createColumns(final List<Column> columns, final RedshiftSortStrategy sortStrategy,
             final List<Column> sortKeys) {
         return columns.stream().map(c -> createColumn(c, sortStrategy, sortKeys)).collect(Collectors.joining(","));
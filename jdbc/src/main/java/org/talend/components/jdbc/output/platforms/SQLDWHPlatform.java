@@ -75,6 +75,12 @@ public class SQLDWHPlatform extends MSSQLPlatform {
         return sql.toString();
     }
 
+    @Override
+    public boolean isUpsertSupported() {
+        // merge is not generally available on Azure Synapse
+        return false;
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(Collectors.joining(","));
     }
@@ -75,6 +75,11 @@ public class SnowflakePlatform extends Platform {
         return false;
     }
 
+    @Override
+    public String hash(final String column) {
+        return "HASH(" + column + ")";
+    }
+
     private String createColumns(final List<Column> columns) {
         return columns.stream().map(this::createColumn).collect(joining(","));
     }
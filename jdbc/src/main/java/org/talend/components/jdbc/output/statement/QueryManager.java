@@ -24,4 +24,11 @@ import java.util.List;
 public interface QueryManager extends Serializable {
 
     List<Reject> execute(List<Record> records, JdbcService.JdbcDatasource dataSource) throws SQLException, IOException;
+
+    /**
+     * @return the number of connections used at the same time by an execution
+     */
+    default int getMaxConnections() {
+        return 1;
+    }
 }
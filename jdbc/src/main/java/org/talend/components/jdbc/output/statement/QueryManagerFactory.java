@@ -20,6 +20,7 @@ import org.talend.components.jdbc.output.statement.operations.Insert;
 import org.talend.components.jdbc.output.statement.operations.QueryManagerImpl;
 import org.talend.components.jdbc.output.statement.operations.Update;
 import org.talend.components.jdbc.output.statement.operations.UpsertDefault;
+import org.talend.components.jdbc.output.statement.operations.UpsertNative;
 import org.talend.components.jdbc.output.statement.operations.snowflake.SnowflakeDelete;
 import org.talend.components.jdbc.output.statement.operations.snowflake.SnowflakeInsert;
 import org.talend.components.jdbc.output.statement.operations.snowflake.SnowflakeUpdate;
@@ -62,6 +63,9 @@ public final class QueryManagerFactory {
             case DELETE:
                 return new Delete(platform, configuration, i18n);
             case UPSERT:
+                if (configuration.isNativeUpsert() && platform.isUpsertSupported()) {
+                    return new UpsertNative(platform, configuration, i18n);
+                }
                 return new UpsertDefault(platform, configuration, i18n);
             default:
                 throw new IllegalStateException(i18n.errorUnsupportedDatabaseAction());
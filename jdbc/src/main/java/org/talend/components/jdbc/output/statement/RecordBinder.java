@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output.statement;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * Bind the record values to the statement parameters.
+ * <p>
+ * The setter of each parameter is resolved once from the query parameters, binding a record is then a single typed
+ * access per field without any type resolution.
+ * <p>
+ * The record API only exposes its values by entry name, so each field still costs one name lookup in the record
+ * values. Binding by position would need an index accessor on {@link Record}.
+ */
+public final class RecordBinder {
+
+    private final ParameterSetter[] setters;
+
+    private RecordBinder(final ParameterSetter[] setters) {
+        this.setters = setters;
+    }
+
+    public static RecordBinder of(final Map<Integer, Schema.Entry> queryParams) {
+        return new RecordBinder(queryParams.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .map(param -> compile(param.getKey(), param.getValue())).toArray(ParameterSetter[]::new));
+    }
+
+    public void bind(final PreparedStatement statement, final Record record) throws SQLException {
+        for (final ParameterSetter setter : setters) {
+            setter.set(statement, record);
+        }
+    }
+
+    private static ParameterSetter compile(final int index, final Schema.Entry entry) {
+        final String name = entry.getName();
+        switch (entry.getType()) {
+        case STRING:
+            return (statement, record) -> {
+                final String value = record.get(String.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.VARCHAR);
+                } else {
+                    statement.setString(index, value);
+                }
+            };
+        case INT:
+            return (statement, record) -> {
+                final Integer value = record.get(Integer.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.INTEGER);
+                } else {
+                    statement.setInt(index, value);
+                }
+            };
+        case LONG:
+            return (statement, record) -> {
+                final Long value = record.get(Long.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.BIGINT);
+                } else {
+                    statement.setLong(index, value);
+                }
+            };
+        case FLOAT:
+            return (statement, record) -> {
+                final Float value = record.get(Float.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.FLOAT);
+                } else {
+                    statement.setFloat(index, value);
+                }
+            };
+        case DOUBLE:
+            return (statement, record) -> {
+                final Double value = record.get(Double.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.DOUBLE);
+                } else {
+                    statement.setDouble(index, value);
+                }
+            };
+        case BOOLEAN:
+            return (statement, record) -> {
+                final Boolean value = record.get(Boolean.class, name);
+                if (value == null) {
+                    statement.setNull(index, Types.BOOLEAN);
+                } else {
+                    statement.setBoolean(index, value);
+                }
+            };
+        case BYTES:
+            return (statement, record) -> statement.setBytes(index, record.get(byte[].class, name));
+        case DATETIME:
+            return (statement, record) -> {
+                final ZonedDateTime value = record.getDateTime(name);
+                statement.setTimestamp(index, value == null ? null : new Timestamp(value.toInstant().toEpochMilli()));
+            };
+        case RECORD:
+        case ARRAY:
+        default:
+            // rare types, keep the generic conversion
+            final RecordToSQLTypeConverter converter = RecordToSQLTypeConverter.valueOf(entry.getType().name());
+            return (statement, record) -> converter.setValue(statement, index, entry, record);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParameterSetter {
+
+        void set(PreparedStatement statement, Record record) throws SQLException;
+    }
+}
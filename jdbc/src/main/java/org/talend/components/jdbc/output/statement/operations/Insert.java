@@ -22,7 +22,6 @@ import org.talend.sdk.component.api.record.Schema;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Comparator.comparing;
@@ -33,6 +32,8 @@ public class Insert extends QueryManagerImpl {
 
     private Map<Integer, Schema.Entry> namedParams;
 
+    private List<Schema.Entry> requiredParams;
+
     private final Map<String, String> queries = new HashMap<>();
 
     public Insert(final Platform platform, final OutputConfig configuration, final I18nMessage i18n) {
@@ -47,6 +48,7 @@ public class Insert extends QueryManagerImpl {
             final AtomicInteger index = new AtomicInteger(0);
             namedParams = new HashMap<>();
             entries.forEach(name -> namedParams.put(index.incrementAndGet(), name));
+            requiredParams = entries.stream().filter(e -> !e.isNullable()).collect(toList());
             final List<Map.Entry<Integer, Schema.Entry>> params = namedParams.entrySet().stream()
                     .sorted(comparing(Map.Entry::getKey)).collect(toList());
             final StringBuilder query = new StringBuilder("INSERT INTO ")
@@ -61,8 +63,12 @@ public class Insert extends QueryManagerImpl {
 
     @Override
     public boolean validateQueryParam(final Record record) {
-        return namedParams.values().stream().filter(e -> !e.isNullable()).map(e -> valueOf(record, e))
-                .allMatch(Optional::isPresent);
+        for (final Schema.Entry entry : requiredParams) {
+            if (!hasValue(record, entry)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
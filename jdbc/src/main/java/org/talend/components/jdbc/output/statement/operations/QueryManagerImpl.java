@@ -12,13 +12,16 @@
  */
 package org.talend.components.jdbc.output.statement.operations;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.talend.components.jdbc.configuration.OutputConfig;
 import org.talend.components.jdbc.output.Reject;
 import org.talend.components.jdbc.output.platforms.Platform;
 import org.talend.components.jdbc.output.statement.QueryManager;
-import org.talend.components.jdbc.output.statement.RecordToSQLTypeConverter;
+import org.talend.components.jdbc.output.statement.RecordBinder;
 import org.talend.components.jdbc.service.I18nMessage;
 import org.talend.components.jdbc.service.JdbcService;
 import org.talend.sdk.component.api.record.Record;
@@ -31,6 +34,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -51,10 +55,19 @@ public abstract class QueryManagerImpl implements QueryManager {
 
     private final I18nMessage i18n;
 
+    private static final int MAX_CACHED_SCHEMAS = 64;
+
     private final Integer maxRetry = 10;
 
     private Integer retryCount = 0;
 
+    /**
+     * non nullable key entries by record schema, null when the schema misses a key
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Map<Schema, List<Schema.Entry>> requiredKeys;
+
     abstract protected String buildQuery(List<Record> records);
 
     abstract protected Map<Integer, Schema.Entry> getQueryParams();
@@ -76,6 +89,7 @@ public abstract class QueryManagerImpl implements QueryManager {
         List<Reject> rejects;
         do {
             rejects = new ArrayList<>();
+            final RecordBinder binder = RecordBinder.of(getQueryParams());
             try (final PreparedStatement statement = connection.prepareStatement(query)) {
                 final Map<Integer, Integer> batchOrder = new HashMap<>();
                 int recordIndex = -1;
@@ -87,10 +101,7 @@ public abstract class QueryManagerImpl implements QueryManager {
                         rejects.add(new Reject("missing required query param in this record", record));
                         continue;
                     }
-                    for (final Map.Entry<Integer, Schema.Entry> entry : getQueryParams().entrySet()) {
-                        RecordToSQLTypeConverter.valueOf(entry.getValue().getType().name()).setValue(statement, entry.getKey(),
-                                entry.getValue(), record);
-                    }
+                    binder.bind(statement, record);
                     statement.addBatch();
                     batchNumber++;
                     batchOrder.put(batchNumber, recordIndex);
@@ -167,6 +178,45 @@ public abstract class QueryManagerImpl implements QueryManager {
                 : "") + (schenma != null && !schenma.isEmpty() ? getPlatform().identifier(connection.getSchema()) : "");
     }
 
+    /**
+     * @param record the record to check
+     * @param keys the key names
+     * @return true if the record schema contains all the keys and the non nullable ones have a value
+     */
+    protected boolean hasKeys(final Record record, final List<String> keys) {
+        if (requiredKeys == null || requiredKeys.size() > MAX_CACHED_SCHEMAS) {
+            requiredKeys = new IdentityHashMap<>();
+        }
+        final Schema schema = record.getSchema();
+        final List<Schema.Entry> required;
+        if (requiredKeys.containsKey(schema)) {
+            required = requiredKeys.get(schema);
+        } else {
+            final List<Schema.Entry> keyEntries = schema.getEntries().stream().filter(entry -> keys.contains(entry.getName()))
+                    .collect(toList());
+            required = keys.stream().allMatch(k -> keyEntries.stream().anyMatch(entry -> entry.getName().equals(k)))
+                    ? keyEntries.stream().filter(entry -> !entry.isNullable()).collect(toList())
+                    : null;
+            requiredKeys.put(schema, required);
+        }
+        if (required == null) {
+            return false;
+        }
+        for (final Schema.Entry entry : required) {
+            if (!hasValue(record, entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as {@code valueOf(record, entry).isPresent()} without boxing the value.
+     */
+    public static boolean hasValue(final Record record, final Schema.Entry entry) {
+        return entry.getType() != Schema.Type.ARRAY && record.get(Object.class, entry.getName()) != null;
+    }
+
     public static Optional<Object> valueOf(final Record record, final Schema.Entry entry) {
         switch (entry.getType()) {
         case INT:
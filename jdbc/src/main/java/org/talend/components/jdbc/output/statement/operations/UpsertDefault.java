@@ -17,7 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.talend.components.jdbc.configuration.OutputConfig;
 import org.talend.components.jdbc.output.Reject;
 import org.talend.components.jdbc.output.platforms.Platform;
-import org.talend.components.jdbc.output.statement.RecordToSQLTypeConverter;
+import org.talend.components.jdbc.output.statement.RecordBinder;
 import org.talend.components.jdbc.service.I18nMessage;
 import org.talend.components.jdbc.service.JdbcService;
 import org.talend.sdk.component.api.record.Record;
@@ -74,10 +74,7 @@ public class UpsertDefault extends QueryManagerImpl {
 
     @Override
     public boolean validateQueryParam(final Record record) {
-        final Set<Schema.Entry> entries = new HashSet<>(record.getSchema().getEntries());
-        return keys.stream().allMatch(k -> entries.stream().anyMatch(entry -> entry.getName().equals(k)))
-                && entries.stream().filter(entry -> keys.contains(entry.getName())).filter(entry -> !entry.isNullable())
-                        .map(entry -> valueOf(record, entry)).allMatch(Optional::isPresent);
+        return hasKeys(record, keys);
     }
 
     @Override
@@ -94,6 +91,7 @@ public class UpsertDefault extends QueryManagerImpl {
         final List<Record> needInsert = new ArrayList<>();
         final String query = buildQuery(records);
         final List<Reject> discards = new ArrayList<>();
+        final RecordBinder binder = RecordBinder.of(getQueryParams());
         try (final Connection connection = dataSource.getConnection()) {
             try (final PreparedStatement statement = connection.prepareStatement(query)) {
                 for (final Record record : records) {
@@ -102,10 +100,7 @@ public class UpsertDefault extends QueryManagerImpl {
                         discards.add(new Reject("missing required query param in this record", record));
                         continue;
                     }
-                    for (final Map.Entry<Integer, Schema.Entry> entry : getQueryParams().entrySet()) {
-                        RecordToSQLTypeConverter.valueOf(entry.getValue().getType().name()).setValue(statement, entry.getKey(),
-                                entry.getValue(), record);
-                    }
+                    binder.bind(statement, record);
                     try (final ResultSet result = statement.executeQuery()) {
                         if (result.next() && result.getInt("RECORD_EXIST") > 0) {
                             needUpdate.add(record);
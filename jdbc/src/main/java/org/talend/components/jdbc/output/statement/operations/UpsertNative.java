@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output.statement.operations;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.talend.components.jdbc.configuration.OutputConfig;
+import org.talend.components.jdbc.output.platforms.Platform;
+import org.talend.components.jdbc.output.platforms.UpsertQuery;
+import org.talend.components.jdbc.service.I18nMessage;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * Upsert using the database set based statement (merge, on conflict...), the whole batch is sent in one round trip
+ * without looking up the existing keys first.
+ */
+@Slf4j
+@Getter
+public class UpsertNative extends QueryManagerImpl {
+
+    private final List<String> keys;
+
+    private final List<String> ignoreColumns;
+
+    private Map<Integer, Schema.Entry> queryParams;
+
+    public UpsertNative(final Platform platform, final OutputConfig configuration, final I18nMessage i18n) {
+        super(platform, configuration, i18n);
+        this.keys = new ArrayList<>(ofNullable(configuration.getKeys()).orElse(emptyList()));
+        if (this.keys.isEmpty()) {
+            throw new IllegalArgumentException(i18n.errorNoKeyForUpdateQuery());
+        }
+        this.ignoreColumns = new ArrayList<>(ofNullable(configuration.getIgnoreUpdate()).orElse(emptyList()));
+    }
+
+    @Override
+    public String buildQuery(final List<Record> records) {
+        this.queryParams = new HashMap<>();
+        final Map<String, Schema.Entry> entries = records.stream().flatMap(r -> r.getSchema().getEntries().stream())
+                .collect(toMap(Schema.Entry::getName, identity(), (e1, e2) -> e1, LinkedHashMap::new));
+        for (final String key : keys) {
+            if (!entries.containsKey(key)) {
+                throw new IllegalStateException(getI18n().errorNoFieldForQueryParam(key));
+            }
+        }
+        final List<String> columns = new ArrayList<>(entries.keySet());
+        final UpsertQuery upsert = getPlatform().upsert(getConfiguration().getDataset().getTableName(), columns, keys,
+                columns.stream().filter(c -> !keys.contains(c) && !ignoreColumns.contains(c)).collect(toList()));
+        final AtomicInteger index = new AtomicInteger(0);
+        upsert.getParameters().forEach(column -> queryParams.put(index.incrementAndGet(), entries.get(column)));
+        return upsert.getQuery();
+    }
+
+    @Override
+    public boolean validateQueryParam(final Record record) {
+        return hasKeys(record, keys);
+    }
+
+    @Override
+    public Map<Integer, Schema.Entry> getQueryParams() {
+        return queryParams;
+    }
+}
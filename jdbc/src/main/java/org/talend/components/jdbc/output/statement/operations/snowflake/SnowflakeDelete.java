@@ -31,10 +31,16 @@ import static java.util.stream.Collectors.joining;
 
 public class SnowflakeDelete extends Delete {
 
-    SnowflakeCopyService snowflakeCopy = new SnowflakeCopyService();
+    private final SnowflakeCopyService snowflakeCopy;
 
     public SnowflakeDelete(Platform platform, OutputConfig configuration, I18nMessage i18n) {
         super(platform, configuration, i18n);
+        snowflakeCopy = new SnowflakeCopyService(configuration);
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return snowflakeCopy.getMaxConnections();
     }
 
     @Override
@@ -46,8 +52,9 @@ public class SnowflakeDelete extends Delete {
             final String tmpTableName = snowflakeCopy.tmpTableName(tableName);
             final String fqTableName = namespace(connection) + "." + getPlatform().identifier(tableName);
             final String fqTmpTableName = namespace(connection) + "." + getPlatform().identifier(tmpTableName);
-            final String fqStageName = namespace(connection) + ".%" + getPlatform().identifier(tmpTableName);
-            rejects.addAll(snowflakeCopy.putAndCopy(connection, records, fqStageName, fqTableName, fqTmpTableName));
+            // the temporary table stage is not visible by the upload connections
+            final String fqStageName = "~/" + getPlatform().identifier(tmpTableName);
+            rejects.addAll(snowflakeCopy.putAndCopy(dataSource, connection, records, fqStageName, fqTableName, fqTmpTableName));
             if (records.size() != rejects.size()) {
                 try (final Statement statement = connection.createStatement()) {
                     statement.execute("delete from " + fqTableName + " target using " + fqTmpTableName + " as source where "
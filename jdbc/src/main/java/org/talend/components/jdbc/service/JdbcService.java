@@ -143,6 +143,13 @@ public class JdbcService {
         return new JdbcDatasource(i18n, resolver, connection, driver, isAutoCommit, rewriteBatchedStatements);
     }
 
+    public JdbcDatasource createDataSource(final JdbcConnection connection, boolean isAutoCommit,
+            final boolean rewriteBatchedStatements, final int maximumPoolSize) {
+        final JdbcConfiguration.Driver driver = getDriver(connection);
+        return new JdbcDatasource(i18n, resolver, connection, driver, isAutoCommit, rewriteBatchedStatements,
+                maximumPoolSize);
+    }
+
     public static class JdbcDatasource implements AutoCloseable {
 
         private final Resolver.ClassLoaderDescriptor classLoaderDescriptor;
@@ -151,6 +158,12 @@ public class JdbcService {
 
         public JdbcDatasource(final I18nMessage i18nMessage, final Resolver resolver, final JdbcConnection connection,
                 final JdbcConfiguration.Driver driver, final boolean isAutoCommit, final boolean rewriteBatchedStatements) {
+            this(i18nMessage, resolver, connection, driver, isAutoCommit, rewriteBatchedStatements, 1);
+        }
+
+        public JdbcDatasource(final I18nMessage i18nMessage, final Resolver resolver, final JdbcConnection connection,
+                final JdbcConfiguration.Driver driver, final boolean isAutoCommit, final boolean rewriteBatchedStatements,
+                final int maximumPoolSize) {
             final Thread thread = Thread.currentThread();
             final ClassLoader prev = thread.getContextClassLoader();
 
@@ -178,7 +191,7 @@ public class JdbcService {
                 dataSource.setDriverClassName(driver.getClassName());
                 dataSource.setJdbcUrl(connection.getJdbcUrl());
                 dataSource.setAutoCommit(isAutoCommit);
-                dataSource.setMaximumPoolSize(1);
+                dataSource.setMaximumPoolSize(maximumPoolSize);
                 dataSource.setConnectionTimeout(connection.getConnectionTimeOut() * 1000);
                 dataSource.setValidationTimeout(connection.getConnectionValidationTimeOut() * 1000);
                 PlatformFactory.get(connection, i18nMessage).addDataSourceProperties(dataSource);
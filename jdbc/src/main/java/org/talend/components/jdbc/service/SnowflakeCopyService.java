@@ -12,9 +12,15 @@
  */
 package org.talend.components.jdbc.service;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,20 +33,31 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.codec.binary.Hex;
+import org.talend.components.jdbc.configuration.OutputConfig;
+import org.talend.components.jdbc.configuration.SnowflakeStagingFormat;
 import org.talend.components.jdbc.output.Reject;
-import org.talend.components.jdbc.output.statement.operations.QueryManagerImpl;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 
@@ -52,29 +69,112 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SnowflakeCopyService implements Serializable {
 
-    private static final long maxChunk = 16 * 1024 * 1024; // 16MB
+    private static final long MB = 1024 * 1024;
 
     private static final String TIMESTAMP_FORMAT_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
 
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern(TIMESTAMP_FORMAT_PATTERN);
+
+    private static final Pattern AVRO_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
     private final List<Path> tmpFiles = new ArrayList<>();
 
     private Path tmpFolder;
 
-    public List<Reject> putAndCopy(final Connection connection, final List<Record> records, final String fqStageName,
-            final String fqTableName, final String fqTmpTableName) throws SQLException {
+    private final long maxChunk;
+
+    private final int uploadConcurrency;
+
+    private final SnowflakeStagingFormat stagingFormat;
+
+    public SnowflakeCopyService() {
+        this(16 * MB, 4, SnowflakeStagingFormat.CSV);
+    }
+
+    public SnowflakeCopyService(final OutputConfig configuration) {
+        this(configuration.getSnowflakeChunkSize() * MB, configuration.getSnowflakeUploadConcurrency(),
+                configuration.getSnowflakeStagingFormat());
+    }
+
+    private SnowflakeCopyService(final long maxChunk, final int uploadConcurrency, final SnowflakeStagingFormat stagingFormat) {
+        this.maxChunk = maxChunk;
+        this.uploadConcurrency = uploadConcurrency;
+        this.stagingFormat = stagingFormat;
+    }
+
+    /**
+     * @return the number of connections used at the same time by a load, the copy connection and one per upload
+     */
+    public int getMaxConnections() {
+        return 1 + uploadConcurrency;
+    }
+
+    /**
+     * Load the records in a temporary table created like the table. As the temporary table is only visible by the copy
+     * connection, the stage must be visible by the upload connections, a user stage for instance.
+     */
+    public List<Reject> putAndCopy(final JdbcService.JdbcDatasource dataSource, final Connection connection,
+            final List<Record> records, final String fqStageName, final String fqTableName, final String fqTmpTableName)
+            throws SQLException {
         try (final Statement statement = connection.createStatement()) {
             statement.execute("create temporary table if not exists " + fqTmpTableName + " like " + fqTableName);
         }
-        return putAndCopy(connection, records, fqStageName, fqTmpTableName);
+        return putAndCopy(dataSource, connection, records, fqStageName, fqTmpTableName);
     }
 
-    public List<Reject> putAndCopy(final Connection connection, final List<Record> records, final String fqStageName,
-            final String fqTableName) {
-        final List<RecordChunk> chunks = splitRecords(createWorkDir(), records);
+    /**
+     * Write the records in compressed chunks and upload each chunk as soon as it is complete, the next chunks are written
+     * while the previous ones are uploaded, each upload worker using its own connection from the data source. The chunks
+     * are then copied into the table at once with the given connection.
+     */
+    public List<Reject> putAndCopy(final JdbcService.JdbcDatasource dataSource, final Connection connection,
+            final List<Record> records, final String fqStageName, final String fqTableName) {
         final List<Reject> rejects = new ArrayList<>();
-        final List<RecordChunk> copy = chunks.stream().parallel().map(chunk -> doPUT(fqStageName, connection, chunk, rejects))
-                .filter(Objects::nonNull).collect(Collectors.toList());
-        rejects.addAll(toReject(chunks, doCopy(fqStageName, fqTableName, connection, copy)));
+        final List<RecordChunk> chunks = new ArrayList<>();
+        final List<Future<List<Reject>>> puts = new ArrayList<>();
+        final org.apache.avro.Schema avroSchema = stagingFormat == SnowflakeStagingFormat.AVRO ? toAvroSchema(records) : null;
+        final SnowflakeStagingFormat format = avroSchema == null ? SnowflakeStagingFormat.CSV : SnowflakeStagingFormat.AVRO;
+        // bound the chunks waiting on disk for an upload
+        final Semaphore pending = new Semaphore(uploadConcurrency * 2);
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService putExecutor = Executors.newFixedThreadPool(uploadConcurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "snowflake-put-" + fqTableName + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            splitRecords(createWorkDir(), records, avroSchema, chunk -> {
+                chunks.add(chunk);
+                try {
+                    pending.acquire();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                try {
+                    puts.add(putExecutor.submit(() -> {
+                        try (final Connection putConnection = dataSource.getConnection()) {
+                            return doPUT(fqStageName, putConnection, chunk, records, format);
+                        } finally {
+                            pending.release();
+                        }
+                    }));
+                } catch (final RuntimeException e) {
+                    // task will never run to release its permit
+                    pending.release();
+                    throw e;
+                }
+            });
+            for (final Future<List<Reject>> put : puts) {
+                rejects.addAll(await(put));
+            }
+        } finally {
+            putExecutor.shutdownNow();
+        }
+        final List<RecordChunk> copy = chunks.stream().filter(RecordChunk::isUploaded).collect(Collectors.toList());
+        if (!copy.isEmpty()) {
+            rejects.addAll(toReject(records, copy, doCopy(fqStageName, fqTableName, connection, copy, format)));
+        }
         return rejects;
     }
 
@@ -99,49 +199,67 @@ public class SnowflakeCopyService implements Serializable {
         }
     }
 
-    private List<Reject> toReject(final List<RecordChunk> chunks, final List<CopyError> errors) {
-        return errors.stream().flatMap(error -> chunks.stream()
-                .filter(chunk -> error.getFile().startsWith(chunk.getChunk().getFileName().toString()))
-                .map(chunk -> new Reject(
-                        error.getError() + (error.getErrorColumnName() == null || error.getErrorColumnName().isEmpty() ? ""
-                                : ", columnName=" + error.getErrorColumnName()),
-                        chunk.getRecords().get(error.getErrorLine() - 1))))
+    private static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private List<Reject> toReject(final List<Record> records, final List<RecordChunk> chunks, final List<CopyError> errors) {
+        return errors.stream()
+                .flatMap(error -> chunks.stream()
+                        .filter(chunk -> error.getFile().endsWith(chunk.getChunk().getFileName().toString()))
+                        .filter(chunk -> error.getErrorLine() > 0 && chunk.getStart() + error.getErrorLine() <= chunk.getEnd())
+                        .map(chunk -> new Reject(
+                                error.getError() + (error.getErrorColumnName() == null || error.getErrorColumnName().isEmpty()
+                                        ? ""
+                                        : ", columnName=" + error.getErrorColumnName()),
+                                records.get(chunk.getStart() + error.getErrorLine() - 1))))
                 .collect(Collectors.toList());
     }
 
-    private RecordChunk doPUT(final String fqStageName, final Connection connection, final RecordChunk chunk,
-            final List<Reject> rejects) {
+    private List<Reject> doPUT(final String fqStageName, final Connection connection, final RecordChunk chunk,
+            final List<Record> records, final SnowflakeStagingFormat format) {
         try (final Statement statement = connection.createStatement()) {
-            try (final ResultSet result = statement
-                    .executeQuery("PUT '" + chunk.getChunk().toUri() + "' '@" + fqStageName + "/' AUTO_COMPRESS=TRUE")) {
+            try (final ResultSet result = statement.executeQuery("PUT '" + chunk.getChunk().toUri() + "' '@" + fqStageName
+                    + "/' AUTO_COMPRESS=FALSE"
+                    + (format == SnowflakeStagingFormat.CSV ? " SOURCE_COMPRESSION=GZIP" : ""))) {
                 result.next();
                 if (!"uploaded".equalsIgnoreCase(result.getString("status"))) {
                     String error = result.getString("message");
-                    rejects.addAll(toReject(chunk, error, result.getString("status"), null));
-                    return null;
+                    return toReject(records, chunk, error, result.getString("status"), null);
                 }
             }
-            return chunk;
+            chunk.setUploaded(true);
+            return new ArrayList<>();
         } catch (final SQLException e) {
-            rejects.addAll(toReject(chunk, e.getMessage(), e.getSQLState(), e.getErrorCode()));
-            return null;
+            return toReject(records, chunk, e.getMessage(), e.getSQLState(), e.getErrorCode());
+        } finally {
+            // the local file is not needed anymore
+            chunk.delete();
         }
     }
 
-    private List<Reject> toReject(RecordChunk chunk, String error, final String state, final Integer code) {
-        return chunk.getRecords().stream().map(record -> new Reject(error, state, code, record)).collect(Collectors.toList());
+    private List<Reject> toReject(final List<Record> records, final RecordChunk chunk, final String error, final String state,
+            final Integer code) {
+        return records.subList(chunk.getStart(), chunk.getEnd()).stream().map(record -> new Reject(error, state, code, record))
+                .collect(Collectors.toList());
     }
 
     private List<CopyError> doCopy(final String fqStageName, final String fqTableName, final Connection connection,
-            final List<RecordChunk> chunks) {
+            final List<RecordChunk> chunks, final SnowflakeStagingFormat format) {
         final List<CopyError> errors = new ArrayList<>();
         try (final Statement statement = connection.createStatement()) {
             try (final ResultSet result = statement
                     .executeQuery("COPY INTO " + fqTableName + " from '@" + fqStageName + "'" + " FILES="
-                            + chunks.stream().map(chunk -> chunk.getChunk().getFileName()).map(name -> "'" + name + ".gz'")
+                            + chunks.stream().map(chunk -> chunk.getChunk().getFileName()).map(name -> "'" + name + "'")
                                     .collect(Collectors.joining(",", "(", ")"))
-                            + " FILE_FORMAT=(TYPE=CSV field_delimiter=',' COMPRESSION=GZIP field_optionally_enclosed_by='\"')"
-                            + " PURGE=TRUE ON_ERROR='CONTINUE'")) {
+                            + fileFormat(format) + " PURGE=TRUE ON_ERROR='CONTINUE'")) {
                 while (result.next()) {
                     final String status = result.getString("status");
                     switch (status.toLowerCase(Locale.ROOT)) {
@@ -170,6 +288,16 @@ public class SnowflakeCopyService implements Serializable {
         }
     }
 
+    private String fileFormat(final SnowflakeStagingFormat format) {
+        switch (format) {
+        case AVRO:
+            return " FILE_FORMAT=(TYPE=AVRO) MATCH_BY_COLUMN_NAME=CASE_INSENSITIVE";
+        case CSV:
+        default:
+            return " FILE_FORMAT=(TYPE=CSV field_delimiter=',' COMPRESSION=GZIP field_optionally_enclosed_by='\"')";
+        }
+    }
+
     @Data
     private class CopyError {
 
@@ -192,67 +320,84 @@ public class SnowflakeCopyService implements Serializable {
         private final int rowParsed;
     }
 
-    private List<RecordChunk> splitRecords(final Path directoryPath, final List<Record> records) {
-        final AtomicLong size = new AtomicLong(0);
-        final AtomicInteger count = new AtomicInteger(0);
-        final AtomicInteger recordCounter = new AtomicInteger(0);
-        final Map<Integer, RecordChunk> chunks = new HashMap<>();
-        records.stream().map(record -> record.getSchema().getEntries().stream().map(entry -> format(record, entry))
-                .collect(Collectors.joining(","))).forEach(line -> {
-                    if (size.addAndGet(line.getBytes(StandardCharsets.UTF_8).length) > maxChunk) {
-                        // this writer can be closed now. to early free of memory
-                        chunks.get(count.getAndIncrement()).close();
-                        size.set(line.getBytes(StandardCharsets.UTF_8).length);
-                    }
-                    final int recordNumber = recordCounter.getAndIncrement();
-                    chunks.computeIfAbsent(count.get(), key -> new RecordChunk(records, key, recordNumber, directoryPath))
-                            .writer(line);
-                });
-        chunks.get(count.get()).close(); // close the last writer
-        return new ArrayList<>(chunks.values());
+    /**
+     * Stream the records into compressed chunks of at most {@link #maxChunk} compressed bytes.
+     *
+     * @param avroSchema the schema of the avro chunks, null for csv chunks
+     * @param onChunk called with each chunk once it is complete and closed
+     */
+    private void splitRecords(final Path directoryPath, final List<Record> records, final org.apache.avro.Schema avroSchema,
+            final Consumer<RecordChunk> onChunk) {
+        RecordChunk chunk = null;
+        int part = 0;
+        for (int i = 0; i < records.size(); i++) {
+            if (chunk == null) {
+                chunk = new RecordChunk(part++, i, directoryPath, avroSchema);
+            }
+            chunk.write(records.get(i));
+            if (chunk.getSize() >= maxChunk) {
+                chunk.close();
+                onChunk.accept(chunk);
+                chunk = null;
+            }
+        }
+        if (chunk != null) {
+            chunk.close();
+            onChunk.accept(chunk);
+        }
     }
 
+    /**
+     * A compressed file holding the records from start (inclusive) to end (exclusive).
+     */
     @Getter
-    @RequiredArgsConstructor
     private class RecordChunk {
 
-        private final List<Record> records;
-
         private final int part;
 
         private final int start;
 
-        private final Path tmpDir;
+        private final Path chunk;
 
-        private Path chunk;
+        private final CountingOutputStream counter;
 
-        private BufferedWriter writer;
+        private final ChunkWriter writer;
 
         private int end;
 
-        List<Record> getRecords() {
-            if (records == null) {
-                return null;
+        private volatile boolean uploaded;
+
+        RecordChunk(final int part, final int start, final Path tmpDir, final org.apache.avro.Schema avroSchema) {
+            this.part = part;
+            this.start = start;
+            this.end = start;
+            final String suffix = LocalDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+            try {
+                chunk = Files.createTempFile(tmpDir, "part_" + part + "_",
+                        "_" + suffix + (avroSchema == null ? ".csv.gz" : ".avro"));
+                log.debug("Temp file {} created", chunk);
+                tmpFiles.add(chunk);
+                counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(chunk)));
+                writer = avroSchema == null ? new CsvChunkWriter(counter) : new AvroChunkWriter(counter, avroSchema);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
             }
-            return records.subList(start, end);
         }
 
-        void writer(final String line) {
-            if (writer == null) {
-                end = start;
-                final String suffix = LocalDateTime.now(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-                try {
-                    chunk = Files.createTempFile(tmpDir, "part_" + part + "_", "_" + suffix + ".csv");
-                    log.debug("Temp file {} created", chunk);
-                    tmpFiles.add(chunk);
-                    writer = Files.newBufferedWriter(chunk, StandardCharsets.UTF_8);
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
+        /**
+         * @return the compressed size written so far, the data buffered by the compression is not counted
+         */
+        long getSize() {
+            return counter.getCount();
+        }
+
+        void setUploaded(final boolean uploaded) {
+            this.uploaded = uploaded;
+        }
+
+        void write(final Record record) {
             try {
-                writer.write(line);
-                writer.newLine();
+                writer.write(record);
                 end++;
             } catch (final IOException e) {
                 throw new IllegalStateException(e);
@@ -260,41 +405,220 @@ public class SnowflakeCopyService implements Serializable {
         }
 
         void close() {
-            if (writer != null) {
-                try {
-                    writer.close();
-                } catch (IOException e) {
-                    throw new IllegalStateException(e);
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(chunk);
+            } catch (final IOException e) {
+                log.warn("Cannot delete tmp file '{}'", chunk);
+            }
+        }
+    }
+
+    private interface ChunkWriter extends Closeable {
+
+        void write(Record record) throws IOException;
+    }
+
+    private class CsvChunkWriter implements ChunkWriter {
+
+        private final Writer writer;
+
+        private CsvChunkWriter(final OutputStream output) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(output), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(final Record record) throws IOException {
+            boolean first = true;
+            for (final Schema.Entry entry : record.getSchema().getEntries()) {
+                if (!first) {
+                    writer.write(',');
                 }
+                first = false;
+                writer.write(format(record, entry));
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private class AvroChunkWriter implements ChunkWriter {
+
+        private final org.apache.avro.Schema schema;
+
+        private final DataFileWriter<GenericRecord> writer;
+
+        private AvroChunkWriter(final OutputStream output, final org.apache.avro.Schema schema) throws IOException {
+            this.schema = schema;
+            writer = new DataFileWriter<GenericRecord>(new GenericDatumWriter<>(schema)).setCodec(CodecFactory.deflateCodec(6))
+                    .create(schema, output);
+        }
+
+        @Override
+        public void write(final Record record) throws IOException {
+            final GenericRecord avro = new GenericData.Record(schema);
+            for (final Schema.Entry entry : record.getSchema().getEntries()) {
+                avro.put(entry.getName(), toAvro(record, entry));
+            }
+            writer.append(avro);
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * The binary and date time values are written as strings with the same format than the csv files, snowflake
+     * converts them to the column type.
+     *
+     * @return the schema of the avro chunks, null when a column name is not a valid avro name: the avro fields are loaded
+     * by matching their names with the column names, so they can't be renamed and the records are staged as csv instead
+     */
+    private org.apache.avro.Schema toAvroSchema(final List<Record> records) {
+        final Collection<Schema.Entry> entries = records.stream().flatMap(r -> r.getSchema().getEntries().stream())
+                .collect(Collectors.toMap(Schema.Entry::getName, e -> e, (e1, e2) -> e1, LinkedHashMap::new)).values();
+        final List<String> invalidNames = entries.stream().map(Schema.Entry::getName)
+                .filter(name -> !AVRO_NAME.matcher(name).matches()).collect(Collectors.toList());
+        if (!invalidNames.isEmpty()) {
+            log.info("Columns {} can't be avro field names, staging the records as csv.", invalidNames);
+            return null;
+        }
+        final SchemaBuilder.FieldAssembler<org.apache.avro.Schema> fields = SchemaBuilder.record("record").fields();
+        for (final Schema.Entry entry : entries) {
+            final org.apache.avro.Schema.Type type;
+            switch (entry.getType()) {
+            case INT:
+                type = org.apache.avro.Schema.Type.INT;
+                break;
+            case LONG:
+                type = org.apache.avro.Schema.Type.LONG;
+                break;
+            case BOOLEAN:
+                type = org.apache.avro.Schema.Type.BOOLEAN;
+                break;
+            case FLOAT:
+                type = org.apache.avro.Schema.Type.FLOAT;
+                break;
+            case DOUBLE:
+                type = org.apache.avro.Schema.Type.DOUBLE;
+                break;
+            case BYTES:
+            case DATETIME:
+            case STRING:
+                type = org.apache.avro.Schema.Type.STRING;
+                break;
+            case ARRAY:
+            case RECORD:
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported \"" + entry.getType().name() + "\" type for field: " + entry.getName());
             }
+            fields.name(entry.getName()).type().unionOf().nullType().and().type(org.apache.avro.Schema.create(type)).endUnion()
+                    .nullDefault();
+        }
+        return fields.endRecord();
+    }
+
+    private Object toAvro(final Record record, final Schema.Entry entry) {
+        final String name = entry.getName();
+        switch (entry.getType()) {
+        case INT:
+            return record.get(Integer.class, name);
+        case LONG:
+            return record.get(Long.class, name);
+        case BOOLEAN:
+            return record.get(Boolean.class, name);
+        case FLOAT:
+            return record.get(Float.class, name);
+        case DOUBLE:
+            return record.get(Double.class, name);
+        case BYTES:
+            final byte[] bytes = record.get(byte[].class, name);
+            return bytes == null ? null : Hex.encodeHexString(bytes);
+        case DATETIME:
+            final ZonedDateTime dateTime = record.getDateTime(name);
+            return dateTime == null ? null : dateTime.format(TIMESTAMP_FORMAT);
+        case STRING:
+            return record.getString(name);
+        case ARRAY:
+        case RECORD:
+        default:
+            throw new IllegalArgumentException("Unsupported \"" + entry.getType().name() + "\" type for field: " + name);
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        private long getCount() {
+            return count;
         }
     }
 
     private String format(final Record record, final Schema.Entry entry) {
+        final String name = entry.getName();
         switch (entry.getType()) {
         case INT:
+            return toString(record.get(Integer.class, name));
         case LONG:
+            return toString(record.get(Long.class, name));
         case BOOLEAN:
-            return QueryManagerImpl.valueOf(record, entry).map(String::valueOf).orElse("");
+            return toString(record.get(Boolean.class, name));
         case FLOAT:
-            return QueryManagerImpl.valueOf(record, entry).map(v -> Float.toHexString((Float) v)).orElse("");
+            final Float floatValue = record.get(Float.class, name);
+            return floatValue == null ? "" : Float.toHexString(floatValue);
         case DOUBLE:
-            return QueryManagerImpl.valueOf(record, entry).map(v -> Double.toHexString((Double) v)).orElse("");
+            final Double doubleValue = record.get(Double.class, name);
+            return doubleValue == null ? "" : Double.toHexString(doubleValue);
         case BYTES:
-            return QueryManagerImpl.valueOf(record, entry).map(v -> Hex.encodeHexString((byte[]) v)).orElse("");
+            final byte[] bytes = record.get(byte[].class, name);
+            return bytes == null ? "" : Hex.encodeHexString(bytes);
         case DATETIME:
-            return QueryManagerImpl.valueOf(record, entry)
-                    .map(v -> ((ZonedDateTime) v).format(DateTimeFormatter.ofPattern(TIMESTAMP_FORMAT_PATTERN))).orElse("");
+            final ZonedDateTime dateTime = record.getDateTime(name);
+            return dateTime == null ? "" : dateTime.format(TIMESTAMP_FORMAT);
         case STRING:
-            return escape(record.getString(entry.getName()));
+            return escape(record.getString(name));
         case ARRAY:
         case RECORD:
         default:
-            throw new IllegalArgumentException(
-                    "Unsupported \"" + entry.getType().name() + "\" type for field: " + entry.getName());
+            throw new IllegalArgumentException("Unsupported \"" + entry.getType().name() + "\" type for field: " + name);
         }
     }
 
+    private static String toString(final Object value) {
+        return value == null ? "" : String.valueOf(value);
+    }
+
     private String escape(final String value) {
         if (value == null) {
             return "";
@@ -302,7 +626,8 @@ public class SnowflakeCopyService implements Serializable {
         if (value.isEmpty()) {
             return "\"\"";
         }
-        if (value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf(',') >= 0 || value.indexOf('\\') >= 0) {
+        if (value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0 || value.indexOf(',') >= 0
+                || value.indexOf('\\') >= 0) {
             return '"' + value.replaceAll("\"", "\"\"") + '"';
         } else {
             return value;
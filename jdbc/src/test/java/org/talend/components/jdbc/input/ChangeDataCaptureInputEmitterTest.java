@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.input;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.talend.components.jdbc.configuration.InputCaptureDataChangeConfig;
+import org.talend.components.jdbc.dataset.ChangeDataCaptureDataset;
+import org.talend.components.jdbc.datastore.JdbcConnection;
+import org.talend.components.jdbc.service.I18nMessage;
+import org.talend.components.jdbc.service.JdbcService;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.junit.ServiceInjectionRule;
+import org.talend.sdk.component.junit.SimpleComponentRule;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChangeDataCaptureInputEmitterTest {
+
+    @ClassRule
+    public static final SimpleComponentRule COMPONENT_FACTORY = new SimpleComponentRule("org.talend.components.jdbc");
+
+    @Rule
+    public final ServiceInjectionRule injections = new ServiceInjectionRule(COMPONENT_FACTORY, this);
+
+    @Service
+    private JdbcService jdbcService;
+
+    @Service
+    private RecordBuilderFactory recordBuilderFactory;
+
+    @Service
+    private I18nMessage i18n;
+
+    @Test
+    public void backOffAndKeepOffset() {
+        final FakeStream stream = new FakeStream();
+        final Emitter emitter = newEmitter(stream);
+        emitter.init();
+
+        // no change: the delay doubles after each empty read
+        assertNull(emitter.next());
+        stream.now = 50;
+        assertNull(emitter.next());
+        stream.now = 100;
+        assertNull(emitter.next());
+        assertEquals(asList(0L, 100L), stream.reads);
+
+        // failed reads are retried after the next delays, capped by the max interval
+        stream.failures = 2;
+        stream.now = 300;
+        assertNull(emitter.next());
+        stream.now = 699;
+        assertNull(emitter.next());
+        stream.now = 700;
+        assertNull(emitter.next());
+        assertEquals(asList(0L, 100L, 300L, 700L), stream.reads);
+        assertEquals(0, stream.offset);
+        assertEquals(2, stream.rollbacks);
+
+        // the changes are emitted and consumed once the read completes
+        stream.changes.addAll(asList(1, 2));
+        stream.now = 1100;
+        assertEquals(1, emitter.next().getInt("id"));
+        assertEquals(0, stream.offset);
+        assertEquals(2, emitter.next().getInt("id"));
+        assertNull(emitter.next());
+        assertEquals(2, stream.offset);
+
+        // the delay is reset after a read with changes
+        stream.changes.add(3);
+        assertEquals(3, emitter.next().getInt("id"));
+        assertNull(emitter.next());
+        assertNull(emitter.next());
+        stream.now = 1200;
+        assertNull(emitter.next());
+        assertEquals(asList(0L, 100L, 300L, 700L, 1100L, 1100L, 1100L, 1200L), stream.reads);
+        assertEquals(3, stream.offset);
+
+        emitter.release();
+    }
+
+    @Test
+    public void failAfterConsecutiveFailedReads() {
+        final FakeStream stream = new FakeStream();
+        final Emitter emitter = newEmitter(stream);
+        emitter.init();
+        stream.failures = ChangeDataCaptureInputEmitter.MAX_FAILED_READS;
+        for (int i = 1; i < ChangeDataCaptureInputEmitter.MAX_FAILED_READS; i++) {
+            assertNull(emitter.next());
+            stream.now += 1000;
+        }
+        assertThrows(IllegalStateException.class, emitter::next);
+        assertEquals(0, stream.offset);
+        emitter.release();
+    }
+
+    private Emitter newEmitter(final FakeStream stream) {
+        final JdbcConnection connection = new JdbcConnection();
+        connection.setDbType("Snowflake");
+        connection.setJdbcUrl("jdbc:snowflake://localhost");
+        final ChangeDataCaptureDataset dataset = new ChangeDataCaptureDataset();
+        dataset.setConnection(connection);
+        dataset.setTableName("orders");
+        dataset.setStreamTableName("orders_stream");
+        final InputCaptureDataChangeConfig config = new InputCaptureDataChangeConfig();
+        config.setDataSet(dataset);
+        config.setChangeOffsetOnRead(InputCaptureDataChangeConfig.ChangeOffsetOnReadStrategy.YES);
+        config.setMinPollInterval(100);
+        config.setMaxPollInterval(400);
+        stream.consume = dataset.createStatementConsumeStreamTable();
+        return new Emitter(config, stream);
+    }
+
+    private class Emitter extends ChangeDataCaptureInputEmitter {
+
+        private final FakeStream stream;
+
+        private Emitter(final InputCaptureDataChangeConfig config, final FakeStream stream) {
+            super(config, jdbcService, recordBuilderFactory, i18n);
+            this.stream = stream;
+        }
+
+        @Override
+        Connection connect() {
+            return stream.connection();
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return stream.now;
+        }
+    }
+
+    /**
+     * A stream returning the changes after its offset, the offset moves to the changes read when the consuming
+     * statement is committed.
+     */
+    private class FakeStream {
+
+        private final List<Integer> changes = new ArrayList<>();
+
+        private final List<Long> reads = new ArrayList<>();
+
+        private long now;
+
+        private String consume;
+
+        private int failures;
+
+        private int rollbacks;
+
+        private int offset;
+
+        private int read;
+
+        private int consumed;
+
+        private Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "createStatement":
+                            return statement();
+                        case "commit":
+                            offset = consumed;
+                            return null;
+                        case "rollback":
+                            rollbacks++;
+                            consumed = offset;
+                            return null;
+                        default:
+                            return null;
+                        }
+                    });
+        }
+
+        private Statement statement() {
+            return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Statement.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "executeQuery":
+                            reads.add(now);
+                            if (failures > 0) {
+                                failures--;
+                                throw new SQLException("stream unavailable");
+                            }
+                            read = changes.size();
+                            return resultSet(new ArrayList<>(changes.subList(offset, read)).iterator());
+                        case "executeUpdate":
+                            if (consume.equals(args[0])) {
+                                consumed = read;
+                            }
+                            return 0;
+                        default:
+                            return null;
+                        }
+                    });
+        }
+
+        private ResultSet resultSet(final Iterator<Integer> rows) {
+            final Integer[] current = new Integer[1];
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "next":
+                            current[0] = rows.hasNext() ? rows.next() : null;
+                            return current[0] != null;
+                        case "getObject":
+                            return current[0];
+                        case "getMetaData":
+                            return metaData();
+                        default:
+                            return null;
+                        }
+                    });
+        }
+
+        private ResultSetMetaData metaData() {
+            return (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { ResultSetMetaData.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "getColumnCount":
+                            return 1;
+                        case "getColumnName":
+                            return "id";
+                        case "getColumnClassName":
+                            return Integer.class.getName();
+                        case "getColumnType":
+                            return Types.INTEGER;
+                        case "isNullable":
+                            return ResultSetMetaData.columnNoNulls;
+                        default:
+                            return null;
+                        }
+                    });
+        }
+    }
+}
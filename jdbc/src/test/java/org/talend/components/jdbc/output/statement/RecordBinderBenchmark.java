@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output.statement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare the per row cost of binding a wide record to a statement using the generic type conversion and the compiled
+ * {@link RecordBinder}. The score is in rows per second.
+ * <p>
+ * Run it with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RecordBinderBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private static final Schema.Type[] TYPES = { Schema.Type.STRING, Schema.Type.INT, Schema.Type.LONG, Schema.Type.DOUBLE,
+            Schema.Type.BOOLEAN, Schema.Type.DATETIME };
+
+    @Param({ "10", "100" })
+    private int columns;
+
+    private List<Record> records;
+
+    private Map<Integer, Schema.Entry> queryParams;
+
+    private RecordBinder binder;
+
+    private PreparedStatement statement;
+
+    @Setup
+    public void setup() {
+        final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("benchmark");
+        final Schema.Builder schemaBuilder = factory.newSchemaBuilder(Schema.Type.RECORD);
+        queryParams = new HashMap<>();
+        for (int i = 0; i < columns; i++) {
+            final Schema.Entry entry = factory.newEntryBuilder().withName("col_" + i).withType(TYPES[i % TYPES.length])
+                    .withNullable(true).build();
+            schemaBuilder.withEntry(entry);
+            queryParams.put(i + 1, entry);
+        }
+        final Schema schema = schemaBuilder.build();
+        records = new ArrayList<>(ROWS);
+        for (int row = 0; row < ROWS; row++) {
+            final Record.Builder builder = factory.newRecordBuilder(schema);
+            for (final Schema.Entry entry : schema.getEntries()) {
+                switch (entry.getType()) {
+                case STRING:
+                    builder.withString(entry, "value " + row);
+                    break;
+                case INT:
+                    builder.withInt(entry, row);
+                    break;
+                case LONG:
+                    builder.withLong(entry, row * 31L);
+                    break;
+                case DOUBLE:
+                    builder.withDouble(entry, row / 3d);
+                    break;
+                case BOOLEAN:
+                    builder.withBoolean(entry, row % 2 == 0);
+                    break;
+                case DATETIME:
+                    builder.withDateTime(entry, ZonedDateTime.now());
+                    break;
+                default:
+                    throw new IllegalStateException("unexpected type " + entry.getType());
+                }
+            }
+            records.add(builder.build());
+        }
+        binder = RecordBinder.of(queryParams);
+        // a statement ignoring the parameters so only the binding cost is measured
+        statement = (PreparedStatement) Proxy.newProxyInstance(RecordBinderBenchmark.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void converter() throws SQLException {
+        for (final Record record : records) {
+            for (final Map.Entry<Integer, Schema.Entry> entry : queryParams.entrySet()) {
+                RecordToSQLTypeConverter.valueOf(entry.getValue().getType().name()).setValue(statement, entry.getKey(),
+                        entry.getValue(), record);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void binder() throws SQLException {
+        for (final Record record : records) {
+            binder.bind(statement, record);
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RecordBinderBenchmark.class.getSimpleName()).build()).run();
+    }
+}
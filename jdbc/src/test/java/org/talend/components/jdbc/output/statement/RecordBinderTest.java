@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.jdbc.output.statement;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+class RecordBinderTest {
+
+    private static final Schema.Type[] TYPES = { Schema.Type.STRING, Schema.Type.INT, Schema.Type.LONG, Schema.Type.FLOAT,
+            Schema.Type.DOUBLE, Schema.Type.BOOLEAN, Schema.Type.BYTES, Schema.Type.DATETIME };
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    private final List<Schema.Entry> entries = Arrays.stream(TYPES)
+            .map(type -> factory.newEntryBuilder().withName(type.name().toLowerCase()).withType(type).withNullable(true)
+                    .build())
+            .collect(toList());
+
+    private final Schema schema = schema();
+
+    @Test
+    void bindValues() throws SQLException {
+        final ZonedDateTime date = ZonedDateTime.of(2021, 3, 4, 5, 6, 7, 123_456_789, ZoneOffset.UTC);
+        final Record record = factory.newRecordBuilder(schema).withString(entries.get(0), "text")
+                .withInt(entries.get(1), 1).withLong(entries.get(2), 2L).withFloat(entries.get(3), 3.5f)
+                .withDouble(entries.get(4), 4.25d).withBoolean(entries.get(5), true)
+                .withBytes(entries.get(6), new byte[] { 7 }).withDateTime(entries.get(7), date).build();
+        final Map<Integer, Schema.Entry> params = params(entries);
+
+        final List<String> calls = bind(RecordBinder.of(params), record);
+        Assertions.assertEquals(Arrays.asList("setString(1,text)", "setInt(2,1)", "setLong(3,2)", "setFloat(4,3.5)",
+                "setDouble(5,4.25)", "setBoolean(6,true)", "setBytes(7,[7])",
+                "setTimestamp(8," + new Timestamp(date.toInstant().toEpochMilli()) + ")"), calls);
+        Assertions.assertEquals(convert(params, record), calls);
+    }
+
+    @Test
+    void bindNulls() throws SQLException {
+        final Record record = factory.newRecordBuilder(schema).build();
+        final Map<Integer, Schema.Entry> params = params(entries);
+
+        final List<String> calls = bind(RecordBinder.of(params), record);
+        Assertions.assertEquals(Arrays.asList("setNull(1," + Types.VARCHAR + ")", "setNull(2," + Types.INTEGER + ")",
+                "setNull(3," + Types.BIGINT + ")", "setNull(4," + Types.FLOAT + ")", "setNull(5," + Types.DOUBLE + ")",
+                "setNull(6," + Types.BOOLEAN + ")", "setBytes(7,null)", "setTimestamp(8,null)"), calls);
+        Assertions.assertEquals(convert(params, record), calls);
+    }
+
+    @Test
+    void truncateDateTimeToMillis() throws SQLException {
+        final Schema.Entry entry = entries.get(7);
+        final Record record = factory.newRecordBuilder(schema)
+                .withDateTime(entry, ZonedDateTime.of(2021, 3, 4, 5, 6, 7, 123_456_789, ZoneOffset.ofHours(2))).build();
+        final List<Object[]> args = new ArrayList<>();
+
+        RecordBinder.of(params(Arrays.asList(entry))).bind(statement(args), record);
+        final Timestamp timestamp = (Timestamp) args.get(0)[2];
+        Assertions.assertEquals(123_000_000, timestamp.getNanos());
+        Assertions.assertEquals(ZonedDateTime.of(2021, 3, 4, 3, 6, 7, 123_000_000, ZoneOffset.UTC).toInstant(),
+                timestamp.toInstant());
+    }
+
+    @Test
+    void bindInParameterOrder() throws SQLException {
+        final Record record = factory.newRecordBuilder(schema).withString(entries.get(0), "text")
+                .withInt(entries.get(1), 1).withLong(entries.get(2), 2L).build();
+        // parameters out of the schema order, as in an update where the keys come last
+        final Map<Integer, Schema.Entry> params = new LinkedHashMap<>();
+        params.put(3, entries.get(0));
+        params.put(1, entries.get(2));
+        params.put(2, entries.get(1));
+
+        final List<String> calls = bind(RecordBinder.of(params), record);
+        Assertions.assertEquals(Arrays.asList("setLong(1,2)", "setInt(2,1)", "setString(3,text)"), calls);
+        Assertions.assertEquals(convert(params, record), calls);
+    }
+
+    private Schema schema() {
+        final Schema.Builder builder = factory.newSchemaBuilder(Schema.Type.RECORD);
+        entries.forEach(builder::withEntry);
+        return builder.build();
+    }
+
+    private static Map<Integer, Schema.Entry> params(final List<Schema.Entry> entries) {
+        final Map<Integer, Schema.Entry> params = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            params.put(i + 1, entries.get(i));
+        }
+        return params;
+    }
+
+    private static List<String> bind(final RecordBinder binder, final Record record) throws SQLException {
+        final List<Object[]> args = new ArrayList<>();
+        binder.bind(statement(args), record);
+        return format(args);
+    }
+
+    private static List<String> convert(final Map<Integer, Schema.Entry> params, final Record record) throws SQLException {
+        final List<Object[]> args = new ArrayList<>();
+        final PreparedStatement statement = statement(args);
+        for (final Map.Entry<Integer, Schema.Entry> param : params.entrySet()) {
+            RecordToSQLTypeConverter.valueOf(param.getValue().getType().name()).setValue(statement, param.getKey(),
+                    param.getValue(), record);
+        }
+        args.sort((a, b) -> Integer.compare((Integer) a[1], (Integer) b[1]));
+        return format(args);
+    }
+
+    private static List<String> format(final List<Object[]> args) {
+        return args.stream().map(call -> call[0] + "(" + Arrays.stream(call, 1, call.length)
+                .map(arg -> arg instanceof byte[] ? Arrays.toString((byte[]) arg) : String.valueOf(arg))
+                .collect(joining(",")) + ")").collect(toList());
+    }
+
+    /**
+     * A statement recording the setter calls, each as the method name followed by its arguments.
+     */
+    private static PreparedStatement statement(final List<Object[]> calls) {
+        return (PreparedStatement) Proxy.newProxyInstance(RecordBinderTest.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                    final Object[] call = new Object[args.length + 1];
+                    call[0] = method.getName();
+                    System.arraycopy(args, 0, call, 1, args.length);
+                    calls.add(call);
+                    return null;
+                });
+    }
+}
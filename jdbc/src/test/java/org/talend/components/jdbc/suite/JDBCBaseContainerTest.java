@@ -475,6 +475,76 @@ public abstract class JDBCBaseContainerTest {
 
         }
 
+        @Test
+        @DisplayName("TableName - parallel read on primary key")
+        void parallelReadTableName(final TestInfo testInfo) {
+            final int rowCount = 50;
+            final String testTableName = getTestTableName(testInfo);
+            insertRows(testTableName, rowCount, false, null);
+            final InputTableNameConfig config = new InputTableNameConfig();
+            config.setDataSet(newTableNameDataset(testTableName));
+            config.getPartitioning().setParallelRead(true);
+            config.getPartitioning().setPartitionCount(4);
+            final String configURI = configurationByExample().forInstance(config).configured().toQueryString();
+            Job.components().component("jdbcInput", "Jdbc://TableNameInput?" + configURI)
+                    .component("collector", "test://collector").connections().from("jdbcInput").to("collector").build().run();
+
+            final List<Record> collectedData = getComponentsHandler().getCollectedData(Record.class);
+            assertEquals(rowCount, collectedData.size());
+            assertEquals(rowCount, collectedData.stream().map(r -> r.get(Object.class, "id")).map(String::valueOf)
+                    .collect(toSet()).size());
+        }
+
+        @Test
+        @DisplayName("Query - parallel read on partition column")
+        void parallelReadQuery(final TestInfo testInfo) {
+            final int rowCount = 50;
+            final String testTableName = getTestTableName(testInfo);
+            insertRows(testTableName, rowCount, false, null);
+            final SqlQueryDataset sqlQueryDataset = new SqlQueryDataset();
+            final JdbcConnection connection = newConnection();
+            sqlQueryDataset.setConnection(connection);
+            sqlQueryDataset
+                    .setSqlQuery("select * from " + PlatformFactory.get(connection, getI18nMessage()).identifier(testTableName));
+            final InputQueryConfig config = new InputQueryConfig();
+            config.setDataSet(sqlQueryDataset);
+            config.getPartitioning().setParallelRead(true);
+            config.getPartitioning().setPartitionColumn("id");
+            config.getPartitioning().setPartitionCount(3);
+            final String configURI = configurationByExample().forInstance(config).configured().toQueryString();
+            Job.components().component("jdbcInput", "Jdbc://QueryInput?" + configURI).component("collector", "test://collector")
+                    .connections().from("jdbcInput").to("collector").build().run();
+
+            final List<Record> collectedData = getComponentsHandler().getCollectedData(Record.class);
+            assertEquals(rowCount, collectedData.size());
+        }
+
+        @Test
+        @DisplayName("Query - parallel read of an ordered query")
+        void parallelReadOrderedQuery(final TestInfo testInfo) {
+            final int rowCount = 50;
+            final String testTableName = getTestTableName(testInfo);
+            insertRows(testTableName, rowCount, false, null);
+            final SqlQueryDataset sqlQueryDataset = new SqlQueryDataset();
+            final JdbcConnection connection = newConnection();
+            sqlQueryDataset.setConnection(connection);
+            // SQL Server can't order a derived table, the query is then read by a single worker
+            final Platform platform = PlatformFactory.get(connection, getI18nMessage());
+            sqlQueryDataset.setSqlQuery(
+                    "select * from " + platform.identifier(testTableName) + " order by " + platform.identifier("id"));
+            final InputQueryConfig config = new InputQueryConfig();
+            config.setDataSet(sqlQueryDataset);
+            config.getPartitioning().setParallelRead(true);
+            config.getPartitioning().setPartitionColumn("id");
+            config.getPartitioning().setPartitionCount(3);
+            final String configURI = configurationByExample().forInstance(config).configured().toQueryString();
+            Job.components().component("jdbcInput", "Jdbc://QueryInput?" + configURI).component("collector", "test://collector")
+                    .connections().from("jdbcInput").to("collector").build().run();
+
+            final List<Record> collectedData = getComponentsHandler().getCollectedData(Record.class);
+            assertEquals(rowCount, collectedData.size());
+        }
+
         @Test
         @DisplayName("TableName - invalid table name")
         void invalidTableName() {
@@ -548,6 +618,28 @@ public abstract class JDBCBaseContainerTest {
             Assertions.assertEquals(rowCount, countAll(testTableName));
         }
 
+        @Test
+        @DisplayName("Insert - asynchronous writers")
+        void asyncInsert(final TestInfo testInfo) {
+            final OutputConfig configuration = new OutputConfig();
+            final String testTableName = getTestTableName(testInfo);
+            configuration.setDataset(newTableNameDataset(testTableName));
+            configuration.setActionOnData(OutputConfig.ActionOnData.INSERT.name());
+            configuration.setCreateTableIfNotExists(true);
+            configuration.setKeys(asList("id"));
+            configuration.setAsyncWrite(true);
+            configuration.setAsyncBatchSize(7);
+            configuration.setAsyncWriters(3);
+            final String config = configurationByExample().forInstance(configuration).configured().toQueryString();
+            final int rowCount = 100;
+            Job.components()
+                    .component("rowGenerator",
+                            "jdbcTest://RowGenerator?" + rowGeneratorConfig(rowCount, false, null, withBoolean, withBytes))
+                    .component("jdbcOutput", "Jdbc://Output?" + config).connections().from("rowGenerator").to("jdbcOutput")
+                    .build().run();
+            Assertions.assertEquals(rowCount, countAll(testTableName));
+        }
+
         @Test
         @DisplayName("Create table - combined primary keys")
         void createTableWithCombinedPrimaryKeys(final TestInfo testInfo) {
@@ -803,6 +895,32 @@ public abstract class JDBCBaseContainerTest {
                             .collect(toSet()));
         }
 
+        @Test
+        @DisplayName("Upsert - native statement")
+        void nativeUpsert(final TestInfo testInfo) {
+            final int existingRecords = 40;
+            final String testTableName = getTestTableName(testInfo);
+            insertRows(testTableName, existingRecords, false, null);
+            final OutputConfig configuration = new OutputConfig();
+            configuration.setDataset(newTableNameDataset(testTableName));
+            configuration.setActionOnData(OutputConfig.ActionOnData.UPSERT.name());
+            configuration.setKeys(singletonList("id"));
+            configuration.setNativeUpsert(true);
+            final String updateConfig = configurationByExample().forInstance(configuration).configured().toQueryString();
+            final int newRecords = existingRecords * 2;
+            Job.components()
+                    .component("rowGenerator",
+                            "jdbcTest://RowGenerator?" + rowGeneratorConfig(newRecords, false, "updated", withBoolean, withBytes))
+                    .component("jdbcOutput", "Jdbc://Output?" + updateConfig).connections().from("rowGenerator").to("jdbcOutput")
+                    .build().run();
+
+            final List<Record> users = readAll(testTableName, this.getComponentsHandler());
+            Assertions.assertEquals(newRecords, users.size());
+            Assertions.assertEquals(IntStream.rangeClosed(1, newRecords).mapToObj(i -> "updated" + i).collect(toSet()),
+                    users.stream().map(r -> ofNullable(r.getString("t_string")).orElseGet(() -> r.getString("T_STRING")))
+                            .collect(toSet()));
+        }
+
         @Test
         @DisplayName("Insert - Date type handling")
         void dateTypesTest(final TestInfo testInfo) {
@@ -16,6 +16,11 @@ import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.talend.components.jdbc.configuration.OutputConfig;
+import org.talend.components.jdbc.configuration.SnowflakeStagingFormat;
 import org.talend.components.jdbc.service.SnowflakeCopyService;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.Service;
@@ -25,13 +30,23 @@ import org.talend.sdk.component.junit.SimpleComponentRule;
 import org.talend.sdk.component.junit.environment.Environment;
 import org.talend.sdk.component.junit.environment.builtin.beam.DirectRunnerEnvironment;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 
 @Environment(DirectRunnerEnvironment.class)
 public class SnowflakeCopyTest {
@@ -73,22 +88,104 @@ public class SnowflakeCopyTest {
         Assertions.assertTrue(tableName.length() < 256);
     }
 
+    @Test
+    public void escapeCsvValue() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        SnowflakeCopyService snowflakeCopyService = new SnowflakeCopyService();
+        Method escape = SnowflakeCopyService.class.getDeclaredMethod("escape", String.class);
+        escape.setAccessible(true);
+        Assertions.assertEquals("plain", escape.invoke(snowflakeCopyService, "plain"));
+        Assertions.assertEquals("\"a\rb\"", escape.invoke(snowflakeCopyService, "a\rb"));
+        Assertions.assertEquals("\"a\r\nb\"", escape.invoke(snowflakeCopyService, "a\r\nb"));
+        Assertions.assertEquals("\"say \"\"hi\"\"\"", escape.invoke(snowflakeCopyService, "say \"hi\""));
+    }
+
     @org.junit.Test
-    public void testSplitRecords() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testSplitRecords() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
         SnowflakeCopyService snowflakeCopyService = new SnowflakeCopyService();
         try {
             Method createWorkDir = SnowflakeCopyService.class.getDeclaredMethod("createWorkDir");
             createWorkDir.setAccessible(true);
             Path path = (Path) createWorkDir.invoke(snowflakeCopyService);
-            Method splitRecords = SnowflakeCopyService.class.getDeclaredMethod("splitRecords", Path.class, List.class);
+            Method splitRecords = SnowflakeCopyService.class.getDeclaredMethod("splitRecords", Path.class, List.class,
+                    org.apache.avro.Schema.class, Consumer.class);
+            splitRecords.setAccessible(true);
+            final List<Object> chunks = new ArrayList<>();
+            splitRecords.invoke(snowflakeCopyService, path, createData(300000), null, (Consumer<Object>) chunks::add);
+            Assertions.assertFalse(chunks.isEmpty());
+            long lines = 0;
+            try (final Stream<Path> files = Files.list(path)) {
+                for (final Path file : files.collect(toList())) {
+                    Assertions.assertTrue(file.getFileName().toString().endsWith(".csv.gz"));
+                    try (final BufferedReader reader = new BufferedReader(
+                            new InputStreamReader(new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                        lines += reader.lines().count();
+                    }
+                }
+            }
+            Assertions.assertEquals(300000, lines);
+        } finally {
+            snowflakeCopyService.cleanTmpFiles();
+        }
+    }
+
+    @org.junit.Test
+    public void stageAvro() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException, IOException {
+        final OutputConfig configuration = new OutputConfig();
+        configuration.setSnowflakeStagingFormat(SnowflakeStagingFormat.AVRO);
+        SnowflakeCopyService snowflakeCopyService = new SnowflakeCopyService(configuration);
+        try {
+            final List<Record> records = createData(3);
+            Method toAvroSchema = SnowflakeCopyService.class.getDeclaredMethod("toAvroSchema", List.class);
+            toAvroSchema.setAccessible(true);
+            final org.apache.avro.Schema schema = (org.apache.avro.Schema) toAvroSchema.invoke(snowflakeCopyService, records);
+            Assertions.assertEquals(asList("id", "firstname", "lastname", "address", "enrolled", "zip", "state"),
+                    schema.getFields().stream().map(org.apache.avro.Schema.Field::name).collect(toList()));
+            Assertions.assertEquals(asList(org.apache.avro.Schema.Type.NULL, org.apache.avro.Schema.Type.INT),
+                    schema.getField("id").schema().getTypes().stream().map(org.apache.avro.Schema::getType).collect(toList()));
+
+            Method fileFormat = SnowflakeCopyService.class.getDeclaredMethod("fileFormat", SnowflakeStagingFormat.class);
+            fileFormat.setAccessible(true);
+            Assertions.assertEquals(" FILE_FORMAT=(TYPE=AVRO) MATCH_BY_COLUMN_NAME=CASE_INSENSITIVE",
+                    fileFormat.invoke(snowflakeCopyService, SnowflakeStagingFormat.AVRO));
+
+            Method createWorkDir = SnowflakeCopyService.class.getDeclaredMethod("createWorkDir");
+            createWorkDir.setAccessible(true);
+            Path path = (Path) createWorkDir.invoke(snowflakeCopyService);
+            Method splitRecords = SnowflakeCopyService.class.getDeclaredMethod("splitRecords", Path.class, List.class,
+                    org.apache.avro.Schema.class, Consumer.class);
             splitRecords.setAccessible(true);
-            List chunks = (List) splitRecords.invoke(snowflakeCopyService, path, createData(300000));
-            Assertions.assertEquals(2, chunks.size());
+            splitRecords.invoke(snowflakeCopyService, path, records, schema, (Consumer<Object>) chunk -> {
+            });
+            final List<GenericRecord> staged = new ArrayList<>();
+            try (final Stream<Path> files = Files.list(path)) {
+                for (final Path file : files.collect(toList())) {
+                    Assertions.assertTrue(file.getFileName().toString().endsWith(".avro"));
+                    try (final DataFileReader<GenericRecord> reader = new DataFileReader<>(file.toFile(),
+                            new GenericDatumReader<>())) {
+                        reader.forEach(staged::add);
+                    }
+                }
+            }
+            Assertions.assertEquals(asList(3, 2, 1), staged.stream().map(r -> r.get("id")).collect(toList()));
+            Assertions.assertEquals("89100", staged.get(0).get("zip").toString());
         } finally {
             snowflakeCopyService.cleanTmpFiles();
         }
     }
 
+    @org.junit.Test
+    public void stageCsvWhenNotAvroNames() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        final OutputConfig configuration = new OutputConfig();
+        configuration.setSnowflakeStagingFormat(SnowflakeStagingFormat.AVRO);
+        SnowflakeCopyService snowflakeCopyService = new SnowflakeCopyService(configuration);
+        Method toAvroSchema = SnowflakeCopyService.class.getDeclaredMethod("toAvroSchema", List.class);
+        toAvroSchema.setAccessible(true);
+        for (final String name : asList("order-id", "1col", "\u00e9t\u00e9")) {
+            final Record record = recordBuilderFactory.newRecordBuilder().withInt(name, 1).build();
+            Assertions.assertNull(toAvroSchema.invoke(snowflakeCopyService, singletonList(record)), name);
+        }
+    }
+
     List<Record> createData(int i) {
         List<Record> records = new ArrayList<Record>(i);
         for (; i > 0; i--) {
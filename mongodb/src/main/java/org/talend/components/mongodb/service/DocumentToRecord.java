@@ -25,6 +25,7 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -41,9 +42,21 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DocumentToRecord {
 
+    /** max number of document shapes kept in cache */
+    static final int SHAPE_CACHE_SIZE = 64;
+
     /** record facotry */
     private final RecordBuilderFactory recordBuilderFactory;
 
+    /** converters by document shape, least recently used shape is evicted first */
+    private final Map<String, DocumentConverter> converters = new LinkedHashMap<String, DocumentConverter>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DocumentConverter> eldest) {
+            return size() > SHAPE_CACHE_SIZE;
+        }
+    };
+
     public DocumentToRecord(RecordBuilderFactory recordBuilderFactory) {
         this.recordBuilderFactory = recordBuilderFactory;
     }
@@ -62,6 +75,7 @@ public class DocumentToRecord {
 
     /**
      * Convert document object to record (with guessing schema).
+     * Schema and converter are reused for documents with same shape (field names and types).
      *
      * @param document : document data.
      * @return data in record format.
@@ -71,8 +85,73 @@ public class DocumentToRecord {
             return null;
         }
 
-        final Schema schema = inferSchema(document);
-        return convertDocumentToRecord(schema, document);
+        final String shape = shapeOf(document);
+        DocumentConverter converter = converters.get(shape);
+        if (converter == null) {
+            converter = new DocumentConverter(inferSchema(document));
+            converters.put(shape, converter);
+        }
+        return converter.toRecord(document);
+    }
+
+    /**
+     * Build a key of document shape : same key means same inferred schema.
+     *
+     * @param document : document object.
+     * @return shape key.
+     */
+    String shapeOf(final Document document) {
+        final StringBuilder shape = new StringBuilder();
+        appendDocumentShape(shape, document);
+        return shape.toString();
+    }
+
+    private void appendDocumentShape(StringBuilder shape, Document document) {
+        shape.append('{');
+        for (Map.Entry<String, Object> field : document.entrySet()) {
+            shape.append(field.getKey().length()).append(':').append(field.getKey());
+            appendValueShape(shape, field.getValue());
+        }
+        shape.append('}');
+    }
+
+    private void appendValueShape(StringBuilder shape, Object value) {
+        if (isNull(value)) {
+            shape.append('n');
+        } else if (isDocument(value)) {
+            appendDocumentShape(shape, (Document) value);
+        } else if (isArray(value)) {
+            appendArrayShape(shape, (List) value);
+        } else {
+            DatatypeHolder data_type_holder = new DatatypeHolder();
+            shape.append((char) ('a' + translateType(value, data_type_holder).ordinal()));
+            if (data_type_holder.data_type != null) {
+                shape.append((char) ('A' + data_type_holder.data_type.ordinal()));
+            }
+        }
+    }
+
+    private void appendArrayShape(StringBuilder shape, List array) {
+        // same rules as array schema inference : first element decides, except documents which are merged
+        shape.append('[');
+        if (!array.isEmpty() && isDocument(array.get(0))) {
+            String previous = null;
+            for (Object value : array) {
+                if (isDocument(value)) {
+                    final StringBuilder elementShape = new StringBuilder();
+                    appendDocumentShape(elementShape, (Document) value);
+                    final String current = elementShape.toString();
+                    // consecutive identical documents give same merge
+                    if (!current.equals(previous)) {
+                        shape.append(current);
+                        previous = current;
+                    }
+                }
+            }
+        } else if (!array.isEmpty()) {
+            appendValueShape(shape, array.get(0));
+        }
+        shape.append(']');
     }
 
     private Schema inferSchema(final List array, DatatypeHolder data_type_holder) {
@@ -185,12 +264,6 @@ public class DocumentToRecord {
         return entry;
     }
 
-    private Record convertDocumentToRecord(Schema schema, Document document) {
-        final Record.Builder builder = recordBuilderFactory.newRecordBuilder(schema);
-        schema.getEntries().stream().forEach((Entry entry) -> this.integrateEntryToRecord(entry, builder, document));
-        return builder.build();
-    }
-
     private String getElementName(Entry entry) {
         // not use entry.getName() here as "$oid" will be correct to "oid"
         // comment store "$oid", so use comment here
@@ -209,114 +282,122 @@ public class DocumentToRecord {
         return comment;
     }
 
-    private void integrateEntryToRecord(Entry entry, Record.Builder builder, Document document) {
-        if (!document.containsKey(getElementName(entry))) {
-            return;
-        }
+    /**
+     * Prepare conversion of an entry, element name and nested converters are resolved once.
+     *
+     * @param entry : schema entry.
+     * @return converter setting entry value from document.
+     */
+    private FieldConverter compileEntry(Entry entry) {
+        final String name = getElementName(entry);
+        final FieldConverter converter;
         switch (entry.getType()) {
         case RECORD: {
-            final Document subDocument = document.get(getElementName(entry), Document.class);
-            final Record record = convertDocumentToRecord(entry.getElementSchema(), subDocument);
-            builder.withRecord(entry, record);
+            final DocumentConverter subConverter = new DocumentConverter(entry.getElementSchema());
+            converter = (Document document, Record.Builder builder) -> {
+                final Document subDocument = document.get(name, Document.class);
+                builder.withRecord(entry, subConverter.toRecord(subDocument));
+            };
             break;
         }
-        case ARRAY:
-            final List<?> objects = convertArray(entry.getElementSchema(), (List) document.get(getElementName(entry)));
-            if (objects != null) {
-                builder.withArray(entry, objects);
-            }
+        case ARRAY: {
+            final ArrayConverter arrayConverter = compileArray(entry.getElementSchema());
+            converter = (Document document, Record.Builder builder) -> {
+                final List<?> objects = arrayConverter.convert((List) document.get(name));
+                if (objects != null) {
+                    builder.withArray(entry, objects);
+                }
+            };
             break;
-        case STRING: {
+        }
+        case STRING:
             // TODO check if is right here as this is also do process for null as all null value is mapped to String type, as
             // value may be null here
-            Object value = document.get(getElementName(entry));
-            if (isNull(value)) {
-                builder.withString(entry, (String) value);
-            } else if (value instanceof ObjectId) {
-                builder.withString(entry, ObjectId.class.cast(value).toString());
-            } else if (value instanceof Code) {
-                builder.withString(entry, Code.class.cast(value).getCode());
-            } else {
-                builder.withString(entry, value.toString());
-            }
-
+            converter = (Document document, Record.Builder builder) -> {
+                Object value = document.get(name);
+                if (isNull(value)) {
+                    builder.withString(entry, (String) value);
+                } else if (value instanceof ObjectId) {
+                    builder.withString(entry, ObjectId.class.cast(value).toString());
+                } else if (value instanceof Code) {
+                    builder.withString(entry, Code.class.cast(value).getCode());
+                } else {
+                    builder.withString(entry, value.toString());
+                }
+            };
             break;
-        }
-        case INT: {
-            Integer value = document.getInteger(getElementName(entry));
-            builder.withInt(entry, value);
+        case INT:
+            converter = (Document document, Record.Builder builder) -> builder.withInt(entry, document.getInteger(name));
             break;
-        }
-        case LONG: {
-            Long value = document.getLong(getElementName(entry));
-            builder.withLong(entry, value);
+        case LONG:
+            converter = (Document document, Record.Builder builder) -> builder.withLong(entry, document.getLong(name));
             break;
-        }
-        case FLOAT: {
+        case FLOAT:
             // Mongo DB document don't have float type, so all double type, TODO check
-            Double value = document.getDouble(getElementName(entry));
-            builder.withDouble(entry, value);
-            break;
-        }
-        case DOUBLE: {
-            Double value = document.getDouble(getElementName(entry));
-            builder.withDouble(entry, value);
+        case DOUBLE:
+            converter = (Document document, Record.Builder builder) -> builder.withDouble(entry, document.getDouble(name));
             break;
-        }
-        case BOOLEAN: {
-            Boolean value = document.getBoolean(getElementName(entry));
-            builder.withBoolean(entry, value);
+        case BOOLEAN:
+            converter = (Document document, Record.Builder builder) -> builder.withBoolean(entry, document.getBoolean(name));
             break;
-        }
-        case BYTES: {
-            String value = document.getString(getElementName(entry));
+        case BYTES:
             // TODO use default encoding? not UTF8
-            builder.withBytes(entry, value.getBytes());
+            converter = (Document document, Record.Builder builder) -> builder.withBytes(entry,
+                    document.getString(name).getBytes());
             break;
-        }
-        case DATETIME: {
-            Date value = document.getDate(getElementName(entry));
-            builder.withDateTime(entry, value);
+        case DATETIME:
+            converter = (Document document, Record.Builder builder) -> builder.withDateTime(entry, document.getDate(name));
             break;
+        default:
+            converter = (Document document, Record.Builder builder) -> {
+            };
         }
-        }
+        return (Document document, Record.Builder builder) -> {
+            if (document.containsKey(name)) {
+                converter.convert(document, builder);
+            }
+        };
     }
 
     /**
-     * Extract list of record format element from array.
+     * Prepare extraction of list of record format element from array, nested converters are resolved once.
      *
      * @param schema : schema of array element.
-     * @param array : array.
-     * @return list of value.
+     * @return converter of array to list of value.
      */
-    private List<Object> convertArray(Schema schema, List<Object> array) {
-        final List<Object> result;
-        Schema elementSchema = schema.getElementSchema();
+    private ArrayConverter compileArray(Schema schema) {
+        final Schema elementSchema = schema.getElementSchema();
         switch (elementSchema.getType()) {
-        case RECORD:
-            result = array.stream().map((Object v) -> convertDocumentToRecord(elementSchema, (Document) v))
+        case RECORD: {
+            final DocumentConverter converter = new DocumentConverter(elementSchema);
+            return (List<Object> array) -> array.stream().map((Object v) -> converter.toRecord((Document) v))
                     .collect(Collectors.toList());
-            break;
-        case ARRAY:
+        }
+        case ARRAY: {
+            final ArrayConverter converter = compileArray(elementSchema);
             // this way can't pass the complier in an old version jdk8
             /*
-             * result = array.stream().map((Object v) -> convertArray(elementSchema, (List)v))
+             * result = array.stream().map((Object v) -> converter.convert((List)v))
              * .collect(Collectors.toList());
              */
-            result = new ArrayList<>();
-            for (Object v : array) {
-                result.add(convertArray(elementSchema, (List) v));
-            }
-            break;
+            return (List<Object> array) -> {
+                final List<Object> result = new ArrayList<>();
+                for (Object v : array) {
+                    result.add(converter.convert((List) v));
+                }
+                return result;
+            };
+        }
         case STRING:
             // TODO : check if right here : do process for null as all null value is mapped to String type, this is for the case :
             // {array: []} or {array: [null]}
-            if (array.isEmpty()) {
-                // maybe need clone?
-                result = array;
-            } else {
+            return (List<Object> array) -> {
+                if (array.isEmpty()) {
+                    // maybe need clone?
+                    return array;
+                }
                 // String.cast can process null, so ok here, not sure how this process empty array
-                result = new ArrayList<>();
+                final List<Object> result = new ArrayList<>();
                 array.stream().forEach(v -> {
                     if (isNull(v)) {
                         result.add((String) v);
@@ -329,47 +410,28 @@ public class DocumentToRecord {
                     }
                 });
                 return result;
-            }
-            break;
+            };
+        case BYTES:
+            // TODO use default encoding? not UTF8
+            return (List<Object> array) -> array.stream().map(String.class::cast).map(v -> v.getBytes())
+                    .collect(Collectors.toList());
         case LONG:
             // maybe need clone?
-            result = array;
             // result = array.stream().map(Long.class::cast).collect(Collectors.toList());
-            break;
         case FLOAT:
-            result = array;
             // Mongo DB document don't have float type, so all double type
             // result = array.stream().map(Double.class::cast).collect(Collectors.toList());
-            break;
         case DOUBLE:
-            result = array;
             // result = array.stream().map(Double.class::cast).collect(Collectors.toList());
-            break;
         case BOOLEAN:
-            result = array;
             // result = array.stream().map(Boolean.TRUE::equals).collect(Collectors.toList());
-            break;
-        case INT: {
-            result = array;
+        case INT:
             // result = array.stream().map(Integer.class::cast).collect(Collectors.toList());
-            break;
-        }
-        case BYTES: {
-            // TODO use default encoding? not UTF8
-            result = array.stream().map(String.class::cast).map(v -> v.getBytes()).collect(Collectors.toList());
-            break;
-        }
-        case DATETIME: {
-            result = array;
+        case DATETIME:
             // result = array.stream().map(Date.class::cast).collect(Collectors.toList());
-            break;
+        default:
+            return (List<Object> array) -> array;
         }
-        default: {
-            result = array;
-        }
-        }
-
-        return result;
     }
 
     private Type translateType(Object value, DatatypeHolder data_type_holder) {
@@ -422,4 +484,39 @@ public class DocumentToRecord {
 
         DataType data_type;
     }
+
+    @FunctionalInterface
+    private interface FieldConverter {
+
+        void convert(Document document, Record.Builder builder);
+    }
+
+    @FunctionalInterface
+    private interface ArrayConverter {
+
+        List<Object> convert(List<Object> array);
+    }
+
+    /**
+     * Convert documents of one schema, with one prepared converter per entry.
+     */
+    private class DocumentConverter {
+
+        private final Schema schema;
+
+        private final FieldConverter[] fields;
+
+        DocumentConverter(Schema schema) {
+            this.schema = schema;
+            this.fields = schema.getEntries().stream().map(DocumentToRecord.this::compileEntry).toArray(FieldConverter[]::new);
+        }
+
+        Record toRecord(Document document) {
+            final Record.Builder builder = recordBuilderFactory.newRecordBuilder(schema);
+            for (FieldConverter field : fields) {
+                field.convert(document, builder);
+            }
+            return builder.build();
+        }
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2006-2021 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.talend.components.mongodb.service;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class DocumentToRecordTest {
+
+    private final DocumentToRecord documentToRecord = new DocumentToRecord(new RecordBuilderFactoryImpl("test"));
+
+    @Test
+    void sameShapeReuseSchema() {
+        Record first = documentToRecord.toRecord(person("Peter", 42, "Paris"));
+        Record second = documentToRecord.toRecord(person("Mary", 24, "Nantes"));
+
+        Assertions.assertSame(first.getSchema(), second.getSchema());
+        Assertions.assertEquals("Mary", second.getString("name"));
+        Assertions.assertEquals(24, second.getInt("age"));
+        Assertions.assertEquals("Nantes", second.getRecord("address").getString("city"));
+        Assertions.assertEquals(2, second.getArray(Record.class, "phones").size());
+        Assertions.assertEquals("Mary-1", second.getArray(Record.class, "phones").iterator().next().getString("number"));
+    }
+
+    @Test
+    void differentShapeInferSchema() {
+        Record first = documentToRecord.toRecord(person("Peter", 42, "Paris"));
+        Record second = documentToRecord.toRecord(person("Mary", 24, "Nantes").append("age", 24L));
+        Record third = documentToRecord.toRecord(person("Paul", 33, "Lyon").append("id", new ObjectId()));
+
+        Assertions.assertNotSame(first.getSchema(), second.getSchema());
+        Assertions.assertEquals(24L, second.getLong("age"));
+        Assertions.assertNotSame(first.getSchema(), third.getSchema());
+        Schema.Entry id = third.getSchema().getEntries().stream().filter(e -> "id".equals(e.getName())).findFirst().get();
+        Assertions.assertEquals(Schema.Type.STRING, id.getType());
+        Assertions.assertEquals(24, third.getString("id").length());
+    }
+
+    @Test
+    void shapeOf() {
+        Assertions.assertEquals(documentToRecord.shapeOf(person("Peter", 42, "Paris")),
+                documentToRecord.shapeOf(person("Mary", 24, "Nantes")));
+        // field order
+        Assertions.assertNotEquals(documentToRecord.shapeOf(new Document("a", 1).append("b", "x")),
+                documentToRecord.shapeOf(new Document("b", "x").append("a", 1)));
+        // special types
+        Assertions.assertNotEquals(documentToRecord.shapeOf(new Document("a", "x")),
+                documentToRecord.shapeOf(new Document("a", new ObjectId())));
+        // arrays of primitives are typed by first element, documents are merged
+        Assertions.assertEquals(documentToRecord.shapeOf(new Document("a", Arrays.asList(1, 2))),
+                documentToRecord.shapeOf(new Document("a", Collections.singletonList(3))));
+        Assertions.assertNotEquals(documentToRecord.shapeOf(new Document("a", Arrays.asList(new Document("x", 1)))),
+                documentToRecord.shapeOf(new Document("a", Arrays.asList(new Document("x", 1), new Document("y", 2)))));
+        Assertions.assertNotEquals(documentToRecord.shapeOf(new Document("a", null)),
+                documentToRecord.shapeOf(new Document("a", new Document())));
+    }
+
+    @Test
+    void cacheEviction() {
+        Record first = documentToRecord.toRecord(new Document("f0", 0));
+        for (int i = 1; i <= DocumentToRecord.SHAPE_CACHE_SIZE; i++) {
+            documentToRecord.toRecord(new Document("f" + i, i));
+        }
+        Record again = documentToRecord.toRecord(new Document("f0", 1));
+        Assertions.assertNotSame(first.getSchema(), again.getSchema());
+
+        Record last = documentToRecord.toRecord(new Document("f" + DocumentToRecord.SHAPE_CACHE_SIZE, 0));
+        Record cached = documentToRecord.toRecord(new Document("f" + DocumentToRecord.SHAPE_CACHE_SIZE, 1));
+        Assertions.assertSame(last.getSchema(), cached.getSchema());
+    }
+
+    @Test
+    void nestedArrayOfRecords() {
+        Document document = new Document("matrix",
+                Arrays.asList(Arrays.asList(new Document("v", 1), new Document("v", 2)), Arrays.asList(new Document("v", 3))));
+        Record first = documentToRecord.toRecord(document);
+        Record second = documentToRecord.toRecord(document);
+
+        Assertions.assertSame(first.getSchema(), second.getSchema());
+        List<List> rows = new ArrayList<>(second.getArray(List.class, "matrix"));
+        Assertions.assertEquals(2, rows.size());
+        Assertions.assertEquals(2, rows.get(0).size());
+        Assertions.assertEquals(3, ((Record) rows.get(1).get(0)).getInt("v"));
+    }
+
+    private static Document person(String name, int age, String city) {
+        return new Document("name", name).append("age", age).append("address", new Document("city", city))
+                .append("phones", Arrays.asList(new Document("number", name + "-1"), new Document("number", name + "-2")));
+    }
+}